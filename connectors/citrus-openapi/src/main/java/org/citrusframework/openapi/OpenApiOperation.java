@@ -0,0 +1,223 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.openapi;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.apicurio.datamodels.openapi.models.OasDocument;
+import io.apicurio.datamodels.openapi.models.OasOperation;
+import io.apicurio.datamodels.openapi.models.OasParameter;
+import io.apicurio.datamodels.openapi.models.OasResponse;
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import org.citrusframework.openapi.model.OasModelHelper;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Pre-resolved view on a single operation in an OpenAPI specification. Holds the operation path, method, parameters
+ * and the request/response schemas with top level references resolved. Generated payload templates are cached
+ * so that each test action build only needs to look up the operation by its id.
+ *
+ * @since 4.2
+ */
+public final class OpenApiOperation {
+
+    private final String operationId;
+    private final String path;
+    private final HttpMethod method;
+    private final OasOperation operation;
+
+    /** Schema definitions of the specification used to resolve references */
+    private final Map<String, OasSchema> definitions;
+
+    /** Operation parameters grouped by their location (path, query, header, cookie) */
+    private final Map<String, List<OasParameter>> parameters;
+
+    private final OasSchema requestBodySchema;
+    private final String requestContentType;
+    private final String responseContentType;
+
+    /** Resolved responses by status code, computed on demand */
+    private final Map<String, Optional<OasResponse>> responses = new ConcurrentHashMap<>();
+
+    /** Generated payload templates */
+    private final Map<String, String> templates = new ConcurrentHashMap<>();
+
+    OpenApiOperation(OasDocument openApiDoc, String path, String method, OasOperation operation, Map<String, OasSchema> definitions) {
+        this.operationId = operation.operationId;
+        this.path = path;
+        this.method = HttpMethod.valueOf(method.toUpperCase(Locale.US));
+        this.operation = operation;
+        this.definitions = definitions;
+
+        if (operation.parameters != null) {
+            this.parameters = operation.parameters.stream()
+                    .filter(param -> param.in != null)
+                    .collect(Collectors.groupingBy(param -> param.in));
+        } else {
+            this.parameters = Collections.emptyMap();
+        }
+
+        this.requestBodySchema = OasModelHelper.getRequestBodySchema(openApiDoc, operation)
+                .map(this::resolve)
+                .orElse(null);
+        this.requestContentType = OasModelHelper.getRequestContentType(operation).orElse(null);
+        this.responseContentType = OasModelHelper.getResponseContentType(openApiDoc, operation).orElse(null);
+    }
+
+    /**
+     * Resolves top level schema reference with the schema definitions of the specification.
+     * @param schema
+     * @return
+     */
+    private OasSchema resolve(OasSchema schema) {
+        if (OasModelHelper.isReferenceType(schema)) {
+            OasSchema resolved = definitions.get(OasModelHelper.getReferenceName(schema.$ref));
+            if (resolved != null) {
+                return resolved;
+            }
+        }
+
+        return schema;
+    }
+
+    /**
+     * Gets the response for given status code or the default response of this operation.
+     * @param statusCode
+     * @return
+     */
+    public Optional<OasResponse> getResponse(String statusCode) {
+        if (operation.responses == null) {
+            return Optional.empty();
+        }
+
+        return responses.computeIfAbsent(statusCode, code -> Optional.ofNullable(
+                Optional.ofNullable(operation.responses.getItem(code)).orElse(operation.responses.default_)));
+    }
+
+    /**
+     * Gets the resolved response body schema for given status code.
+     * @param statusCode
+     * @return
+     */
+    public Optional<OasSchema> getResponseSchema(String statusCode) {
+        return getResponse(statusCode)
+                .flatMap(OasModelHelper::getSchema)
+                .map(this::resolve);
+    }
+
+    /**
+     * Gets the request payload with random test data expressions for outbound messages.
+     * @param specification
+     * @return
+     */
+    public Optional<String> getOutboundRequestPayload(OpenApiSpecification specification) {
+        return getRequestBodySchema().map(schema -> getTemplate("request:outbound:" + specification.isGenerateOptionalFields(),
+                () -> OpenApiTestDataGenerator.createOutboundPayload(schema, definitions, specification)));
+    }
+
+    /**
+     * Gets the request payload with validation expressions for inbound messages.
+     * @param specification
+     * @return
+     */
+    public Optional<String> getInboundRequestPayload(OpenApiSpecification specification) {
+        return getRequestBodySchema().map(schema -> getTemplate("request:inbound:" + specification.isValidateOptionalFields(),
+                () -> OpenApiTestDataGenerator.createInboundPayload(schema, definitions, specification)));
+    }
+
+    /**
+     * Gets the response payload with random test data expressions for outbound messages.
+     * @param statusCode
+     * @param specification
+     * @return
+     */
+    public Optional<String> getOutboundResponsePayload(String statusCode, OpenApiSpecification specification) {
+        return getResponseSchema(statusCode).map(schema -> getTemplate("response:" + statusCode + ":outbound:" + specification.isGenerateOptionalFields(),
+                () -> OpenApiTestDataGenerator.createOutboundPayload(schema, definitions, specification)));
+    }
+
+    /**
+     * Gets the response payload with validation expressions for inbound messages.
+     * @param statusCode
+     * @param specification
+     * @return
+     */
+    public Optional<String> getInboundResponsePayload(String statusCode, OpenApiSpecification specification) {
+        return getResponseSchema(statusCode).map(schema -> getTemplate("response:" + statusCode + ":inbound:" + specification.isValidateOptionalFields(),
+                () -> OpenApiTestDataGenerator.createInboundPayload(schema, definitions, specification)));
+    }
+
+    private String getTemplate(String key, Supplier<String> generator) {
+        return templates.computeIfAbsent(key, k -> generator.get());
+    }
+
+    /**
+     * Gets the parameters of this operation in given location, for instance path, query or header.
+     * @param in the parameter location.
+     * @return
+     */
+    public List<OasParameter> getParameters(String in) {
+        return parameters.getOrDefault(in, Collections.emptyList());
+    }
+
+    /**
+     * Gets all parameters of this operation grouped by location.
+     * @return
+     */
+    public Map<String, List<OasParameter>> getParameters() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    public String getOperationId() {
+        return operationId;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    public OasOperation getOperation() {
+        return operation;
+    }
+
+    public Map<String, OasSchema> getSchemaDefinitions() {
+        return definitions;
+    }
+
+    public Optional<OasSchema> getRequestBodySchema() {
+        return Optional.ofNullable(requestBodySchema);
+    }
+
+    public Optional<String> getRequestContentType() {
+        return Optional.ofNullable(requestContentType);
+    }
+
+    public Optional<String> getResponseContentType() {
+        return Optional.ofNullable(responseContentType);
+    }
+}
@@ -22,9 +22,14 @@ package org.citrusframework.openapi;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import io.apicurio.datamodels.openapi.models.OasDocument;
+import io.apicurio.datamodels.openapi.models.OasOperation;
+import io.apicurio.datamodels.openapi.models.OasPathItem;
+import io.apicurio.datamodels.openapi.models.OasSchema;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.http.client.HttpClient;
@@ -49,6 +54,9 @@ public class OpenApiSpecification {
 
     private boolean validateOptionalFields = true;
 
+    /** Index of operations by operation id, built once per specification document */
+    private volatile OperationIndex operationIndex;
+
     public static OpenApiSpecification from(String specUrl) {
         OpenApiSpecification specification = new OpenApiSpecification();
         specification.setSpecUrl(specUrl);
@@ -148,6 +156,69 @@ public class OpenApiSpecification {
 
     public void setOpenApiDoc(OasDocument openApiDoc) {
         this.openApiDoc = openApiDoc;
+        this.operationIndex = null;
+    }
+
+    /**
+     * Gets the operation with given id. Operations are indexed on first access so subsequent lookups
+     * do not need to iterate over all paths of the specification.
+     * @param operationId the operation id.
+     * @param context the test context used to load the specification document.
+     * @return the operation or empty if no such operation is defined.
+     */
+    public Optional<OpenApiOperation> getOperation(String operationId, TestContext context) {
+        return Optional.ofNullable(getOperationIndex(context).operations().get(operationId));
+    }
+
+    /**
+     * Gets the schema definitions of the specification document.
+     * @param context the test context used to load the specification document.
+     * @return the schema definitions by name.
+     */
+    public Map<String, OasSchema> getSchemaDefinitions(TestContext context) {
+        return getOperationIndex(context).definitions();
+    }
+
+    private OperationIndex getOperationIndex(TestContext context) {
+        OasDocument document = getOpenApiDoc(context);
+
+        OperationIndex index = operationIndex;
+        if (index == null || index.document() != document) {
+            synchronized (this) {
+                index = operationIndex;
+                if (index == null || index.document() != document) {
+                    index = OperationIndex.create(document);
+                    operationIndex = index;
+                }
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Operations of a specification document by operation id together with the schema definitions.
+     */
+    private record OperationIndex(OasDocument document, Map<String, OpenApiOperation> operations,
+                                  Map<String, OasSchema> definitions) {
+
+        static OperationIndex create(OasDocument document) {
+            Map<String, OasSchema> definitions = Collections.unmodifiableMap(new HashMap<>(OasModelHelper.getSchemaDefinitions(document)));
+            Map<String, OpenApiOperation> operations = new HashMap<>();
+
+            for (OasPathItem pathItem : OasModelHelper.getPathItems(document.paths)) {
+                for (Map.Entry<String, OasOperation> operationEntry : OasModelHelper.getOperationMap(pathItem).entrySet()) {
+                    OasOperation operation = operationEntry.getValue();
+                    if (operation.operationId != null) {
+                        // first operation wins in case of duplicate ids
+                        operations.putIfAbsent(operation.operationId, new OpenApiOperation(document, pathItem.getPath(),
+                                operationEntry.getKey(), operation, definitions));
+                    }
+                }
+            }
+
+            return new OperationIndex(document, Collections.unmodifiableMap(operations), definitions);
+        }
     }
 
     public String getSpecUrl() {
@@ -17,13 +17,8 @@
 package org.citrusframework.openapi.actions;
 
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Pattern;
 
-import io.apicurio.datamodels.openapi.models.OasDocument;
-import io.apicurio.datamodels.openapi.models.OasOperation;
-import io.apicurio.datamodels.openapi.models.OasPathItem;
-import io.apicurio.datamodels.openapi.models.OasResponse;
 import io.apicurio.datamodels.openapi.models.OasSchema;
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.context.TestContext;
@@ -32,6 +27,7 @@ import org.citrusframework.http.actions.HttpClientResponseActionBuilder;
 import org.citrusframework.http.message.HttpMessage;
 import org.citrusframework.http.message.HttpMessageBuilder;
 import org.citrusframework.message.Message;
+import org.citrusframework.openapi.OpenApiOperation;
 import org.citrusframework.openapi.OpenApiSpecification;
 import org.citrusframework.openapi.OpenApiTestDataGenerator;
 import org.citrusframework.openapi.model.OasModelHelper;
@@ -75,48 +71,27 @@ public class OpenApiClientResponseActionBuilder extends HttpClientResponseAction
 
         @Override
         public Message build(TestContext context, String messageType) {
-            OasOperation operation = null;
-            OasDocument oasDocument = openApiSpec.getOpenApiDoc(context);
-
-            for (OasPathItem path : OasModelHelper.getPathItems(oasDocument.paths)) {
-                Optional<Map.Entry<String, OasOperation>> operationEntry = OasModelHelper.getOperationMap(path).entrySet().stream()
-                        .filter(op -> operationId.equals(op.getValue().operationId))
-                        .findFirst();
-
-                if (operationEntry.isPresent()) {
-                    operation = operationEntry.get().getValue();
-                    break;
+            OpenApiOperation operation = openApiSpec.getOperation(operationId, context)
+                    .orElseThrow(() -> new CitrusRuntimeException("Unable to locate operation with id '%s' in OpenAPI specification %s".formatted(operationId, openApiSpec.getSpecUrl())));
+
+            operation.getResponse(statusCode).ifPresent(response -> {
+                Map<String, OasSchema> requiredHeaders = OasModelHelper.getRequiredHeaders(response);
+                for (Map.Entry<String, OasSchema> header : requiredHeaders.entrySet()) {
+                    httpMessage.setHeader(header.getKey(), OpenApiTestDataGenerator.createValidationExpression(header.getKey(), header.getValue(),
+                            operation.getSchemaDefinitions(), false, openApiSpec, context));
                 }
-            }
-
-            if (operation == null) {
-                throw new CitrusRuntimeException("Unable to locate operation with id '%s' in OpenAPI specification %s".formatted(operationId, openApiSpec.getSpecUrl()));
-            }
-
-            if (operation.responses != null) {
-                OasResponse response = Optional.ofNullable(operation.responses.getItem(statusCode))
-                        .orElse(operation.responses.default_);
 
-                if (response != null) {
-                    Map<String, OasSchema> requiredHeaders = OasModelHelper.getRequiredHeaders(response);
-                    for (Map.Entry<String, OasSchema> header : requiredHeaders.entrySet()) {
-                        httpMessage.setHeader(header.getKey(), OpenApiTestDataGenerator.createValidationExpression(header.getKey(), header.getValue(),
-                                OasModelHelper.getSchemaDefinitions(oasDocument), false, openApiSpec, context));
+                Map<String, OasSchema> headers = OasModelHelper.getHeaders(response);
+                for (Map.Entry<String, OasSchema> header : headers.entrySet()) {
+                    if (!requiredHeaders.containsKey(header.getKey()) && context.getVariables().containsKey(header.getKey())) {
+                        httpMessage.setHeader(header.getKey(), CitrusSettings.VARIABLE_PREFIX + header.getKey() + CitrusSettings.VARIABLE_SUFFIX);
                     }
-
-                    Map<String, OasSchema> headers = OasModelHelper.getHeaders(response);
-                    for (Map.Entry<String, OasSchema> header : headers.entrySet()) {
-                        if (!requiredHeaders.containsKey(header.getKey()) && context.getVariables().containsKey(header.getKey())) {
-                            httpMessage.setHeader(header.getKey(), CitrusSettings.VARIABLE_PREFIX + header.getKey() + CitrusSettings.VARIABLE_SUFFIX);
-                        }
-                    }
-
-                    Optional<OasSchema> responseSchema = OasModelHelper.getSchema(response);
-                    responseSchema.ifPresent(oasSchema -> httpMessage.setPayload(OpenApiTestDataGenerator.createInboundPayload(oasSchema, OasModelHelper.getSchemaDefinitions(oasDocument), openApiSpec)));
                 }
-            }
 
-            OasModelHelper.getResponseContentType(oasDocument, operation)
+                operation.getInboundResponsePayload(statusCode, openApiSpec).ifPresent(httpMessage::setPayload);
+            });
+
+            operation.getResponseContentType()
                     .ifPresent(contentType -> httpMessage.setHeader(HttpHeaders.CONTENT_TYPE, contentType));
 
             if (Pattern.compile("[0-9]+").matcher(statusCode).matches()) {
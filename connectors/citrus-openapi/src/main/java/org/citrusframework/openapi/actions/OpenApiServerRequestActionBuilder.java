@@ -16,16 +16,9 @@
 
 package org.citrusframework.openapi.actions;
 
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Pattern;
 
-import io.apicurio.datamodels.openapi.models.OasDocument;
-import io.apicurio.datamodels.openapi.models.OasOperation;
 import io.apicurio.datamodels.openapi.models.OasParameter;
-import io.apicurio.datamodels.openapi.models.OasPathItem;
 import io.apicurio.datamodels.openapi.models.OasSchema;
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.context.TestContext;
@@ -34,11 +27,11 @@ import org.citrusframework.http.actions.HttpServerRequestActionBuilder;
 import org.citrusframework.http.message.HttpMessage;
 import org.citrusframework.http.message.HttpMessageBuilder;
 import org.citrusframework.message.Message;
+import org.citrusframework.openapi.OpenApiOperation;
 import org.citrusframework.openapi.OpenApiSpecification;
 import org.citrusframework.openapi.OpenApiTestDataGenerator;
 import org.citrusframework.openapi.model.OasModelHelper;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 
 /**
  * @author Christoph Deppisch
@@ -75,73 +68,44 @@ public class OpenApiServerRequestActionBuilder extends HttpServerRequestActionBu
 
         @Override
         public Message build(TestContext context, String messageType) {
-            OasDocument oasDocument = openApiSpec.getOpenApiDoc(context);
-            OasOperation operation = null;
-            OasPathItem pathItem = null;
-            HttpMethod method = null;
-
-            for (OasPathItem path : OasModelHelper.getPathItems(oasDocument.paths)) {
-                Optional<Map.Entry<String, OasOperation>> operationEntry = OasModelHelper.getOperationMap(path).entrySet().stream()
-                        .filter(op -> operationId.equals(op.getValue().operationId))
-                        .findFirst();
-
-                if (operationEntry.isPresent()) {
-                    method = HttpMethod.valueOf(operationEntry.get().getKey().toUpperCase(Locale.US));
-                    operation = operationEntry.get().getValue();
-                    pathItem = path;
-                    break;
-                }
-            }
+            OpenApiOperation operation = openApiSpec.getOperation(operationId, context)
+                    .orElseThrow(() -> new CitrusRuntimeException("Unable to locate operation with id '%s' in OpenAPI specification %s".formatted(operationId, openApiSpec.getSpecUrl())));
 
-            if (operation == null) {
-                throw new CitrusRuntimeException("Unable to locate operation with id '%s' in OpenAPI specification %s".formatted(operationId, openApiSpec.getSpecUrl()));
-            }
+            operation.getParameters("header").stream()
+                    .filter(param -> (param.required != null && param.required) || context.getVariables().containsKey(param.getName()))
+                    .forEach(param -> httpMessage.setHeader(param.getName(),
+                            OpenApiTestDataGenerator.createValidationExpression(param.getName(), (OasSchema) param.schema,
+                                    operation.getSchemaDefinitions(), false, openApiSpec, context)));
 
-            if (operation.parameters != null) {
-                operation.parameters.stream()
-                        .filter(param -> "header".equals(param.in))
-                        .filter(param -> (param.required != null && param.required) || context.getVariables().containsKey(param.getName()))
-                        .forEach(param -> httpMessage.setHeader(param.getName(),
-                                OpenApiTestDataGenerator.createValidationExpression(param.getName(), (OasSchema) param.schema,
-                                        OasModelHelper.getSchemaDefinitions(oasDocument), false, openApiSpec, context)));
-
-                operation.parameters.stream()
-                        .filter(param -> "query".equals(param.in))
-                        .filter(param -> (param.required != null && param.required) || context.getVariables().containsKey(param.getName()))
-                        .forEach(param -> httpMessage.queryParam(param.getName(),
-                                OpenApiTestDataGenerator.createValidationExpression(param.getName(), (OasSchema) param.schema,
-                                        OasModelHelper.getSchemaDefinitions(oasDocument), false, openApiSpec, context)));
-            }
+            operation.getParameters("query").stream()
+                    .filter(param -> (param.required != null && param.required) || context.getVariables().containsKey(param.getName()))
+                    .forEach(param -> httpMessage.queryParam(param.getName(),
+                            OpenApiTestDataGenerator.createValidationExpression(param.getName(), (OasSchema) param.schema,
+                                    operation.getSchemaDefinitions(), false, openApiSpec, context)));
 
-            Optional<OasSchema> body = OasModelHelper.getRequestBodySchema(oasDocument, operation);
-            body.ifPresent(oasSchema -> httpMessage.setPayload(OpenApiTestDataGenerator.createInboundPayload(oasSchema, OasModelHelper.getSchemaDefinitions(oasDocument), openApiSpec)));
+            operation.getInboundRequestPayload(openApiSpec).ifPresent(httpMessage::setPayload);
 
-            String randomizedPath = OasModelHelper.getBasePath(oasDocument) + pathItem.getPath();
+            String randomizedPath = OasModelHelper.getBasePath(openApiSpec.getOpenApiDoc(context)) + operation.getPath();
             randomizedPath = randomizedPath.replaceAll("//", "/");
 
-            if (operation.parameters != null) {
-                List<OasParameter> pathParams = operation.parameters.stream()
-                        .filter(p -> "path".equals(p.in)).toList();
-
-                for (OasParameter parameter : pathParams) {
-                    String parameterValue;
-                    if (context.getVariables().containsKey(parameter.getName())) {
-                        parameterValue = "\\" + CitrusSettings.VARIABLE_PREFIX + parameter.getName() + CitrusSettings.VARIABLE_SUFFIX;
-                    } else {
-                        parameterValue = OpenApiTestDataGenerator.createValidationExpression((OasSchema) parameter.schema,
-                                OasModelHelper.getSchemaDefinitions(oasDocument), false, openApiSpec);
-                    }
-                    randomizedPath = Pattern.compile("\\{" + parameter.getName() + "}")
-                            .matcher(randomizedPath)
-                            .replaceAll(parameterValue);
+            for (OasParameter parameter : operation.getParameters("path")) {
+                String parameterValue;
+                if (context.getVariables().containsKey(parameter.getName())) {
+                    parameterValue = "\\" + CitrusSettings.VARIABLE_PREFIX + parameter.getName() + CitrusSettings.VARIABLE_SUFFIX;
+                } else {
+                    parameterValue = OpenApiTestDataGenerator.createValidationExpression((OasSchema) parameter.schema,
+                            operation.getSchemaDefinitions(), false, openApiSpec);
                 }
+                randomizedPath = Pattern.compile("\\{" + parameter.getName() + "}")
+                        .matcher(randomizedPath)
+                        .replaceAll(parameterValue);
             }
 
-            OasModelHelper.getRequestContentType(operation)
+            operation.getRequestContentType()
                     .ifPresent(contentType -> httpMessage.setHeader(HttpHeaders.CONTENT_TYPE, String.format("@startsWith(%s)@", contentType)));
 
             httpMessage.path(randomizedPath);
-            httpMessage.method(method);
+            httpMessage.method(operation.getMethod());
 
             return super.build(context, messageType);
         }
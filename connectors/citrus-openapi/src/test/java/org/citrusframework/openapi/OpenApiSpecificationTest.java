@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.openapi;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.spi.Resources;
+import org.springframework.http.HttpMethod;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class OpenApiSpecificationTest {
+
+    private TestContext context;
+
+    @BeforeMethod
+    public void setupContext() {
+        context = TestContextFactory.newInstance().getObject();
+    }
+
+    @Test
+    public void shouldIndexOperations() {
+        OpenApiSpecification specification = OpenApiSpecification.from(Resources.fromClasspath("org/citrusframework/openapi/petstore/petstore-v3.yaml"));
+
+        OpenApiOperation operation = specification.getOperation("getPetById", context).orElseThrow();
+        Assert.assertEquals(operation.getOperationId(), "getPetById");
+        Assert.assertEquals(operation.getPath(), "/pet/{petId}");
+        Assert.assertEquals(operation.getMethod(), HttpMethod.GET);
+        Assert.assertEquals(operation.getParameters("path").size(), 1L);
+        Assert.assertEquals(operation.getParameters("path").get(0).getName(), "petId");
+        Assert.assertEquals(operation.getParameters("query").size(), 1L);
+        Assert.assertTrue(operation.getParameters("header").isEmpty());
+        Assert.assertFalse(operation.getRequestBodySchema().isPresent());
+        Assert.assertTrue(operation.getResponseSchema("200").isPresent());
+        Assert.assertEquals(operation.getResponseSchema("200").get().type, "object");
+        Assert.assertFalse(operation.getResponseSchema("404").isPresent());
+
+        operation = specification.getOperation("addPet", context).orElseThrow();
+        Assert.assertEquals(operation.getPath(), "/pet");
+        Assert.assertEquals(operation.getMethod(), HttpMethod.POST);
+        Assert.assertTrue(operation.getRequestBodySchema().isPresent());
+        Assert.assertEquals(operation.getRequestContentType().orElseThrow(), "application/json");
+
+        Assert.assertSame(specification.getOperation("addPet", context).orElseThrow(), operation);
+        Assert.assertFalse(specification.getOperation("unknown", context).isPresent());
+        Assert.assertTrue(specification.getSchemaDefinitions(context).containsKey("Pet"));
+    }
+
+    @Test
+    public void shouldIndexOperationsV2() {
+        OpenApiSpecification specification = OpenApiSpecification.from(Resources.fromClasspath("org/citrusframework/openapi/petstore/petstore-v2.json"));
+
+        OpenApiOperation operation = specification.getOperation("deletePet", context).orElseThrow();
+        Assert.assertEquals(operation.getPath(), "/pet/{petId}");
+        Assert.assertEquals(operation.getMethod(), HttpMethod.DELETE);
+        Assert.assertEquals(operation.getParameters("header").size(), 1L);
+    }
+
+    @Test
+    public void shouldCachePayloadTemplates() {
+        OpenApiSpecification specification = OpenApiSpecification.from(Resources.fromClasspath("org/citrusframework/openapi/petstore/petstore-v3.yaml"));
+        OpenApiOperation operation = specification.getOperation("addPet", context).orElseThrow();
+
+        String outbound = operation.getOutboundRequestPayload(specification).orElseThrow();
+        Assert.assertTrue(outbound.contains("\"name\": "));
+        Assert.assertSame(operation.getOutboundRequestPayload(specification).orElseThrow(), outbound);
+
+        String inbound = operation.getInboundRequestPayload(specification).orElseThrow();
+        Assert.assertEquals(inbound, OpenApiTestDataGenerator.createInboundPayload(operation.getRequestBodySchema().orElseThrow(),
+                specification.getSchemaDefinitions(context), specification));
+
+        specification.setGenerateOptionalFields(false);
+        Assert.assertNotSame(operation.getOutboundRequestPayload(specification).orElseThrow(), outbound);
+
+        operation = specification.getOperation("getPetById", context).orElseThrow();
+        Assert.assertSame(operation.getInboundResponsePayload("200", specification).orElseThrow(),
+                operation.getInboundResponsePayload("200", specification).orElseThrow());
+        Assert.assertFalse(operation.getOutboundResponsePayload("404", specification).isPresent());
+    }
+
+    @Test
+    public void shouldRebuildIndexOnDocumentChange() {
+        OpenApiSpecification specification = OpenApiSpecification.from(Resources.fromClasspath("org/citrusframework/openapi/petstore/petstore-v3.yaml"));
+        OpenApiOperation operation = specification.getOperation("addPet", context).orElseThrow();
+
+        specification.setOpenApiDoc(OpenApiResourceLoader.fromFile(Resources.fromClasspath("org/citrusframework/openapi/petstore/petstore-v2.json")));
+        Assert.assertNotSame(specification.getOperation("addPet", context).orElseThrow(), operation);
+    }
+}
@@ -19,6 +19,7 @@ package org.citrusframework.actions;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import javax.sql.DataSource;
 
 import org.citrusframework.AbstractTestActionBuilder;
@@ -130,6 +131,17 @@ public abstract class AbstractDatabaseConnectingTestAction extends JdbcDaoSuppor
         return SqlUtils.createStatementsFromFileResource(Resources.fromClasspath(context.replaceDynamicContentInString(sqlResourcePath)), lineDecorator);
     }
 
+    /**
+     * Reads SQL statements from external file resource and hands over each statement to the given consumer
+     * without collecting all statements in memory.
+     *
+     * @param context the current test context.
+     * @param consumer the statement consumer.
+     */
+    protected void forEachStatementFromFileResource(TestContext context, Consumer<String> consumer) {
+        SqlUtils.forEachStatement(Resources.fromClasspath(context.replaceDynamicContentInString(sqlResourcePath)), null, consumer);
+    }
+
     @Override
     public String getDescription() {
         return description;
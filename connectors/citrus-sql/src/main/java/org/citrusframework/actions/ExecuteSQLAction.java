@@ -21,7 +21,9 @@ import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Test action execute SQL statements. Use this action when executing
@@ -38,6 +40,12 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     /** boolean flag marking that possible SQL errors will be ignored */
     private final boolean ignoreErrors;
 
+    /** Number of statements sent to the database in one JDBC batch, batch mode is disabled when not positive */
+    private final int batchSize;
+
+    /** Default batch size used when batch mode is enabled without explicit size */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
     /**
      * Default constructor.
      * @param builder
@@ -46,10 +54,16 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         super("sql", builder);
 
         this.ignoreErrors = builder.ignoreErrors;
+        this.batchSize = builder.batchSize;
     }
 
     @Override
     public void doExecute(TestContext context) {
+        if (batchSize > 0) {
+            doExecuteBatch(context);
+            return;
+        }
+
         final List<String> statementsToUse;
         if (statements.isEmpty()) {
             statementsToUse = createStatementsFromFileResource(context);
@@ -74,6 +88,49 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         }
     }
 
+    /**
+     * Run all SQL statements in JDBC batches. Statements from file resource are streamed
+     * to the database, so only the statements of the current batch are held in memory.
+     * @param context
+     */
+    private void doExecuteBatch(TestContext context) {
+        if (getTransactionManager() != null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
+            }
+
+            TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+            transactionTemplate.setTimeout(Integer.parseInt(context.replaceDynamicContentInString(getTransactionTimeout())));
+            transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
+            transactionTemplate.execute(status -> {
+                executeBatches(context);
+                return null;
+            });
+        } else {
+            executeBatches(context);
+        }
+    }
+
+    /**
+     * Run all SQL statements in batches of configured size.
+     * @param context
+     */
+    protected void executeBatches(TestContext context) {
+        if (getJdbcTemplate() == null) {
+            throw new CitrusRuntimeException("No JdbcTemplate configured for sql execution!");
+        }
+
+        StatementBatch batch = new StatementBatch(context);
+        if (statements.isEmpty()) {
+            forEachStatementFromFileResource(context, batch);
+        } else {
+            statements.forEach(batch);
+        }
+        batch.flush();
+
+        logger.info(String.format("SQL batch execution successful - %d statements in %d batches", batch.statementCount, batch.batchCount));
+    }
+
     /**
      * Run all SQL statements.
      * @param statements
@@ -86,13 +143,7 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
 
         for (String statement : statements) {
             try {
-                final String toExecute;
-
-                if (statement.trim().endsWith(";")) {
-                    toExecute = context.replaceDynamicContentInString(statement.trim().substring(0, statement.trim().length() - 1));
-                } else {
-                    toExecute = context.replaceDynamicContentInString(statement.trim());
-                }
+                final String toExecute = prepareStatement(statement, context);
 
                 if (logger.isDebugEnabled()) {
                     logger.debug("Executing SQL statement: " + toExecute);
@@ -111,6 +162,20 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         }
     }
 
+    /**
+     * Removes trailing statement ending and replaces dynamic content in given statement.
+     * @param statement
+     * @param context
+     * @return
+     */
+    private String prepareStatement(String statement, TestContext context) {
+        if (statement.trim().endsWith(";")) {
+            return context.replaceDynamicContentInString(statement.trim().substring(0, statement.trim().length() - 1));
+        } else {
+            return context.replaceDynamicContentInString(statement.trim());
+        }
+    }
+
     /**
      * Gets the ignoreErrors.
      * @return the ignoreErrors
@@ -119,12 +184,78 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         return ignoreErrors;
     }
 
+    /**
+     * Gets the batchSize.
+     * @return the batchSize
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Collects statements and sends them to the database as soon as the batch size is reached.
+     */
+    private final class StatementBatch implements Consumer<String> {
+
+        private final TestContext context;
+        private final List<String> batch = new ArrayList<>();
+
+        private int batchCount;
+        private int statementCount;
+
+        private StatementBatch(TestContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public void accept(String statement) {
+            String toExecute = prepareStatement(statement, context);
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Adding SQL statement to batch: " + toExecute);
+            }
+
+            batch.add(toExecute);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * Executes all pending statements as JDBC batch.
+         */
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            batchCount++;
+            long start = System.currentTimeMillis();
+            try {
+                getJdbcTemplate().batchUpdate(batch.toArray(String[]::new));
+                statementCount += batch.size();
+
+                logger.info(String.format("SQL batch %d with %d statements executed in %d ms",
+                        batchCount, batch.size(), System.currentTimeMillis() - start));
+            } catch (Exception e) {
+                if (ignoreErrors) {
+                    logger.error(String.format("Ignoring error while executing SQL batch %d: %s", batchCount, e.getLocalizedMessage()));
+                } else {
+                    throw new CitrusRuntimeException(String.format("Failed to execute SQL batch %d", batchCount), e);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
     /**
      * Action builder.
      */
     public static final class Builder extends AbstractDatabaseConnectingTestAction.Builder<ExecuteSQLAction, Builder> {
 
         private boolean ignoreErrors = false;
+        private int batchSize = 0;
 
         public static Builder sql() {
             return new Builder();
@@ -140,6 +271,22 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
             return new ExecuteSQLQueryAction.Builder().dataSource(dataSource);
         }
 
+        /**
+         * Enables batch mode using the default batch size.
+         */
+        public Builder batch() {
+            return batchSize(DEFAULT_BATCH_SIZE);
+        }
+
+        /**
+         * Executes statements in JDBC batches of given size.
+         * @param batchSize number of statements per batch, batch mode is disabled when not positive
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
         /**
          * Ignore errors during execution.
          * @param ignoreErrors boolean flag to set
@@ -17,11 +17,18 @@
 package org.citrusframework.actions;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
 import java.nio.charset.Charset;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -42,6 +49,10 @@ import org.citrusframework.validation.script.sql.SqlResultSetScriptValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
@@ -67,6 +78,18 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     /** SQL result set script validator */
     private final SqlResultSetScriptValidator validator;
 
+    /** Process result set rows one by one instead of loading the complete result set into memory */
+    private final boolean streaming;
+
+    /** Fetch size hint given to the JDBC driver in streaming mode, zero uses the driver default */
+    private final int fetchSize;
+
+    /** Expected number of rows in the result set */
+    private final String expectedRowCount;
+
+    /** Aggregate assertions on result set columns */
+    private final List<AggregateAssertion> aggregates;
+
     /** NULL value representation in SQL */
     private static final String NULL_VALUE = "NULL";
 
@@ -85,6 +108,10 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         this.extractVariables = builder.extractVariables;
         this.scriptValidationContext = builder.scriptValidationContext;
         this.validator = builder.validator;
+        this.streaming = builder.streaming;
+        this.fetchSize = builder.fetchSize;
+        this.expectedRowCount = builder.expectedRowCount;
+        this.aggregates = builder.aggregates;
     }
 
     @Override
@@ -96,6 +123,11 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             statementsToUse = statements;
         }
 
+        if (streaming) {
+            doExecuteStreaming(statementsToUse, context);
+            return;
+        }
+
         try {
             //for control result set validation
             final Map<String, List<String>> columnValuesMap = new HashMap<String, List<String>>();
@@ -121,6 +153,9 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             // perform validation
             performValidation(columnValuesMap, allResultRows, context);
 
+            // row count and aggregate assertions
+            performAggregateValidation(columnValuesMap, allResultRows.size(), context);
+
             // fill the request test context variables (extract tag)
             fillContextVariables(columnValuesMap, context);
         } catch (DataAccessException e) {
@@ -129,6 +164,86 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
     }
 
+    /**
+     * Executes the statements in streaming mode. Result set rows are handed to a row callback handler
+     * one by one so control values, row count and aggregates get validated on the fly. Only the column values
+     * that are referenced by extract expressions are kept in memory. Script validation needs the
+     * complete result set so rows are retained only when a validation script is set.
+     * @param statements
+     * @param context
+     */
+    private void doExecuteStreaming(List<String> statements, TestContext context) {
+        StreamingResultSetHandler handler = new StreamingResultSetHandler(context);
+
+        try {
+            if (getTransactionManager() != null) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
+                }
+
+                TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+                transactionTemplate.setTimeout(Integer.valueOf(context.replaceDynamicContentInString(getTransactionTimeout())));
+                transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
+                transactionTemplate.execute(status -> {
+                    executeStatements(statements, handler, context);
+                    return null;
+                });
+            } else {
+                executeStatements(statements, handler, context);
+            }
+
+            handler.finish();
+        } catch (DataAccessException e) {
+            logger.error("Failed to execute SQL statement", e);
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    /**
+     * Run statements in streaming mode handing over each row to the given row handler.
+     * @param statements
+     * @param handler
+     * @param context
+     */
+    private void executeStatements(List<String> statements, StreamingResultSetHandler handler, TestContext context) {
+        if (getJdbcTemplate() == null) {
+            throw new CitrusRuntimeException("No JdbcTemplate configured for query execution!");
+        }
+
+        for (String statement : statements) {
+            validateSqlStatement(statement);
+
+            final String toExecute;
+            if (statement.trim().endsWith(";")) {
+                toExecute = context.replaceDynamicContentInString(statement.trim().substring(0, statement.trim().length() - 1));
+            } else {
+                toExecute = context.replaceDynamicContentInString(statement.trim());
+            }
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Executing SQL query in streaming mode: " + toExecute);
+            }
+
+            getJdbcTemplate().query(connection -> {
+                PreparedStatement preparedStatement = connection.prepareStatement(toExecute,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                if (fetchSize > 0) {
+                    preparedStatement.setFetchSize(fetchSize);
+                }
+                return preparedStatement;
+            }, (ResultSetExtractor<Void>) rs -> {
+                // resolve columns upfront so empty result sets still expose their columns
+                handler.resolveColumns(rs.getMetaData());
+                while (rs.next()) {
+                    handler.processRow(rs);
+                }
+                return null;
+            });
+
+            logger.info("SQL query execution successful");
+        }
+    }
+
     /**
      * Run statements and validate result set.
      * @param statements
@@ -194,19 +309,12 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     private void fillColumnValuesMap(List<Map<String, Object>> results, Map<String, List<String>> columnValuesMap) {
         for (Map<String, Object> row : results) {
             for (Entry<String, Object> column : row.entrySet()) {
-                String columnValue;
                 String columnName = column.getKey();
                 if (!columnValuesMap.containsKey(columnName)) {
                     columnValuesMap.put(columnName, new ArrayList<String>());
                 }
 
-                if (column.getValue() instanceof byte[]) {
-                    columnValue = Base64.encodeBase64String((byte[]) column.getValue());
-                } else {
-                    columnValue = column.getValue() == null ? null : column.getValue().toString();
-                }
-
-                columnValuesMap.get(columnName).add((columnValue));
+                columnValuesMap.get(columnName).add(toColumnValue(column.getValue()));
             }
         }
     }
@@ -329,6 +437,82 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
     }
 
+    /**
+     * Validates expected row count and aggregate assertions on the collected column values.
+     * @param columnValuesMap map containing column names as keys and list of string as retrieved values from db
+     * @param rowCount total number of rows in result set
+     * @param context
+     */
+    private void performAggregateValidation(Map<String, List<String>> columnValuesMap, long rowCount, TestContext context) {
+        validateRowCount(rowCount, context);
+
+        for (AggregateAssertion aggregate : aggregates) {
+            AggregateCollector collector = new AggregateCollector(aggregate);
+
+            String columnName = findColumnName(aggregate.getColumn(), columnValuesMap);
+            if (columnName != null) {
+                columnValuesMap.get(columnName).forEach(collector::add);
+            } else if (rowCount > 0) {
+                // empty result sets do not expose any columns
+                throw new CitrusRuntimeException("Could not find column '" + aggregate.getColumn() + "' in SQL result set");
+            }
+
+            collector.validate(context);
+        }
+    }
+
+    /**
+     * Validates the total number of rows in the result set when an expected row count is set.
+     * @param rowCount
+     * @param context
+     */
+    private void validateRowCount(long rowCount, TestContext context) {
+        if (expectedRowCount == null) {
+            return;
+        }
+
+        String expected = context.replaceDynamicContentInString(expectedRowCount);
+        if (ValidationMatcherUtils.isValidationMatcherExpression(expected)) {
+            ValidationMatcherUtils.resolveValidationMatcher("rowCount", String.valueOf(rowCount), expected, context);
+        } else if (rowCount != Long.parseLong(expected.trim())) {
+            throw new ValidationException("Validation failed for SQL result set row count - " +
+                    "expected: " + expected + " but was " + rowCount);
+        }
+
+        logger.debug("Validation of SQL result set row count successful: " + rowCount);
+    }
+
+    /**
+     * Finds matching column name in given map ignoring the column name case.
+     * @param columnName
+     * @param columns
+     * @return the matching column name or null if no such column is present.
+     */
+    private static String findColumnName(String columnName, Map<String, ?> columns) {
+        if (columns.containsKey(columnName.toLowerCase())) {
+            return columnName.toLowerCase();
+        } else if (columns.containsKey(columnName.toUpperCase())) {
+            return columnName.toUpperCase();
+        } else if (columns.containsKey(columnName)) {
+            return columnName;
+        }
+
+        return null;
+    }
+
+    /**
+     * Converts database value to its string representation. Binary values get Base64 encoded.
+     * @param value
+     * @return
+     */
+    private static String toColumnValue(Object value) {
+        if (value instanceof byte[]) {
+            return Base64.encodeBase64String((byte[]) value);
+        }
+
+        return value == null ? null : value.toString();
+    }
+
     /**
      * Does some simple validation on the SQL statement.
      * @param statement The statement which is to be validated.
@@ -422,6 +606,347 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         return scriptValidationContext;
     }
 
+    /**
+     * Gets the streaming mode.
+     * @return the streaming
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Gets the fetchSize.
+     * @return the fetchSize
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Gets the expectedRowCount.
+     * @return the expectedRowCount
+     */
+    public String getExpectedRowCount() {
+        return expectedRowCount;
+    }
+
+    /**
+     * Gets the aggregates.
+     * @return the aggregates
+     */
+    public List<AggregateAssertion> getAggregates() {
+        return aggregates;
+    }
+
+    /**
+     * Aggregate functions supported in result set aggregate assertions.
+     */
+    public enum AggregateFunction {
+        COUNT, SUM, MIN, MAX, AVG
+    }
+
+    /**
+     * Expected aggregate value on a result set column. Count aggregates count non-null values, all
+     * other functions require numeric column values and ignore null values.
+     */
+    public static final class AggregateAssertion {
+
+        private final String column;
+        private final AggregateFunction function;
+        private final String expected;
+
+        public AggregateAssertion(String column, AggregateFunction function, String expected) {
+            this.column = column;
+            this.function = function;
+            this.expected = expected;
+        }
+
+        /**
+         * Gets the column.
+         * @return the column
+         */
+        public String getColumn() {
+            return column;
+        }
+
+        /**
+         * Gets the function.
+         * @return the function
+         */
+        public AggregateFunction getFunction() {
+            return function;
+        }
+
+        /**
+         * Gets the expected.
+         * @return the expected
+         */
+        public String getExpected() {
+            return expected;
+        }
+    }
+
+    /**
+     * Computes aggregate value for a column incrementally.
+     */
+    private static final class AggregateCollector {
+
+        private final AggregateAssertion aggregate;
+
+        private long count;
+        private BigDecimal result;
+
+        private AggregateCollector(AggregateAssertion aggregate) {
+            this.aggregate = aggregate;
+        }
+
+        void add(Object value) {
+            if (value == null) {
+                return;
+            }
+
+            count++;
+
+            if (aggregate.getFunction() == AggregateFunction.COUNT) {
+                return;
+            }
+
+            BigDecimal number = toNumber(value);
+            if (result == null) {
+                result = number;
+            } else {
+                switch (aggregate.getFunction()) {
+                    case SUM, AVG -> result = result.add(number);
+                    case MIN -> result = result.min(number);
+                    case MAX -> result = result.max(number);
+                }
+            }
+        }
+
+        String getResult() {
+            if (aggregate.getFunction() == AggregateFunction.COUNT) {
+                return String.valueOf(count);
+            }
+
+            if (result == null) {
+                return null;
+            }
+
+            BigDecimal value = result;
+            if (aggregate.getFunction() == AggregateFunction.AVG) {
+                value = result.divide(BigDecimal.valueOf(count), MathContext.DECIMAL64);
+            }
+
+            return value.stripTrailingZeros().toPlainString();
+        }
+
+        void validate(TestContext context) {
+            String name = aggregate.getFunction() + "(" + aggregate.getColumn() + ")";
+            String expected = context.replaceDynamicContentInString(aggregate.getExpected());
+            String actual = getResult();
+
+            if (ValidationMatcherUtils.isValidationMatcherExpression(expected)) {
+                ValidationMatcherUtils.resolveValidationMatcher(name, actual, expected, context);
+            } else if (actual == null) {
+                if (!(expected.equalsIgnoreCase(NULL_VALUE) || expected.length() == 0)) {
+                    throw new ValidationException("Validation failed for aggregate '" + name + "'"
+                            + " found value: NULL expected value: " + expected);
+                }
+            } else if (!isEqual(actual, expected)) {
+                throw new ValidationException("Validation failed for aggregate '" + name + "'"
+                        + " found value: '" + actual + "' expected value: " + expected);
+            }
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Validation successful for aggregate '" + name + "' expected value: " + expected + " - value OK");
+            }
+        }
+
+        private static boolean isEqual(String actual, String expected) {
+            try {
+                return new BigDecimal(expected.trim()).compareTo(new BigDecimal(actual)) == 0;
+            } catch (NumberFormatException e) {
+                return actual.equals(expected);
+            }
+        }
+
+        private BigDecimal toNumber(Object value) {
+            if (value instanceof BigDecimal) {
+                return (BigDecimal) value;
+            }
+
+            try {
+                return new BigDecimal(value.toString().trim());
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Unable to compute aggregate " + aggregate.getFunction() + " on column '" +
+                        aggregate.getColumn() + "' - found non-numeric value: '" + value + "'", e);
+            }
+        }
+    }
+
+    /**
+     * Row callback handler validating result set rows one by one in streaming mode. Keeps state across
+     * multiple statements so column values get validated the same way as in the non-streaming mode.
+     */
+    private final class StreamingResultSetHandler implements RowCallbackHandler {
+
+        private final TestContext context;
+
+        /** Number of rows processed over all statements */
+        private long rowCount;
+
+        /** Number of values seen for each control result set column */
+        private final Map<String, Integer> controlValueCounts = new HashMap<>();
+
+        /** Values of those columns referenced by extract expressions */
+        private final Map<String, List<String>> extractedValues = new HashMap<>();
+
+        /** Aggregate collectors marked whether their column has been found in the result set metadata */
+        private final Map<AggregateCollector, Boolean> collectors = new LinkedHashMap<>();
+
+        /** Complete rows for script validation, null when no validation script is set */
+        private final List<Map<String, Object>> allResultRows;
+        private final ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+
+        /** Referenced column names mapped to the resolved result set column label of the current statement */
+        private Map<String, String> resolvedColumns;
+
+        /** Result set column index by column label of the current statement */
+        private Map<String, Integer> columnIndexes;
+
+        /** Reused value holder for the current row */
+        private final Map<String, Object> rowValues = new HashMap<>();
+
+        StreamingResultSetHandler(TestContext context) {
+            this.context = context;
+            this.allResultRows = scriptValidationContext != null ? new ArrayList<>() : null;
+            aggregates.forEach(aggregate -> collectors.put(new AggregateCollector(aggregate), false));
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            rowValues.clear();
+            if (allResultRows != null) {
+                Map<String, Object> row = rowMapper.mapRow(rs, (int) rowCount);
+                allResultRows.add(row);
+                resolvedColumns.values().forEach(label -> rowValues.put(label, row.get(label)));
+            } else {
+                for (String label : resolvedColumns.values()) {
+                    if (!rowValues.containsKey(label)) {
+                        rowValues.put(label, JdbcUtils.getResultSetValue(rs, columnIndexes.get(label)));
+                    }
+                }
+            }
+
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                String columnName = resolvedColumns.get(controlEntry.getKey());
+                if (columnName == null) {
+                    continue;
+                }
+
+                int valueIndex = controlValueCounts.merge(controlEntry.getKey(), 1, Integer::sum) - 1;
+                if (valueIndex < controlEntry.getValue().size()) {
+                    String controlValue = context.replaceDynamicContentInString(controlEntry.getValue().get(valueIndex));
+                    validateSingleValue(columnName, controlValue, toColumnValue(rowValues.get(columnName)), context);
+                }
+            }
+
+            for (String extractColumn : extractVariables.keySet()) {
+                String columnName = resolvedColumns.get(extractColumn);
+                if (columnName != null) {
+                    extractedValues.computeIfAbsent(extractColumn, k -> new ArrayList<>())
+                            .add(toColumnValue(rowValues.get(columnName)));
+                }
+            }
+
+            for (Entry<AggregateCollector, Boolean> collector : collectors.entrySet()) {
+                String columnName = resolvedColumns.get(collector.getKey().aggregate.getColumn());
+                if (columnName != null) {
+                    collector.getKey().add(rowValues.get(columnName));
+                }
+            }
+
+            rowCount++;
+        }
+
+        /**
+         * Resolves referenced column names to the column labels of the next result set.
+         * Must be called for each statement as statements may select different columns.
+         * @param metaData
+         * @throws SQLException
+         */
+        void resolveColumns(ResultSetMetaData metaData) throws SQLException {
+            columnIndexes = new HashMap<>();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                columnIndexes.putIfAbsent(JdbcUtils.lookupColumnName(metaData, i), i);
+            }
+
+            resolvedColumns = new HashMap<>();
+            controlResultSet.keySet().forEach(this::resolveColumn);
+            extractVariables.keySet().forEach(this::resolveColumn);
+            for (Entry<AggregateCollector, Boolean> collector : collectors.entrySet()) {
+                if (resolveColumn(collector.getKey().aggregate.getColumn())) {
+                    collector.setValue(true);
+                }
+            }
+        }
+
+        private boolean resolveColumn(String column) {
+            String columnName = findColumnName(column, columnIndexes);
+            if (columnName != null) {
+                resolvedColumns.put(column, columnName);
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Completes the validation after all statements have been processed and sets extracted test variables.
+         */
+        void finish() {
+            if (allResultRows != null) {
+                getScriptValidator(context).validateSqlResultSet(allResultRows, scriptValidationContext, context);
+            }
+
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                Integer valueCount = controlValueCounts.get(controlEntry.getKey());
+                if (valueCount == null) {
+                    throw new CitrusRuntimeException("Could not find column '" + controlEntry.getKey() + "' in SQL result set");
+                }
+
+                if (valueCount != controlEntry.getValue().size()) {
+                    throw new CitrusRuntimeException("Validation failed for column: '" +  controlEntry.getKey() + "' " +
+                            "expected rows count: " + controlEntry.getValue().size() + " but was " + valueCount);
+                }
+            }
+
+            validateRowCount(rowCount, context);
+
+            for (Entry<AggregateCollector, Boolean> collector : collectors.entrySet()) {
+                if (!collector.getValue()) {
+                    throw new CitrusRuntimeException("Could not find column '" + collector.getKey().aggregate.getColumn() + "' in SQL result set");
+                }
+
+                collector.getKey().validate(context);
+            }
+
+            if (!CollectionUtils.isEmpty(controlResultSet)) {
+                logger.info("SQL query validation successful: All values OK");
+            }
+
+            for (Entry<String, String> variableEntry : extractVariables.entrySet()) {
+                List<String> values = extractedValues.get(variableEntry.getKey());
+                if (values == null) {
+                    throw new CitrusRuntimeException("Failed to create variables from database values! " +
+                            "Unable to find column '" + variableEntry.getKey() + "' in database result set");
+                }
+
+                context.setVariable(variableEntry.getValue(), constructVariableValue(values));
+            }
+        }
+    }
+
     /**
      * Action builder.
      */
@@ -431,6 +956,10 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         private final Map<String, String> extractVariables = new HashMap<>();
         private ScriptValidationContext scriptValidationContext;
         private SqlResultSetScriptValidator validator;
+        private boolean streaming;
+        private int fetchSize;
+        private String expectedRowCount;
+        private final List<AggregateAssertion> aggregates = new ArrayList<>();
 
         public static Builder query() {
             return new Builder();
@@ -545,6 +1074,61 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             return this;
         }
 
+        /**
+         * Enables streaming mode where result set rows get validated one by one
+         * without loading the complete result set into memory.
+         */
+        public Builder streaming() {
+            return streaming(true);
+        }
+
+        /**
+         * Enables or disables streaming mode.
+         * @param streaming
+         */
+        public Builder streaming(boolean streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
+        /**
+         * Sets the fetch size hint for the JDBC driver used in streaming mode.
+         * @param fetchSize
+         */
+        public Builder fetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Sets the expected number of rows in the result set.
+         * @param rowCount
+         */
+        public Builder rowCount(int rowCount) {
+            return rowCount(String.valueOf(rowCount));
+        }
+
+        /**
+         * Sets the expected number of rows in the result set. Expression may
+         * use test variables, functions and validation matchers.
+         * @param rowCount
+         */
+        public Builder rowCount(String rowCount) {
+            this.expectedRowCount = rowCount;
+            return this;
+        }
+
+        /**
+         * Adds aggregate assertion on given column.
+         * @param column
+         * @param function
+         * @param expected
+         */
+        public Builder aggregate(String column, AggregateFunction function, String expected) {
+            this.aggregates.add(new AggregateAssertion(column, function, expected));
+            return this;
+        }
+
         @Override
         public ExecuteSQLQueryAction build() {
             return new ExecuteSQLQueryAction(this);
@@ -106,6 +106,14 @@ public class Sql implements TestActionBuilder<AbstractDatabaseConnectingTestActi
         return this;
     }
 
+    @XmlAttribute(name = "batch-size")
+    public Sql setBatchSize(int value) {
+        if (builder instanceof ExecuteSQLAction.Builder) {
+            ((ExecuteSQLAction.Builder) builder).batchSize(value);
+        }
+        return this;
+    }
+
     public List<Validate> getValidates() {
         if (validates == null) {
             validates = new ArrayList<>();
@@ -88,6 +88,12 @@ public class Sql implements TestActionBuilder<AbstractDatabaseConnectingTestActi
         }
     }
 
+    public void setBatchSize(int value) {
+        if (builder instanceof ExecuteSQLAction.Builder) {
+            ((ExecuteSQLAction.Builder) builder).batchSize(value);
+        }
+    }
+
     public List<Validate> getValidates() {
         if (validate == null) {
             validate = new ArrayList<>();
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.spi.Resource;
@@ -69,24 +70,31 @@ public abstract class SqlUtils {
      * @return list of SQL statements.
      */
     public static List<String> createStatementsFromFileResource(Resource sqlResource, LastScriptLineDecorator lineDecorator) {
-        BufferedReader reader = null;
-        StringBuffer buffer;
-
         List<String> stmts = new ArrayList<>();
+        forEachStatement(sqlResource, lineDecorator, stmts::add);
+        return stmts;
+    }
 
-        try {
-            if (logger.isDebugEnabled()) {
-                logger.debug("Create statements from SQL file: " + sqlResource.getFile().getAbsolutePath());
-            }
+    /**
+     * Reads SQL statements from external file resource and hands over each statement to the given consumer
+     * as soon as it has been read. In contrast to {@link #createStatementsFromFileResource(Resource, LastScriptLineDecorator)}
+     * the statements are not collected in memory so this is suitable for very large SQL scripts.
+     *
+     * @param sqlResource the sql file resource.
+     * @param lineDecorator optional line decorator for last script lines.
+     * @param consumer the statement consumer.
+     */
+    public static void forEachStatement(Resource sqlResource, LastScriptLineDecorator lineDecorator, Consumer<String> consumer) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Create statements from SQL file: " + sqlResource.getLocation());
+        }
 
-            reader = new BufferedReader(new InputStreamReader(sqlResource.getInputStream()));
-            buffer = new StringBuffer();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(sqlResource.getInputStream()))) {
+            StringBuilder buffer = new StringBuilder();
 
             String line;
-            while (reader.ready()) {
-                line = reader.readLine();
-
-                if (line != null && !line.trim().startsWith(SQL_COMMENT) && line.trim().length() > 0) {
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().startsWith(SQL_COMMENT) && line.trim().length() > 0) {
                     if (line.trim().endsWith(getStatementEndingCharacter(lineDecorator))) {
                         if (lineDecorator != null) {
                             buffer.append(lineDecorator.decorate(line));
@@ -100,9 +108,8 @@ public abstract class SqlUtils {
                             logger.debug("Found statement: " + stmt);
                         }
 
-                        stmts.add(stmt);
+                        consumer.accept(stmt);
                         buffer.setLength(0);
-                        buffer = new StringBuffer();
                     } else {
                         buffer.append(line);
 
@@ -113,17 +120,7 @@ public abstract class SqlUtils {
             }
         } catch (IOException e) {
             throw new CitrusRuntimeException("Resource could not be found - filename: " + sqlResource, e);
-        } finally {
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    logger.warn("Warning: Error while closing reader instance", e);
-                }
-            }
         }
-
-        return stmts;
     }
 
     /**
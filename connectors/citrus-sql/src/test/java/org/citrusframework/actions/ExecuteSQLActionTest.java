@@ -30,7 +30,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 
@@ -169,6 +172,96 @@ public class ExecuteSQLActionTest extends AbstractTestNGUnitTest {
         verify(jdbcTemplate).execute(DB_STMT_1);
     }
 
+    @Test
+    public void testSQLBatchExecution() {
+        context.setVariable("version", "1");
+
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add("DELETE * FROM CONFIGURATION WHERE VERSION=${version};");
+        stmts.add(DB_STMT_1);
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batchSize(2);
+
+        reset(jdbcTemplate);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1, DB_STMT_2);
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1);
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    public void testSQLBatchExecutionWithFileResource() {
+        executeSQLActionBuilder.sqlResource("classpath:org/citrusframework/actions/test-sql-statements.sql");
+        executeSQLActionBuilder.batch();
+
+        reset(jdbcTemplate);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1, DB_STMT_2);
+    }
+
+    @Test
+    public void testSQLBatchExecutionWithTransactions() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2);
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.transactionManager(transactionManager);
+        executeSQLActionBuilder.batchSize(1);
+
+        reset(jdbcTemplate, transactionManager);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1);
+        verify(jdbcTemplate).batchUpdate(DB_STMT_2);
+        verify(transactionManager).getTransaction(any());
+    }
+
+    @Test
+    public void testSQLBatchExecutionIgnoreErrors() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2);
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batchSize(1);
+        executeSQLActionBuilder.ignoreErrors(true);
+
+        reset(jdbcTemplate);
+
+        doThrow(new DataAccessException("Something went wrong!") {
+        }).when(jdbcTemplate).batchUpdate(DB_STMT_1);
+
+        executeSQLActionBuilder.build().execute(context);
+        verify(jdbcTemplate).batchUpdate(DB_STMT_2);
+    }
+
+    @Test
+    public void testSQLBatchExecutionErrorForwarding() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2);
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batchSize(1);
+
+        reset(jdbcTemplate);
+
+        doThrow(new DataAccessException("Something went wrong!") {
+        }).when(jdbcTemplate).batchUpdate(DB_STMT_1);
+
+        CitrusRuntimeException exception = Assert.expectThrows(CitrusRuntimeException.class, () -> executeSQLActionBuilder.build().execute(context));
+        Assert.assertEquals(exception.getMessage(), "Failed to execute SQL batch 1");
+        verify(jdbcTemplate, never()).batchUpdate(DB_STMT_2);
+    }
+
     @Test
     public void testNoJdbcTemplateConfigured() {
         // Special ExecuteSQLQueryAction without a JdbcTemplate
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.actions;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.citrusframework.UnitTestSupport;
+import org.citrusframework.actions.ExecuteSQLQueryAction.AggregateFunction;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.exceptions.ValidationException;
+import org.citrusframework.validation.script.sql.SqlResultSetScriptValidator;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+
+public class ExecuteSQLQueryActionStreamingTest extends UnitTestSupport {
+
+    private static final String SELECT_ORDERS = "select ID, ORDERTYPE, AMOUNT from orders order by ID";
+
+    private final BasicDataSource dataSource = new BasicDataSource();
+
+    private final SqlResultSetScriptValidator resultSetScriptValidator = Mockito.mock(SqlResultSetScriptValidator.class);
+
+    @Override
+    protected TestContextFactory createTestContextFactory() {
+        TestContextFactory factory = super.createTestContextFactory();
+        factory.getReferenceResolver().bind("sqlResultSetScriptValidator", resultSetScriptValidator);
+        return factory;
+    }
+
+    @BeforeClass
+    public void setupDataSource() {
+        dataSource.setDriverClassName("org.hsqldb.jdbcDriver");
+        dataSource.setUrl("jdbc:hsqldb:mem:sql-query-streaming-test");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("create table orders (id integer, ordertype varchar(50), amount decimal(10,2))");
+        jdbcTemplate.update("insert into orders values (1, 'small', 10.50)");
+        jdbcTemplate.update("insert into orders values (2, 'big', 100.00)");
+        jdbcTemplate.update("insert into orders values (3, 'small', null)");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void closeDataSource() throws Exception {
+        new JdbcTemplate(dataSource).update("drop table orders");
+        dataSource.close();
+    }
+
+    @Test
+    public void shouldValidateColumnValues() {
+        ExecuteSQLQueryAction action = new ExecuteSQLQueryAction.Builder()
+                .dataSource(dataSource)
+                .statement(SELECT_ORDERS)
+                .streaming()
+                .fetchSize(2)
+                .validate("ORDERTYPE", "small", "@equalsIgnoreCase('BIG')@", "${orderType}")
+                .validate("amount", "10.50", "@ignore@", "NULL")
+                .build();
+
+        context.setVariable("orderType", "small");
+        action.execute(context);
+
+        Assert.assertTrue(action.isStreaming());
+        Assert.assertEquals(action.getFetchSize(), 2);
+    }
+
+    @Test
+    public void shouldFailOnValueMismatch() {
+        ExecuteSQLQueryAction action = new ExecuteSQLQueryAction.Builder()
+                .dataSource(dataSource)
+                .statement(SELECT_ORDERS)
+                .streaming()
+                .validate("ORDERTYPE", "small", "small", "small")
+                .build();
+
+        ValidationException exception = Assert.expectThrows(ValidationException.class, () -> action.execute(context));
+        Assert.assertEquals(exception.getMessage(), "Validation failed for column: 'ORDERTYPE' found value: 'big' expected value: small");
+    }
+
+    @Test
+    public void shouldFailOnRowCountMismatch() {
+        ExecuteSQLQueryAction action = new ExecuteSQLQueryAction.Builder()
+                .dataSource(dataSource)
+                .statement(SELECT_ORDERS)
+                .streaming()
+                .validate("ORDERTYPE", "small", "big")
+                .build();
+
+        CitrusRuntimeException exception = Assert.expectThrows(CitrusRuntimeException.class, () -> action.execute(context));
+        Assert.assertEquals(exception.getMessage(), "Validation failed for column: 'ORDERTYPE' expected rows count: 2 but was 3");
+    }
+
+    @Test
+    public void shouldFailOnUnknownColumn() {
+        ExecuteSQLQueryAction action = new ExecuteSQLQueryAction.Builder()
+                .dataSource(dataSource)
+                .statement(SELECT_ORDERS)
+                .streaming()
+                .validate("STATUS", "in_progress")
+                .build();
+
+        CitrusRuntimeException exception = Assert.expectThrows(CitrusRuntimeException.class, () -> action.execute(context));
+        Assert.assertEquals(exception.getMessage(), "Could not find column 'STATUS' in SQL result set");
+    }
+
+    @Test
+    public void shouldExtractVariables() {
+        new ExecuteSQLQueryAction.Builder()
+                .dataSource(dataSource)
+                .statements(List.of(SELECT_ORDERS, "select ORDERTYPE from orders where ID = 2"))
+                .streaming()
+                .extract("id", "ids")
+                .extract("ORDERTYPE", "orderTypes")
+                .build()
+                .execute(context);
+
+        Assert.assertEquals(context.getVariable("ids"), "1;2;3");
+        Assert.assertEquals(context.getVariable("orderTypes"), "small;big;small;big");
+    }
+
+    @Test
+    public void shouldValidateRowCountAndAggregates() {
+        ExecuteSQLQueryAction action = new ExecuteSQLQueryAction.Builder()
+                .dataSource(dataSource)
+                .statement(SELECT_ORDERS)
+                .streaming()
+                .rowCount(3)
+                .aggregate("AMOUNT", AggregateFunction.COUNT, "2")
+                .aggregate("AMOUNT", AggregateFunction.SUM, "110.5")
+                .aggregate("AMOUNT", AggregateFunction.MIN, "10.50")
+                .aggregate("AMOUNT", AggregateFunction.MAX, "@greaterThan(99)@")
+                .aggregate("AMOUNT", AggregateFunction.AVG, "55.25")
+                .build();
+
+        action.execute(context);
+
+        Assert.assertEquals(action.getExpectedRowCount(), "3");
+        Assert.assertEquals(action.getAggregates().size(), 5);
+    }
+
+    @Test
+    public void shouldFailOnAggregateMismatch() {
+        ExecuteSQLQueryAction action = new ExecuteSQLQueryAction.Builder()
+                .dataSource(dataSource)
+                .statement(SELECT_ORDERS)
+                .streaming()
+                .aggregate("AMOUNT", AggregateFunction.SUM, "100")
+                .build();
+
+        ValidationException exception = Assert.expectThrows(ValidationException.class, () -> action.execute(context));
+        Assert.assertEquals(exception.getMessage(), "Validation failed for aggregate 'SUM(AMOUNT)' found value: '110.5' expected value: 100");
+    }
+
+    @Test
+    public void shouldFailOnRowCount() {
+        ExecuteSQLQueryAction action = new ExecuteSQLQueryAction.Builder()
+                .dataSource(dataSource)
+                .statement("select ID from orders where ORDERTYPE = 'small'")
+                .streaming()
+                .rowCount(3)
+                .build();
+
+        ValidationException exception = Assert.expectThrows(ValidationException.class, () -> action.execute(context));
+        Assert.assertEquals(exception.getMessage(), "Validation failed for SQL result set row count - expected: 3 but was 2");
+    }
+
+    @Test
+    public void shouldValidateRowCountAndAggregatesWithoutStreaming() {
+        new ExecuteSQLQueryAction.Builder()
+                .dataSource(dataSource)
+                .statement(SELECT_ORDERS)
+                .rowCount("@greaterThan(2)@")
+                .aggregate("amount", AggregateFunction.SUM, "110.50")
+                .aggregate("ordertype", AggregateFunction.COUNT, "3")
+                .build()
+                .execute(context);
+    }
+
+    @Test
+    public void shouldPerformScriptValidation() {
+        reset(resultSetScriptValidator);
+
+        new ExecuteSQLQueryAction.Builder()
+                .dataSource(dataSource)
+                .statement(SELECT_ORDERS)
+                .streaming()
+                .groovy("assert rows.size() == 3")
+                .build()
+                .execute(context);
+
+        verify(resultSetScriptValidator).validateSqlResultSet(argThat(rows -> rows.size() == 3 &&
+                "big".equals(rows.get(1).get("ORDERTYPE"))), any(), any());
+    }
+
+    @Test
+    public void shouldHandleEmptyResultSet() {
+        new ExecuteSQLQueryAction.Builder()
+                .dataSource(dataSource)
+                .statements(Collections.singletonList("select ID from orders where ID > 100"))
+                .streaming()
+                .rowCount(0)
+                .aggregate("ID", AggregateFunction.COUNT, "0")
+                .build()
+                .execute(context);
+    }
+}
@@ -68,7 +68,7 @@ public class SqlTest extends AbstractYamlActionTest {
         Assert.assertEquals(result.getName(), "SqlTest");
         Assert.assertEquals(result.getMetaInfo().getAuthor(), "Christoph");
         Assert.assertEquals(result.getMetaInfo().getStatus(), TestCaseMetaInfo.Status.FINAL);
-        Assert.assertEquals(result.getActionCount(), 2L);
+        Assert.assertEquals(result.getActionCount(), 3L);
         Assert.assertEquals(result.getTestAction(0).getClass(), ExecuteSQLAction.class);
 
         int actionIndex = 0;
@@ -85,7 +85,7 @@ public class SqlTest extends AbstractYamlActionTest {
         Assert.assertEquals(action.getTransactionTimeout(), "-1");
         Assert.assertEquals(action.getTransactionIsolationLevel(), "ISOLATION_DEFAULT");
 
-        action = (ExecuteSQLAction) result.getTestAction(actionIndex);
+        action = (ExecuteSQLAction) result.getTestAction(actionIndex++);
         Assert.assertNotNull(action.getDataSource());
         Assert.assertEquals(action.getDataSource(), dataSource);
         Assert.assertNotNull(action.getSqlResourcePath());
@@ -95,6 +95,13 @@ public class SqlTest extends AbstractYamlActionTest {
         Assert.assertEquals(action.getTransactionManager(), mockTransactionManager);
         Assert.assertEquals(action.getTransactionTimeout(), "5000");
         Assert.assertEquals(action.getTransactionIsolationLevel(), "ISOLATION_READ_COMMITTED");
+        Assert.assertEquals(action.getBatchSize(), 0);
+
+        action = (ExecuteSQLAction) result.getTestAction(actionIndex);
+        Assert.assertEquals(action.getDataSource(), dataSource);
+        Assert.assertEquals(action.getStatements().size(), 3);
+        Assert.assertEquals(action.getBatchSize(), 2);
+        Assert.assertEquals(new JdbcTemplate(dataSource).queryForObject("select count(*) from message where id between 300 and 302", Integer.class), 3);
     }
 
     @Test
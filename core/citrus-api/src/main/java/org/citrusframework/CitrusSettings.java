@@ -154,6 +154,16 @@ public final class CitrusSettings {
     public static final String MESSAGE_TRACE_DIRECTORY_ENV = "CITRUS_MESSAGE_TRACE_DIRECTORY";
     public static final String MESSAGE_TRACE_DIRECTORY_DEFAULT = "target/citrus-logs/trace/messages";
 
+    /** Compress message trace files with gzip */
+    public static final String MESSAGE_TRACE_COMPRESS_PROPERTY = "citrus.message.trace.compress";
+    public static final String MESSAGE_TRACE_COMPRESS_ENV = "CITRUS_MESSAGE_TRACE_COMPRESS";
+    public static final String MESSAGE_TRACE_COMPRESS_DEFAULT = Boolean.FALSE.toString();
+
+    /** Maximum number of characters per traced message, zero or negative value traces complete messages */
+    public static final String MESSAGE_TRACE_MAX_LENGTH_PROPERTY = "citrus.message.trace.max.length";
+    public static final String MESSAGE_TRACE_MAX_LENGTH_ENV = "CITRUS_MESSAGE_TRACE_MAX_LENGTH";
+    public static final String MESSAGE_TRACE_MAX_LENGTH_DEFAULT = "0";
+
     /** Default type converter */
     public static final String TYPE_CONVERTER_PROPERTY = "citrus.type.converter";
     public static final String TYPE_CONVERTER_ENV = "CITRUS_TYPE_CONVERTER";
@@ -184,6 +194,36 @@ public final class CitrusSettings {
     public static final String FILE_PATH_CHARSET_PARAMETER_ENV = "CITRUS_FILE_PATH_CHARSET_PARAMETER";
     public static final String FILE_PATH_CHARSET_PARAMETER_DEFAULT = "; charset=";
 
+    /** Number of threads in async executor pool, zero or negative uses virtual threads when supported */
+    public static final String ASYNC_EXECUTOR_POOL_SIZE_PROPERTY = "citrus.async.executor.pool.size";
+    public static final String ASYNC_EXECUTOR_POOL_SIZE_ENV = "CITRUS_ASYNC_EXECUTOR_POOL_SIZE";
+    public static final String ASYNC_EXECUTOR_POOL_SIZE_DEFAULT = "0";
+
+    /** Memory budget in bytes for messages in the message store, zero or negative value keeps all messages in memory */
+    public static final String MESSAGE_STORE_MAX_BYTES_PROPERTY = "citrus.message.store.max.bytes";
+    public static final String MESSAGE_STORE_MAX_BYTES_ENV = "CITRUS_MESSAGE_STORE_MAX_BYTES";
+    public static final String MESSAGE_STORE_MAX_BYTES_DEFAULT = "0";
+
+    /** Spill messages evicted from a bounded message store to temporary files instead of dropping them */
+    public static final String MESSAGE_STORE_SPILL_ENABLED_PROPERTY = "citrus.message.store.spill.enabled";
+    public static final String MESSAGE_STORE_SPILL_ENABLED_ENV = "CITRUS_MESSAGE_STORE_SPILL_ENABLED";
+    public static final String MESSAGE_STORE_SPILL_ENABLED_DEFAULT = Boolean.TRUE.toString();
+
+    /** Compile all known schemas before the test suite starts */
+    public static final String SCHEMA_WARM_UP_ENABLED_PROPERTY = "citrus.validation.schema.warmup.enabled";
+    public static final String SCHEMA_WARM_UP_ENABLED_ENV = "CITRUS_VALIDATION_SCHEMA_WARMUP_ENABLED";
+    public static final String SCHEMA_WARM_UP_ENABLED_DEFAULT = Boolean.FALSE.toString();
+
+    /** Maximum number of compiled Groovy script classes kept for reuse, zero or negative value disables the cache */
+    public static final String GROOVY_SCRIPT_CACHE_SIZE_PROPERTY = "citrus.groovy.script.cache.size";
+    public static final String GROOVY_SCRIPT_CACHE_SIZE_ENV = "CITRUS_GROOVY_SCRIPT_CACHE_SIZE";
+    public static final String GROOVY_SCRIPT_CACHE_SIZE_DEFAULT = "500";
+
+    /** Cache test classes found in a test jar by jar checksum, so repeated runs skip the test class scan */
+    public static final String TEST_SCAN_CACHE_ENABLED_PROPERTY = "citrus.test.scan.cache.enabled";
+    public static final String TEST_SCAN_CACHE_ENABLED_ENV = "CITRUS_TEST_SCAN_CACHE_ENABLED";
+    public static final String TEST_SCAN_CACHE_ENABLED_DEFAULT = Boolean.FALSE.toString();
+
     /**
      * Gets set of file name patterns for Groovy test files.
      * @return
@@ -225,6 +265,24 @@ public final class CitrusSettings {
                 System.getenv(MESSAGE_TRACE_DIRECTORY_ENV) : MESSAGE_TRACE_DIRECTORY_DEFAULT);
     }
 
+    /**
+     * Gets the message trace compression setting.
+     * @return
+     */
+    public static boolean isMessageTraceCompress() {
+        return Boolean.parseBoolean(System.getProperty(MESSAGE_TRACE_COMPRESS_PROPERTY,  System.getenv(MESSAGE_TRACE_COMPRESS_ENV) != null ?
+                System.getenv(MESSAGE_TRACE_COMPRESS_ENV) : MESSAGE_TRACE_COMPRESS_DEFAULT));
+    }
+
+    /**
+     * Gets the maximum number of characters per traced message. Zero or negative value traces complete messages.
+     * @return
+     */
+    public static int getMessageTraceMaxLength() {
+        return Integer.parseInt(System.getProperty(MESSAGE_TRACE_MAX_LENGTH_PROPERTY,  System.getenv(MESSAGE_TRACE_MAX_LENGTH_ENV) != null ?
+                System.getenv(MESSAGE_TRACE_MAX_LENGTH_ENV) : MESSAGE_TRACE_MAX_LENGTH_DEFAULT));
+    }
+
     /**
      * Gets the type converter to use by default.
      * @return
@@ -270,6 +328,60 @@ public final class CitrusSettings {
                 System.getenv(FILE_PATH_CHARSET_PARAMETER_ENV) : FILE_PATH_CHARSET_PARAMETER_DEFAULT);
     }
 
+    /**
+     * Gets the async executor pool size. Zero or negative value uses virtual threads when supported.
+     * @return
+     */
+    public static int getAsyncExecutorPoolSize() {
+        return Integer.parseInt(System.getProperty(ASYNC_EXECUTOR_POOL_SIZE_PROPERTY,  System.getenv(ASYNC_EXECUTOR_POOL_SIZE_ENV) != null ?
+                System.getenv(ASYNC_EXECUTOR_POOL_SIZE_ENV) : ASYNC_EXECUTOR_POOL_SIZE_DEFAULT));
+    }
+
+    /**
+     * Gets the message store memory budget in bytes. Zero or negative value keeps all messages in memory.
+     * @return
+     */
+    public static long getMessageStoreMaxBytes() {
+        return Long.parseLong(System.getProperty(MESSAGE_STORE_MAX_BYTES_PROPERTY,  System.getenv(MESSAGE_STORE_MAX_BYTES_ENV) != null ?
+                System.getenv(MESSAGE_STORE_MAX_BYTES_ENV) : MESSAGE_STORE_MAX_BYTES_DEFAULT));
+    }
+
+    /**
+     * Gets the message store spill setting.
+     * @return
+     */
+    public static boolean isMessageStoreSpillEnabled() {
+        return Boolean.parseBoolean(System.getProperty(MESSAGE_STORE_SPILL_ENABLED_PROPERTY,  System.getenv(MESSAGE_STORE_SPILL_ENABLED_ENV) != null ?
+                System.getenv(MESSAGE_STORE_SPILL_ENABLED_ENV) : MESSAGE_STORE_SPILL_ENABLED_DEFAULT));
+    }
+
+    /**
+     * Gets the schema warm up setting. When enabled schema validators compile all known schemas before the test suite starts.
+     * @return
+     */
+    public static boolean isSchemaWarmUpEnabled() {
+        return Boolean.parseBoolean(System.getProperty(SCHEMA_WARM_UP_ENABLED_PROPERTY,  System.getenv(SCHEMA_WARM_UP_ENABLED_ENV) != null ?
+                System.getenv(SCHEMA_WARM_UP_ENABLED_ENV) : SCHEMA_WARM_UP_ENABLED_DEFAULT));
+    }
+
+    /**
+     * Gets the maximum number of compiled Groovy script classes kept in the script cache.
+     * @return
+     */
+    public static int getGroovyScriptCacheSize() {
+        return Integer.parseInt(System.getProperty(GROOVY_SCRIPT_CACHE_SIZE_PROPERTY,  System.getenv(GROOVY_SCRIPT_CACHE_SIZE_ENV) != null ?
+                System.getenv(GROOVY_SCRIPT_CACHE_SIZE_ENV) : GROOVY_SCRIPT_CACHE_SIZE_DEFAULT));
+    }
+
+    /**
+     * Gets the test scan cache setting. When enabled test classes found in a test jar are cached by jar checksum.
+     * @return
+     */
+    public static boolean isTestScanCacheEnabled() {
+        return Boolean.parseBoolean(System.getProperty(TEST_SCAN_CACHE_ENABLED_PROPERTY,  System.getenv(TEST_SCAN_CACHE_ENABLED_ENV) != null ?
+                System.getenv(TEST_SCAN_CACHE_ENABLED_ENV) : TEST_SCAN_CACHE_ENABLED_DEFAULT));
+    }
+
     /**
      * Get logger mask keywords.
      * @return
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.context;
+
+import java.util.concurrent.Future;
+
+/**
+ * Executor runs asynchronous work of test actions such as async containers and forked send operations.
+ * Executor is shared across all tests and is closed when the Citrus context is closed.
+ *
+ * @since 4.2
+ */
+public interface AsyncExecutor extends AutoCloseable {
+
+    /**
+     * Submits given task for asynchronous execution.
+     * @param task the task to execute.
+     * @return future representing the pending completion of the task.
+     */
+    Future<?> submit(Runnable task);
+
+    /**
+     * Gets the number of tasks that are currently running.
+     * @return
+     */
+    int getActiveTasks();
+
+    /**
+     * Gets the number of tasks that have been submitted but not started yet.
+     * @return
+     */
+    int getQueuedTasks();
+
+    /**
+     * Gets the total number of completed tasks.
+     * @return
+     */
+    long getCompletedTasks();
+
+    /**
+     * Closes this executor. Running tasks are allowed to finish.
+     */
+    @Override
+    void close();
+}
@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 import org.citrusframework.CitrusSettings;
@@ -44,6 +45,7 @@ import org.citrusframework.exceptions.VariableNullValueException;
 import org.citrusframework.functions.FunctionRegistry;
 import org.citrusframework.functions.FunctionUtils;
 import org.citrusframework.log.LogModifier;
+import org.citrusframework.message.BoundedMessageStore;
 import org.citrusframework.message.DefaultMessageStore;
 import org.citrusframework.message.Message;
 import org.citrusframework.message.MessageDirection;
@@ -92,7 +94,8 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
     /**
      * Message store
      */
-    private MessageStore messageStore = new DefaultMessageStore();
+    private MessageStore messageStore = CitrusSettings.getMessageStoreMaxBytes() > 0 ?
+            new BoundedMessageStore(CitrusSettings.getMessageStoreMaxBytes(), CitrusSettings.isMessageStoreSpillEnabled()) : new DefaultMessageStore();
 
     /**
      * Function registry holding all available functions
@@ -159,6 +162,11 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      */
     protected Map<String, StopTimer> timers = new ConcurrentHashMap<>();
 
+    /**
+     * Handlers called when the test finishes, before the test result is decided
+     */
+    private final List<Runnable> finishHandlers = new CopyOnWriteArrayList<>();
+
     /**
      * List of exceptions that actions raised during execution of forked operations
      */
@@ -174,6 +182,11 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      */
     private LogModifier logModifier;
 
+    /**
+     * Executor for asynchronous test action work.
+     */
+    private AsyncExecutor asyncExecutor;
+
     /**
      * SegmentVariableExtractorRegistry
      */
@@ -788,6 +801,22 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         this.logModifier = logModifier;
     }
 
+    /**
+     * Gets the asyncExecutor.
+     * @return
+     */
+    public AsyncExecutor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the asyncExecutor.
+     * @param asyncExecutor
+     */
+    public void setAsyncExecutor(AsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
     /**
      * Informs message listeners if present that inbound message was received.
      *
@@ -859,6 +888,34 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         }
     }
 
+    /**
+     * Adds handler that is called when the test finishes, before the test result is decided. Errors raised by the
+     * handler are added as exception to this context and fail the test. Usually used by endpoints to complete pending
+     * asynchronous operations of the test.
+     *
+     * @param handler
+     */
+    public void addFinishHandler(Runnable handler) {
+        this.finishHandlers.add(handler);
+    }
+
+    /**
+     * Calls and removes all registered finish handlers.
+     */
+    public void runFinishHandlers() {
+        for (Runnable handler : finishHandlers) {
+            finishHandlers.remove(handler);
+
+            try {
+                handler.run();
+            } catch (CitrusRuntimeException e) {
+                addException(e);
+            } catch (Exception e) {
+                addException(new CitrusRuntimeException(e));
+            }
+        }
+    }
+
     /**
      * Add new exception to the context marking the test as failed. This
      * is usually used by actions to mark exceptions during forked operations.
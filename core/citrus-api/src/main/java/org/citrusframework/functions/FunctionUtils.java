@@ -57,10 +57,10 @@ public final class FunctionUtils {
         }
 
         String newString = stringValue;
-        StringBuffer strBuffer = new StringBuffer();
+        StringBuilder strBuffer = new StringBuilder(stringValue.length());
 
         boolean isVarComplete = false;
-        StringBuffer variableNameBuf = new StringBuffer();
+        StringBuilder variableNameBuf = new StringBuilder();
 
         int startIndex = 0;
         int curIndex;
@@ -94,24 +94,24 @@ public final class FunctionUtils {
 
                 final String value = resolveFunction(variableNameBuf.toString(), context);
 
-                strBuffer.append(newString.substring(startIndex, searchIndex));
+                strBuffer.append(newString, startIndex, searchIndex);
 
                 if (enableQuoting) {
-                    strBuffer.append("'" + value + "'");
+                    strBuffer.append('\'').append(value).append('\'');
                 } else {
                     strBuffer.append(value);
                 }
 
                 startIndex = curIndex;
 
-                variableNameBuf = new StringBuffer();
+                variableNameBuf.setLength(0);
                 isVarComplete = false;
             }
 
-            strBuffer.append(newString.substring(startIndex));
+            strBuffer.append(newString, startIndex, newString.length());
             newString = strBuffer.toString();
 
-            strBuffer = new StringBuffer();
+            strBuffer = new StringBuilder(newString.length());
         }
 
         return newString;
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.message;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.citrusframework.TestAction;
+import org.citrusframework.endpoint.Endpoint;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Message store with a memory budget. Keeps recently used messages in memory and evicts the least recently used
+ * messages once the estimated payload size of all messages exceeds the budget. Evicted messages are either spilled to
+ * temporary files and read back lazily on access or dropped when spilling is disabled.
+ *
+ * Messages that can not be serialized are never evicted.
+ *
+ * @since 4.2
+ */
+public class BoundedMessageStore implements MessageStore {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(BoundedMessageStore.class);
+
+    /** Estimated size of payloads other than String and byte array, e.g. streams or resources */
+    static final long DEFAULT_PAYLOAD_SIZE = 1024L;
+
+    /** Removes spill files of stores that are no longer in use */
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /** Memory budget in bytes */
+    private final long maxBytes;
+
+    /** Spill evicted messages to temporary files */
+    private final boolean spillEnabled;
+
+    /** Messages in memory in access order */
+    private final Map<String, StoredMessage> messages = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Spill files of evicted messages */
+    private final Map<String, Path> spilled = new HashMap<>();
+
+    /** Estimated size of all messages in memory */
+    private long usedBytes;
+
+    /** Lazy created directory holding the spill files */
+    private SpillDirectory spillDirectory;
+
+    /**
+     * Constructor using memory budget. Evicted messages are spilled to temporary files.
+     * @param maxBytes
+     */
+    public BoundedMessageStore(long maxBytes) {
+        this(maxBytes, true);
+    }
+
+    /**
+     * Constructor using memory budget and spill setting.
+     * @param maxBytes
+     * @param spillEnabled
+     */
+    public BoundedMessageStore(long maxBytes, boolean spillEnabled) {
+        this.maxBytes = maxBytes;
+        this.spillEnabled = spillEnabled;
+    }
+
+    @Override
+    public synchronized Message getMessage(String id) {
+        StoredMessage stored = messages.get(id);
+        if (stored != null) {
+            return stored.message;
+        }
+
+        Path file = spilled.remove(id);
+        if (file == null) {
+            return null;
+        }
+
+        Message message = readMessage(file);
+        store(id, message);
+        return message;
+    }
+
+    @Override
+    public synchronized void storeMessage(String id, Message message) {
+        Path file = spilled.remove(id);
+        if (file != null) {
+            delete(file);
+        }
+
+        store(id, message);
+    }
+
+    @Override
+    public String constructMessageName(TestAction action, Endpoint endpoint) {
+        return action.getName() + "(" + endpoint.getName() + ")";
+    }
+
+    /**
+     * Adds message to the in memory messages and evicts least recently used messages when the memory budget is exceeded.
+     * @param id
+     * @param message
+     */
+    private void store(String id, Message message) {
+        long size = estimateSize(message);
+        StoredMessage previous = messages.put(id, new StoredMessage(message, size));
+        if (previous != null) {
+            usedBytes -= previous.size;
+        }
+
+        usedBytes += size;
+        evict(id);
+    }
+
+    /**
+     * Evicts least recently used messages until the memory budget is met. The given message id is never evicted.
+     * @param keep
+     */
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, StoredMessage>> entries = messages.entrySet().iterator();
+        while (usedBytes > maxBytes && entries.hasNext()) {
+            Map.Entry<String, StoredMessage> eldest = entries.next();
+            if (eldest.getKey().equals(keep) || eldest.getValue().pinned) {
+                continue;
+            }
+
+            if (spillEnabled) {
+                try {
+                    spilled.put(eldest.getKey(), writeMessage(eldest.getValue().message));
+                } catch (IOException e) {
+                    logger.debug(String.format("Unable to spill message '%s' - keeping message in memory", eldest.getKey()), e);
+                    eldest.getValue().pinned = true;
+                    continue;
+                }
+            }
+
+            entries.remove();
+            usedBytes -= eldest.getValue().size;
+        }
+    }
+
+    /**
+     * Writes message to a new spill file.
+     * @param message
+     * @return the spill file.
+     * @throws IOException
+     */
+    private Path writeMessage(Message message) throws IOException {
+        if (spillDirectory == null) {
+            spillDirectory = new SpillDirectory(Files.createTempDirectory("citrus-message-store"));
+            CLEANER.register(this, spillDirectory);
+        }
+
+        Path file = Files.createTempFile(spillDirectory.path, "message", ".ser");
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeObject(message);
+        } catch (IOException e) {
+            delete(file);
+            throw e;
+        }
+
+        return file;
+    }
+
+    /**
+     * Reads message from spill file and removes the file.
+     * @param file
+     * @return
+     */
+    private Message readMessage(Path file) {
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return (Message) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CitrusRuntimeException("Failed to read message from message store spill file: " + file, e);
+        } finally {
+            delete(file);
+        }
+    }
+
+    /**
+     * Estimates the memory size of the message payload. Payload types other than String and byte array
+     * use a fixed size, because converting streams or resources would consume the payload.
+     * @param message
+     * @return
+     */
+    private static long estimateSize(Message message) {
+        Object payload = message.getPayload();
+
+        if (payload == null) {
+            return 0L;
+        } else if (payload instanceof byte[] bytes) {
+            return bytes.length;
+        } else if (payload instanceof String text) {
+            return text.length();
+        }
+
+        return DEFAULT_PAYLOAD_SIZE;
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Failed to delete message store spill file: " + file, e);
+        }
+    }
+
+    /**
+     * Removes all messages and spill files.
+     */
+    public synchronized void clear() {
+        messages.clear();
+        spilled.values().forEach(BoundedMessageStore::delete);
+        spilled.clear();
+        usedBytes = 0L;
+    }
+
+    /**
+     * Gets the number of messages in memory.
+     * @return
+     */
+    public synchronized int getInMemoryCount() {
+        return messages.size();
+    }
+
+    /**
+     * Gets the number of messages spilled to files.
+     * @return
+     */
+    public synchronized int getSpilledCount() {
+        return spilled.size();
+    }
+
+    /**
+     * Gets the estimated size of all messages in memory.
+     * @return
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Gets the maxBytes.
+     * @return
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Gets the spillEnabled.
+     * @return
+     */
+    public boolean isSpillEnabled() {
+        return spillEnabled;
+    }
+
+    /**
+     * Message held in memory with its estimated size.
+     */
+    private static final class StoredMessage {
+        private final Message message;
+        private final long size;
+
+        /** Message can not be spilled */
+        private boolean pinned;
+
+        StoredMessage(Message message, long size) {
+            this.message = message;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Spill directory removes itself with all spill files when the message store is no longer in use.
+     */
+    private static final class SpillDirectory implements Runnable {
+        private final Path path;
+
+        SpillDirectory(Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public void run() {
+            try (Stream<Path> files = Files.walk(path)) {
+                files.sorted(Comparator.reverseOrder()).forEach(BoundedMessageStore::delete);
+            } catch (IOException e) {
+                logger.debug("Failed to remove message store spill directory: " + path, e);
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.citrusframework.context.TestContext;
 import org.citrusframework.log.LogMessageModifier;
@@ -161,4 +162,17 @@ public interface Message extends Serializable {
      */
     Message setPayload(Object payload);
 
+    /**
+     * Gets a parsed representation of the message payload such as a DOM document or a JSON object tree. Message
+     * implementations may cache the representation under the given key so validators, extractors and selectors share
+     * a single parsed instance as long as the payload is not changed. Callers must not modify the returned representation.
+     * @param key unique key of the representation including all parser settings that affect the result.
+     * @param parser creates the representation from this message.
+     * @param <T>
+     * @return
+     */
+    default <T> T getPayloadRepresentation(String key, Function<Message, T> parser) {
+        return parser.apply(this);
+    }
+
 }
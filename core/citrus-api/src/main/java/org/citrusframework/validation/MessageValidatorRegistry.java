@@ -289,6 +289,14 @@ public class MessageValidatorRegistry {
         return matchingSchemaValidators;
     }
 
+    /**
+     * Gets the schema validators.
+     * @return
+     */
+    public Map<String, SchemaValidator<? extends SchemaValidationContext>> getSchemaValidators() {
+        return schemaValidators;
+    }
+
     /**
      * Try to find schema validator for given name. Returns optional validator if any with that name present.
      * @param name to be searched for
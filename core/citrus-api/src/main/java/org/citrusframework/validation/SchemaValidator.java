@@ -76,4 +76,12 @@ public interface SchemaValidator<T extends SchemaValidationContext> {
      * @return true if the message/message type can be validated by this validator
      */
     boolean supportsMessageType(String messageType, Message message);
+
+    /**
+     * Prepares the validator before the first validation, for instance by compiling all schemas known
+     * to the given test context upfront. Default implementation does nothing.
+     * @param context The test context providing access to the schemas
+     */
+    default void warmUp(TestContext context) {
+    }
 }
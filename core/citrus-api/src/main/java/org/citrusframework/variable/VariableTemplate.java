@@ -0,0 +1,194 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.variable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.citrusframework.CitrusSettings;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.NoSuchVariableException;
+
+/**
+ * Parsed representation of a string holding variable expressions. The template consists of literal segments and
+ * variable references. Templates are parsed once and cached so rendering the same string over and over again
+ * only needs to resolve the variable values.
+ *
+ * @since 4.2
+ */
+public final class VariableTemplate {
+
+    /** Maximum number of cached templates */
+    private static final int CACHE_SIZE = 1024;
+
+    /** Maximum length of template strings that get cached, larger payloads are parsed on each call */
+    static final int MAX_CACHED_LENGTH = 8192;
+
+    /** Cache of parsed templates, least recently used templates are removed first */
+    private static final Map<String, VariableTemplate> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VariableTemplate> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    /** Template segments, either literal text or variable names */
+    private final List<String> segments;
+
+    /** Marks segments at the same index to be a variable reference */
+    private final boolean[] variables;
+
+    /** Overall length of literal segments */
+    private final int literalLength;
+
+    private VariableTemplate(List<String> segments, boolean[] variables, int literalLength) {
+        this.segments = segments;
+        this.variables = variables;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Gets the parsed template for given string. Uses cached template if available.
+     * Large strings are not cached in order to not keep big payloads in memory.
+     * @param str
+     * @return
+     */
+    public static VariableTemplate compile(String str) {
+        if (str.length() > MAX_CACHED_LENGTH) {
+            return parse(str);
+        }
+
+        VariableTemplate template = CACHE.get(str);
+        if (template == null) {
+            template = parse(str);
+            CACHE.put(str, template);
+        }
+
+        return template;
+    }
+
+    /**
+     * Checks if given string holds variable expressions.
+     * @param str
+     * @return
+     */
+    public static boolean hasVariables(String str) {
+        return str != null && str.contains(CitrusSettings.VARIABLE_PREFIX);
+    }
+
+    /**
+     * Renders this template with variable values from given test context.
+     * Variable values are enclosed with quotes if enabled.
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    public String render(TestContext context, boolean enableQuoting) {
+        StringBuilder result = new StringBuilder(literalLength + 16 * segments.size());
+
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (!variables[i]) {
+                result.append(segment);
+                continue;
+            }
+
+            final String value = context.getVariable(segment);
+            if (value == null) {
+                throw new NoSuchVariableException("Variable: " + segment + " could not be found");
+            }
+
+            if (enableQuoting) {
+                result.append('\'').append(value).append('\'');
+            } else {
+                result.append(value);
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Parses given string into literal segments and variable references. Nested variable expressions
+     * are kept as part of the outer variable name.
+     * @param str
+     * @return
+     */
+    private static VariableTemplate parse(String str) {
+        List<String> segments = new ArrayList<>();
+        List<Boolean> variableFlags = new ArrayList<>();
+        int literalLength = 0;
+
+        int startIndex = 0;
+        int searchIndex;
+
+        while ((searchIndex = str.indexOf(CitrusSettings.VARIABLE_PREFIX, startIndex)) != -1) {
+            int control = 0;
+            boolean isVarComplete = false;
+            StringBuilder variableName = new StringBuilder();
+
+            int curIndex = searchIndex + CitrusSettings.VARIABLE_PREFIX.length();
+
+            while (curIndex < str.length() && !isVarComplete) {
+                if (str.startsWith(CitrusSettings.VARIABLE_PREFIX, curIndex)) {
+                    control++;
+                }
+
+                if ((!Character.isJavaIdentifierPart(str.charAt(curIndex)) && (str.charAt(curIndex) == CitrusSettings.VARIABLE_SUFFIX.charAt(0))) || (curIndex + 1 == str.length())) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                if (!isVarComplete) {
+                    variableName.append(str.charAt(curIndex));
+                }
+                ++curIndex;
+            }
+
+            if (searchIndex > startIndex) {
+                segments.add(str.substring(startIndex, searchIndex));
+                variableFlags.add(false);
+                literalLength += searchIndex - startIndex;
+            }
+
+            segments.add(variableName.toString());
+            variableFlags.add(true);
+
+            startIndex = curIndex;
+        }
+
+        if (startIndex < str.length()) {
+            segments.add(str.substring(startIndex));
+            variableFlags.add(false);
+            literalLength += str.length() - startIndex;
+        }
+
+        boolean[] variables = new boolean[variableFlags.size()];
+        for (int i = 0; i < variables.length; i++) {
+            variables[i] = variableFlags.get(i);
+        }
+
+        return new VariableTemplate(segments, variables, literalLength);
+    }
+}
@@ -23,7 +23,6 @@ import javax.script.ScriptException;
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
-import org.citrusframework.exceptions.NoSuchVariableException;
 
 /**
  * Utility class manipulating test variables.
@@ -130,72 +129,21 @@ public final class VariableUtils {
         return false;
     }
 
-   /**
-    * Replace all variable expression in a string with
-    * its respective value. Variable values are enclosed with quotes
-    * if enabled.
-    *
-    * @param str
-    * @param context
-    * @param enableQuoting
-    * @return
-    */
-   public static String replaceVariablesInString(final String str, TestContext context, boolean enableQuoting) {
-       StringBuffer newStr = new StringBuffer();
-
-       boolean isVarComplete;
-       StringBuffer variableNameBuf = new StringBuffer();
-
-       int startIndex = 0;
-       int curIndex;
-       int searchIndex;
-
-       while ((searchIndex = str.indexOf(CitrusSettings.VARIABLE_PREFIX, startIndex)) != -1) {
-           int control = 0;
-           isVarComplete = false;
-
-           curIndex = searchIndex + CitrusSettings.VARIABLE_PREFIX.length();
-
-           while (curIndex < str.length() && !isVarComplete) {
-               if (str.indexOf(CitrusSettings.VARIABLE_PREFIX, curIndex) == curIndex) {
-                   control++;
-               }
-
-               if ((!Character.isJavaIdentifierPart(str.charAt(curIndex)) && (str.charAt(curIndex) == CitrusSettings.VARIABLE_SUFFIX.charAt(0))) || (curIndex + 1 == str.length())) {
-                   if (control == 0) {
-                       isVarComplete = true;
-                   } else {
-                       control--;
-                   }
-               }
-
-               if (!isVarComplete) {
-                   variableNameBuf.append(str.charAt(curIndex));
-               }
-               ++curIndex;
-           }
-
-           final String value = context.getVariable(variableNameBuf.toString());
-           if (value == null) {
-               throw new NoSuchVariableException("Variable: " + variableNameBuf.toString() + " could not be found");
-           }
-
-           newStr.append(str.substring(startIndex, searchIndex));
-
-           if (enableQuoting) {
-               newStr.append("'" + value + "'");
-           } else {
-               newStr.append(value);
-           }
-
-           startIndex = curIndex;
-
-           variableNameBuf = new StringBuffer();
-           isVarComplete = false;
-       }
-
-       newStr.append(str.substring(startIndex));
-
-       return newStr.toString();
-   }
+    /**
+     * Replace all variable expression in a string with
+     * its respective value. Variable values are enclosed with quotes
+     * if enabled. Uses cached template representation of the given string.
+     *
+     * @param str
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    public static String replaceVariablesInString(final String str, TestContext context, boolean enableQuoting) {
+        if (!VariableTemplate.hasVariables(str)) {
+            return str;
+        }
+
+        return VariableTemplate.compile(str).render(context, enableQuoting);
+    }
 }
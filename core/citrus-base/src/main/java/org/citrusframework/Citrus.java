@@ -73,6 +73,17 @@ public final class Citrus implements TestListenerAware, TestSuiteListenerAware,
     public void beforeSuite(String suiteName, String ... testGroups) {
         citrusContext.getTestSuiteListeners().onStart();
 
+        if (CitrusSettings.isSchemaWarmUpEnabled()) {
+            try {
+                citrusContext.warmUpSchemaValidators();
+            } catch (Exception e) {
+                citrusContext.getTestSuiteListeners().onStartFailure(e);
+                afterSuite(suiteName, testGroups);
+
+                throw new AssertionError("Schema warm up failed with errors", e);
+            }
+        }
+
         for (BeforeSuite sequenceBeforeSuite : citrusContext.getBeforeSuite()) {
             try {
                 if (sequenceBeforeSuite.shouldExecute(suiteName, testGroups)) {
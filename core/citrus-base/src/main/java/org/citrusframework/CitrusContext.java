@@ -12,6 +12,8 @@ import org.citrusframework.container.AfterSuite;
 import org.citrusframework.container.AfterTest;
 import org.citrusframework.container.BeforeSuite;
 import org.citrusframework.container.BeforeTest;
+import org.citrusframework.context.AsyncExecutor;
+import org.citrusframework.context.DefaultAsyncExecutor;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.context.TestContextFactory;
 import org.citrusframework.endpoint.DefaultEndpointFactory;
@@ -69,6 +71,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
     private final NamespaceContextBuilder namespaceContextBuilder;
     private final TypeConverter typeConverter;
     private final LogModifier logModifier;
+    private final AsyncExecutor asyncExecutor;
 
     private final Set<Class<?>> configurationClasses = new HashSet<>();
 
@@ -97,7 +100,12 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         this.typeConverter = builder.typeConverter;
         this.logModifier = builder.logModifier;
 
+        this.asyncExecutor = builder.asyncExecutor;
+
         this.testContextFactory = builder.testContextFactory;
+        if (testContextFactory != null && testContextFactory.getAsyncExecutor() == null) {
+            testContextFactory.setAsyncExecutor(asyncExecutor);
+        }
 
         builder.configurationClasses.forEach(this::parseConfiguration);
     }
@@ -156,6 +164,16 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         return testContextFactory.getObject();
     }
 
+    /**
+     * Lets all schema validators compile the schemas known in this context upfront,
+     * so the first schema validation in a test does not pay the schema compilation costs.
+     */
+    public void warmUpSchemaValidators() {
+        TestContext context = createTestContext();
+        context.getMessageValidatorRegistry().getSchemaValidators().values()
+                .forEach(schemaValidator -> schemaValidator.warmUp(context));
+    }
+
     @Override
     public void addTestSuiteListener(TestSuiteListener suiteListener) {
         this.testSuiteListeners.addTestSuiteListener(suiteListener);
@@ -186,6 +204,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
      * Closes the context and all its components.
      */
     public void close() {
+        asyncExecutor.close();
     }
 
     /**
@@ -317,6 +336,14 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         return logModifier;
     }
 
+    /**
+     * Gets the asyncExecutor.
+     * @return
+     */
+    public AsyncExecutor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
     /**
      * Obtains the testContextFactory.
      * @return
@@ -436,6 +463,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         private NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
         private TypeConverter typeConverter = TypeConverter.lookupDefault();
         private LogModifier logModifier = new DefaultLogModifier();
+        private AsyncExecutor asyncExecutor = new DefaultAsyncExecutor();
 
         private final Set<Class<?>> configurationClasses = new LinkedHashSet<>();
 
@@ -600,6 +628,11 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
             return this;
         }
 
+        public Builder asyncExecutor(AsyncExecutor asyncExecutor) {
+            this.asyncExecutor = asyncExecutor;
+            return this;
+        }
+
         public Builder loadConfiguration(Class<?> configClass) {
             this.configurationClasses.add(configClass);
             return this;
@@ -622,6 +655,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
                 testContextFactory.setNamespaceContextBuilder(this.namespaceContextBuilder);
                 testContextFactory.setTypeConverter(this.typeConverter);
                 testContextFactory.setLogModifier(this.logModifier);
+                testContextFactory.setAsyncExecutor(this.asyncExecutor);
             }
 
             return new CitrusContext(this);
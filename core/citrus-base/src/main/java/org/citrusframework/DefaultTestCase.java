@@ -159,6 +159,8 @@ public class DefaultTestCase extends AbstractActionContainer implements TestCase
         }
 
         try {
+            context.runFinishHandlers();
+
             CitrusRuntimeException contextException = null;
             if (testResult == null) {
                 if (context.hasExceptions()) {
@@ -18,11 +18,10 @@ package org.citrusframework.actions;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import org.citrusframework.Completable;
+import org.citrusframework.context.DefaultAsyncExecutor;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
@@ -57,8 +56,7 @@ public abstract class AbstractAsyncTestAction extends AbstractTestAction impleme
             }
         });
 
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        finished = executor.submit(() -> {
+        finished = DefaultAsyncExecutor.of(context).submit(() -> {
             try {
                 doExecuteAsync(context);
             } catch (Exception | Error e) {
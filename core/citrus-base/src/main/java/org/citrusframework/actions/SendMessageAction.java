@@ -19,11 +19,10 @@ package org.citrusframework.actions;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.Completable;
+import org.citrusframework.context.DefaultAsyncExecutor;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.endpoint.Endpoint;
 import org.citrusframework.exceptions.CitrusRuntimeException;
@@ -154,8 +153,7 @@ public class SendMessageAction extends AbstractTestAction implements Completable
         if (forkMode) {
             logger.debug("Forking message sending action ...");
 
-            ExecutorService taskExecutor = Executors.newSingleThreadExecutor();
-            taskExecutor.execute(() -> {
+            DefaultAsyncExecutor.of(context).submit(() -> {
                 try {
                     validateMessage(message, context);
                     messageEndpoint.createProducer().send(message, context);
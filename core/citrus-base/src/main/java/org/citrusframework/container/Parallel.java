@@ -17,8 +17,16 @@
 package org.citrusframework.container;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Stack;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.citrusframework.AbstractTestContainerBuilder;
@@ -27,22 +35,34 @@ import org.citrusframework.TestActionBuilder;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.ParallelContainerException;
+import org.citrusframework.util.ThreadUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Test action will execute nested actions in parallel. Each action is executed in a
- * separate thread. Container joins all threads and waiting for them to end successfully.
+ * separate thread. Container waits for all threads to end successfully.
+ *
+ * By default, nested actions run on virtual threads when supported by the Java runtime. Users may limit the
+ * number of concurrently running actions and may provide a custom executor service (e.g. a bounded thread pool).
+ * In fail fast mode the remaining actions get cancelled as soon as one of the actions fails. The container waits
+ * for cancelled actions to terminate (bounded by a timeout) before it returns.
  *
  * @author Christoph Deppisch
  */
 public class Parallel extends AbstractActionContainer {
 
-    /** Store created threads in stack */
-    private final Stack<Thread> threads = new Stack<>();
+    /** Maximum number of actions running at the same time, unlimited when zero or negative */
+    private final int maxConcurrency;
+
+    /** Cancel remaining actions when one action fails */
+    private final boolean failFast;
+
+    /** Optional custom executor service, not managed by this container */
+    private final ExecutorService executorService;
 
-    /** Collect exceptions in list */
-    private final List<CitrusRuntimeException> exceptions = new ArrayList<>();
+    /** Time in milliseconds to wait for cancelled actions to terminate */
+    private static final long TERMINATION_TIMEOUT = 10000L;
 
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(Parallel.class);
@@ -52,22 +72,77 @@ public class Parallel extends AbstractActionContainer {
      */
     public Parallel(Builder builder) {
         super("parallel", builder);
+
+        this.maxConcurrency = builder.maxConcurrency;
+        this.failFast = builder.failFast;
+        this.executorService = builder.executorService;
     }
 
     @Override
     public void doExecute(TestContext context) {
-        for (TestActionBuilder<?> actionBuilder : actions) {
-            final TestAction action = actionBuilder.build();
-            Thread t = new Thread(new ActionRunner(ctx -> executeAction(action, ctx), context, exceptions::add));
-            threads.push(t);
-            t.start();
-        }
+        ExecutorService executor = executorService != null ? executorService : createExecutorService();
+        Semaphore permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
 
-        while (!threads.isEmpty()) {
-            try {
-                threads.pop().join();
-            } catch (InterruptedException e) {
-                logger.error("Unable to join thread", e);
+        List<CitrusRuntimeException> exceptions = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> futures = Collections.synchronizedList(new ArrayList<>());
+        List<ActionRunner> runners = new ArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean(false);
+
+        Consumer<CitrusRuntimeException> exceptionHandler = e -> {
+            if (!failFast) {
+                exceptions.add(e);
+            } else if (failed.compareAndSet(false, true)) {
+                exceptions.add(e);
+
+                synchronized (futures) {
+                    futures.forEach(future -> future.cancel(true));
+                }
+            } else {
+                logger.debug("Ignoring error of cancelled parallel test action", e);
+            }
+        };
+
+        try {
+            for (TestActionBuilder<?> actionBuilder : actions) {
+                if (failed.get()) {
+                    break;
+                }
+
+                final TestAction action = actionBuilder.build();
+                ActionRunner runner = new ActionRunner(ctx -> executeAction(action, ctx), context, permits, failed, exceptionHandler);
+                runners.add(runner);
+                futures.add(executor.submit(runner));
+            }
+
+            List<Future<?>> submitted;
+            synchronized (futures) {
+                submitted = new ArrayList<>(futures);
+            }
+
+            for (Future<?> future : submitted) {
+                try {
+                    future.get();
+                } catch (CancellationException e) {
+                    logger.debug("Parallel test action has been cancelled");
+                } catch (ExecutionException e) {
+                    logger.error("Parallel test action raised error", e.getCause());
+                    exceptions.add(new CitrusRuntimeException(e.getCause()));
+                } catch (InterruptedException e) {
+                    logger.error("Interrupted while waiting for parallel test action", e);
+                    Thread.currentThread().interrupt();
+                    exceptions.add(new CitrusRuntimeException("Interrupted while waiting for parallel test action", e));
+
+                    synchronized (futures) {
+                        futures.forEach(pending -> pending.cancel(true));
+                    }
+                    break;
+                }
+            }
+        } finally {
+            awaitTermination(runners);
+
+            if (executor != executorService) {
+                executor.shutdownNow();
             }
         }
 
@@ -80,6 +155,69 @@ public class Parallel extends AbstractActionContainer {
         }
     }
 
+    /**
+     * Waits for all action runners to terminate. Cancelling a future only interrupts the running action, so
+     * actions that ignore the interrupt may still use the test context. Runners that have not been started yet
+     * are skipped so they never run after the container has returned.
+     * @param runners
+     */
+    private void awaitTermination(List<ActionRunner> runners) {
+        long deadline = System.currentTimeMillis() + TERMINATION_TIMEOUT;
+        for (ActionRunner runner : runners) {
+            if (runner.skip()) {
+                continue;
+            }
+
+            try {
+                if (!runner.awaitTermination(Math.max(0L, deadline - System.currentTimeMillis()))) {
+                    logger.warn("Parallel test action did not terminate within {} ms", TERMINATION_TIMEOUT);
+                    return;
+                }
+            } catch (InterruptedException e) {
+                logger.warn("Interrupted while waiting for parallel test action to terminate");
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Creates new executor service for this container execution. Uses virtual threads when supported by
+     * the Java runtime. Otherwise, uses a bounded thread pool when max concurrency is set or one thread per action.
+     * @return
+     */
+    private ExecutorService createExecutorService() {
+        if (!ThreadUtils.isVirtualThreadsSupported() && maxConcurrency > 0) {
+            return ThreadUtils.newBoundedThreadPool(maxConcurrency, "citrus-parallel");
+        }
+
+        return ThreadUtils.newVirtualThreadPerTaskExecutor("citrus-parallel");
+    }
+
+    /**
+     * Gets the max concurrency.
+     * @return
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Gets the fail fast setting.
+     * @return
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Gets the executor service.
+     * @return
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
     /**
      * Runnable wrapper for executing an action in separate Thread.
      */
@@ -90,12 +228,27 @@ public class Parallel extends AbstractActionContainer {
         /** Test context */
         private final TestContext context;
 
+        /** Optional permits limiting the number of concurrent actions */
+        private final Semaphore permits;
+
+        /** Failed state of the parallel container used to skip action when failing fast */
+        private final AtomicBoolean failed;
+
         /** Exception handler */
         private final Consumer<CitrusRuntimeException> exceptionHandler;
 
-        public ActionRunner(TestAction action, TestContext context, Consumer<CitrusRuntimeException> exceptionHandler) {
+        /** Marks this runner as started or skipped so it runs at most once */
+        private final AtomicBoolean started = new AtomicBoolean(false);
+
+        /** Counted down as soon as the runner has terminated or has been skipped */
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        public ActionRunner(TestAction action, TestContext context, Semaphore permits, AtomicBoolean failed,
+                            Consumer<CitrusRuntimeException> exceptionHandler) {
             this.action = action;
             this.context = context;
+            this.permits = permits;
+            this.failed = failed;
             this.exceptionHandler = exceptionHandler;
         }
 
@@ -103,7 +256,25 @@ public class Parallel extends AbstractActionContainer {
          * Run the test action
          */
         public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+
             try {
+                if (permits != null) {
+                    permits.acquire();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                terminated.countDown();
+                return;
+            }
+
+            try {
+                if (failed.get()) {
+                    return;
+                }
+
                 action.execute(context);
             } catch (CitrusRuntimeException e) {
                 logger.error("Parallel test action raised error", e);
@@ -111,8 +282,37 @@ public class Parallel extends AbstractActionContainer {
             } catch (Exception | AssertionError e) {
                 logger.error("Parallel test action raised error", e);
                 exceptionHandler.accept(new CitrusRuntimeException(e));
+            } finally {
+                if (permits != null) {
+                    permits.release();
+                }
+
+                terminated.countDown();
             }
         }
+
+        /**
+         * Skips this runner when it has not been started yet.
+         * @return true if the runner has been skipped and will never run
+         */
+        boolean skip() {
+            if (started.compareAndSet(false, true)) {
+                terminated.countDown();
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Waits for this runner to terminate.
+         * @param timeout in milliseconds
+         * @return true if the runner has terminated, false if the timeout elapsed
+         * @throws InterruptedException
+         */
+        boolean awaitTermination(long timeout) throws InterruptedException {
+            return terminated.await(timeout, TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
@@ -120,6 +320,10 @@ public class Parallel extends AbstractActionContainer {
      */
     public static class Builder extends AbstractTestContainerBuilder<Parallel, Builder> {
 
+        private int maxConcurrency = 0;
+        private boolean failFast = false;
+        private ExecutorService executorService;
+
         /**
          * Fluent API action building entry method used in Java DSL.
          * @return
@@ -128,6 +332,37 @@ public class Parallel extends AbstractActionContainer {
             return new Builder();
         }
 
+        /**
+         * Sets the maximum number of nested actions running at the same time.
+         * @param maxConcurrency
+         * @return
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Cancel remaining nested actions as soon as one of the actions fails.
+         * @param failFast
+         * @return
+         */
+        public Builder failFast(boolean failFast) {
+            this.failFast = failFast;
+            return this;
+        }
+
+        /**
+         * Sets custom executor service running the nested actions (e.g. a bounded thread pool).
+         * The executor service is not shut down by the container.
+         * @param executorService
+         * @return
+         */
+        public Builder executorService(ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
         @Override
         public Parallel doBuild() {
             return new Parallel(this);
@@ -17,12 +17,11 @@
 package org.citrusframework.container;
 
 import java.util.TimerTask;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.citrusframework.AbstractTestContainerBuilder;
 import org.citrusframework.TestActionBuilder;
+import org.citrusframework.context.DefaultAsyncExecutor;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
@@ -64,8 +63,7 @@ public class Timer extends AbstractActionContainer implements StopTimer {
     @Override
     public void doExecute(final TestContext context) {
         if (fork) {
-            ExecutorService taskExecutor = Executors.newSingleThreadExecutor();
-            taskExecutor.execute(() -> configureAndRunTimer(context));
+            DefaultAsyncExecutor.of(context).submit(() -> configureAndRunTimer(context));
         } else {
             configureAndRunTimer(context);
         }
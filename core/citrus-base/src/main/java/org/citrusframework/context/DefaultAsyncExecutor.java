@@ -0,0 +1,154 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.context;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.citrusframework.CitrusSettings;
+import org.citrusframework.util.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default async executor uses a bounded thread pool when pool size is set. Otherwise, uses virtual threads
+ * when supported by the Java runtime or a cached pool of daemon threads. The underlying executor service is
+ * created lazily on first task submission and gets recreated when tasks are submitted after close.
+ *
+ * @since 4.2
+ */
+public class DefaultAsyncExecutor implements AsyncExecutor {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(DefaultAsyncExecutor.class);
+
+    /** Shared fallback executor used when test context has no async executor set */
+    private static final DefaultAsyncExecutor FALLBACK = new DefaultAsyncExecutor();
+
+    /** Thread pool size, zero or negative value uses virtual threads */
+    private final int poolSize;
+
+    private ExecutorService executorService;
+
+    /** Task metrics */
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+    private final AtomicLong completedTasks = new AtomicLong();
+
+    /**
+     * Default constructor using pool size from Citrus settings.
+     */
+    public DefaultAsyncExecutor() {
+        this(CitrusSettings.getAsyncExecutorPoolSize());
+    }
+
+    /**
+     * Constructor using given pool size.
+     * @param poolSize
+     */
+    public DefaultAsyncExecutor(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Gets the async executor of given test context or the shared fallback executor when not set.
+     * @param context
+     * @return
+     */
+    public static AsyncExecutor of(TestContext context) {
+        if (context.getAsyncExecutor() != null) {
+            return context.getAsyncExecutor();
+        }
+
+        return FALLBACK;
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        queuedTasks.incrementAndGet();
+        try {
+            return getExecutorService().submit(() -> {
+                queuedTasks.decrementAndGet();
+                activeTasks.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    activeTasks.decrementAndGet();
+                    completedTasks.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queuedTasks.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public int getActiveTasks() {
+        return activeTasks.get();
+    }
+
+    @Override
+    public int getQueuedTasks() {
+        return queuedTasks.get();
+    }
+
+    @Override
+    public long getCompletedTasks() {
+        return completedTasks.get();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executorService != null) {
+            if (activeTasks.get() > 0 || queuedTasks.get() > 0) {
+                logger.warn(String.format("Closing async executor with %d active and %d queued tasks",
+                        activeTasks.get(), queuedTasks.get()));
+            }
+
+            executorService.shutdown();
+            executorService = null;
+        }
+    }
+
+    /**
+     * Gets the executor service and creates it lazily.
+     * @return
+     */
+    private synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            if (poolSize > 0) {
+                executorService = ThreadUtils.newBoundedThreadPool(poolSize, "citrus-async");
+            } else {
+                executorService = ThreadUtils.newVirtualThreadPerTaskExecutor("citrus-async");
+            }
+        }
+
+        return executorService;
+    }
+
+    /**
+     * Gets the pool size.
+     * @return
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+}
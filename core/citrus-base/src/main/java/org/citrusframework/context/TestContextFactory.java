@@ -84,6 +84,8 @@ public class TestContextFactory implements ReferenceResolverAware {
 
     private LogModifier logModifier;
 
+    private AsyncExecutor asyncExecutor;
+
     private SegmentVariableExtractorRegistry segmentVariableExtractorRegistry;
 
     /**
@@ -131,6 +133,7 @@ public class TestContextFactory implements ReferenceResolverAware {
         result.setReferenceResolver(context.getReferenceResolver());
         result.setTypeConverter(context.getTypeConverter());
         result.setLogModifier(context.getLogModifier());
+        result.setAsyncExecutor(context.getAsyncExecutor());
         return result;
     }
 
@@ -166,6 +169,10 @@ public class TestContextFactory implements ReferenceResolverAware {
             context.setLogModifier(logModifier);
         }
 
+        if (asyncExecutor != null) {
+            context.setAsyncExecutor(asyncExecutor);
+        }
+
         return context;
     }
 
@@ -402,6 +409,22 @@ public class TestContextFactory implements ReferenceResolverAware {
         this.logModifier = logModifier;
     }
 
+    /**
+     * Gets the asyncExecutor.
+     * @return
+     */
+    public AsyncExecutor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the asyncExecutor.
+     * @param asyncExecutor
+     */
+    public void setAsyncExecutor(AsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
     /**
      * Gets the segmentVariableExtractorRegistry
      * @return
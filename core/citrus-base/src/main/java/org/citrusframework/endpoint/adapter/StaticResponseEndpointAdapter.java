@@ -18,12 +18,16 @@ package org.citrusframework.endpoint.adapter;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.functions.FunctionLibrary;
 import org.citrusframework.message.DefaultMessage;
 import org.citrusframework.message.Message;
 import org.citrusframework.util.FileUtils;
@@ -49,19 +53,30 @@ public class StaticResponseEndpointAdapter extends StaticEndpointAdapter {
     /** Response message header */
     private Map<String, Object> messageHeader = new HashMap<>();
 
+    /** Load and precompile the response once and only resolve dynamic content on each request */
+    private boolean precompiled = false;
+
+    /** Store request messages in the test context message store */
+    private boolean storeRequest = true;
+
+    /** Precompiled response template */
+    private volatile StaticResponseTemplate responseTemplate;
+
     @Override
     public Message handleMessageInternal(Message request) {
+        if (precompiled) {
+            return handlePrecompiled(request);
+        }
+
         String payload;
 
         TestContext context = getTestContext();
-        context.getMessageStore().storeMessage("request", request);
+        if (storeRequest) {
+            context.getMessageStore().storeMessage("request", request);
+        }
+
         if (StringUtils.hasText(messagePayloadResource)) {
-            try {
-                payload = context.replaceDynamicContentInString(FileUtils.readToString(FileUtils.getFileResource(messagePayloadResource),
-                        Charset.forName(context.replaceDynamicContentInString(messagePayloadResourceCharset))));
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Failed to read message payload file resource", e);
-            }
+            payload = context.replaceDynamicContentInString(readPayloadResource(context));
         } else {
             payload = context.replaceDynamicContentInString(messagePayload);
         }
@@ -69,6 +84,73 @@ public class StaticResponseEndpointAdapter extends StaticEndpointAdapter {
         return new DefaultMessage(payload, context.resolveDynamicValuesInMap(messageHeader));
     }
 
+    /**
+     * Renders the response with the precompiled template. A test context is only created when the request
+     * needs to be stored or the response holds dynamic content.
+     * @param request
+     * @return
+     */
+    private Message handlePrecompiled(Message request) {
+        StaticResponseTemplate template = getResponseTemplate();
+
+        TestContext context = null;
+        if (storeRequest || template.isDynamic()) {
+            context = getTestContext();
+        }
+
+        if (storeRequest) {
+            context.getMessageStore().storeMessage("request", request);
+        }
+
+        return template.render(context);
+    }
+
+    /**
+     * Gets the precompiled response template. Template is created on first access.
+     * @return
+     */
+    private StaticResponseTemplate getResponseTemplate() {
+        StaticResponseTemplate template = responseTemplate;
+        if (template == null) {
+            synchronized (this) {
+                template = responseTemplate;
+                if (template == null) {
+                    TestContext context = getTestContext();
+
+                    String payload;
+                    if (StringUtils.hasText(messagePayloadResource)) {
+                        payload = readPayloadResource(context);
+                    } else {
+                        payload = messagePayload;
+                    }
+
+                    List<String> functionPrefixes = Optional.ofNullable(context.getFunctionRegistry())
+                            .map(registry -> registry.getFunctionLibraries().stream().map(FunctionLibrary::getPrefix).toList())
+                            .orElseGet(Collections::emptyList);
+
+                    template = StaticResponseTemplate.compile(payload, messageHeader, functionPrefixes);
+                    responseTemplate = template;
+                }
+            }
+        }
+
+        return template;
+    }
+
+    /**
+     * Reads the payload resource content with the configured charset.
+     * @param context
+     * @return
+     */
+    private String readPayloadResource(TestContext context) {
+        try {
+            return FileUtils.readToString(FileUtils.getFileResource(messagePayloadResource),
+                    Charset.forName(context.replaceDynamicContentInString(messagePayloadResourceCharset)));
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read message payload file resource", e);
+        }
+    }
+
     /**
      * Gets the message payload.
      * @return
@@ -83,6 +165,7 @@ public class StaticResponseEndpointAdapter extends StaticEndpointAdapter {
      */
     public void setMessagePayload(String messagePayload) {
         this.messagePayload = messagePayload;
+        this.responseTemplate = null;
     }
 
     /**
@@ -101,6 +184,7 @@ public class StaticResponseEndpointAdapter extends StaticEndpointAdapter {
      */
     public void setMessagePayloadResource(String messagePayloadResource) {
         this.messagePayloadResource = messagePayloadResource;
+        this.responseTemplate = null;
     }
 
     /**
@@ -117,6 +201,7 @@ public class StaticResponseEndpointAdapter extends StaticEndpointAdapter {
      */
     public void setMessagePayloadResourceCharset(String messagePayloadResourceCharset) {
         this.messagePayloadResourceCharset = messagePayloadResourceCharset;
+        this.responseTemplate = null;
     }
 
     /**
@@ -133,5 +218,39 @@ public class StaticResponseEndpointAdapter extends StaticEndpointAdapter {
      */
     public void setMessageHeader(Map<String, Object> messageHeader) {
         this.messageHeader = messageHeader;
+        this.responseTemplate = null;
+    }
+
+    /**
+     * Gets the precompiled flag.
+     * @return
+     */
+    public boolean isPrecompiled() {
+        return precompiled;
+    }
+
+    /**
+     * Enables precompiled response mode. Payload resource is loaded once and static content is reused
+     * on each request.
+     * @param precompiled
+     */
+    public void setPrecompiled(boolean precompiled) {
+        this.precompiled = precompiled;
+    }
+
+    /**
+     * Gets the store request flag.
+     * @return
+     */
+    public boolean isStoreRequest() {
+        return storeRequest;
+    }
+
+    /**
+     * Enables or disables storing request messages in the message store.
+     * @param storeRequest
+     */
+    public void setStoreRequest(boolean storeRequest) {
+        this.storeRequest = storeRequest;
     }
 }
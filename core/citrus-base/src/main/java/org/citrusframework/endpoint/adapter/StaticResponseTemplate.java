@@ -0,0 +1,216 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.endpoint.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.citrusframework.CitrusSettings;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.message.Message;
+
+/**
+ * Precompiled static response message. The payload is split once into static text segments and dynamic segments
+ * holding variable expressions or function calls. Rendering the response only resolves the dynamic segments
+ * and reuses the static text as is. Static response templates do not need a test context at all.
+ *
+ * @since 4.2
+ */
+final class StaticResponseTemplate {
+
+    /** Payload segments, dynamic segments are resolved with the test context on each render */
+    private final List<Segment> segments;
+
+    /** Fully rendered payload when there are no dynamic segments */
+    private final String staticPayload;
+
+    /** Response headers */
+    private final Map<String, Object> headers;
+
+    /** Marks headers holding variable expressions or function calls */
+    private final boolean dynamicHeaders;
+
+    private StaticResponseTemplate(List<Segment> segments, Map<String, Object> headers, boolean dynamicHeaders) {
+        this.segments = segments;
+        this.headers = headers;
+        this.dynamicHeaders = dynamicHeaders;
+
+        if (segments.stream().noneMatch(Segment::dynamic)) {
+            StringBuilder payload = new StringBuilder();
+            segments.forEach(segment -> payload.append(segment.value()));
+            this.staticPayload = payload.toString();
+        } else {
+            this.staticPayload = null;
+        }
+    }
+
+    /**
+     * Compiles the given payload and headers to a static response template. Function library prefixes
+     * are used to identify function calls in the payload.
+     * @param payload
+     * @param headers
+     * @param functionPrefixes
+     * @return
+     */
+    static StaticResponseTemplate compile(String payload, Map<String, Object> headers, Collection<String> functionPrefixes) {
+        boolean dynamicHeaders = headers.entrySet().stream()
+                .anyMatch(entry -> isDynamic(entry.getKey(), functionPrefixes)
+                        || (entry.getValue() instanceof String value && isDynamic(value, functionPrefixes)));
+
+        return new StaticResponseTemplate(parse(payload, functionPrefixes),
+                Collections.unmodifiableMap(new LinkedHashMap<>(headers)), dynamicHeaders);
+    }
+
+    /**
+     * Renders the response message. Test context is only required when the template is dynamic.
+     * @param context
+     * @return
+     */
+    Message render(TestContext context) {
+        String payload;
+        if (staticPayload != null) {
+            payload = staticPayload;
+        } else {
+            StringBuilder builder = new StringBuilder();
+            for (Segment segment : segments) {
+                builder.append(segment.dynamic() ? context.replaceDynamicContentInString(segment.value()) : segment.value());
+            }
+            payload = builder.toString();
+        }
+
+        return new DefaultMessage(payload, dynamicHeaders ? context.resolveDynamicValuesInMap(headers) : headers);
+    }
+
+    /**
+     * Checks if rendering requires a test context.
+     * @return
+     */
+    boolean isDynamic() {
+        return staticPayload == null || dynamicHeaders;
+    }
+
+    /**
+     * Splits the payload into static text and dynamic segments. Variable expressions end with the matching
+     * variable suffix. Function calls end with the matching closing bracket, so nested functions and
+     * variables in function parameters are part of the function segment.
+     * @param payload
+     * @param functionPrefixes
+     * @return
+     */
+    private static List<Segment> parse(String payload, Collection<String> functionPrefixes) {
+        List<Segment> segments = new ArrayList<>();
+
+        int startIndex = 0;
+        int searchIndex;
+        while ((searchIndex = nextExpression(payload, startIndex, functionPrefixes)) != -1) {
+            int endIndex;
+            if (payload.startsWith(CitrusSettings.VARIABLE_PREFIX, searchIndex)) {
+                endIndex = variableEnd(payload, searchIndex);
+            } else {
+                endIndex = functionEnd(payload, searchIndex);
+            }
+
+            if (searchIndex > startIndex) {
+                segments.add(new Segment(payload.substring(startIndex, searchIndex), false));
+            }
+
+            segments.add(new Segment(payload.substring(searchIndex, endIndex), true));
+            startIndex = endIndex;
+        }
+
+        if (startIndex < payload.length()) {
+            segments.add(new Segment(payload.substring(startIndex), false));
+        }
+
+        return segments;
+    }
+
+    /**
+     * Finds start index of next variable expression or function call.
+     * @param payload
+     * @param fromIndex
+     * @param functionPrefixes
+     * @return
+     */
+    private static int nextExpression(String payload, int fromIndex, Collection<String> functionPrefixes) {
+        int index = payload.indexOf(CitrusSettings.VARIABLE_PREFIX, fromIndex);
+        for (String prefix : functionPrefixes) {
+            int functionIndex = payload.indexOf(prefix, fromIndex);
+            if (functionIndex != -1 && (index == -1 || functionIndex < index)) {
+                index = functionIndex;
+            }
+        }
+
+        return index;
+    }
+
+    private static int variableEnd(String payload, int startIndex) {
+        int control = 0;
+        int curIndex = startIndex + CitrusSettings.VARIABLE_PREFIX.length();
+        while (curIndex < payload.length()) {
+            if (payload.startsWith(CitrusSettings.VARIABLE_PREFIX, curIndex)) {
+                control++;
+            }
+
+            if (payload.charAt(curIndex) == CitrusSettings.VARIABLE_SUFFIX.charAt(0)) {
+                if (control == 0) {
+                    return curIndex + 1;
+                }
+
+                control--;
+            }
+
+            curIndex++;
+        }
+
+        return payload.length();
+    }
+
+    private static int functionEnd(String payload, int startIndex) {
+        int control = -1;
+        int curIndex = startIndex;
+        while (curIndex < payload.length()) {
+            if (payload.charAt(curIndex) == '(') {
+                control++;
+            }
+
+            if (payload.charAt(curIndex) == ')') {
+                if (control == 0) {
+                    return curIndex + 1;
+                }
+
+                control--;
+            }
+
+            curIndex++;
+        }
+
+        return payload.length();
+    }
+
+    private static boolean isDynamic(String value, Collection<String> functionPrefixes) {
+        return value.contains(CitrusSettings.VARIABLE_PREFIX) || functionPrefixes.stream().anyMatch(value::contains);
+    }
+
+    private record Segment(String value, boolean dynamic) {
+    }
+}
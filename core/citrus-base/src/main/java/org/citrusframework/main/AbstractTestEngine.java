@@ -16,6 +16,13 @@
 
 package org.citrusframework.main;
 
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7.4
@@ -24,10 +31,59 @@ public abstract class AbstractTestEngine implements TestEngine {
 
     private final TestRunConfiguration configuration;
 
+    /** Class loader shared by all test classes loaded from the test jar */
+    private URLClassLoader testJarClassLoader;
+
     public AbstractTestEngine(TestRunConfiguration configuration) {
         this.configuration = configuration;
     }
 
+    /**
+     * Loads test class with given name. Test classes from a test jar are loaded without initialization
+     * using a class loader that is shared by all test classes of the jar.
+     * @param className
+     * @return
+     * @throws ClassNotFoundException
+     */
+    protected Class<?> loadTestClass(String className) throws ClassNotFoundException {
+        if (configuration.getTestJar() != null) {
+            return Class.forName(className, false, getTestJarClassLoader());
+        }
+
+        return Class.forName(className);
+    }
+
+    /**
+     * Gets the class loader for the test jar. Creates the class loader on first access.
+     * @return
+     */
+    protected synchronized ClassLoader getTestJarClassLoader() {
+        if (testJarClassLoader == null) {
+            try {
+                testJarClassLoader = new URLClassLoader(new URL[]{ configuration.getTestJar().toURI().toURL() }, getClass().getClassLoader());
+            } catch (MalformedURLException e) {
+                throw new CitrusRuntimeException("Failed to access test jar file", e);
+            }
+        }
+
+        return testJarClassLoader;
+    }
+
+    /**
+     * Closes the test jar class loader once all tests have been run. Releases the open test jar file.
+     */
+    protected synchronized void closeTestJarClassLoader() {
+        if (testJarClassLoader != null) {
+            try {
+                testJarClassLoader.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close test jar class loader", e);
+            } finally {
+                testJarClassLoader = null;
+            }
+        }
+    }
+
     /**
      * Gets the configuration.
      *
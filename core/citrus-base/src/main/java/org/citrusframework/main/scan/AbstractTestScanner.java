@@ -16,6 +16,7 @@
 
 package org.citrusframework.main.scan;
 
+import java.util.List;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -28,18 +29,23 @@ public abstract class AbstractTestScanner implements TestScanner {
     /** Test name patterns to include */
     private final String[] includes;
 
+    /** Compiled include patterns */
+    private final List<Pattern> includePatterns;
+
     public AbstractTestScanner(String... includes) {
         if (includes.length > 0) {
             this.includes = includes;
         } else {
             this.includes = new String[] { "^.*IT$", "^.*ITCase$", "^IT.*$" };
         }
+
+        this.includePatterns = Stream.of(this.includes)
+                .map(Pattern::compile)
+                .toList();
     }
 
     protected boolean isIncluded(String className) {
-        return Stream.of(getIncludes())
-                .parallel()
-                .map(Pattern::compile)
+        return includePatterns.stream()
                 .anyMatch(pattern -> pattern.matcher(className).matches());
     }
 
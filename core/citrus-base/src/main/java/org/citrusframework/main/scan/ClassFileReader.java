@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.main.scan;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Minimal class file reader that reads the constant pool of a compiled class without loading the class.
+ * Scanners use this to find annotated test classes without initializing each class candidate.
+ * Annotation types used on the class or any of its members are referenced in the constant pool with their type descriptor.
+ *
+ * @since 4.2
+ */
+final class ClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final String OBJECT_CLASS = "java/lang/Object";
+
+    private ClassFileReader() {
+        // prevent instantiation of utility class
+    }
+
+    /**
+     * Checks if given class or one of its super classes uses the annotation type on class or member level.
+     * @param className the internal class name (e.g. org/citrusframework/MyIT).
+     * @param annotationType the annotation type.
+     * @param classResolver resolves the class file input stream for an internal class name, returns null for unknown classes.
+     * @return true when annotation type is referenced.
+     * @throws IOException
+     */
+    static boolean hasAnnotation(String className, Class<?> annotationType, Function<String, InputStream> classResolver) throws IOException {
+        String descriptor = "L" + annotationType.getName().replace('.', '/') + ";";
+
+        String current = className;
+        while (current != null && !current.equals(OBJECT_CLASS)) {
+            InputStream classFile = classResolver.apply(current);
+            if (classFile == null) {
+                return false;
+            }
+
+            ClassFile info;
+            try (InputStream in = classFile) {
+                info = read(in);
+            }
+
+            if (info.constants().contains(descriptor)) {
+                return true;
+            }
+
+            current = info.superName();
+        }
+
+        return false;
+    }
+
+    /**
+     * Reads class name, super class name and all string constants from given class file.
+     * @param classFile
+     * @return
+     * @throws IOException
+     */
+    static ClassFile read(InputStream classFile) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(classFile));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Invalid class file - missing magic number");
+        }
+
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+
+        int count = in.readUnsignedShort();
+        String[] utf8 = new String[count];
+        int[] classes = new int[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> utf8[i] = in.readUTF();
+                case 7 -> classes[i] = in.readUnsignedShort();
+                case 8, 16, 19, 20 -> in.skipBytes(2);
+                case 15 -> in.skipBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipBytes(4);
+                case 5, 6 -> {
+                    in.skipBytes(8);
+                    i++; // long and double constants take two slots
+                }
+                default -> throw new IOException("Invalid class file - unknown constant pool tag " + tag);
+            }
+        }
+
+        in.readUnsignedShort(); // access flags
+        String name = utf8[classes[in.readUnsignedShort()]];
+
+        int superIndex = in.readUnsignedShort();
+        String superName = superIndex > 0 ? utf8[classes[superIndex]] : null;
+
+        Set<String> constants = new HashSet<>();
+        for (String value : utf8) {
+            if (value != null) {
+                constants.add(value);
+            }
+        }
+
+        return new ClassFile(name, superName, constants);
+    }
+
+    /**
+     * Class name, super class name and string constants read from a class file.
+     */
+    record ClassFile(String name, String superName, Set<String> constants) {
+    }
+}
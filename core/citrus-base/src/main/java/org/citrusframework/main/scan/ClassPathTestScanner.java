@@ -22,14 +22,12 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.citrusframework.TestClass;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.spi.ClasspathResourceResolver;
 import org.citrusframework.util.FileUtils;
-import org.citrusframework.util.ReflectionHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -85,19 +83,11 @@ public class ClassPathTestScanner extends AbstractTestScanner {
         }
 
         try {
-            Class<?> clazz = Class.forName(className);
-            if (clazz.isAnnotationPresent(annotationType)) {
-                return true;
-            }
-
-            AtomicBoolean hasTestMethod = new AtomicBoolean(false);
-            ReflectionHelper.doWithMethods(clazz, method -> {
-                if (method.getDeclaredAnnotation(annotationType) != null) {
-                    hasTestMethod.set(true);
-                }
-            });
-            return hasTestMethod.get();
-        } catch (NoClassDefFoundError | ClassNotFoundException e) {
+            // read annotations from class file so the class is not loaded and initialized
+            ClassLoader classLoader = ClassPathTestScanner.class.getClassLoader();
+            return ClassFileReader.hasAnnotation(className.replace('.', '/'), annotationType,
+                    name -> classLoader.getResourceAsStream(name + ".class"));
+        } catch (IOException e) {
             logger.warn("Unable to access class: " + className);
             return false;
         }
@@ -18,12 +18,25 @@ package org.citrusframework.main.scan;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
+import org.citrusframework.CitrusSettings;
 import org.citrusframework.TestClass;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.util.FileUtils;
@@ -31,6 +44,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Scans test jar for test classes. Test class candidates must match the include patterns and optionally must use the given test
+ * annotation. Annotations are read from the class files so the scan does not load and initialize the test classes.
+ *
+ * Scan results are optionally cached in a per user temporary directory by jar checksum. Repeated runs with the same test jar skip the scan.
+ *
  * @author Christoph Deppisch
  * @since 2.7.4
  */
@@ -39,32 +57,173 @@ public class JarFileTestScanner extends AbstractTestScanner {
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(JarFileTestScanner.class);
 
+    /** Directory holding cached scan results */
+    private static final String CACHE_DIRECTORY = "citrus-test-scan";
+
     /** Jar file resource to search in */
     private final File artifact;
 
+    /** Optional test annotation marking test classes and methods */
+    private final Class<? extends Annotation> annotationType;
+
+    /** Cache scan results by jar checksum */
+    private boolean cacheEnabled = CitrusSettings.isTestScanCacheEnabled();
+
+    /** Directory holding cached scan results, separated per user as the temporary directory may be shared */
+    private Path cacheDirectory = Path.of(System.getProperty("java.io.tmpdir"), CACHE_DIRECTORY + "-" + System.getProperty("user.name"));
+
     public JarFileTestScanner(File artifact, String... includes) {
+        this(artifact, null, includes);
+    }
+
+    public JarFileTestScanner(File artifact, Class<? extends Annotation> annotationType, String... includes) {
         super(includes);
         this.artifact = artifact;
+        this.annotationType = annotationType;
     }
 
     @Override
     public List<TestClass> findTestsInPackage(String packageToScan) {
-        List<TestClass> testClasses = new ArrayList<>();
-        if (artifact != null && artifact.isFile()) {
-            try (JarFile jar = new JarFile(artifact)) {
-                for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
-                    JarEntry entry = entries.nextElement();
-                    String className = FileUtils.getBaseName(entry.getName()).replace( "/", "." );
-                    if (packageToScan.replace( ".", "/" ).startsWith(entry.getName()) && isIncluded(className)) {
-                        logger.info("Found test class candidate in test jar file: " +  entry.getName());
-                        testClasses.add(TestClass.fromString(className));
-                    }
+        if (artifact == null || !artifact.isFile()) {
+            return new ArrayList<>();
+        }
+
+        Path cacheFile = cacheEnabled ? getCacheFile(packageToScan) : null;
+        if (cacheFile != null && Files.isRegularFile(cacheFile)) {
+            try {
+                List<TestClass> testClasses = Files.readAllLines(cacheFile, StandardCharsets.UTF_8).stream()
+                        .filter(line -> !line.isBlank())
+                        .map(TestClass::fromString)
+                        .collect(Collectors.toList());
+
+                logger.info(String.format("Using %s cached test class candidates for test jar file: %s", testClasses.size(), artifact.getName()));
+                return testClasses;
+            } catch (IOException e) {
+                logger.warn("Failed to read cached test scan result - scanning test jar file", e);
+            }
+        }
+
+        List<String> classNames = scan(packageToScan);
+
+        if (cacheFile != null) {
+            writeCache(cacheFile, classNames);
+        }
+
+        return classNames.stream()
+                .map(TestClass::fromString)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> scan(String packageToScan) {
+        List<String> classNames = new ArrayList<>();
+        String packagePath = packageToScan.replace( ".", "/" );
+
+        try (JarFile jar = new JarFile(artifact)) {
+            for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
+                JarEntry entry = entries.nextElement();
+                if (entry.isDirectory() || !entry.getName().endsWith(".class") || !entry.getName().startsWith(packagePath)) {
+                    continue;
+                }
+
+                String className = FileUtils.getBaseName(entry.getName()).replace( "/", "." );
+                if (isIncluded(className) && hasTestAnnotation(jar, entry)) {
+                    logger.info("Found test class candidate in test jar file: " +  entry.getName());
+                    classNames.add(className);
                 }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new CitrusRuntimeException("Failed to access jar file artifact", e);
+        }
+
+        return classNames;
+    }
+
+    private boolean hasTestAnnotation(JarFile jar, JarEntry entry) throws IOException {
+        if (annotationType == null) {
+            return true;
+        }
+
+        ClassLoader classLoader = JarFileTestScanner.class.getClassLoader();
+        return ClassFileReader.hasAnnotation(FileUtils.getBaseName(entry.getName()), annotationType, name -> {
+            JarEntry classEntry = jar.getJarEntry(name + ".class");
+            if (classEntry == null) {
+                // super class may be located in a library
+                return classLoader.getResourceAsStream(name + ".class");
+            }
+
+            try {
+                return jar.getInputStream(classEntry);
             } catch (IOException e) {
-                throw new CitrusRuntimeException("Failed to access jar file artifact", e);
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Gets the cache file holding the scan result for given package. Cache key is the jar checksum combined with the scan settings.
+     * @param packageToScan
+     * @return the cache file or null if jar checksum is not available.
+     */
+    private Path getCacheFile(String packageToScan) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = Files.newInputStream(artifact.toPath())) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+
+            digest.update(packageToScan.getBytes(StandardCharsets.UTF_8));
+            digest.update(String.join(",", getIncludes()).getBytes(StandardCharsets.UTF_8));
+            if (annotationType != null) {
+                digest.update(annotationType.getName().getBytes(StandardCharsets.UTF_8));
+            }
+
+            StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(String.format("%02x", b));
+            }
+
+            return cacheDirectory.resolve(key + ".txt");
+        } catch (IOException | NoSuchAlgorithmException e) {
+            logger.warn("Unable to compute test jar checksum - test scan result is not cached", e);
+            return null;
+        }
+    }
+
+    private void writeCache(Path cacheFile, List<String> classNames) {
+        try {
+            if (!Files.isDirectory(cacheFile.getParent())) {
+                if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                    // only the owner may read and write cached scan results
+                    Files.createDirectories(cacheFile.getParent(), PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+                } else {
+                    Files.createDirectories(cacheFile.getParent());
+                }
             }
+            Path tmp = Files.createTempFile(cacheFile.getParent(), CACHE_DIRECTORY, ".tmp");
+            Files.write(tmp, classNames, StandardCharsets.UTF_8);
+            Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Failed to write test scan result to cache", e);
         }
+    }
+
+    /**
+     * Enables or disables the scan result cache.
+     * @param cacheEnabled
+     */
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
 
-        return testClasses;
+    /**
+     * Sets the directory holding cached scan results.
+     * @param cacheDirectory
+     */
+    public void setCacheDirectory(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
     }
 }
@@ -16,11 +16,15 @@
 
 package org.citrusframework.message;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.exceptions.CitrusRuntimeException;
@@ -54,6 +58,12 @@ public class DefaultMessage implements Message {
     /** Type of the message indicates the content type - also see {@link MessageType) */
     private String type;
 
+    /** Cached payload representations by key */
+    private transient Map<String, Object> payloadRepresentations;
+
+    /** Payload instance the cached representations have been created from */
+    private transient Object representedPayload;
+
     /**
      * Empty constructor initializing with empty message payload.
      */
@@ -148,8 +158,28 @@ public class DefaultMessage implements Message {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T getPayload(Class<T> type) {
-        return TypeConversionUtils.convertIfNecessary(getPayload(), type);
+        Object payload = getPayload();
+        if (String.class.equals(type) && isImmutable(payload) && !(payload instanceof String)) {
+            return (T) getPayloadRepresentation(payload, String.class.getName(),
+                    message -> TypeConversionUtils.convertIfNecessary(payload, String.class));
+        }
+
+        return TypeConversionUtils.convertIfNecessary(payload, type);
+    }
+
+    /**
+     * Checks if given payload is of an immutable type. Only String conversions and parsed representations of immutable
+     * payloads get cached, because mutable payloads such as byte arrays or DOM nodes may change in place without notice.
+     * @param payload
+     * @return
+     */
+    private static boolean isImmutable(Object payload) {
+        return payload instanceof String || payload instanceof Boolean || payload instanceof Character
+                || payload instanceof Enum<?> || payload instanceof Integer || payload instanceof Long
+                || payload instanceof Short || payload instanceof Byte || payload instanceof Double
+                || payload instanceof Float || payload instanceof BigInteger || payload instanceof BigDecimal;
     }
 
     @Override
@@ -160,9 +190,55 @@ public class DefaultMessage implements Message {
     @Override
     public DefaultMessage setPayload(Object payload) {
         this.payload = payload;
+        clearPayloadRepresentations();
         return this;
     }
 
+    @Override
+    public <T> T getPayloadRepresentation(String key, Function<Message, T> parser) {
+        Object payload = getPayload();
+        if (!isImmutable(payload)) {
+            return parser.apply(this);
+        }
+
+        return getPayloadRepresentation(payload, key, parser);
+    }
+
+    /**
+     * Gets cached payload representation or creates it with given parser. Cached representations are only valid for
+     * the very same payload instance they have been created from, so representations get rebuilt as soon as the payload changes.
+     * @param payload
+     * @param key
+     * @param parser
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized <T> T getPayloadRepresentation(Object payload, String key, Function<Message, T> parser) {
+        if (payloadRepresentations == null || representedPayload != payload) {
+            payloadRepresentations = new HashMap<>();
+            representedPayload = payload;
+        }
+
+        T representation = (T) payloadRepresentations.get(key);
+        if (representation == null) {
+            representation = parser.apply(this);
+            if (representedPayload == payload) {
+                payloadRepresentations.put(key, representation);
+            }
+        }
+
+        return representation;
+    }
+
+    /**
+     * Removes all cached payload representations.
+     */
+    private synchronized void clearPayloadRepresentations() {
+        payloadRepresentations = null;
+        representedPayload = null;
+    }
+
     @Override
     public Map<String, Object> getHeaders() {
         return headers;
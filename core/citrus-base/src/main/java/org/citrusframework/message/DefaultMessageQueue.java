@@ -15,9 +15,22 @@
  */
 package org.citrusframework.message;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.citrusframework.message.selector.HeaderMatchingMessageSelector;
+import org.citrusframework.validation.matcher.ValidationMatcherUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +38,14 @@ import org.slf4j.LoggerFactory;
  * Default message queue implementation. Holds queued messages in memory and adds selective consumption of messages
  * according to a message selector implementation.
  *
+ * Receivers waiting for a matching message get signaled as soon as a new message is sent to the queue. Only the newly
+ * arrived messages are evaluated by the waiting receiver then. The polling interval is still used as an upper bound
+ * for re-evaluating all queued messages, because selector results may change over time (e.g. when selectors make
+ * use of validation matchers).
+ *
+ * Messages are indexed by their header values so header matching selectors with plain matching values
+ * are able to look up the message without scanning the whole queue.
+ *
  * @author Christoph Deppisch
  */
 public class DefaultMessageQueue implements MessageQueue {
@@ -35,8 +56,18 @@ public class DefaultMessageQueue implements MessageQueue {
     /** Logger */
     private static final Logger RETRY_LOG = LoggerFactory.getLogger("org.citrusframework.RetryLogger");
 
-    /** Blocking in memory message store */
-    private final BlockingQueue<Message> queue = new LinkedBlockingQueue<>();
+    /** In memory message store ordered by sequence number of arrival */
+    private final NavigableMap<Long, QueuedMessage> queue = new TreeMap<>();
+
+    /** Index of queued message sequence numbers by header name and header value */
+    private final Map<String, Map<String, NavigableSet<Long>>> headerIndex = new HashMap<>();
+
+    /** Lock guarding queue and index, receivers wait on the condition for new messages to arrive */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messageArrived = lock.newCondition();
+
+    /** Sequence number for messages sent to this queue */
+    private long sequence = 0L;
 
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500;
@@ -52,61 +83,181 @@ public class DefaultMessageQueue implements MessageQueue {
 
     @Override
     public void send(Message message) {
-        this.queue.add(message);
+        lock.lock();
+        try {
+            QueuedMessage queued = new QueuedMessage(++sequence, message);
+            queue.put(queued.sequence, queued);
+            addToIndex(queued);
+
+            messageArrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public Message receive(MessageSelector selector) {
-        Object[] array = this.queue.toArray();
-        for (Object o : array) {
-            Message message = (Message) o;
-            if (selector.accept(message) && this.queue.remove(message)) {
-                return message;
-            }
+        lock.lock();
+        try {
+            return select(selector, 0L);
+        } finally {
+            lock.unlock();
         }
-
-        return null;
     }
 
     @Override
     public Message receive(MessageSelector selector, long timeout) {
-        long timeLeft = timeout;
-        Message message = receive(selector);
+        long timeLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+        long deadline = System.nanoTime() + timeLeft;
 
-        while (message == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+        lock.lock();
+        try {
+            Message message = select(selector, 0L);
 
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("No message received with message selector - retrying in " +
-                        (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
-            }
+            long lastSeen = sequence;
+            long nextRetry = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollingInterval);
+            while (message == null && timeLeft > 0) {
+                long waitTime = Math.min(timeLeft, nextRetry - System.nanoTime());
+
+                if (waitTime > 0) {
+                    try {
+                        messageArrived.awaitNanos(waitTime);
+                    } catch (InterruptedException e) {
+                        RETRY_LOG.warn("Thread interrupted while waiting for message", e);
+                        Thread.currentThread().interrupt();
+                        return null;
+                    }
+                }
+
+                long now = System.nanoTime();
+                timeLeft = deadline - now;
+
+                if (now - nextRetry >= 0 || timeLeft <= 0) {
+                    if (RETRY_LOG.isDebugEnabled()) {
+                        RETRY_LOG.debug("No message received with message selector - retrying on all queued messages");
+                    }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+                    message = select(selector, 0L);
+                    nextRetry = now + TimeUnit.MILLISECONDS.toNanos(pollingInterval);
+                } else if (sequence > lastSeen) {
+                    message = select(selector, lastSeen);
+                }
+
+                lastSeen = sequence;
             }
 
-            message = receive(selector);
+            return message;
+        } finally {
+            lock.unlock();
         }
-
-        return message;
     }
 
     @Override
     public void purge(MessageSelector selector) {
-        Object[] array = this.queue.toArray();
-        for (Object o : array) {
-            Message message = (Message) o;
-            if (selector.accept(message)) {
-                if (this.queue.remove(message)) {
+        lock.lock();
+        try {
+            Iterator<QueuedMessage> it = queue.values().iterator();
+            while (it.hasNext()) {
+                QueuedMessage queued = it.next();
+                if (selector.accept(queued.message)) {
+                    it.remove();
+                    removeFromIndex(queued);
+
                     if (logger.isDebugEnabled()) {
-                        logger.debug(String.format("Purged message '%s' from in memory queue", message.getId()));
+                        logger.debug(String.format("Purged message '%s' from in memory queue", queued.message.getId()));
                     }
-                } else {
-                    logger.warn(String.format("Failed to purge message '%s' from in memory queue", message.getId()));
                 }
             }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Selects and removes the first message accepted by the given selector. Only messages with a sequence number
+     * greater than the given offset are evaluated. Caller must hold the lock.
+     * @param selector
+     * @param offset
+     * @return the selected message or null if no matching message is available.
+     */
+    private Message select(MessageSelector selector, long offset) {
+        Iterable<QueuedMessage> candidates;
+        if (isIndexed(selector)) {
+            HeaderMatchingMessageSelector headerSelector = (HeaderMatchingMessageSelector) selector;
+            NavigableSet<Long> matching = headerIndex.getOrDefault(headerSelector.getSelectKey(), Collections.emptyMap())
+                    .get(headerSelector.getMatchingValue());
+
+            if (matching == null || matching.isEmpty()) {
+                return null;
+            }
+
+            List<QueuedMessage> indexed = new ArrayList<>();
+            for (Long seq : matching.tailSet(offset, false)) {
+                indexed.add(queue.get(seq));
+            }
+            candidates = indexed;
+        } else {
+            candidates = queue.tailMap(offset, false).values();
+        }
+
+        for (QueuedMessage queued : candidates) {
+            if (selector.accept(queued.message)) {
+                queue.remove(queued.sequence);
+                removeFromIndex(queued);
+                return queued.message;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Index lookup is only used for plain header matching selectors. Subclasses may override the accept logic
+     * and validation matcher expressions need to be evaluated on each message.
+     * @param selector
+     * @return
+     */
+    private boolean isIndexed(MessageSelector selector) {
+        return selector.getClass().equals(HeaderMatchingMessageSelector.class) &&
+                !ValidationMatcherUtils.isValidationMatcherExpression(((HeaderMatchingMessageSelector) selector).getMatchingValue());
+    }
+
+    /**
+     * Adds message headers to the header index. Uses nested message headers in favor of
+     * outer message headers in the same way the header matching message selector does.
+     * @param queued
+     */
+    private void addToIndex(QueuedMessage queued) {
+        for (Map.Entry<String, String> header : queued.indexedHeaders.entrySet()) {
+            headerIndex.computeIfAbsent(header.getKey(), k -> new HashMap<>())
+                    .computeIfAbsent(header.getValue(), k -> new TreeSet<>())
+                    .add(queued.sequence);
+        }
+    }
+
+    /**
+     * Removes message from header index and cleans up empty index entries.
+     * @param queued
+     */
+    private void removeFromIndex(QueuedMessage queued) {
+        for (Map.Entry<String, String> header : queued.indexedHeaders.entrySet()) {
+            Map<String, NavigableSet<Long>> values = headerIndex.get(header.getKey());
+            if (values == null) {
+                continue;
+            }
+
+            NavigableSet<Long> sequences = values.get(header.getValue());
+            if (sequences != null) {
+                sequences.remove(queued.sequence);
+
+                if (sequences.isEmpty()) {
+                    values.remove(header.getValue());
+                }
+            }
+
+            if (values.isEmpty()) {
+                headerIndex.remove(header.getKey());
+            }
         }
     }
 
@@ -146,4 +297,35 @@ public class DefaultMessageQueue implements MessageQueue {
     public String toString() {
         return name;
     }
+
+    /**
+     * Queue entry holding the message along with its sequence number and the header values used for indexing.
+     */
+    private static class QueuedMessage {
+        private final long sequence;
+        private final Message message;
+        private final Map<String, String> indexedHeaders;
+
+        QueuedMessage(long sequence, Message message) {
+            this.sequence = sequence;
+            this.message = message;
+            this.indexedHeaders = new HashMap<>();
+
+            message.getHeaders().forEach((key, value) -> {
+                if (value != null) {
+                    indexedHeaders.put(key, value.toString());
+                }
+            });
+
+            if (message.getPayload() instanceof Message) {
+                ((Message) message.getPayload()).getHeaders().forEach((key, value) -> {
+                    if (value != null) {
+                        indexedHeaders.put(key, value.toString());
+                    } else {
+                        indexedHeaders.remove(key);
+                    }
+                });
+            }
+        }
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.message.correlation;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Object store holds a future per correlation key. Clients waiting for a correlated object get notified
+ * as soon as the object is added to the store. Entries that have not been consumed within the expiry time
+ * get removed from the store so abandoned objects do not pile up.
+ *
+ * @since 4.2
+ */
+public class FutureObjectStore<T> implements ObjectStore<T> {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(FutureObjectStore.class);
+
+    /** Default time in milliseconds after that unconsumed entries are removed from the store */
+    public static final long DEFAULT_EXPIRY = 300000L;
+
+    /** Future slot per correlation key */
+    private final Map<String, Slot<T>> slots = new ConcurrentHashMap<>();
+
+    /** Time in milliseconds after that unconsumed entries are removed */
+    private long expiry = DEFAULT_EXPIRY;
+
+    /** Timestamp of last expiry check */
+    private volatile long lastExpiryCheck = System.currentTimeMillis();
+
+    @Override
+    public void add(String correlationKey, T object) {
+        removeExpired();
+
+        Slot<T> slot = slots.computeIfAbsent(correlationKey, k -> new Slot<>());
+        if (!slot.future.complete(object)) {
+            // object already present for this key - overwrite with new object
+            slots.put(correlationKey, new Slot<>(object));
+        }
+    }
+
+    @Override
+    public T remove(String correlationKey) {
+        Slot<T> slot = slots.get(correlationKey);
+        if (slot != null && slot.future.isDone() && slots.remove(correlationKey, slot)) {
+            return slot.future.getNow(null);
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes object with correlation key. Blocks until the object is added to the store or the given
+     * timeout is reached.
+     * @param correlationKey
+     * @param timeout
+     * @return the stored object or null if no object has been added within the timeout.
+     */
+    public T remove(String correlationKey, long timeout) {
+        if (timeout <= 0) {
+            return remove(correlationKey);
+        }
+
+        Slot<T> slot = slots.computeIfAbsent(correlationKey, k -> new Slot<>());
+        try {
+            T object = slot.future.get(timeout, TimeUnit.MILLISECONDS);
+            slots.remove(correlationKey, slot);
+            return object;
+        } catch (TimeoutException e) {
+            slots.remove(correlationKey, slot);
+            return slot.future.getNow(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Interrupted while waiting for correlated object '%s'", correlationKey), e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException(String.format("Failed to get correlated object '%s'", correlationKey), e.getCause());
+        }
+    }
+
+    /**
+     * Removes all entries that have not been consumed within the expiry time.
+     * Check is performed at most once per expiry period.
+     */
+    public void removeExpired() {
+        long now = System.currentTimeMillis();
+        if (now - lastExpiryCheck < expiry) {
+            return;
+        }
+
+        lastExpiryCheck = now;
+        slots.entrySet().removeIf(entry -> {
+            if (now - entry.getValue().created > expiry) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug(String.format("Removing expired correlated object for '%s'", entry.getKey()));
+                }
+                return true;
+            }
+
+            return false;
+        });
+    }
+
+    /**
+     * Gets the number of entries in this store.
+     * @return
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Gets the expiry.
+     * @return
+     */
+    public long getExpiry() {
+        return expiry;
+    }
+
+    /**
+     * Sets the expiry.
+     * @param expiry
+     */
+    public void setExpiry(long expiry) {
+        this.expiry = expiry;
+    }
+
+    /**
+     * Store entry holding the future and its creation time.
+     */
+    private static class Slot<T> {
+        private final CompletableFuture<T> future;
+        private final long created = System.currentTimeMillis();
+
+        Slot() {
+            this.future = new CompletableFuture<>();
+        }
+
+        Slot(T object) {
+            this.future = CompletableFuture.completedFuture(object);
+        }
+    }
+}
@@ -23,9 +23,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Extension of default correlation manager adds polling mechanism for find operation on object store.
- * In case object is not found in store retry is automatically performed. Polling interval and overall retry timeout
- * is usually defined in endpoint configuration.
+ * Extension of default correlation manager adds waiting mechanism for find operation on object store.
+ * By default objects are held in a future based object store so clients waiting for a correlated object get notified
+ * as soon as the object is stored. In case a custom object store is used the manager falls back to polling the store.
+ * Polling interval and overall retry timeout is usually defined in endpoint configuration.
  *
  * @author Christoph Deppisch
  * @since 2.1
@@ -36,6 +37,15 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
 
     private final PollableEndpointConfiguration endpointConfiguration;
 
+    /** Monitor notified when new correlation keys are saved */
+    private final Object correlationKeyMonitor = new Object();
+
+    /** Max time in milliseconds to wait for correlation keys */
+    private static final long CORRELATION_KEY_TIMEOUT = 1000L;
+
+    /** Max time to wait for notification before checking test context again, as keys may also be set by other parties */
+    private static final long CORRELATION_KEY_CHECK_INTERVAL = 300L;
+
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(PollingCorrelationManager.class);
 
@@ -50,6 +60,7 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
     public PollingCorrelationManager(PollableEndpointConfiguration endpointConfiguration, String retryLogMessage) {
         this.retryLogMessage = retryLogMessage;
         this.endpointConfiguration = endpointConfiguration;
+        setObjectStore(new FutureObjectStore<>());
     }
 
     /**
@@ -61,6 +72,15 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
         return find(correlationKey, endpointConfiguration.getTimeout());
     }
 
+    @Override
+    public void saveCorrelationKey(String correlationKeyName, String correlationKey, TestContext context) {
+        super.saveCorrelationKey(correlationKeyName, correlationKey, context);
+
+        synchronized (correlationKeyMonitor) {
+            correlationKeyMonitor.notifyAll();
+        }
+    }
+
     @Override
     public String getCorrelationKey(String correlationKeyName, TestContext context) {
         if (logger.isDebugEnabled()) {
@@ -68,28 +88,33 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
         }
 
         String correlationKey = null;
-        if (context.getVariables().containsKey(correlationKeyName)) {
-            correlationKey = context.getVariable(correlationKeyName);
-        }
-
-        long timeLeft = 1000L;
-        long pollingInterval = 300L;
-        while (correlationKey == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
-
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("Correlation key not available yet - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
-            }
-
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
-            }
+        long deadline = System.currentTimeMillis() + CORRELATION_KEY_TIMEOUT;
 
+        synchronized (correlationKeyMonitor) {
             if (context.getVariables().containsKey(correlationKeyName)) {
                 correlationKey = context.getVariable(correlationKeyName);
             }
+
+            long timeLeft = CORRELATION_KEY_TIMEOUT;
+            while (correlationKey == null && timeLeft > 0) {
+                if (RETRY_LOG.isDebugEnabled()) {
+                    RETRY_LOG.debug("Correlation key not available yet - waiting " + timeLeft + "ms");
+                }
+
+                try {
+                    correlationKeyMonitor.wait(Math.min(timeLeft, CORRELATION_KEY_CHECK_INTERVAL));
+                } catch (InterruptedException e) {
+                    RETRY_LOG.warn("Thread interrupted while waiting for correlation key", e);
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                if (context.getVariables().containsKey(correlationKeyName)) {
+                    correlationKey = context.getVariable(correlationKeyName);
+                }
+
+                timeLeft = deadline - System.currentTimeMillis();
+            }
         }
 
         if (correlationKey == null) {
@@ -101,6 +126,19 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
 
     @Override
     public T find(String correlationKey, long timeout) {
+        if (getObjectStore() instanceof FutureObjectStore) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("Finding correlated object for '%s'", correlationKey));
+            }
+
+            T stored = ((FutureObjectStore<T>) getObjectStore()).remove(correlationKey, timeout);
+            if (stored == null && RETRY_LOG.isDebugEnabled()) {
+                RETRY_LOG.debug(retryLogMessage + " - gave up after " + timeout + "ms");
+            }
+
+            return stored;
+        }
+
         long timeLeft = timeout;
         long pollingInterval = endpointConfiguration.getPollingInterval();
 
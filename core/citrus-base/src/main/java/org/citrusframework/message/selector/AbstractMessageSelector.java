@@ -77,4 +77,20 @@ public abstract class AbstractMessageSelector implements MessageSelector {
             return value.equals(matchingValue);
         }
     }
+
+    /**
+     * Gets the select key.
+     * @return
+     */
+    public String getSelectKey() {
+        return selectKey;
+    }
+
+    /**
+     * Gets the matching value.
+     * @return
+     */
+    public String getMatchingValue() {
+        return matchingValue;
+    }
 }
@@ -16,14 +16,28 @@
 
 package org.citrusframework.report;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
 
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.TestCase;
@@ -31,6 +45,7 @@ import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.message.Message;
 import org.citrusframework.message.RawMessage;
+import org.citrusframework.util.ThreadUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,8 +53,9 @@ import org.slf4j.LoggerFactory;
  * Test listener collects all messages sent and received by Citrus during test execution. Listener
  * writes a trace file with all message content per test case to a output directory.
  *
- * Note: This class is not thread safe! Parallel test execution leads to behaviour that messages get mixed.
- * Proper correlation to test case is not possible here.
+ * Each test writes to its own trace channel that is bound to the test thread and the test name. Messages are appended
+ * to the trace file as they occur, the file writes are performed on a separate writer thread. Trace files can
+ * optionally be compressed and traced messages can be truncated to a maximum length.
  *
  * @author Christoph Deppisch
  * @since 1.2
@@ -49,17 +65,32 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     /** File ending for all message trace files */
     private static final String TRACE_FILE_ENDING = ".msgs";
 
+    /** File ending for compressed message trace files */
+    private static final String COMPRESSED_FILE_ENDING = ".gz";
+
     /** File ending for all message trace files */
     private static final Date TEST_EXECUTION_DATE = new Date();
 
+    /** Size of the write buffer per trace channel */
+    private static final int BUFFER_SIZE = 8192;
+
     /** Output directory */
     private String outputDirectory = CitrusSettings.getMessageTraceDirectory();
 
-    /** List of messages to trace */
-    private final List<String> messages = new ArrayList<>();
+    /** Compress trace files */
+    private boolean compress = CitrusSettings.isMessageTraceCompress();
+
+    /** Maximum number of characters per traced message */
+    private int maxLength = CitrusSettings.getMessageTraceMaxLength();
+
+    /** Trace of the test running on the current thread */
+    private final ThreadLocal<TraceChannel> currentTrace = new ThreadLocal<>();
+
+    /** Traces of all running tests by test name used for messages exchanged on other threads */
+    private final Map<String, TraceChannel> activeTraces = new ConcurrentHashMap<>();
 
-    /** Locking object for synchronization */
-    private final Object lockObject = new Object();
+    /** Single writer thread keeps the message order per trace file */
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(ThreadUtils.newThreadFactory("citrus-message-trace"));
 
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(MessageTracingTestListener.class);
@@ -69,9 +100,9 @@ public class MessageTracingTestListener extends AbstractTestListener implements
      */
     @Override
     public void onTestStart(TestCase test) {
-        synchronized (lockObject) {
-            messages.clear();
-        }
+        TraceChannel trace = new TraceChannel(getTraceFile(test.getName()));
+        currentTrace.set(trace);
+        activeTraces.put(test.getName(), trace);
     }
 
     /**
@@ -79,42 +110,87 @@ public class MessageTracingTestListener extends AbstractTestListener implements
      */
     @Override
     public void onTestFinish(TestCase test) {
-        if (messages.isEmpty()) {
-            return; // do not write empty message trace file
-        }
+        TraceChannel trace = Optional.ofNullable(currentTrace.get())
+                .orElseGet(() -> activeTraces.get(test.getName()));
+        currentTrace.remove();
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(getTraceFile(test.getName())))) {
-            writer.write(separator() + newLine() + newLine());
+        if (trace == null) {
+            return;
+        }
 
-            synchronized (lockObject) {
-                for (String message : messages) {
-                    writer.write(message);
-                    writer.write(newLine() + separator() + newLine() + newLine());
-                }
-            }
+        activeTraces.remove(test.getName(), trace);
 
-            writer.flush();
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to write message trace to filesystem", e);
+        try {
+            writer.submit(() -> {
+                trace.close();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while writing message trace to filesystem", e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to write message trace to filesystem", e.getCause());
         }
     }
 
     @Override
     public void onInboundMessage(Message message, TestContext context) {
         if (message instanceof RawMessage) {
-            synchronized (lockObject) {
-                messages.add("INBOUND_MESSAGE:" + newLine() + newLine() + message.print(context));
-            }
+            trace("INBOUND_MESSAGE:", message, context);
         }
     }
 
     @Override
     public void onOutboundMessage(Message message, TestContext context) {
         if (message instanceof RawMessage) {
-            synchronized (lockObject) {
-                messages.add("OUTBOUND_MESSAGE:" + newLine() + newLine() + message.print(context));
-            }
+            trace("OUTBOUND_MESSAGE:", message, context);
+        }
+    }
+
+    /**
+     * Formats the message on the calling thread and hands it over to the writer thread.
+     * @param direction
+     * @param message
+     * @param context
+     */
+    private void trace(String direction, Message message, TestContext context) {
+        TraceChannel trace = lookupTrace(context);
+        if (trace == null) {
+            return;
         }
+
+        String content = truncate(message.print(context));
+        String entry = direction + newLine() + newLine() + content + newLine() + separator() + newLine() + newLine();
+        writer.execute(() -> trace.append(entry));
+    }
+
+    /**
+     * Finds the trace of the test that has exchanged the message. Uses the trace bound to the current thread and falls
+     * back to the test name in the test context for messages exchanged on other threads.
+     * @param context
+     * @return
+     */
+    private TraceChannel lookupTrace(TestContext context) {
+        TraceChannel trace = currentTrace.get();
+        if (trace != null || context == null) {
+            return trace;
+        }
+
+        Object testName = context.getVariables().get(CitrusSettings.TEST_NAME_VARIABLE);
+        return testName != null ? activeTraces.get(testName.toString()) : null;
+    }
+
+    /**
+     * Truncates message content exceeding the maximum length.
+     * @param content
+     * @return
+     */
+    private String truncate(String content) {
+        if (maxLength <= 0 || content.length() <= maxLength) {
+            return content;
+        }
+
+        return content.substring(0, maxLength) + "... [" + (content.length() - maxLength) + " characters truncated]";
     }
 
     /**
@@ -148,7 +224,7 @@ public class MessageTracingTestListener extends AbstractTestListener implements
         }
 
         String testExecutionStartTime = new SimpleDateFormat("yyyyMMdd_HHmmss").format(TEST_EXECUTION_DATE);
-        String filename = String.format("%s_%s%s", testName, testExecutionStartTime, TRACE_FILE_ENDING);
+        String filename = String.format("%s_%s%s%s", testName, testExecutionStartTime, TRACE_FILE_ENDING, compress ? COMPRESSED_FILE_ENDING : "");
 
         File traceFile = new File(targetDirectory, filename);
         if (traceFile.exists()) {
@@ -164,4 +240,132 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     public void setOutputDirectory(String outputDirectory) {
         this.outputDirectory = outputDirectory;
     }
+
+    /**
+     * Sets the compress.
+     * @param compress the compress to set
+     */
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    /**
+     * Sets the maxLength.
+     * @param maxLength the maxLength to set
+     */
+    public void setMaxLength(int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Trace file channel of a single test. The file is opened with the first traced message so tests without messages
+     * do not create empty trace files. All methods are called on the writer thread only.
+     */
+    private final class TraceChannel {
+
+        private final File file;
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        private WritableByteChannel channel;
+        private IOException error;
+
+        TraceChannel(File file) {
+            this.file = file;
+        }
+
+        /**
+         * Appends message entry to the trace file.
+         * @param entry
+         */
+        void append(String entry) {
+            if (error != null) {
+                return;
+            }
+
+            try {
+                if (channel == null) {
+                    channel = open();
+                    write(separator() + newLine() + newLine());
+                }
+
+                write(entry);
+            } catch (IOException e) {
+                error = e;
+            }
+        }
+
+        /**
+         * Encodes the text into the write buffer and writes the buffer to the channel when full.
+         * @param text
+         * @throws IOException
+         */
+        private void write(String text) throws IOException {
+            CharBuffer chars = CharBuffer.wrap(text);
+            encoder.reset();
+
+            CoderResult result;
+            do {
+                result = encoder.encode(chars, buffer, true);
+                if (result.isOverflow()) {
+                    flush();
+                } else if (result.isError()) {
+                    try {
+                        result.throwException();
+                    } catch (CharacterCodingException e) {
+                        throw new IOException("Failed to encode message trace", e);
+                    }
+                }
+            } while (result.isOverflow());
+
+            encoder.flush(buffer);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private WritableByteChannel open() throws IOException {
+            FileChannel fileChannel = FileChannel.open(file.toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+            if (compress) {
+                OutputStream out = new GZIPOutputStream(Channels.newOutputStream(fileChannel), BUFFER_SIZE);
+                return Channels.newChannel(out);
+            }
+
+            return fileChannel;
+        }
+
+        /**
+         * Writes remaining buffer content and closes the trace file. Raises any error that occurred while
+         * appending messages to the trace.
+         * @throws IOException
+         */
+        void close() throws IOException {
+            if (channel == null) {
+                if (error != null) {
+                    throw error;
+                }
+                return;
+            }
+
+            try {
+                if (error == null) {
+                    flush();
+                }
+            } finally {
+                channel.close();
+                channel = null;
+            }
+
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
 }
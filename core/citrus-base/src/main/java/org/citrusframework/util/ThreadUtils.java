@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
+/**
+ * Utility methods creating executor services for test actions running work in separate threads.
+ * Virtual threads are used when the Java runtime supports them (JDK 21+).
+ *
+ * @since 4.2
+ */
+public final class ThreadUtils {
+
+    /** Factory method for virtual thread executors, null when not supported by the Java runtime */
+    private static final Method VIRTUAL_THREAD_EXECUTOR_FACTORY = lookupVirtualThreadExecutorFactory();
+
+    /**
+     * Prevent instantiation of utility class.
+     */
+    private ThreadUtils() {
+        // prevent instantiation
+    }
+
+    /**
+     * Checks if the Java runtime supports virtual threads.
+     * @return
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_THREAD_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * Creates executor starting a new virtual thread for each task. Falls back to a cached thread pool with
+     * daemon threads when virtual threads are not supported by the Java runtime.
+     * @param threadNamePrefix
+     * @return
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String threadNamePrefix) {
+        if (VIRTUAL_THREAD_EXECUTOR_FACTORY != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR_FACTORY.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new CitrusRuntimeException("Failed to create virtual thread executor", e);
+            }
+        }
+
+        return Executors.newCachedThreadPool(newThreadFactory(threadNamePrefix));
+    }
+
+    /**
+     * Creates thread pool with fixed number of daemon threads.
+     * @param poolSize
+     * @param threadNamePrefix
+     * @return
+     */
+    public static ExecutorService newBoundedThreadPool(int poolSize, String threadNamePrefix) {
+        return Executors.newFixedThreadPool(poolSize, newThreadFactory(threadNamePrefix));
+    }
+
+    /**
+     * Creates thread factory creating named daemon threads.
+     * @param threadNamePrefix
+     * @return
+     */
+    public static ThreadFactory newThreadFactory(String threadNamePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Method lookupVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -191,6 +191,19 @@ public class TestCaseTest extends UnitTestSupport {
         testcase.finish(context);
     }
 
+    @Test(expectedExceptions = {TestCaseFailedException.class}, expectedExceptionsMessageRegExp = "This failed in finish handler")
+    public void testExceptionInFinishHandler() {
+        final TestCase testcase = new DefaultTestCase();
+        testcase.setName("MyTestCase");
+
+        testcase.addTestAction(action(context -> context.addFinishHandler(() -> {
+            throw new CitrusRuntimeException("This failed in finish handler");
+        })).build());
+
+        testcase.execute(context);
+        testcase.finish(context);
+    }
+
     @Test
     public void testFinalActions() {
         final TestCase testcase = new DefaultTestCase();
@@ -18,6 +18,11 @@ package org.citrusframework.container;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.citrusframework.TestAction;
 import org.citrusframework.UnitTestSupport;
@@ -26,6 +31,7 @@ import org.citrusframework.actions.FailAction;
 import org.citrusframework.actions.SleepAction;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.reset;
@@ -150,4 +156,124 @@ public class ParallelTest extends UnitTestSupport {
 
         verify(action).execute(context);
     }
+
+    @Test
+    public void testMaxConcurrency() {
+        Parallel parallelAction = new Parallel.Builder()
+                .maxConcurrency(2)
+                .build();
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<TestAction> actionList = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            actionList.add(ctx -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                new SleepAction.Builder().milliseconds(50L).build().execute(ctx);
+                running.decrementAndGet();
+            });
+        }
+
+        parallelAction.setActions(actionList);
+
+        parallelAction.execute(context);
+
+        Assert.assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testCustomExecutorService() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Parallel parallelAction = new Parallel.Builder()
+                    .executorService(executorService)
+                    .build();
+
+            reset(action);
+
+            List<TestAction> actionList = new ArrayList<>();
+            actionList.add(new EchoAction.Builder().build());
+            actionList.add(action);
+            actionList.add(new EchoAction.Builder().build());
+
+            parallelAction.setActions(actionList);
+
+            parallelAction.execute(context);
+
+            verify(action).execute(context);
+            Assert.assertFalse(executorService.isShutdown());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailFast() {
+        Parallel parallelAction = new Parallel.Builder()
+                .failFast(true)
+                .build();
+
+        List<TestAction> actionList = new ArrayList<>();
+        actionList.add(new SleepAction.Builder().milliseconds(10000L).build());
+        actionList.add(new FailAction.Builder().build());
+        actionList.add(new SleepAction.Builder().milliseconds(10000L).build());
+
+        parallelAction.setActions(actionList);
+
+        long start = System.currentTimeMillis();
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing parallel container exception");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(System.currentTimeMillis() - start < 10000L);
+        }
+    }
+
+    @Test
+    public void testFailFastWaitsForCancelledActions() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Parallel parallelAction = new Parallel.Builder()
+                    .failFast(true)
+                    .executorService(executorService)
+                    .build();
+
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicBoolean finished = new AtomicBoolean(false);
+
+            List<TestAction> actionList = new ArrayList<>();
+            actionList.add(ctx -> {
+                started.countDown();
+                long end = System.currentTimeMillis() + 500L;
+                while (System.currentTimeMillis() < end) {
+                    try {
+                        Thread.sleep(50L);
+                    } catch (InterruptedException e) {
+                        // ignore interrupt and keep running
+                    }
+                }
+                finished.set(true);
+            });
+            actionList.add(ctx -> {
+                try {
+                    started.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                new FailAction.Builder().build().execute(ctx);
+            });
+
+            parallelAction.setActions(actionList);
+
+            try {
+                parallelAction.execute(context);
+                Assert.fail("Missing parallel container exception");
+            } catch (CitrusRuntimeException e) {
+                Assert.assertTrue(finished.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
 }
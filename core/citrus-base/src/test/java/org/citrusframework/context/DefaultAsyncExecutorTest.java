@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.context;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class DefaultAsyncExecutorTest {
+
+    @Test
+    public void shouldProvideTaskMetrics() throws InterruptedException, ExecutionException, TimeoutException {
+        DefaultAsyncExecutor executor = new DefaultAsyncExecutor(1);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            Future<?> first = executor.submit(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Future<?> second = executor.submit(() -> {});
+
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(executor.getActiveTasks(), 1);
+            Assert.assertEquals(executor.getQueuedTasks(), 1);
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+
+            Assert.assertEquals(executor.getActiveTasks(), 0);
+            Assert.assertEquals(executor.getQueuedTasks(), 0);
+            Assert.assertEquals(executor.getCompletedTasks(), 2L);
+        } finally {
+            executor.close();
+        }
+    }
+
+    @Test
+    public void shouldReopenAfterClose() throws InterruptedException, ExecutionException, TimeoutException {
+        DefaultAsyncExecutor executor = new DefaultAsyncExecutor();
+        executor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+        executor.close();
+
+        executor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+        executor.close();
+
+        Assert.assertEquals(executor.getCompletedTasks(), 2L);
+    }
+
+    @Test
+    public void shouldUseContextExecutor() {
+        TestContext context = new TestContext();
+        Assert.assertNotNull(DefaultAsyncExecutor.of(context));
+
+        DefaultAsyncExecutor executor = new DefaultAsyncExecutor();
+        context.setAsyncExecutor(executor);
+        Assert.assertSame(DefaultAsyncExecutor.of(context), executor);
+    }
+}
@@ -438,6 +438,22 @@ public class TestContextTest extends UnitTestSupport {
         verify(timer, times(2)).stopTimer();
     }
 
+    @Test
+    public void testFinishHandlers() {
+        Runnable handler = Mockito.mock(Runnable.class);
+        context.addFinishHandler(handler);
+        context.addFinishHandler(() -> {
+            throw new CitrusRuntimeException("Failed to finish");
+        });
+
+        context.runFinishHandlers();
+        context.runFinishHandlers();
+
+        verify(handler, times(1)).run();
+        Assert.assertEquals(context.getExceptions().size(), 1L);
+        Assert.assertEquals(context.getExceptions().get(0).getMessage(), "Failed to finish");
+    }
+
     @Test
     public void shouldCallMessageListeners() {
         MessageListeners listeners = Mockito.mock(MessageListeners.class);
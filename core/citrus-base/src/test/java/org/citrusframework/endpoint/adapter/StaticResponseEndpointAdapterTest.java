@@ -18,8 +18,10 @@ package org.citrusframework.endpoint.adapter;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.citrusframework.UnitTestSupport;
+import org.citrusframework.context.TestContext;
 import org.citrusframework.message.DefaultMessage;
 import org.citrusframework.message.Message;
 import org.testng.Assert;
@@ -101,4 +103,65 @@ public class StaticResponseEndpointAdapterTest extends UnitTestSupport {
         Assert.assertNotNull(response.getHeader("ResponseId"));
         Assert.assertEquals(response.getHeader("ResponseId"), "123456789");
     }
+
+    @Test
+    public void testHandleMessagePrecompiled() {
+        StaticResponseEndpointAdapter endpointAdapter = new StaticResponseEndpointAdapter();
+        endpointAdapter.setTestContextFactory(testContextFactory);
+        endpointAdapter.setPrecompiled(true);
+
+        testContextFactory.getGlobalVariables().getVariables().put("responseId", "123456789");
+
+        Map<String, Object> header = new HashMap<>();
+        header.put("Operation", "UnitTest");
+        header.put("RequestId", "citrus:message(request.header('Id'))");
+
+        endpointAdapter.setMessageHeader(header);
+        endpointAdapter.setMessagePayload("<TestResponse>" +
+                    "<Id>${responseId}</Id>" +
+                    "<Text>Length is citrus:stringLength(citrus:message(request.body()))!</Text>" +
+                "</TestResponse>");
+
+        for (String request : new String[] { "<TestRequest>Hello World!</TestRequest>", "<TestRequest>Hello!</TestRequest>" }) {
+            Message response = endpointAdapter.handleMessage(
+                    new DefaultMessage(request)
+                    .setHeader("Id", "987654321"));
+
+            Assert.assertEquals(response.getPayload(),
+                    String.format("<TestResponse><Id>123456789</Id><Text>Length is %s!</Text></TestResponse>", request.length()));
+            Assert.assertEquals(response.getHeader("Operation"), "UnitTest");
+            Assert.assertEquals(response.getHeader("RequestId"), "987654321");
+        }
+    }
+
+    @Test
+    public void testHandleMessagePrecompiledStatic() {
+        AtomicInteger contextCount = new AtomicInteger();
+        StaticResponseEndpointAdapter endpointAdapter = new StaticResponseEndpointAdapter() {
+            @Override
+            protected TestContext getTestContext() {
+                contextCount.incrementAndGet();
+                return super.getTestContext();
+            }
+        };
+        endpointAdapter.setTestContextFactory(testContextFactory);
+        endpointAdapter.setPrecompiled(true);
+        endpointAdapter.setStoreRequest(false);
+
+        Map<String, Object> header = new HashMap<>();
+        header.put("Operation", "UnitTest");
+
+        endpointAdapter.setMessageHeader(header);
+        endpointAdapter.setMessagePayloadResource("classpath:org/citrusframework/endpoint/adapter/response.xml");
+
+        for (int i = 0; i < 3; i++) {
+            Message response = endpointAdapter.handleMessage(
+                    new DefaultMessage("<TestMessage>Hello World!</TestMessage>"));
+
+            Assert.assertEquals(response.getPayload(String.class).trim(), "<TestMessage>Hello User!</TestMessage>");
+            Assert.assertEquals(response.getHeader("Operation"), "UnitTest");
+        }
+
+        Assert.assertEquals(contextCount.get(), 1);
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.message;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.citrusframework.UnitTestSupport;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class BoundedMessageStoreTest extends UnitTestSupport {
+
+    @Test
+    public void testStoreWithinBudget() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(1024L);
+
+        messageStore.storeMessage("request", new DefaultMessage("RequestMessage"));
+        messageStore.storeMessage("response", new DefaultMessage("ResponseMessage"));
+
+        Assert.assertEquals(messageStore.getMessage("request").getPayload(String.class), "RequestMessage");
+        Assert.assertEquals(messageStore.getMessage("response").getPayload(String.class), "ResponseMessage");
+        Assert.assertNull(messageStore.getMessage("unknown"));
+        Assert.assertEquals(messageStore.getInMemoryCount(), 2);
+        Assert.assertEquals(messageStore.getSpilledCount(), 0);
+        Assert.assertEquals(messageStore.getUsedBytes(), 29L);
+    }
+
+    @Test
+    public void testSpillLeastRecentlyUsed() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(20L);
+
+        messageStore.storeMessage("first", new DefaultMessage("0123456789").setHeader("operation", "first"));
+        messageStore.storeMessage("second", new DefaultMessage("0123456789"));
+
+        // access first message so second message is least recently used
+        Assert.assertNotNull(messageStore.getMessage("first"));
+
+        messageStore.storeMessage("third", new DefaultMessage("0123456789"));
+
+        Assert.assertEquals(messageStore.getInMemoryCount(), 2);
+        Assert.assertEquals(messageStore.getSpilledCount(), 1);
+        Assert.assertEquals(messageStore.getUsedBytes(), 20L);
+
+        Message second = messageStore.getMessage("second");
+        Assert.assertEquals(second.getPayload(String.class), "0123456789");
+
+        // reading spilled message moves it back to memory and spills least recently used first message
+        Assert.assertEquals(messageStore.getSpilledCount(), 1);
+
+        Message first = messageStore.getMessage("first");
+        Assert.assertEquals(first.getPayload(String.class), "0123456789");
+        Assert.assertEquals(first.getHeader("operation"), "first");
+
+        messageStore.clear();
+        Assert.assertEquals(messageStore.getInMemoryCount(), 0);
+        Assert.assertEquals(messageStore.getSpilledCount(), 0);
+        Assert.assertNull(messageStore.getMessage("first"));
+    }
+
+    @Test
+    public void testEvictWithoutSpill() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(10L, false);
+
+        messageStore.storeMessage("first", new DefaultMessage("0123456789"));
+        messageStore.storeMessage("second", new DefaultMessage("0123456789"));
+
+        Assert.assertNull(messageStore.getMessage("first"));
+        Assert.assertNotNull(messageStore.getMessage("second"));
+        Assert.assertEquals(messageStore.getSpilledCount(), 0);
+    }
+
+    @Test
+    public void testOverwriteSpilledMessage() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(10L);
+
+        messageStore.storeMessage("first", new DefaultMessage("0123456789"));
+        messageStore.storeMessage("second", new DefaultMessage("0123456789"));
+        Assert.assertEquals(messageStore.getSpilledCount(), 1);
+
+        messageStore.storeMessage("first", new DefaultMessage("new"));
+        Assert.assertEquals(messageStore.getMessage("first").getPayload(String.class), "new");
+    }
+
+    @Test
+    public void testStreamPayloadNotConsumed() throws Exception {
+        BoundedMessageStore messageStore = new BoundedMessageStore(4096L);
+
+        InputStream payload = new ByteArrayInputStream("StreamMessage".getBytes(StandardCharsets.UTF_8));
+        messageStore.storeMessage("stream", new DefaultMessage(payload));
+
+        Assert.assertEquals(messageStore.getUsedBytes(), BoundedMessageStore.DEFAULT_PAYLOAD_SIZE);
+        Assert.assertEquals(payload.available(), "StreamMessage".length());
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.citrusframework.message;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.citrusframework.context.TestContext;
@@ -116,4 +118,50 @@ public class DefaultMessageQueueTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testReceiveSignaledOnSend() {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+        queue.setPollingInterval(10000L);
+
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context);
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            queue.send(new DefaultMessage("OtherMessage").setHeader("foo", "other"));
+            queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+        });
+
+        long start = System.nanoTime();
+        Message receivedMessage = queue.receive(selector, 5000L);
+
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000L);
+        Assert.assertEquals(queue.receive().getPayload(), "OtherMessage");
+    }
+
+    @Test
+    public void testReceiveSelectedInOrder() {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+
+        queue.send(new DefaultMessage("Message1").setHeader("foo", "bar"));
+        queue.send(new DefaultMessage("Message2").setHeader("foo", "baz"));
+        queue.send(new DefaultMessage("Message3").setHeader("foo", "bar"));
+        queue.send(new DefaultMessage(new DefaultMessage("Message4").setHeader("foo", "bar")).setHeader("foo", "baz"));
+
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context);
+
+        Assert.assertEquals(queue.receive(selector).getPayload(), "Message1");
+        Assert.assertEquals(queue.receive(selector).getPayload(), "Message3");
+        Assert.assertEquals(((Message) queue.receive(selector).getPayload()).getPayload(), "Message4");
+        Assert.assertNull(queue.receive(selector));
+
+        queue.purge(new HeaderMatchingMessageSelector("foo", "baz", context));
+        Assert.assertNull(queue.receive());
+    }
 }
@@ -19,6 +19,9 @@
 
 package org.citrusframework.message;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.citrusframework.UnitTestSupport;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -110,4 +113,74 @@ public class DefaultMessageTest extends UnitTestSupport {
                     "citrus_message_id=%s, citrus_message_timestamp=%s, operation=getCredentials, password=****, secretKey=****" +
                 "}]", message.getId(), message.getId(), message.getTimestamp()));
     }
+
+    @Test
+    public void testPayloadRepresentationCache() {
+        DefaultMessage message = new DefaultMessage("Hello");
+        AtomicInteger parsed = new AtomicInteger();
+
+        Object first = message.getPayloadRepresentation("upper", msg -> {
+            parsed.incrementAndGet();
+            return msg.getPayload(String.class).toUpperCase();
+        });
+        Object second = message.getPayloadRepresentation("upper", msg -> {
+            parsed.incrementAndGet();
+            return msg.getPayload(String.class).toUpperCase();
+        });
+
+        Assert.assertEquals(first, "HELLO");
+        Assert.assertSame(second, first);
+        Assert.assertEquals(parsed.get(), 1);
+
+        message.setPayload("Bye");
+        Object updated = message.getPayloadRepresentation("upper", msg -> {
+            parsed.incrementAndGet();
+            return msg.getPayload(String.class).toUpperCase();
+        });
+
+        Assert.assertEquals(updated, "BYE");
+        Assert.assertEquals(parsed.get(), 2);
+    }
+
+    @Test
+    public void testStringPayloadConversionCache() {
+        byte[] bytes = "Hello".getBytes(StandardCharsets.UTF_8);
+        DefaultMessage message = new DefaultMessage(bytes);
+        Assert.assertEquals(message.getPayload(String.class), "Hello");
+
+        // mutable payload changed in place must not return stale text
+        bytes[0] = 'J';
+        Assert.assertEquals(message.getPayload(String.class), "Jello");
+
+        message.setPayload("Bye".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(message.getPayload(String.class), "Bye");
+
+        message.setPayload(42L);
+        String payload = message.getPayload(String.class);
+        Assert.assertEquals(payload, "42");
+        Assert.assertSame(message.getPayload(String.class), payload);
+    }
+
+    @Test
+    public void testPayloadRepresentationNotCachedForMutablePayload() {
+        byte[] bytes = "Hello".getBytes(StandardCharsets.UTF_8);
+        DefaultMessage message = new DefaultMessage(bytes);
+        AtomicInteger parsed = new AtomicInteger();
+
+        Object first = message.getPayloadRepresentation("upper", msg -> {
+            parsed.incrementAndGet();
+            return msg.getPayload(String.class).toUpperCase();
+        });
+        Assert.assertEquals(first, "HELLO");
+
+        // mutable payload changed in place must not return stale representation
+        bytes[0] = 'J';
+        Object updated = message.getPayloadRepresentation("upper", msg -> {
+            parsed.incrementAndGet();
+            return msg.getPayload(String.class).toUpperCase();
+        });
+
+        Assert.assertEquals(updated, "JELLO");
+        Assert.assertEquals(parsed.get(), 2);
+    }
 }
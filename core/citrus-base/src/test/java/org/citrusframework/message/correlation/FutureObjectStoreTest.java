@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.message.correlation;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FutureObjectStoreTest {
+
+    @Test
+    public void testAddAndRemove() {
+        FutureObjectStore<String> store = new FutureObjectStore<>();
+
+        Assert.assertNull(store.remove("foo"));
+        Assert.assertNull(store.remove("foo", 100L));
+        Assert.assertEquals(store.size(), 0);
+
+        store.add("foo", "bar");
+        store.add("foo", "baz");
+        Assert.assertEquals(store.size(), 1);
+        Assert.assertEquals(store.remove("foo"), "baz");
+        Assert.assertNull(store.remove("foo"));
+
+        store.add("foo", "bar");
+        Assert.assertEquals(store.remove("foo", 100L), "bar");
+        Assert.assertEquals(store.size(), 0);
+    }
+
+    @Test
+    public void testRemoveExpired() throws InterruptedException {
+        FutureObjectStore<String> store = new FutureObjectStore<>();
+        store.setExpiry(50L);
+
+        store.add("foo", "bar");
+        Thread.sleep(100L);
+
+        store.add("bar", "baz");
+        Assert.assertEquals(store.size(), 1);
+        Assert.assertNull(store.remove("foo"));
+        Assert.assertEquals(store.remove("bar"), "baz");
+    }
+}
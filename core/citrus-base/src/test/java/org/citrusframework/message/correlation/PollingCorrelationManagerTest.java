@@ -16,6 +16,9 @@
 
 package org.citrusframework.message.correlation;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.citrusframework.context.TestContext;
 import org.citrusframework.endpoint.direct.DirectSyncEndpointConfiguration;
 import org.mockito.Mockito;
 import org.testng.Assert;
@@ -84,4 +87,37 @@ public class PollingCorrelationManagerTest {
         Assert.assertNull(correlationManager.find("foo"));
 
     }
+
+    @Test
+    public void testFindNotified() {
+        DirectSyncEndpointConfiguration pollableEndpointConfiguration = new DirectSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(100000L);
+        pollableEndpointConfiguration.setTimeout(5000L);
+
+        PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            correlationManager.store("foo", "bar");
+        });
+
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+        Assert.assertEquals(((FutureObjectStore<String>) correlationManager.getObjectStore()).size(), 0);
+    }
+
+    @Test
+    public void testGetCorrelationKeyNotified() {
+        DirectSyncEndpointConfiguration pollableEndpointConfiguration = new DirectSyncEndpointConfiguration();
+        PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        TestContext context = new TestContext();
+        CompletableFuture.runAsync(() -> correlationManager.saveCorrelationKey("correlationKey", "foo", context));
+
+        Assert.assertEquals(correlationManager.getCorrelationKey("correlationKey", context), "foo");
+    }
 }
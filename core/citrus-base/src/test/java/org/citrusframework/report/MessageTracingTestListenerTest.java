@@ -17,8 +17,12 @@
 package org.citrusframework.report;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
+import java.util.zip.GZIPInputStream;
 
 import org.citrusframework.TestCase;
 import org.citrusframework.UnitTestSupport;
@@ -68,6 +72,65 @@ public class MessageTracingTestListenerTest extends UnitTestSupport {
         assertFileExistsWithContent(testname, outboundPayload);
     }
 
+    @Test
+    public void shouldTruncateMessages() throws Exception {
+        String testname = "TruncatedDummyTest";
+        MessageTracingTestListener listener = new MessageTracingTestListener();
+        listener.setOutputDirectory("target/citrus-logs/trace/messages");
+        listener.setMaxLength(10);
+
+        TestCase testCaseMock = setupTestCaseMock(testname);
+
+        listener.onTestStart(testCaseMock);
+        listener.onInboundMessage(setupRawMessageMock("Inbound Message Payload"), context);
+        listener.onTestFinish(testCaseMock);
+
+        File traceFile = listener.getTraceFile(testname);
+        Assert.assertTrue(traceFile.isFile());
+        try (InputStream in = new FileInputStream(traceFile)) {
+            String fileContent = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            Assert.assertTrue(fileContent.contains("Inbound Me... [13 characters truncated]"));
+            Assert.assertFalse(fileContent.contains("Inbound Message Payload"));
+        }
+    }
+
+    @Test
+    public void shouldCompressTraceFile() throws Exception {
+        String testname = "CompressedDummyTest";
+        MessageTracingTestListener listener = new MessageTracingTestListener();
+        listener.setOutputDirectory("target/citrus-logs/trace/messages");
+        listener.setCompress(true);
+
+        TestCase testCaseMock = setupTestCaseMock(testname);
+
+        listener.onTestStart(testCaseMock);
+        listener.onInboundMessage(setupRawMessageMock("Inbound Message"), context);
+        listener.onOutboundMessage(setupRawMessageMock("Outbound Message"), context);
+        listener.onTestFinish(testCaseMock);
+
+        File traceFile = listener.getTraceFile(testname);
+        Assert.assertTrue(traceFile.getName().endsWith(".msgs.gz"));
+        Assert.assertTrue(traceFile.isFile());
+        try (InputStream in = new GZIPInputStream(new FileInputStream(traceFile))) {
+            String fileContent = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            Assert.assertTrue(fileContent.contains("INBOUND_MESSAGE:"));
+            Assert.assertTrue(fileContent.contains("Inbound Message"));
+            Assert.assertTrue(fileContent.contains("OUTBOUND_MESSAGE:"));
+            Assert.assertTrue(fileContent.contains("Outbound Message"));
+        }
+    }
+
+    @Test
+    public void shouldNotCreateEmptyTraceFile() {
+        String testname = "EmptyDummyTest";
+        TestCase testCaseMock = setupTestCaseMock(testname);
+
+        testling.onTestStart(testCaseMock);
+        testling.onTestFinish(testCaseMock);
+
+        Assert.assertFalse(testling.getTraceFile(testname).exists());
+    }
+
     private TestCase setupTestCaseMock(String testname) {
         TestCase mock = mock(TestCase.class);
         when(mock.getName()).thenReturn(testname);
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.variable;
+
+import org.citrusframework.UnitTestSupport;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class VariableTemplateTest extends UnitTestSupport {
+
+    @Test
+    public void testRenderTemplate() {
+        context.setVariable("greeting", "Hello");
+        context.setVariable("name", "Citrus");
+
+        VariableTemplate template = VariableTemplate.compile("${greeting} ${name}!");
+        Assert.assertSame(VariableTemplate.compile("${greeting} ${name}!"), template);
+
+        Assert.assertEquals(template.render(context, false), "Hello Citrus!");
+        Assert.assertEquals(template.render(context, true), "'Hello' 'Citrus'!");
+
+        context.setVariable("name", "World");
+        Assert.assertEquals(template.render(context, false), "Hello World!");
+    }
+
+    @Test
+    public void testReplaceVariablesInString() {
+        context.setVariable("name", "Citrus");
+
+        Assert.assertEquals(VariableUtils.replaceVariablesInString("no variables here", context, false), "no variables here");
+        Assert.assertEquals(VariableUtils.replaceVariablesInString("${name}", context, false), "Citrus");
+        Assert.assertEquals(VariableUtils.replaceVariablesInString("Hello ${name}, ${name}", context, false), "Hello Citrus, Citrus");
+        Assert.assertEquals(VariableUtils.replaceVariablesInString("Hello ${name}", context, true), "Hello 'Citrus'");
+    }
+
+    @Test
+    public void testLargeTemplateNotCached() {
+        context.setVariable("name", "Citrus");
+
+        String large = "x".repeat(VariableTemplate.MAX_CACHED_LENGTH) + "${name}";
+        VariableTemplate template = VariableTemplate.compile(large);
+        Assert.assertNotSame(VariableTemplate.compile(large), template);
+        Assert.assertTrue(template.render(context, false).endsWith("xCitrus"));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnknownVariable() {
+        VariableTemplate.compile("Hello ${unknown}").render(context, false);
+    }
+}
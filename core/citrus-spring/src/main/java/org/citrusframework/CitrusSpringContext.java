@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.citrusframework.config.CitrusSpringConfig;
 import org.citrusframework.container.AfterSuite;
 import org.citrusframework.container.BeforeSuite;
+import org.citrusframework.context.AsyncExecutor;
 import org.citrusframework.context.TestContextFactoryBean;
 import org.citrusframework.functions.FunctionRegistry;
 import org.citrusframework.log.LogModifier;
@@ -53,6 +54,8 @@ public class CitrusSpringContext extends CitrusContext {
      * Closing Citrus and its application context.
      */
     public void close() {
+        super.close();
+
         if (applicationContext instanceof ConfigurableApplicationContext) {
             if (((ConfigurableApplicationContext) applicationContext).isActive()) {
                 ((ConfigurableApplicationContext) applicationContext).close();
@@ -112,6 +115,7 @@ public class CitrusSpringContext extends CitrusContext {
             findBean(ReferenceResolver.class).ifPresent(this::referenceResolver);
             findBean(TypeConverter.class).ifPresent(this::typeConverter);
             findBean(LogModifier.class).ifPresent(this::logModifier);
+            findBean(AsyncExecutor.class).ifPresent(this::asyncExecutor);
             beforeSuite(new ArrayList<>(applicationContext.getBeansOfType(BeforeSuite.class).values()));
             afterSuite(new ArrayList<>(applicationContext.getBeansOfType(AfterSuite.class).values()));
 
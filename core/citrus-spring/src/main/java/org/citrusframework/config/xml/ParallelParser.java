@@ -16,6 +16,7 @@
 
 package org.citrusframework.config.xml;
 
+import org.citrusframework.config.util.BeanDefinitionParserUtils;
 import org.citrusframework.container.Parallel;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
@@ -35,6 +36,8 @@ public class ParallelParser implements BeanDefinitionParser {
         BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(ParallelFactoryBean.class);
 
         DescriptionElementParser.doParse(element, builder);
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("maxConcurrency"), "maxConcurrency");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("failFast"), "failFast");
         ActionContainerParser.doParse(element, parserContext, builder);
 
         return builder.getBeanDefinition();
@@ -47,6 +50,14 @@ public class ParallelParser implements BeanDefinitionParser {
 
         private final Parallel.Builder builder = new Parallel.Builder();
 
+        public void setMaxConcurrency(int maxConcurrency) {
+            builder.maxConcurrency(maxConcurrency);
+        }
+
+        public void setFailFast(boolean failFast) {
+            builder.failFast(failFast);
+        }
+
         @Override
         public Parallel getObject() throws Exception {
             return getObject(builder.build());
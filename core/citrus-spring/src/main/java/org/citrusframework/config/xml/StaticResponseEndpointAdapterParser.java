@@ -21,6 +21,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.citrusframework.config.util.BeanDefinitionParserUtils;
 import org.citrusframework.context.TestContextFactoryBean;
 import org.citrusframework.endpoint.EndpointAdapter;
 import org.citrusframework.endpoint.adapter.StaticResponseEndpointAdapter;
@@ -47,6 +48,9 @@ public class StaticResponseEndpointAdapterParser extends AbstractBeanDefinitionP
     protected AbstractBeanDefinition parseInternal(Element element, ParserContext parserContext) {
         BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(StaticResponseEndpointAdapterFactory.class);
 
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("precompiled"), "precompiled");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("store-request"), "storeRequest");
+
         Element payloadData = DomUtils.getChildElementByTagName(element, "payload");
         if (payloadData != null) {
             builder.addPropertyValue("messagePayload", DomUtils.getTextValue(payloadData));
@@ -99,6 +103,8 @@ public class StaticResponseEndpointAdapterParser extends AbstractBeanDefinitionP
         private String messagePayloadResource;
         private String messagePayloadResourceCharset;
         private Map<String, Object> messageHeader = new HashMap<>();
+        private boolean precompiled = false;
+        private boolean storeRequest = true;
 
         /**
          * Specifies the messagePayload.
@@ -132,6 +138,22 @@ public class StaticResponseEndpointAdapterParser extends AbstractBeanDefinitionP
             this.messageHeader = messageHeader;
         }
 
+        /**
+         * Specifies the precompiled flag.
+         * @param precompiled
+         */
+        public void setPrecompiled(boolean precompiled) {
+            this.precompiled = precompiled;
+        }
+
+        /**
+         * Specifies the storeRequest flag.
+         * @param storeRequest
+         */
+        public void setStoreRequest(boolean storeRequest) {
+            this.storeRequest = storeRequest;
+        }
+
         /**
          * Specifies the fallbackEndpointAdapter.
          * @param fallbackEndpointAdapter
@@ -153,10 +175,12 @@ public class StaticResponseEndpointAdapterParser extends AbstractBeanDefinitionP
             }
 
             if (messagePayloadResourceCharset != null) {
-                endpointAdapter.setMessagePayloadResourceCharset(messagePayloadResource);
+                endpointAdapter.setMessagePayloadResourceCharset(messagePayloadResourceCharset);
             }
 
             endpointAdapter.setMessageHeader(messageHeader);
+            endpointAdapter.setPrecompiled(precompiled);
+            endpointAdapter.setStoreRequest(storeRequest);
 
             endpointAdapter.setTestContextFactory(testContextFactory);
             endpointAdapter.setName(name);
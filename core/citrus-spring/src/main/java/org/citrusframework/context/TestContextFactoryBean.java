@@ -349,6 +349,16 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
         return delegate.getLogModifier();
     }
 
+    @Override
+    public AsyncExecutor getAsyncExecutor() {
+        return delegate.getAsyncExecutor();
+    }
+
+    @Override
+    public void setAsyncExecutor(AsyncExecutor asyncExecutor) {
+        delegate.setAsyncExecutor(asyncExecutor);
+    }
+
     @Override
     public NamespaceContextBuilder getNamespaceContextBuilder() {
         return delegate.getNamespaceContextBuilder();
@@ -20,9 +20,14 @@ import java.io.ByteArrayInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.TimeZone;
@@ -71,9 +76,18 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(FtpClient.class);
 
+    /** Algorithm used to compute checksums of retrieved files */
+    public static final String CHECKSUM_ALGORITHM = "SHA-256";
+
     /** Apache ftp client */
     private FTPClient ftpClient;
 
+    /** Pool of ftp client sessions used for parallel transfers */
+    private FtpSessionPool<FTPClient> sessionPool;
+
+    /** Session borrowed by the current thread */
+    private final ThreadLocal<FTPClient> activeSession = new ThreadLocal<>();
+
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
@@ -117,6 +131,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             logger.debug("Message to send:\n" + ftpMessage.getPayload(String.class));
         }
 
+        openSession();
         try {
             connectAndLogin();
 
@@ -145,14 +160,83 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
             correlationManager.store(correlationKey, response);
         } catch (IOException e) {
+            invalidateSession();
             throw new CitrusRuntimeException("Failed to execute ftp command", e);
+        } catch (CitrusRuntimeException e) {
+            if (e.getCause() instanceof IOException) {
+                // connection may be broken in the middle of a command, do not reuse the session
+                invalidateSession();
+            }
+            throw e;
+        } finally {
+            releaseSession();
         }
     }
 
+    /**
+     * Borrows a session from the session pool and binds it to the current thread. All commands executed
+     * by this thread use the bound session until it is released.
+     */
+    protected void openSession() {
+        activeSession.set(getSessionPool().borrow(getEndpointConfiguration().getTimeout()));
+    }
+
+    /**
+     * Releases the session bound to the current thread back to the session pool.
+     */
+    protected void releaseSession() {
+        FTPClient session = activeSession.get();
+        if (session != null) {
+            activeSession.remove();
+            getSessionPool().release(session);
+        }
+    }
+
+    /**
+     * Closes the session bound to the current thread instead of returning it to the session pool.
+     * Used when the session failed in the middle of a command and must not be reused.
+     */
+    protected void invalidateSession() {
+        FTPClient session = activeSession.get();
+        if (session != null) {
+            activeSession.remove();
+            getSessionPool().invalidate(session);
+        }
+    }
+
+    /**
+     * Gets the ftp client session bound to the current thread. Falls back to the default ftp client
+     * when no pooled session has been borrowed.
+     * @return
+     */
+    protected FTPClient getSession() {
+        return Optional.ofNullable(activeSession.get()).orElse(ftpClient);
+    }
+
+    /**
+     * Gets the session pool and lazily creates it. The default ftp client is the first pooled session, further sessions
+     * are created on demand up to the configured max number of connections.
+     * @return
+     */
+    protected synchronized FtpSessionPool<FTPClient> getSessionPool() {
+        if (sessionPool == null) {
+            if (ftpClient == null) {
+                ftpClient = createFtpClient();
+            }
+
+            sessionPool = new FtpSessionPool<>(getEndpointConfiguration().getMaxConnections(),
+                    this::createFtpClient, session -> true, this::disconnect);
+            sessionPool.add(ftpClient);
+        }
+
+        return sessionPool;
+    }
+
     protected FtpMessage executeCommand(CommandType ftpCommand, TestContext context) {
         try {
-            int reply = ftpClient.sendCommand(ftpCommand.getSignal(), ftpCommand.getArguments());
-            return FtpMessage.result(reply, ftpClient.getReplyString(), isPositive(reply));
+            FTPClient client = getSession();
+            int reply = client.sendCommand(ftpCommand.getSignal(), ftpCommand.getArguments());
+            return FtpMessage.result(reply, client.getReplyString(), isPositive(reply));
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to execute ftp command", e);
         }
@@ -175,19 +259,20 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
                                         .orElse("");
 
         try {
+            FTPClient client = getSession();
             List<String> fileNames = new ArrayList<>();
             FTPFile[] ftpFiles;
             if (StringUtils.hasText(remoteFilePath)) {
-                ftpFiles = ftpClient.listFiles(remoteFilePath);
+                ftpFiles = client.listFiles(remoteFilePath);
             } else {
-                ftpFiles = ftpClient.listFiles(remoteFilePath);
+                ftpFiles = client.listFiles(remoteFilePath);
             }
 
             for (FTPFile ftpFile : ftpFiles) {
                 fileNames.add(ftpFile.getName());
             }
 
-            return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), fileNames);
+            return FtpMessage.result(client.getReplyCode(), client.getReplyString(), fileNames);
         } catch (IOException e) {
             throw new CitrusRuntimeException(String.format("Failed to list files in path '%s'", remoteFilePath), e);
         }
@@ -199,6 +284,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @param context
      */
     protected FtpMessage deleteFile(DeleteCommand delete, TestContext context) {
+        FTPClient client = getSession();
         String remoteFilePath = context.replaceDynamicContentInString(delete.getTarget().getPath());
 
         try {
@@ -208,12 +294,12 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
             boolean success = true;
             if (isDirectory(remoteFilePath)) {
-                if (!ftpClient.changeWorkingDirectory(remoteFilePath)) {
-                    throw new CitrusRuntimeException("Failed to change working directory to " + remoteFilePath + ". FTP reply code: " + ftpClient.getReplyString());
+                if (!client.changeWorkingDirectory(remoteFilePath)) {
+                    throw new CitrusRuntimeException("Failed to change working directory to " + remoteFilePath + ". FTP reply code: " + client.getReplyString());
                 }
 
                 if (delete.isRecursive()) {
-                    FTPFile[] ftpFiles = ftpClient.listFiles();
+                    FTPFile[] ftpFiles = client.listFiles();
                     for (FTPFile ftpFile : ftpFiles) {
                         DeleteCommand recursiveDelete = new DeleteCommand();
                         DeleteCommand.Target target = new DeleteCommand.Target();
@@ -226,15 +312,15 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
                 if (delete.isIncludeCurrent()) {
                     // we cannot delete the current working directory, so go to root directory and delete from there
-                    ftpClient.changeWorkingDirectory("/");
-                    success = ftpClient.removeDirectory(remoteFilePath);
+                    client.changeWorkingDirectory("/");
+                    success = client.removeDirectory(remoteFilePath);
                 }
             } else {
-                success = ftpClient.deleteFile(remoteFilePath);
+                success = client.deleteFile(remoteFilePath);
             }
 
             if (!success) {
-                throw new CitrusRuntimeException("Failed to delete path " + remoteFilePath + ". FTP reply code: " + ftpClient.getReplyString());
+                throw new CitrusRuntimeException("Failed to delete path " + remoteFilePath + ". FTP reply code: " + client.getReplyString());
             }
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to delete file from FTP server", e);
@@ -243,10 +329,10 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         // If there was no file to delete, the ftpClient has the reply code from the previously executed
         // operation. Since we want to have a deterministic behaviour, we need to set the reply code and
         // reply string on our own!
-        if (ftpClient.getReplyCode() != FILE_ACTION_OK) {
+        if (client.getReplyCode() != FILE_ACTION_OK) {
             return FtpMessage.deleteResult(FILE_ACTION_OK, String.format("%s No files to delete.", FILE_ACTION_OK), true);
         }
-        return FtpMessage.deleteResult(ftpClient.getReplyCode(), ftpClient.getReplyString(), isPositive(ftpClient.getReplyCode()));
+        return FtpMessage.deleteResult(client.getReplyCode(), client.getReplyString(), isPositive(client.getReplyCode()));
     }
 
     /**
@@ -256,9 +342,10 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @throws IOException
      */
     protected boolean isDirectory(String remoteFilePath) throws IOException {
-        if (!ftpClient.changeWorkingDirectory(remoteFilePath)) { // not a directory or not accessible
+        FTPClient client = getSession();
+        if (!client.changeWorkingDirectory(remoteFilePath)) { // not a directory or not accessible
 
-            switch (ftpClient.listFiles(remoteFilePath).length) {
+            switch (client.listFiles(remoteFilePath).length) {
                 case 0:
                     throw new CitrusRuntimeException("Remote file path does not exist or is not accessible: " + remoteFilePath);
                 case 1:
@@ -277,24 +364,25 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @param context
      */
     protected FtpMessage storeFile(PutCommand command, TestContext context) {
+        FTPClient client = getSession();
         try {
             String localFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String remoteFilePath = addFileNameToTargetPath(localFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElseGet(() -> DataType.BINARY.name()));
             try (InputStream localFileInputStream = getLocalFileInputStream(command.getFile().getPath(), dataType, context)) {
-                ftpClient.setFileType(getFileType(dataType));
+                client.setFileType(getFileType(dataType));
 
-                if (!ftpClient.storeFile(remoteFilePath, localFileInputStream)) {
+                if (!client.storeFile(remoteFilePath, localFileInputStream)) {
                     throw new IOException("Failed to put file to FTP server. Remote path: " + remoteFilePath
-                            + ". Local file path: " + localFilePath + ". FTP reply: " + ftpClient.getReplyString());
+                            + ". Local file path: " + localFilePath + ". FTP reply: " + client.getReplyString());
                 }
             }
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to put file to FTP server", e);
         }
 
-        return FtpMessage.putResult(ftpClient.getReplyCode(), ftpClient.getReplyString(), isPositive(ftpClient.getReplyCode()));
+        return FtpMessage.putResult(client.getReplyCode(), client.getReplyString(), isPositive(client.getReplyCode()));
     }
 
     /**
@@ -321,6 +409,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @param command
      */
     protected FtpMessage retrieveFile(GetCommand command, TestContext context) {
+        FTPClient client = getSession();
         try {
             String remoteFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String localFilePath = addFileNameToTargetPath(remoteFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
@@ -330,29 +419,56 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElseGet(() -> DataType.BINARY.name()));
-            try (FileOutputStream localFileOutputStream = new FileOutputStream(localFilePath)) {
-                ftpClient.setFileType(getFileType(dataType));
+            MessageDigest checksum = createChecksumDigest();
+            try (OutputStream localFileOutputStream = new DigestOutputStream(new FileOutputStream(localFilePath), checksum)) {
+                client.setFileType(getFileType(dataType));
 
-                if (!ftpClient.retrieveFile(remoteFilePath, localFileOutputStream)) {
+                if (!client.retrieveFile(remoteFilePath, localFileOutputStream)) {
                     throw new CitrusRuntimeException("Failed to get file from FTP server. Remote path: " + remoteFilePath
-                            + ". Local file path: " + localFilePath + ". FTP reply: " + ftpClient.getReplyString());
+                            + ". Local file path: " + localFilePath + ". FTP reply: " + client.getReplyString());
                 }
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
-                String fileContent;
-                if (command.getFile().getType().equals(DataType.BINARY.name())) {
-                    fileContent = Base64.encodeBase64String(FileUtils.copyToByteArray(FileUtils.getFileResource(localFilePath)));
-                } else {
-                    fileContent = FileUtils.readToString(FileUtils.getFileResource(localFilePath));
-                }
+            return createRetrieveResult(client.getReplyCode(), client.getReplyString(), localFilePath, dataType, checksum);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to get file from FTP server", e);
+        }
+    }
 
-                return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath, fileContent);
+    /**
+     * Creates the result message for a retrieved file. The result references the local file and carries its size and checksum.
+     * File content is only added to the result when auto read files is enabled.
+     * @param replyCode
+     * @param replyString
+     * @param localFilePath
+     * @param dataType
+     * @param checksum
+     * @return
+     * @throws IOException
+     */
+    protected FtpMessage createRetrieveResult(int replyCode, String replyString, String localFilePath, String dataType, MessageDigest checksum) throws IOException {
+        String fileContent = null;
+        if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (dataType.equals(DataType.BINARY.name())) {
+                fileContent = Base64.encodeBase64String(FileUtils.copyToByteArray(FileUtils.getFileResource(localFilePath)));
             } else {
-                return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath, null);
+                fileContent = FileUtils.readToString(FileUtils.getFileResource(localFilePath));
             }
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to get file from FTP server", e);
+        }
+
+        return FtpMessage.result(replyCode, replyString, localFilePath, fileContent)
+                .fileInfo(Files.size(Paths.get(localFilePath)), HexFormat.of().formatHex(checksum.digest()));
+    }
+
+    /**
+     * Creates new message digest used to compute the checksum of transferred files.
+     * @return
+     */
+    protected static MessageDigest createChecksumDigest() {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Failed to create file checksum digest", e);
         }
     }
 
@@ -401,14 +517,15 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @throws IOException
      */
     protected void connectAndLogin() throws IOException {
-        if (!ftpClient.isConnected()) {
-            ftpClient.connect(getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
+        FTPClient client = getSession();
+        if (!client.isConnected()) {
+            client.connect(getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
 
             if (logger.isDebugEnabled()) {
-                logger.debug("Connected to FTP server: " + ftpClient.getReplyString());
+                logger.debug("Connected to FTP server: " + client.getReplyString());
             }
 
-            int reply = ftpClient.getReplyCode();
+            int reply = client.getReplyCode();
 
             if (!FTPReply.isPositiveCompletion(reply)) {
                 throw new CitrusRuntimeException("FTP server refused connection.");
@@ -420,7 +537,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
                 if (logger.isDebugEnabled()) {
                     logger.debug(String.format("Login as user: '%s'", getEndpointConfiguration().getUser()));
                 }
-                boolean login = ftpClient.login(getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword());
+                boolean login = client.login(getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword());
 
                 if (!login) {
                     throw new CitrusRuntimeException(String.format("Failed to login to FTP server using credentials: %s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword()));
@@ -428,7 +545,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
 
             if (getEndpointConfiguration().isLocalPassiveMode()) {
-                ftpClient.enterLocalPassiveMode();
+                client.enterLocalPassiveMode();
             }
         }
     }
@@ -467,11 +584,29 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             ftpClient = new FTPClient();
         }
 
+        configure(ftpClient);
+    }
+
+    /**
+     * Creates and configures new ftp client session.
+     * @return
+     */
+    protected FTPClient createFtpClient() {
+        FTPClient client = new FTPClient();
+        configure(client);
+        return client;
+    }
+
+    /**
+     * Configures server time zone and command logging on given ftp client.
+     * @param client
+     */
+    private void configure(FTPClient client) {
         FTPClientConfig config = new FTPClientConfig();
         config.setServerTimeZoneId(TimeZone.getDefault().getID());
-        ftpClient.configure(config);
+        client.configure(config);
 
-        ftpClient.addProtocolCommandListener(new ProtocolCommandListener() {
+        client.addProtocolCommandListener(new ProtocolCommandListener() {
             @Override
             public void protocolCommandSent(ProtocolCommandEvent event) {
                 if (logger.isDebugEnabled()) {
@@ -490,12 +625,24 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     @Override
     public void destroy() {
+        if (sessionPool != null) {
+            sessionPool.close();
+        } else if (ftpClient != null) {
+            disconnect(ftpClient);
+        }
+    }
+
+    /**
+     * Performs logout and closes the connection of given ftp client session.
+     * @param client
+     */
+    private void disconnect(FTPClient client) {
         try {
-            if (ftpClient.isConnected()) {
-                ftpClient.logout();
+            if (client.isConnected()) {
+                client.logout();
 
                 try {
-                    ftpClient.disconnect();
+                    client.disconnect();
                 } catch (IOException e) {
                     logger.warn("Failed to disconnect from FTP server", e);
                 }
@@ -124,6 +124,16 @@ public class FtpClientBuilder extends AbstractEndpointBuilder<FtpClient> {
         return this;
     }
 
+    /**
+     * Sets the max number of parallel client sessions.
+     * @param maxConnections
+     * @return
+     */
+    public FtpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
     /**
      * Sets the default timeout.
      * @param timeout
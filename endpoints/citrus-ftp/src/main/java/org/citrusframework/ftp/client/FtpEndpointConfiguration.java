@@ -69,6 +69,9 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** File transfer passive mode */
     private boolean localPassiveMode = true;
 
+    /** Max number of parallel client sessions to the server */
+    private int maxConnections = 1;
+
     /**
      * Gets the ftp host.
      * @return
@@ -274,4 +277,22 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setLocalPassiveMode(boolean localPassiveMode) {
         this.localPassiveMode = localPassiveMode;
     }
+
+    /**
+     * Gets the maxConnections.
+     *
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maxConnections.
+     *
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
 }
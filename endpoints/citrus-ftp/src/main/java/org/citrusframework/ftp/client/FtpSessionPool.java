@@ -0,0 +1,155 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.ftp.client;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
+/**
+ * Bounded pool of client sessions used by the file transfer clients. At most {@code maxSessions} sessions
+ * are handed out at the same time, so several transfers can run in parallel each on its own connection.
+ * Idle sessions are kept open and reused by subsequent commands. Sessions that fail validation on release
+ * are closed and replaced by a new session on the next borrow.
+ *
+ * @param <S> the session type
+ * @since 4.2
+ */
+public class FtpSessionPool<S> {
+
+    /** Limits the number of sessions in use */
+    private final Semaphore permits;
+
+    /** Sessions ready to be reused */
+    private final Deque<S> idleSessions = new ConcurrentLinkedDeque<>();
+
+    /** Creates new sessions on demand */
+    private final Supplier<S> sessionFactory;
+
+    /** Checks that a released session is still usable */
+    private final Predicate<S> validator;
+
+    /** Closes sessions that are evicted from the pool */
+    private final Consumer<S> closer;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Default constructor using session lifecycle functions.
+     * @param maxSessions
+     * @param sessionFactory
+     * @param validator
+     * @param closer
+     */
+    public FtpSessionPool(int maxSessions, Supplier<S> sessionFactory, Predicate<S> validator, Consumer<S> closer) {
+        this.permits = new Semaphore(Math.max(1, maxSessions), true);
+        this.sessionFactory = sessionFactory;
+        this.validator = validator;
+        this.closer = closer;
+    }
+
+    /**
+     * Adds an already existing session to the pool of idle sessions.
+     * @param session
+     */
+    public void add(S session) {
+        idleSessions.push(session);
+    }
+
+    /**
+     * Borrows a session from the pool. Reuses an idle session if present or creates a new one.
+     * Waits for another session to be released when the pool is exhausted.
+     * @param timeout max time in milliseconds to wait for a free session
+     * @return
+     */
+    public S borrow(long timeout) {
+        if (closed) {
+            throw new CitrusRuntimeException("Session pool has already been closed");
+        }
+
+        try {
+            if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                throw new CitrusRuntimeException(String.format("Timed out after %s ms waiting for a free session", timeout));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for a free session", e);
+        }
+
+        try {
+            S session = idleSessions.poll();
+            return session != null ? session : sessionFactory.get();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a borrowed session to the pool. Invalid sessions get closed instead.
+     * @param session
+     */
+    public void release(S session) {
+        try {
+            if (!closed && validator.test(session)) {
+                idleSessions.push(session);
+            } else {
+                closer.accept(session);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes a borrowed session that must not be reused.
+     * @param session
+     */
+    public void invalidate(S session) {
+        try {
+            closer.accept(session);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes all idle sessions. Sessions still in use get closed when they are released.
+     */
+    public void close() {
+        closed = true;
+
+        S session;
+        while ((session = idleSessions.poll()) != null) {
+            closer.accept(session);
+        }
+    }
+
+    /**
+     * Gets the number of sessions that may still be borrowed without waiting.
+     * @return
+     */
+    public int getAvailableSessions() {
+        return permits.availablePermits();
+    }
+}
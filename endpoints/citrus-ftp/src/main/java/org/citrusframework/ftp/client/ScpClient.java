@@ -18,6 +18,11 @@ package org.citrusframework.ftp.client;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.Optional;
 
 import org.apache.sshd.client.SshClient;
@@ -53,6 +58,15 @@ public class ScpClient extends SftpClient {
 
     private org.apache.sshd.scp.client.ScpClient scpClient;
 
+    /** Shared ssh client creating the client sessions */
+    private SshClient sshClient;
+
+    /** Pool of scp sessions used for parallel transfers */
+    private FtpSessionPool<org.apache.sshd.scp.client.ScpClient> sessionPool;
+
+    /** Session borrowed by the current thread */
+    private final ThreadLocal<org.apache.sshd.scp.client.ScpClient> activeSession = new ThreadLocal<>();
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -73,6 +87,51 @@ public class ScpClient extends SftpClient {
         return (ScpEndpointConfiguration) super.getEndpointConfiguration();
     }
 
+    @Override
+    protected void openSession() {
+        activeSession.set(getScpSessionPool().borrow(getEndpointConfiguration().getTimeout()));
+    }
+
+    @Override
+    protected void releaseSession() {
+        org.apache.sshd.scp.client.ScpClient session = activeSession.get();
+        if (session != null) {
+            activeSession.remove();
+            getScpSessionPool().release(session);
+        }
+    }
+
+    @Override
+    protected void invalidateSession() {
+        org.apache.sshd.scp.client.ScpClient session = activeSession.get();
+        if (session != null) {
+            activeSession.remove();
+            getScpSessionPool().invalidate(session);
+        }
+    }
+
+    /**
+     * Gets the scp client bound to the current thread. Falls back to the default scp client
+     * when no pooled session has been borrowed.
+     * @return
+     */
+    protected org.apache.sshd.scp.client.ScpClient getScpClient() {
+        return Optional.ofNullable(activeSession.get()).orElse(scpClient);
+    }
+
+    /**
+     * Gets the session pool and lazily creates it.
+     * @return
+     */
+    protected synchronized FtpSessionPool<org.apache.sshd.scp.client.ScpClient> getScpSessionPool() {
+        if (sessionPool == null) {
+            sessionPool = new FtpSessionPool<>(getEndpointConfiguration().getMaxConnections(),
+                    this::openScpClient, session -> session.getClientSession().isOpen(), this::close);
+        }
+
+        return sessionPool;
+    }
+
     @Override
     protected FtpMessage createDir(CommandType ftpCommand) {
         throw new UnsupportedOperationException("SCP client does not support create directory operation - please use sftp client");
@@ -91,7 +150,7 @@ public class ScpClient extends SftpClient {
     @Override
     protected FtpMessage storeFile(PutCommand command, TestContext context) {
         try {
-            scpClient.upload(FileUtils.getFileResource(command.getFile().getPath(), context).getFile().getAbsolutePath(), command.getTarget().getPath());
+            getScpClient().upload(FileUtils.getFileResource(command.getFile().getPath(), context).getFile().getAbsolutePath(), command.getTarget().getPath());
         } catch (IOException e) {
             logger.error("Failed to store file via SCP", e);
             return FtpMessage.error();
@@ -108,28 +167,39 @@ public class ScpClient extends SftpClient {
                 logger.warn("Failed to create target directories in path: " + target.getFile().getAbsolutePath());
             }
 
-            scpClient.download(command.getFile().getPath(), target.getFile().getAbsolutePath());
+            MessageDigest checksum = createChecksumDigest();
+            try (OutputStream outputStream = new DigestOutputStream(Files.newOutputStream(target.getFile().toPath()), checksum)) {
+                getScpClient().download(command.getFile().getPath(), outputStream);
+            }
+
+            return FtpMessage.success()
+                    .fileInfo(Files.size(target.getFile().toPath()), HexFormat.of().formatHex(checksum.digest()));
         } catch (IOException e) {
             logger.error("Failed to retrieve file via SCP", e);
             return FtpMessage.error();
         }
-
-        return FtpMessage.success();
     }
 
     @Override
     protected void connectAndLogin() {
-        try {
-            SshClient client = SshClient.setUpDefaultClient();
-            client.start();
-
-            if (getEndpointConfiguration().isStrictHostChecking()) {
-                client.setServerKeyVerifier(new KnownHostsServerKeyVerifier(RejectAllServerKeyVerifier.INSTANCE, FileUtils.getFileResource(getEndpointConfiguration().getKnownHosts()).getFile().toPath()));
-            } else {
-                client.setServerKeyVerifier(AcceptAllServerKeyVerifier.INSTANCE);
+        org.apache.sshd.scp.client.ScpClient pooled = activeSession.get();
+        if (pooled != null) {
+            if (!pooled.getClientSession().isOpen()) {
+                close(pooled);
+                activeSession.set(openScpClient());
             }
+        } else if (scpClient == null || !scpClient.getClientSession().isOpen()) {
+            scpClient = openScpClient();
+        }
+    }
 
-            ClientSession session = client.connect(getEndpointConfiguration().getUser(), getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort()).verify(getEndpointConfiguration().getTimeout()).getSession();
+    /**
+     * Opens and authenticates new client session and creates a scp client on that session.
+     * @return
+     */
+    protected org.apache.sshd.scp.client.ScpClient openScpClient() {
+        try {
+            ClientSession session = getSshClient().connect(getEndpointConfiguration().getUser(), getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort()).verify(getEndpointConfiguration().getTimeout()).getSession();
             session.addPasswordIdentity(getEndpointConfiguration().getPassword());
 
             if (getPrivateKeyPath() != null) {
@@ -144,18 +214,62 @@ public class ScpClient extends SftpClient {
 
             session.auth().verify(getEndpointConfiguration().getTimeout());
 
-            scpClient = new DefaultScpClientCreator().createScpClient(session);
+            return new DefaultScpClientCreator().createScpClient(session);
         } catch (Exception e) {
             throw new CitrusRuntimeException(String.format("Failed to login to SCP server using credentials: %s:%s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword(), getEndpointConfiguration().getPrivateKeyPath()), e);
 
         }
     }
 
+    /**
+     * Gets the shared ssh client and starts it on first usage.
+     * @return
+     */
+    private synchronized SshClient getSshClient() {
+        if (sshClient == null) {
+            SshClient client = SshClient.setUpDefaultClient();
+
+            if (getEndpointConfiguration().isStrictHostChecking()) {
+                client.setServerKeyVerifier(new KnownHostsServerKeyVerifier(RejectAllServerKeyVerifier.INSTANCE, FileUtils.getFileResource(getEndpointConfiguration().getKnownHosts()).getFile().toPath()));
+            } else {
+                client.setServerKeyVerifier(AcceptAllServerKeyVerifier.INSTANCE);
+            }
+
+            client.start();
+            sshClient = client;
+        }
+
+        return sshClient;
+    }
+
+    /**
+     * Closes the client session of given scp client.
+     * @param session
+     */
+    private void close(org.apache.sshd.scp.client.ScpClient session) {
+        try {
+            session.getClientSession().close();
+        } catch (IOException e) {
+            logger.warn("Failed to close SCP session", e);
+        }
+    }
+
     @Override
     public void initialize() {
     }
 
     @Override
     public void destroy() {
+        if (sessionPool != null) {
+            sessionPool.close();
+        }
+
+        if (scpClient != null) {
+            close(scpClient);
+        }
+
+        if (sshClient != null) {
+            sshClient.stop();
+        }
     }
 }
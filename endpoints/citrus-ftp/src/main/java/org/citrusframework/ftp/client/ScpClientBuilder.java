@@ -165,6 +165,16 @@ public class ScpClientBuilder extends AbstractEndpointBuilder<ScpClient> {
         return this;
     }
 
+    /**
+     * Sets the max number of parallel client sessions.
+     * @param maxConnections
+     * @return
+     */
+    public ScpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
     /**
      * Sets the default timeout.
      * @param timeout
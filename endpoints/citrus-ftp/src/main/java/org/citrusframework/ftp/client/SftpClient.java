@@ -20,9 +20,12 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -36,7 +39,6 @@ import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.Session;
 import com.jcraft.jsch.SftpException;
 import com.jcraft.jsch.UserInfo;
-import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.net.ftp.FTPCmd;
 import org.apache.commons.net.ftp.FTPReply;
 import org.apache.ftpserver.ftplet.DataType;
@@ -72,6 +74,12 @@ public class SftpClient extends FtpClient {
 
     private ChannelSftp sftp;
 
+    /** Pool of sftp sessions used for parallel transfers */
+    private FtpSessionPool<SftpSession> sessionPool;
+
+    /** Session borrowed by the current thread */
+    private final ThreadLocal<SftpSession> activeSession = new ThreadLocal<>();
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -109,6 +117,51 @@ public class SftpClient extends FtpClient {
         }
     }
 
+    @Override
+    protected void openSession() {
+        activeSession.set(getSftpSessionPool().borrow(getEndpointConfiguration().getTimeout()));
+    }
+
+    @Override
+    protected void releaseSession() {
+        SftpSession session = activeSession.get();
+        if (session != null) {
+            activeSession.remove();
+            getSftpSessionPool().release(session);
+        }
+    }
+
+    @Override
+    protected void invalidateSession() {
+        SftpSession session = activeSession.get();
+        if (session != null) {
+            activeSession.remove();
+            getSftpSessionPool().invalidate(session);
+        }
+    }
+
+    /**
+     * Gets the sftp channel bound to the current thread. Falls back to the default channel
+     * when no pooled session has been borrowed.
+     * @return
+     */
+    protected ChannelSftp getChannel() {
+        return Optional.ofNullable(activeSession.get()).map(SftpSession::channel).orElse(sftp);
+    }
+
+    /**
+     * Gets the session pool and lazily creates it.
+     * @return
+     */
+    protected synchronized FtpSessionPool<SftpSession> getSftpSessionPool() {
+        if (sessionPool == null) {
+            sessionPool = new FtpSessionPool<>(getEndpointConfiguration().getMaxConnections(),
+                    this::openSftpSession, SftpSession::isConnected, SftpSession::disconnect);
+        }
+
+        return sessionPool;
+    }
+
     /**
      * Execute mkDir command and create new directory.
      * @param ftpCommand
@@ -116,7 +169,7 @@ public class SftpClient extends FtpClient {
      */
     protected FtpMessage createDir(CommandType ftpCommand) {
         try {
-            sftp.mkdir(ftpCommand.getArguments());
+            getChannel().mkdir(ftpCommand.getArguments());
             return FtpMessage.result(FTPReply.PATHNAME_CREATED, "Pathname created", true);
         } catch (SftpException e) {
             throw new CitrusRuntimeException("Failed to execute ftp command", e);
@@ -132,7 +185,7 @@ public class SftpClient extends FtpClient {
 
         try {
             List<String> fileNames = new ArrayList<>();
-            Vector<ChannelSftp.LsEntry> entries = sftp.ls(remoteFilePath);
+            Vector<ChannelSftp.LsEntry> entries = getChannel().ls(remoteFilePath);
             for (ChannelSftp.LsEntry entry : entries) {
                 fileNames.add(entry.getFilename());
             }
@@ -145,6 +198,7 @@ public class SftpClient extends FtpClient {
 
     @Override
     protected FtpMessage deleteFile(DeleteCommand delete, TestContext context) {
+        ChannelSftp channel = getChannel();
         String remoteFilePath = context.replaceDynamicContentInString(delete.getTarget().getPath());
 
         try {
@@ -153,10 +207,10 @@ public class SftpClient extends FtpClient {
             }
 
             if (isDirectory(remoteFilePath)) {
-                sftp.cd(remoteFilePath);
+                channel.cd(remoteFilePath);
 
                 if (delete.isRecursive()) {
-                    Vector<ChannelSftp.LsEntry> entries = sftp.ls(".");
+                    Vector<ChannelSftp.LsEntry> entries = channel.ls(".");
                     List<String> excludedDirs = Arrays.asList(".", "..");
 
                     for (ChannelSftp.LsEntry entry : entries) {
@@ -173,11 +227,11 @@ public class SftpClient extends FtpClient {
 
                 if (delete.isIncludeCurrent()) {
                     // we cannot delete the current working directory, so go to root directory and delete from there
-                    sftp.cd("..");
-                    sftp.rmdir(remoteFilePath);
+                    channel.cd("..");
+                    channel.rmdir(remoteFilePath);
                 }
             } else {
-                sftp.rm(remoteFilePath);
+                channel.rm(remoteFilePath);
             }
         } catch (SftpException e) {
             throw new CitrusRuntimeException("Failed to delete file from FTP server", e);
@@ -189,7 +243,7 @@ public class SftpClient extends FtpClient {
     @Override
     protected boolean isDirectory(String remoteFilePath) {
         try {
-            return !remoteFilePath.contains("*") && sftp.stat(remoteFilePath).isDir();
+            return !remoteFilePath.contains("*") && getChannel().stat(remoteFilePath).isDir();
         } catch (SftpException e) {
             throw new CitrusRuntimeException("Failed to check file state", e);
         }
@@ -203,7 +257,7 @@ public class SftpClient extends FtpClient {
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElseGet(() -> DataType.BINARY.name()));
             try (InputStream localFileInputStream = getLocalFileInputStream(command.getFile().getPath(), dataType, context)) {
-                sftp.put(localFileInputStream, remoteFilePath);
+                getChannel().put(localFileInputStream, remoteFilePath);
             }
         } catch (IOException | SftpException e) {
             throw new CitrusRuntimeException("Failed to put file to FTP server", e);
@@ -217,31 +271,21 @@ public class SftpClient extends FtpClient {
         try {
             String remoteFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String localFilePath = addFileNameToTargetPath(remoteFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
+            String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElseGet(() -> DataType.BINARY.name()));
 
-            try (InputStream inputStream = sftp.get(remoteFilePath)) {
-                byte[] bytes = FileUtils.copyToByteArray(inputStream);
+            // create intermediate directories if necessary
+            Path localFilePathObj = Paths.get(localFilePath);
+            Files.createDirectories(localFilePathObj.getParent());
 
-                // create intermediate directories if necessary
-                Path localFilePathObj = Paths.get(localFilePath);
-                Files.createDirectories(localFilePathObj.getParent());
-                Files.write(localFilePathObj, bytes);
+            MessageDigest checksum = createChecksumDigest();
+            try (OutputStream outputStream = new DigestOutputStream(Files.newOutputStream(localFilePathObj), checksum)) {
+                getChannel().get(remoteFilePath, outputStream);
             } catch (SftpException e) {
                 throw new CitrusRuntimeException(String.format("Failed to get file from FTP server. Remote path: %s. Local file path: %s. Error: %s",
                         remoteFilePath, localFilePath, e.getMessage()));
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
-                String fileContent;
-                if (command.getFile().getType().equals(DataType.BINARY.name())) {
-                    fileContent = Base64.encodeBase64String(FileUtils.copyToByteArray(FileUtils.getFileResource(localFilePath)));
-                } else {
-                    fileContent = FileUtils.readToString(FileUtils.getFileResource(localFilePath));
-                }
-
-                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath, fileContent);
-            } else {
-                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath, null);
-            }
+            return createRetrieveResult(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath, dataType, checksum);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to get file from FTP server", e);
         }
@@ -249,47 +293,63 @@ public class SftpClient extends FtpClient {
 
     @Override
     protected void connectAndLogin() {
+        SftpSession pooled = activeSession.get();
+        if (pooled != null) {
+            if (!pooled.isConnected()) {
+                pooled.disconnect();
+                activeSession.set(openSftpSession());
+            }
+        } else if (session == null || !session.isConnected()) {
+            SftpSession sftpSession = openSftpSession();
+            session = sftpSession.session();
+            sftp = sftpSession.channel();
+        }
+    }
+
+    /**
+     * Opens new secure connection to the server and connects a sftp channel on that session.
+     * @return
+     */
+    protected SftpSession openSftpSession() {
         if (getEndpointConfiguration().isStrictHostChecking()) {
             setKnownHosts();
         }
 
-        if (session == null || !session.isConnected()) {
-            try {
-                if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
-                    ssh.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
-                }
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        try {
+            if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
+                ssh.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
             }
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        }
 
-            try {
-                session = ssh.getSession(getEndpointConfiguration().getUser(), getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
+        try {
+            Session sshSession = ssh.getSession(getEndpointConfiguration().getUser(), getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
 
-                if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
-                    session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
-                    session.setPassword(getEndpointConfiguration().getPassword());
-                }
+            if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
+                sshSession.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
+                sshSession.setPassword(getEndpointConfiguration().getPassword());
+            }
 
-                session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
-                session.setConfig("PreferredAuthentications", getEndpointConfiguration().getPreferredAuthentications());
+            sshSession.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
+            sshSession.setConfig("PreferredAuthentications", getEndpointConfiguration().getPreferredAuthentications());
 
-                getEndpointConfiguration().getSessionConfigs().entrySet()
-                        .stream()
-                        .peek(entry -> logger.info(String.format("Setting session configuration: %s='%s'", entry.getKey(), entry.getValue())))
-                        .forEach(entry -> session.setConfig(entry.getKey(), entry.getValue()));
+            getEndpointConfiguration().getSessionConfigs().entrySet()
+                    .stream()
+                    .peek(entry -> logger.info(String.format("Setting session configuration: %s='%s'", entry.getKey(), entry.getValue())))
+                    .forEach(entry -> sshSession.setConfig(entry.getKey(), entry.getValue()));
 
-                session.connect((int) getEndpointConfiguration().getTimeout());
+            sshSession.connect((int) getEndpointConfiguration().getTimeout());
 
-                Channel channel = session.openChannel("sftp");
-                channel.connect((int) getEndpointConfiguration().getTimeout());
-                sftp = (ChannelSftp) channel;
+            Channel channel = sshSession.openChannel("sftp");
+            channel.connect((int) getEndpointConfiguration().getTimeout());
 
-                logger.info("Opened secure connection to FTP server");
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException(String.format("Failed to login to FTP server using credentials: %s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword()), e);
-            }
+            logger.info("Opened secure connection to FTP server");
+            return new SftpSession(sshSession, (ChannelSftp) channel);
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException(String.format("Failed to login to FTP server using credentials: %s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword()), e);
         }
     }
 
@@ -364,12 +424,34 @@ public class SftpClient extends FtpClient {
 
     @Override
     public void destroy() {
-        if (session != null && session.isConnected()) {
-            session.disconnect();
-            logger.info("Closed connection to FTP server");
+        if (sessionPool != null) {
+            sessionPool.close();
+        }
+
+        if (session != null) {
+            new SftpSession(session, sftp).disconnect();
+        }
+    }
+
+    /**
+     * Secure session with connected sftp channel.
+     */
+    protected record SftpSession(Session session, ChannelSftp channel) {
+
+        boolean isConnected() {
+            return session.isConnected() && channel.isConnected();
         }
 
-        sftp.disconnect();
+        void disconnect() {
+            if (channel != null) {
+                channel.disconnect();
+            }
+
+            if (session.isConnected()) {
+                session.disconnect();
+                logger.info("Closed connection to FTP server");
+            }
+        }
     }
 
     /**
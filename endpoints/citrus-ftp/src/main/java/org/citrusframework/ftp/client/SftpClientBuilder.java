@@ -186,6 +186,16 @@ public class SftpClientBuilder extends AbstractEndpointBuilder<SftpClient> {
         return this;
     }
 
+    /**
+     * Sets the max number of parallel client sessions.
+     * @param maxConnections
+     * @return
+     */
+    public SftpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
     /**
      * Sets the default timeout.
      * @param timeout
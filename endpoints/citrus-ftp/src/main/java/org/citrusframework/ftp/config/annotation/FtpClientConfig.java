@@ -93,6 +93,12 @@ public @interface FtpClientConfig {
      */
     long timeout() default 5000L;
 
+    /**
+     * Max number of parallel client sessions.
+     * @return
+     */
+    int maxConnections() default 1;
+
     /**
      * Test actor.
      * @return
@@ -59,6 +59,7 @@ public class FtpClientConfigParser implements AnnotationConfigParser<FtpClientCo
         builder.pollingInterval(annotation.pollingInterval());
 
         builder.timeout(annotation.timeout());
+        builder.maxConnections(annotation.maxConnections());
 
         if (StringUtils.hasText(annotation.actor())) {
             builder.actor(referenceResolver.resolve(annotation.actor(), TestActor.class));
@@ -99,6 +99,12 @@ public @interface ScpClientConfig {
      */
     long timeout() default 5000L;
 
+    /**
+     * Max number of parallel client sessions.
+     * @return
+     */
+    int maxConnections() default 1;
+
     /**
      * Test actor.
      * @return
@@ -66,6 +66,7 @@ public class ScpClientConfigParser implements AnnotationConfigParser<ScpClientCo
         builder.pollingInterval(annotation.pollingInterval());
 
         builder.timeout(annotation.timeout());
+        builder.maxConnections(annotation.maxConnections());
 
         if (StringUtils.hasText(annotation.actor())) {
             builder.actor(referenceResolver.resolve(annotation.actor(), TestActor.class));
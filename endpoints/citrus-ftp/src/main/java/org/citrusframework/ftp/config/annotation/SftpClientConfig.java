@@ -129,6 +129,12 @@ public @interface SftpClientConfig {
      */
     long timeout() default 5000L;
 
+    /**
+     * Max number of parallel client sessions.
+     * @return
+     */
+    int maxConnections() default 1;
+
     /**
      * Test actor.
      * @return
@@ -83,6 +83,7 @@ public class SftpClientConfigParser implements AnnotationConfigParser<SftpClient
         builder.pollingInterval(annotation.pollingInterval());
 
         builder.timeout(annotation.timeout());
+        builder.maxConnections(annotation.maxConnections());
 
         if (StringUtils.hasText(annotation.actor())) {
             builder.actor(referenceResolver.resolve(annotation.actor(), TestActor.class));
@@ -47,6 +47,7 @@ public class FtpClientParser extends AbstractEndpointParser {
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("message-correlator"), "correlator");
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("polling-interval"), "pollingInterval");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections"), "maxConnections");
 
         if (element.hasAttribute("error-strategy")) {
             endpointConfiguration.addPropertyValue("errorHandlingStrategy",
@@ -310,6 +310,17 @@ public class FtpMessage extends DefaultMessage {
         return result(getCommandResult);
     }
 
+    /**
+     * Sets size and checksum of a retrieved file as message headers.
+     * @param size
+     * @param checksum
+     */
+    public FtpMessage fileInfo(long size, String checksum) {
+        setHeader(FtpMessageHeaders.FTP_FILE_SIZE, size);
+        setHeader(FtpMessageHeaders.FTP_FILE_CHECKSUM, checksum);
+        return this;
+    }
+
     /**
      * Sets the command args.
      * @param arguments
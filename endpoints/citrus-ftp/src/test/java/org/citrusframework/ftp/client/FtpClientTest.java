@@ -25,6 +25,7 @@ import java.util.Arrays;
 
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.ftp.message.FtpMessage;
+import org.citrusframework.ftp.message.FtpMessageHeaders;
 import org.citrusframework.ftp.model.DeleteCommand;
 import org.citrusframework.ftp.model.DeleteCommandResult;
 import org.citrusframework.ftp.model.ListCommandResult;
@@ -35,6 +36,7 @@ import org.apache.commons.net.ProtocolCommandListener;
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPClientConfig;
 import org.apache.commons.net.ftp.FTPCmd;
+import org.apache.ftpserver.ftplet.DataType;
 import org.mockftpserver.fake.FakeFtpServer;
 import org.mockftpserver.fake.UserAccount;
 import org.mockftpserver.fake.filesystem.DirectoryEntry;
@@ -68,6 +70,7 @@ public class FtpClientTest extends AbstractFtpClientTest {
     private final FakeFtpServer fakeFtpServer = new FakeFtpServer();
     private static final String UPLOAD_FILE = "upload_file";
     private static final String DOWNLOAD_FILE = "/download_file";
+    private static final String CHECKSUM_FILE = "/checksum_file";
     private static final String SINGLE_FILE = "/single_file";
     private static final String DELETE_FOLDER = "/delete";
     private static final String EMPTY_FOLDER = "/empty_folder";
@@ -105,6 +108,7 @@ public class FtpClientTest extends AbstractFtpClientTest {
         Thread.sleep(2000);
         fileSystem.add(new FileEntry(DOWNLOAD_FILE + "_2"));
         fileSystem.add(new FileEntry(SINGLE_FILE));
+        fileSystem.add(new FileEntry(CHECKSUM_FILE, "Hello Citrus"));
         fileSystem.add(new DirectoryEntry(COMPLETELY_DELETE_FOLDER + "/first_folder"));
         fileSystem.add(new DirectoryEntry(COMPLETELY_DELETE_FOLDER + "/second_folder"));
         fileSystem.add(new FileEntry(COMPLETELY_DELETE_FOLDER + "/first_folder/file1"));
@@ -160,6 +164,31 @@ public class FtpClientTest extends AbstractFtpClientTest {
         assertTrue(new File(targetPath + DOWNLOAD_FILE).exists());
     }
 
+    @Test
+    public void testRetrieveFileChecksum() {
+        assertTrue(fakeFtpServer.getFileSystem().exists(DOWNLOAD_FILE));
+        String localFilePath = Paths.get(targetPath, "download_file_checksum").toString();
+        FtpMessage ftpMessage = ftpClient.retrieveFile(getCommand(DOWNLOAD_FILE, localFilePath), context);
+        assertTrue(new File(localFilePath).exists());
+        Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_SIZE), 0L);
+        Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_CHECKSUM), "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+    }
+
+    @Test
+    public void testSendRetrieveFileChecksum() throws IOException {
+        assertTrue(fakeFtpServer.getFileSystem().exists(CHECKSUM_FILE));
+        String localFilePath = Paths.get(targetPath, "checksum_file").toString();
+
+        ftpClient.send(FtpMessage.get(CHECKSUM_FILE, localFilePath, DataType.BINARY), context);
+
+        Message reply = ftpClient.receive(context);
+        Assert.assertTrue(reply instanceof FtpMessage);
+        Assert.assertEquals(((FtpMessage) reply).getReplyCode(), Integer.valueOf(CLOSING_DATA_CONNECTION));
+        Assert.assertEquals(reply.getHeader(FtpMessageHeaders.FTP_FILE_SIZE), 12L);
+        Assert.assertEquals(reply.getHeader(FtpMessageHeaders.FTP_FILE_CHECKSUM), "70d0d0a271476c9707b28eb1f322ca3feff1d24100de3580e1f81314b5f68530");
+        Assert.assertEquals(Files.readString(Paths.get(localFilePath)), "Hello Citrus");
+    }
+
     @Test
     public void testStoreFile() throws Exception {
         assertFalse(fakeFtpServer.getFileSystem().exists("/" + UPLOAD_FILE));
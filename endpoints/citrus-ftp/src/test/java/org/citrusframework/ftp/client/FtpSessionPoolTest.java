@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.ftp.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FtpSessionPoolTest {
+
+    @Test
+    public void testReuseIdleSession() {
+        AtomicInteger created = new AtomicInteger();
+        FtpSessionPool<Integer> pool = new FtpSessionPool<>(2, created::incrementAndGet, session -> true, session -> {});
+
+        Integer session = pool.borrow(100L);
+        pool.release(session);
+
+        Assert.assertEquals(pool.borrow(100L), session);
+        Assert.assertEquals(created.get(), 1);
+    }
+
+    @Test
+    public void testParallelSessions() {
+        AtomicInteger created = new AtomicInteger();
+        FtpSessionPool<Integer> pool = new FtpSessionPool<>(3, created::incrementAndGet, session -> true, session -> {});
+
+        List<Integer> sessions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            sessions.add(pool.borrow(100L));
+        }
+
+        Assert.assertEquals(sessions, List.of(1, 2, 3));
+        Assert.assertEquals(pool.getAvailableSessions(), 0);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Timed out after 50 ms waiting for a free session")
+    public void testExhaustedPool() {
+        FtpSessionPool<Integer> pool = new FtpSessionPool<>(1, () -> 1, session -> true, session -> {});
+
+        pool.borrow(100L);
+        pool.borrow(50L);
+    }
+
+    @Test
+    public void testInvalidSessionClosedOnRelease() {
+        AtomicInteger created = new AtomicInteger();
+        List<Integer> closed = new ArrayList<>();
+        FtpSessionPool<Integer> pool = new FtpSessionPool<>(1, created::incrementAndGet, session -> session > 1, closed::add);
+
+        pool.release(pool.borrow(100L));
+
+        Assert.assertEquals(closed, List.of(1));
+        Assert.assertEquals(pool.borrow(100L), Integer.valueOf(2));
+    }
+
+    @Test
+    public void testInvalidateSession() {
+        AtomicInteger created = new AtomicInteger();
+        List<Integer> closed = new ArrayList<>();
+        FtpSessionPool<Integer> pool = new FtpSessionPool<>(1, created::incrementAndGet, session -> true, closed::add);
+
+        pool.invalidate(pool.borrow(100L));
+
+        Assert.assertEquals(closed, List.of(1));
+        Assert.assertEquals(pool.getAvailableSessions(), 1);
+        Assert.assertEquals(pool.borrow(100L), Integer.valueOf(2));
+    }
+
+    @Test
+    public void testCloseIdleSessions() {
+        List<Integer> closed = new ArrayList<>();
+        FtpSessionPool<Integer> pool = new FtpSessionPool<>(1, () -> 1, session -> true, closed::add);
+        pool.add(0);
+
+        pool.close();
+
+        Assert.assertEquals(closed, List.of(0));
+    }
+}
@@ -141,6 +141,42 @@ public @interface HttpServerConfig {
      */
     int responseCacheSize() default 100;
 
+    /**
+     * Asynchronous request processing.
+     * @return
+     */
+    boolean async() default false;
+
+    /**
+     * Max in flight requests in async mode.
+     * @return
+     */
+    int maxInFlightRequests() default 0;
+
+    /**
+     * Async response timeout.
+     * @return
+     */
+    long asyncTimeout() default 60000L;
+
+    /**
+     * Server thread pool min threads.
+     * @return
+     */
+    int minThreads() default 8;
+
+    /**
+     * Server thread pool max threads.
+     * @return
+     */
+    int maxThreads() default 200;
+
+    /**
+     * Server thread pool idle timeout.
+     * @return
+     */
+    int threadIdleTimeout() default 60000;
+
     /**
      * Binary media types.
      * @return
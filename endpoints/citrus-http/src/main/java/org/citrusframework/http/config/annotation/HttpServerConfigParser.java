@@ -140,6 +140,12 @@ public class HttpServerConfigParser implements AnnotationConfigParser<HttpServer
 
         builder.defaultStatus(annotation.defaultStatus());
         builder.responseCacheSize(annotation.responseCacheSize());
+        builder.async(annotation.async());
+        builder.maxInFlightRequests(annotation.maxInFlightRequests());
+        builder.asyncTimeout(annotation.asyncTimeout());
+        builder.minThreads(annotation.minThreads());
+        builder.maxThreads(annotation.maxThreads());
+        builder.threadIdleTimeout(annotation.threadIdleTimeout());
 
         if (hasText(annotation.authentication())) {
             builder.authentication(annotation.securedPath(), referenceResolver.resolve(annotation.authentication(), HttpAuthentication.class));
@@ -55,6 +55,13 @@ public class HttpServerParser extends AbstractServerParser {
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("handle-cookies"), "handleCookies");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("default-status-code"), "defaultStatusCode");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("response-cache-size"), "responseCacheSize");
+
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("async"), "async");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("max-in-flight-requests"), "maxInFlightRequests");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("async-timeout"), "asyncTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("min-threads"), "minThreads");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("max-threads"), "maxThreads");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("thread-idle-timeout"), "threadIdleTimeout");
     }
 
     @Override
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.http.controller;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Enumeration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.citrusframework.endpoint.EndpointAdapter;
+import org.citrusframework.endpoint.adapter.EmptyResponseEndpointAdapter;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.http.client.HttpEndpointConfiguration;
+import org.citrusframework.http.message.HttpMessage;
+import org.citrusframework.http.server.HttpServerSettings;
+import org.citrusframework.message.Message;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Basic message controller converting incoming servlet requests to Http messages and endpoint adapter
+ * responses back to response entities. Subclasses add the request mappings and decide how the endpoint adapter
+ * gets invoked.
+ *
+ * @since 4.2
+ */
+public abstract class AbstractHttpMessageController {
+
+    /** Endpoint adapter for incoming requests, providing proper responses */
+    private EndpointAdapter endpointAdapter = new EmptyResponseEndpointAdapter();
+
+    /** Endpoint configuration */
+    private HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+
+    /** Cache response messages for message tracing reasons */
+    private final ConcurrentHashMap<HttpServletRequest, ResponseEntity<?>> responseCache = new ConcurrentHashMap<>();
+
+    /** List of requests used to clear caches when too many requests are in memory */
+    private final ConcurrentLinkedQueue<HttpServletRequest> activeRequests = new ConcurrentLinkedQueue<>();
+
+    /** Maximum number of responses cached on this server for message tracing reasons */
+    private int responseCacheSize = HttpServerSettings.responseCacheSize();
+
+    /**
+     * Gets the servlet request attributes bound to the current thread.
+     * @return
+     */
+    protected ServletRequestAttributes getRequestAttributes() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            throw new CitrusRuntimeException("Failed to retrieve servlet request");
+        }
+
+        return (ServletRequestAttributes) attributes;
+    }
+
+    /**
+     * Converts the request entity to a Http message. Previously sets Http request method as header parameter
+     * and adds servlet request headers, cookies and attributes according to the endpoint configuration.
+     * @param method
+     * @param requestEntity
+     * @param attributes
+     * @return
+     */
+    protected HttpMessage createRequest(HttpMethod method, HttpEntity<?> requestEntity, ServletRequestAttributes attributes) {
+        HttpMessage request = endpointConfiguration.getMessageConverter().convertInbound(requestEntity, endpointConfiguration, null);
+
+        HttpServletRequest servletRequest = attributes.getRequest();
+        UrlPathHelper pathHelper = new UrlPathHelper();
+
+        Enumeration<String> allHeaders = servletRequest.getHeaderNames();
+        for (String headerName : CollectionUtils.toArray(allHeaders, new String[] {})) {
+            if (request.getHeader(headerName) == null) {
+                String headerValue = servletRequest.getHeader(headerName);
+                request.header(headerName, headerValue != null ? headerValue : "");
+            }
+        }
+
+        if (endpointConfiguration.isHandleCookies()) {
+            request.setCookies(servletRequest.getCookies());
+        }
+
+        if (endpointConfiguration.isHandleAttributeHeaders()) {
+            Enumeration<String> attributeNames = servletRequest.getAttributeNames();
+            while (attributeNames.hasMoreElements()) {
+                String attributeName = attributeNames.nextElement();
+                Object attribute = servletRequest.getAttribute(attributeName);
+                request.setHeader(attributeName, attribute);
+            }
+        }
+
+        request.path(pathHelper.getRequestUri(servletRequest))
+                .uri(pathHelper.getRequestUri(servletRequest))
+                .contextPath(pathHelper.getContextPath(servletRequest))
+                .queryParams(Optional.ofNullable(pathHelper.getOriginatingQueryString(servletRequest))
+                                    .map(queryString -> queryString.replaceAll("&", ","))
+                                    .orElse(""))
+                .version(servletRequest.getProtocol())
+                .method(method);
+
+        return request;
+    }
+
+    /**
+     * Converts the endpoint adapter response to a response entity. Uses the default status code when no response
+     * has been provided. Response cookies are added to the servlet response.
+     * @param response
+     * @param attributes
+     * @return
+     */
+    protected ResponseEntity<?> createResponse(Message response, ServletRequestAttributes attributes) {
+        ResponseEntity<?> responseEntity;
+        if (response == null) {
+            responseEntity = new ResponseEntity<>(HttpStatus.valueOf(endpointConfiguration.getDefaultStatusCode()));
+        } else {
+            HttpMessage httpResponse;
+            if (response instanceof HttpMessage) {
+                httpResponse = (HttpMessage) response;
+            } else {
+                httpResponse = new HttpMessage(response);
+            }
+
+            if (httpResponse.getStatusCode() == null) {
+                httpResponse.status(HttpStatusCode.valueOf(endpointConfiguration.getDefaultStatusCode()));
+            }
+
+            responseEntity = (ResponseEntity<?>) endpointConfiguration.getMessageConverter().convertOutbound(httpResponse, endpointConfiguration, null);
+
+            if (endpointConfiguration.isHandleCookies() && httpResponse.getCookies() != null) {
+                HttpServletResponse servletResponse = attributes.getResponse();
+                if (servletResponse == null) {
+                    throw new CitrusRuntimeException("Failed to retrieve servlet response");
+                }
+
+                for (Cookie cookie : httpResponse.getCookies()) {
+                    servletResponse.addCookie(cookie);
+                }
+            }
+        }
+
+        return responseEntity;
+    }
+
+    /**
+     * Adds response entity to the response cache for message tracing reasons.
+     * @param servletRequest
+     * @param responseEntity
+     */
+    protected void cacheResponse(HttpServletRequest servletRequest, ResponseEntity<?> responseEntity) {
+        responseCache.put(servletRequest, responseEntity);
+        activeRequests.add(servletRequest);
+
+        clearResponseCacheEntries(activeRequests, responseCache);
+    }
+
+    /**
+     * Clear cache when max size is reached. Removes the oldest entries according to list of the active requests.
+     * @param activeRequests
+     * @param responseCache
+     */
+    private void clearResponseCacheEntries(ConcurrentLinkedQueue<HttpServletRequest> activeRequests,
+                                                  ConcurrentHashMap<HttpServletRequest, ResponseEntity<?>> responseCache) {
+        while (activeRequests.size() >= responseCacheSize) {
+            Optional.ofNullable(activeRequests.poll())
+                    .ifPresent(responseCache::remove);
+        }
+    }
+
+    /**
+     * Sets the endpointAdapter.
+     * @param endpointAdapter the endpointAdapter to set
+     */
+    public void setEndpointAdapter(EndpointAdapter endpointAdapter) {
+        this.endpointAdapter = endpointAdapter;
+    }
+
+    /**
+     * Gets the endpoint adapter.
+     * @return
+     */
+    public EndpointAdapter getEndpointAdapter() {
+        return endpointAdapter;
+    }
+
+    /**
+     * Gets the endpoint configuration.
+     * @return
+     */
+    public HttpEndpointConfiguration getEndpointConfiguration() {
+        return endpointConfiguration;
+    }
+
+    /**
+     * Sets the endpoint configuration.
+     * @param endpointConfiguration
+     */
+    public void setEndpointConfiguration(HttpEndpointConfiguration endpointConfiguration) {
+        this.endpointConfiguration = endpointConfiguration;
+    }
+
+    /**
+     * Gets the responseCache.
+     * @return the responseCache the responseCache to get.
+     */
+    public ResponseEntity<?> getResponseCache(HttpServletRequest request) {
+        return responseCache.get(request);
+    }
+
+    /**
+     * Gets the response cache size.
+     * @return
+     */
+    public int getResponseCacheSize() {
+        return responseCacheSize;
+    }
+
+    /**
+     * Sets the response cache size.
+     * @param responseCacheSize
+     */
+    public void setResponseCacheSize(int responseCacheSize) {
+        this.responseCacheSize = responseCacheSize;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.http.controller;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.citrusframework.http.message.HttpMessage;
+import org.citrusframework.message.Message;
+import org.citrusframework.util.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Message controller handling incoming requests with asynchronous servlet processing. The endpoint adapter is invoked
+ * on a separate executor so the container thread is released while the response is pending. The deferred result gets
+ * completed as soon as the endpoint adapter provides the response.
+ *
+ * Number of requests being processed at the same time is limited with max in flight requests. Requests exceeding
+ * this limit as well as requests not completed within the async timeout are answered with 503 service unavailable.
+ * A request keeps its slot until the endpoint adapter has finished, even when the response has already timed out.
+ *
+ * @since 4.2
+ */
+@Controller
+@RequestMapping("/*")
+public class AsyncHttpMessageController extends AbstractHttpMessageController implements DisposableBean {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(AsyncHttpMessageController.class);
+
+    /** Maximum number of requests processed at the same time, zero or less means no limit */
+    private int maxInFlightRequests = 0;
+
+    /** Timeout in milliseconds for pending responses, zero or less uses the servlet container default */
+    private long asyncTimeout = 60000L;
+
+    /** Number of requests currently being processed by the endpoint adapter */
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+    /** Executor invoking the endpoint adapter */
+    private ExecutorService executorService;
+
+    @RequestMapping(value = "**", method = { RequestMethod.GET })
+    public DeferredResult<ResponseEntity<?>> handleGetRequest(HttpEntity<Object> requestEntity) {
+        return handleRequestAsync(HttpMethod.GET, requestEntity);
+    }
+
+    @RequestMapping(value= "**", method = { RequestMethod.POST })
+    public DeferredResult<ResponseEntity<?>> handlePostRequest(HttpEntity<Object> requestEntity) {
+        return handleRequestAsync(HttpMethod.POST, requestEntity);
+    }
+
+    @RequestMapping(value= "**", method = { RequestMethod.PUT })
+    public DeferredResult<ResponseEntity<?>> handlePutRequest(HttpEntity<Object> requestEntity) {
+        return handleRequestAsync(HttpMethod.PUT, requestEntity);
+    }
+
+    @RequestMapping(value= "**", method = { RequestMethod.DELETE })
+    public DeferredResult<ResponseEntity<?>> handleDeleteRequest(HttpEntity<Object> requestEntity) {
+        return handleRequestAsync(HttpMethod.DELETE, requestEntity);
+    }
+
+    @RequestMapping(value= "**", method = { RequestMethod.OPTIONS })
+    public DeferredResult<ResponseEntity<?>> handleOptionsRequest(HttpEntity<Object> requestEntity) {
+        return handleRequestAsync(HttpMethod.OPTIONS, requestEntity);
+    }
+
+    @RequestMapping(value= "**", method = { RequestMethod.HEAD })
+    public DeferredResult<ResponseEntity<?>> handleHeadRequest(HttpEntity<Object> requestEntity) {
+        return handleRequestAsync(HttpMethod.HEAD, requestEntity);
+    }
+
+    @RequestMapping(value= "**", method = { RequestMethod.TRACE })
+    public DeferredResult<ResponseEntity<?>> handleTraceRequest(HttpEntity<Object> requestEntity) {
+        return handleRequestAsync(HttpMethod.TRACE, requestEntity);
+    }
+
+    @RequestMapping(value= "**", method = { RequestMethod.PATCH })
+    public DeferredResult<ResponseEntity<?>> handlePatchRequest(HttpEntity<Object> requestEntity) {
+        return handleRequestAsync(HttpMethod.PATCH, requestEntity);
+    }
+
+    /**
+     * Converts the request on the container thread and invokes the endpoint adapter on the executor. The returned
+     * deferred result is completed with the response entity once the endpoint adapter has provided the response.
+     * @param method
+     * @param requestEntity
+     * @return
+     */
+    private DeferredResult<ResponseEntity<?>> handleRequestAsync(HttpMethod method, HttpEntity<?> requestEntity) {
+        DeferredResult<ResponseEntity<?>> result = new DeferredResult<>(asyncTimeout > 0 ? asyncTimeout : null,
+                () -> new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE));
+
+        if (!acquire()) {
+            logger.warn("Rejected Http request - maximum number of {} in flight requests exceeded", maxInFlightRequests);
+            result.setResult(new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE));
+            return result;
+        }
+
+        ServletRequestAttributes attributes = getRequestAttributes();
+        CompletableFuture<Message> pending;
+        try {
+            HttpMessage request = createRequest(method, requestEntity, attributes);
+            pending = CompletableFuture.supplyAsync(() -> getEndpointAdapter().handleMessage(request), getExecutorService());
+        } catch (RuntimeException e) {
+            inFlightRequests.decrementAndGet();
+            throw e;
+        }
+
+        pending.whenComplete((response, error) -> {
+            // keep the slot until the endpoint adapter has finished, a timed out response does not stop the endpoint adapter
+            inFlightRequests.decrementAndGet();
+
+            if (result.isSetOrExpired()) {
+                logger.warn("Discarding Http response for request that has already been completed or timed out");
+                return;
+            }
+
+            if (error != null) {
+                result.setErrorResult(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                return;
+            }
+
+            try {
+                ResponseEntity<?> responseEntity = createResponse(response, attributes);
+                cacheResponse(attributes.getRequest(), responseEntity);
+                result.setResult(responseEntity);
+            } catch (RuntimeException e) {
+                result.setErrorResult(e);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Reserves a slot for a new in flight request. Returns false when max in flight requests are already
+     * being processed.
+     * @return
+     */
+    private boolean acquire() {
+        if (maxInFlightRequests <= 0) {
+            inFlightRequests.incrementAndGet();
+            return true;
+        }
+
+        int current;
+        do {
+            current = inFlightRequests.get();
+            if (current >= maxInFlightRequests) {
+                return false;
+            }
+        } while (!inFlightRequests.compareAndSet(current, current + 1));
+
+        return true;
+    }
+
+    /**
+     * Gets the executor invoking the endpoint adapter. Lazily creates a new executor using virtual threads when
+     * supported by the Java runtime.
+     * @return
+     */
+    public synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            executorService = ThreadUtils.newVirtualThreadPerTaskExecutor("citrus-http-async");
+        }
+
+        return executorService;
+    }
+
+    /**
+     * Sets the executor invoking the endpoint adapter.
+     * @param executorService
+     */
+    public synchronized void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+            executorService = null;
+        }
+    }
+
+    /**
+     * Gets the number of requests currently waiting for the endpoint adapter response.
+     * @return
+     */
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    /**
+     * Gets the max in flight requests.
+     * @return
+     */
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    /**
+     * Sets the max in flight requests.
+     * @param maxInFlightRequests
+     */
+    public void setMaxInFlightRequests(int maxInFlightRequests) {
+        this.maxInFlightRequests = maxInFlightRequests;
+    }
+
+    /**
+     * Gets the async timeout.
+     * @return
+     */
+    public long getAsyncTimeout() {
+        return asyncTimeout;
+    }
+
+    /**
+     * Sets the async timeout.
+     * @param asyncTimeout
+     */
+    public void setAsyncTimeout(long asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+}
@@ -16,13 +16,14 @@
 
 package org.citrusframework.http.interceptor;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Enumeration;
 
 import org.citrusframework.context.TestContextFactory;
-import org.citrusframework.http.controller.HttpMessageController;
+import org.citrusframework.http.controller.AbstractHttpMessageController;
 import org.citrusframework.message.RawMessage;
 import org.citrusframework.report.MessageListeners;
 import org.citrusframework.util.FileUtils;
@@ -58,7 +59,9 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
     @Override
     public boolean preHandle(HttpServletRequest request,
             HttpServletResponse response, Object handler) throws Exception {
-        handleRequest(getRequestContent(request));
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            handleRequest(getRequestContent(request));
+        }
         return true;
     }
 
@@ -171,8 +174,8 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
 
         if (handler instanceof HandlerMethod) {
             HandlerMethod handlerMethod = (HandlerMethod) handler;
-            if (handlerMethod.getBean() instanceof HttpMessageController) {
-                ResponseEntity<?> responseEntity = ((HttpMessageController) handlerMethod.getBean()).getResponseCache(request);
+            if (handlerMethod.getBean() instanceof AbstractHttpMessageController messageController) {
+                ResponseEntity<?> responseEntity = messageController.getResponseCache(request);
                 if (responseEntity != null) {
                     builder.append(NEWLINE);
                     builder.append(responseEntity.getBody());
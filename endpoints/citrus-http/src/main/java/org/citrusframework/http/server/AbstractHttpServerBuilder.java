@@ -278,6 +278,72 @@ public class AbstractHttpServerBuilder<T extends HttpServer, B extends AbstractH
         return self;
     }
 
+    /**
+     * Enables asynchronous request processing on this server instance.
+     *
+     * @param async
+     * @return
+     */
+    public B async(boolean async) {
+        endpoint.setAsync(async);
+        return self;
+    }
+
+    /**
+     * Sets the maximum number of requests processed at the same time in async mode.
+     *
+     * @param maxInFlightRequests
+     * @return
+     */
+    public B maxInFlightRequests(int maxInFlightRequests) {
+        endpoint.setMaxInFlightRequests(maxInFlightRequests);
+        return self;
+    }
+
+    /**
+     * Sets the timeout for pending responses in async mode.
+     *
+     * @param asyncTimeout
+     * @return
+     */
+    public B asyncTimeout(long asyncTimeout) {
+        endpoint.setAsyncTimeout(asyncTimeout);
+        return self;
+    }
+
+    /**
+     * Sets the minimum number of threads in the server thread pool.
+     *
+     * @param minThreads
+     * @return
+     */
+    public B minThreads(int minThreads) {
+        endpoint.setMinThreads(minThreads);
+        return self;
+    }
+
+    /**
+     * Sets the maximum number of threads in the server thread pool.
+     *
+     * @param maxThreads
+     * @return
+     */
+    public B maxThreads(int maxThreads) {
+        endpoint.setMaxThreads(maxThreads);
+        return self;
+    }
+
+    /**
+     * Sets the idle timeout for threads in the server thread pool.
+     *
+     * @param threadIdleTimeout
+     * @return
+     */
+    public B threadIdleTimeout(int threadIdleTimeout) {
+        endpoint.setThreadIdleTimeout(threadIdleTimeout);
+        return self;
+    }
+
     /**
      * Sets the interceptors.
      *
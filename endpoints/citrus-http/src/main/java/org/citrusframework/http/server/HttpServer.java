@@ -16,6 +16,7 @@
 
 package org.citrusframework.http.server;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.Filter;
 import org.citrusframework.context.SpringBeanReferenceResolver;
 import org.citrusframework.exceptions.CitrusRuntimeException;
@@ -37,13 +38,16 @@ import org.eclipse.jetty.security.SecurityHandler;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
 import org.eclipse.jetty.server.handler.DefaultHandler;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.servlet.DispatcherServlet;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -175,6 +179,36 @@ public class HttpServer extends AbstractServer {
      */
     private HttpMessageConverter messageConverter = new HttpMessageConverter();
 
+    /**
+     * Enables asynchronous request processing releasing the container thread while the response is pending
+     */
+    private boolean async = false;
+
+    /**
+     * Maximum number of requests processed at the same time in async mode, zero or less means no limit
+     */
+    private int maxInFlightRequests = 0;
+
+    /**
+     * Timeout in milliseconds for pending responses in async mode
+     */
+    private long asyncTimeout = 60000L;
+
+    /**
+     * Minimum number of threads in the Jetty server thread pool
+     */
+    private int minThreads = 8;
+
+    /**
+     * Maximum number of threads in the Jetty server thread pool
+     */
+    private int maxThreads = 200;
+
+    /**
+     * Idle timeout in milliseconds for threads in the Jetty server thread pool
+     */
+    private int threadIdleTimeout = 60000;
+
     @Override
     protected void shutdown() {
         if (jettyServer != null) {
@@ -198,7 +232,11 @@ public class HttpServer extends AbstractServer {
                 jettyServer = connector.getServer();
                 jettyServer.addConnector(connector);
             } else {
-                jettyServer = new Server(port);
+                jettyServer = new Server(new QueuedThreadPool(maxThreads, minThreads, threadIdleTimeout));
+
+                ServerConnector serverConnector = new ServerConnector(jettyServer);
+                serverConnector.setPort(port);
+                jettyServer.addConnector(serverConnector);
             }
 
             final Handler.Sequence handlers = new Handler.Sequence();
@@ -231,6 +269,7 @@ public class HttpServer extends AbstractServer {
                 FilterHolder filterHolder = new FilterHolder();
                 filterHolder.setName(filterEntry.getKey());
                 filterHolder.setFilter(filterEntry.getValue());
+                filterHolder.setAsyncSupported(async);
 
                 servletHandler.addFilter(filterHolder, filterMapping);
             }
@@ -293,6 +332,7 @@ public class HttpServer extends AbstractServer {
         ServletHolder servletHolder = new ServletHolder(getDispatcherServlet());
         servletHolder.setName(getServletName());
         servletHolder.setInitParameter("contextConfigLocation", contextConfigLocation);
+        servletHolder.setAsyncSupported(async);
 
         servletHandler.addServlet(servletHolder);
 
@@ -323,6 +363,7 @@ public class HttpServer extends AbstractServer {
 
         FilterHolder filterHolder = new FilterHolder(new RequestCachingServletFilter());
         filterHolder.setName("request-caching-filter");
+        filterHolder.setAsyncSupported(async);
         servletHandler.addFilter(filterHolder, filterMapping);
     }
 
@@ -333,9 +374,11 @@ public class HttpServer extends AbstractServer {
         FilterMapping filterMapping = new FilterMapping();
         filterMapping.setFilterName("gzip-filter");
         filterMapping.setPathSpec("/*");
+        filterMapping.setDispatcherTypes(EnumSet.of(DispatcherType.REQUEST, DispatcherType.ASYNC));
 
         FilterHolder filterHolder = new FilterHolder(new GzipServletFilter());
         filterHolder.setName("gzip-filter");
+        filterHolder.setAsyncSupported(async);
         servletHandler.addFilter(filterHolder, filterMapping);
     }
 
@@ -688,4 +731,112 @@ public class HttpServer extends AbstractServer {
     public void setBinaryMediaTypes(List<MediaType> binaryMediaTypes) {
         this.binaryMediaTypes = binaryMediaTypes;
     }
+
+    /**
+     * Gets the async flag.
+     *
+     * @return
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Enables or disables asynchronous request processing.
+     *
+     * @param async
+     */
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * Gets the maxInFlightRequests.
+     *
+     * @return
+     */
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    /**
+     * Sets the maxInFlightRequests.
+     *
+     * @param maxInFlightRequests
+     */
+    public void setMaxInFlightRequests(int maxInFlightRequests) {
+        this.maxInFlightRequests = maxInFlightRequests;
+    }
+
+    /**
+     * Gets the asyncTimeout.
+     *
+     * @return
+     */
+    public long getAsyncTimeout() {
+        return asyncTimeout;
+    }
+
+    /**
+     * Sets the asyncTimeout.
+     *
+     * @param asyncTimeout
+     */
+    public void setAsyncTimeout(long asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    /**
+     * Gets the minThreads.
+     *
+     * @return
+     */
+    public int getMinThreads() {
+        return minThreads;
+    }
+
+    /**
+     * Sets the minThreads.
+     *
+     * @param minThreads
+     */
+    public void setMinThreads(int minThreads) {
+        this.minThreads = minThreads;
+    }
+
+    /**
+     * Gets the maxThreads.
+     *
+     * @return
+     */
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * Sets the maxThreads.
+     *
+     * @param maxThreads
+     */
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Gets the threadIdleTimeout.
+     *
+     * @return
+     */
+    public int getThreadIdleTimeout() {
+        return threadIdleTimeout;
+    }
+
+    /**
+     * Sets the threadIdleTimeout.
+     *
+     * @param threadIdleTimeout
+     */
+    public void setThreadIdleTimeout(int threadIdleTimeout) {
+        this.threadIdleTimeout = threadIdleTimeout;
+    }
 }
@@ -18,6 +18,8 @@ package org.citrusframework.http.servlet;
 
 import org.citrusframework.endpoint.EndpointAdapter;
 import org.citrusframework.http.client.HttpEndpointConfiguration;
+import org.citrusframework.http.controller.AbstractHttpMessageController;
+import org.citrusframework.http.controller.AsyncHttpMessageController;
 import org.citrusframework.http.controller.HttpMessageController;
 import org.citrusframework.http.interceptor.DelegatingHandlerInterceptor;
 import org.citrusframework.http.interceptor.LoggingHandlerInterceptor;
@@ -26,10 +28,12 @@ import org.citrusframework.http.message.DelegatingHttpEntityMessageConverter;
 import org.citrusframework.http.server.HttpServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.integration.http.support.DefaultHttpHeaderMapper;
 import org.springframework.util.AntPathMatcher;
+import org.springframework.web.context.ConfigurableWebApplicationContext;
 import org.springframework.web.context.request.WebRequestInterceptor;
 import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -76,6 +80,28 @@ public class CitrusDispatcherServlet extends DispatcherServlet {
         this.httpServer = httpServer;
     }
 
+    /**
+     * Async servers replace the default message controller with the async message controller
+     * before the context gets refreshed.
+     *
+     * @param context
+     */
+    @Override
+    protected void postProcessWebApplicationContext(ConfigurableWebApplicationContext context) {
+        super.postProcessWebApplicationContext(context);
+
+        if (httpServer.isAsync()) {
+            context.addBeanFactoryPostProcessor(beanFactory -> {
+                if (beanFactory.containsBeanDefinition(MESSAGE_CONTROLLER_BEAN_NAME)) {
+                    BeanDefinition controllerDefinition = beanFactory.getBeanDefinition(MESSAGE_CONTROLLER_BEAN_NAME);
+                    if (HttpMessageController.class.getName().equals(controllerDefinition.getBeanClassName())) {
+                        controllerDefinition.setBeanClassName(AsyncHttpMessageController.class.getName());
+                    }
+                }
+            });
+        }
+    }
+
     @Override
     protected void initStrategies(ApplicationContext context) {
         super.initStrategies(context);
@@ -104,7 +130,7 @@ public class CitrusDispatcherServlet extends DispatcherServlet {
      */
     protected void configureMessageController(ApplicationContext context) {
         if (context.containsBean(MESSAGE_CONTROLLER_BEAN_NAME)) {
-            HttpMessageController messageController = context.getBean(MESSAGE_CONTROLLER_BEAN_NAME, HttpMessageController.class);
+            AbstractHttpMessageController messageController = context.getBean(MESSAGE_CONTROLLER_BEAN_NAME, AbstractHttpMessageController.class);
             EndpointAdapter endpointAdapter = httpServer.getEndpointAdapter();
 
             HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
@@ -117,6 +143,11 @@ public class CitrusDispatcherServlet extends DispatcherServlet {
 
             messageController.setResponseCacheSize(httpServer.getResponseCacheSize());
 
+            if (messageController instanceof AsyncHttpMessageController asyncMessageController) {
+                asyncMessageController.setMaxInFlightRequests(httpServer.getMaxInFlightRequests());
+                asyncMessageController.setAsyncTimeout(httpServer.getAsyncTimeout());
+            }
+
             if (endpointAdapter != null) {
                 messageController.setEndpointAdapter(endpointAdapter);
             }
@@ -40,21 +40,26 @@ public class GzipServletFilter extends OncePerRequestFilter {
         HttpServletRequest filteredRequest = request;
         HttpServletResponse filteredResponse = response;
 
-        if (isGzipEncoding(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+        if (!isAsyncDispatch(request) && isGzipEncoding(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
             filteredRequest = new GzipHttpServletRequestWrapper(request);
         }
 
-        if (isGzipEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+        if (!(response instanceof GzipHttpServletResponseWrapper) && isGzipEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
             filteredResponse = new GzipHttpServletResponseWrapper(response);
         }
 
         filterChain.doFilter(filteredRequest, filteredResponse);
 
-        if (filteredResponse instanceof GzipHttpServletResponseWrapper gzipHttpServletResponseWrapper) {
+        if (!isAsyncStarted(request) && filteredResponse instanceof GzipHttpServletResponseWrapper gzipHttpServletResponseWrapper) {
             gzipHttpServletResponseWrapper.finish();
         }
     }
 
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
     private boolean isGzipEncoding(String contentEncoding) {
         return contentEncoding != null && contentEncoding.contains("gzip");
     }
@@ -80,6 +80,12 @@ public class HttpServerConfigParserTest extends AbstractTestNGUnitTest {
             debugLogging = true,
             binaryMediaTypes = {MediaType.APPLICATION_OCTET_STREAM_VALUE, "application/custom"},
             defaultStatus = HttpStatus.NOT_FOUND,
+            async = true,
+            maxInFlightRequests = 50,
+            asyncTimeout = 5000L,
+            minThreads = 4,
+            maxThreads = 20,
+            threadIdleTimeout = 30000,
             contextPath = "/citrus",
             servletName = "citrus-http",
             servletMappingPath = "/foo")
@@ -194,6 +200,12 @@ public class HttpServerConfigParserTest extends AbstractTestNGUnitTest {
         assertEquals(httpServer1.getServletName(), "httpServer1-servlet");
         assertEquals(httpServer1.getServletMappingPath(), "/*");
         assertEquals(httpServer1.getBinaryMediaTypes().size(), 6L);
+        assertFalse(httpServer1.isAsync());
+        assertEquals(httpServer1.getMaxInFlightRequests(), 0);
+        assertEquals(httpServer1.getAsyncTimeout(), 60000L);
+        assertEquals(httpServer1.getMinThreads(), 8);
+        assertEquals(httpServer1.getMaxThreads(), 200);
+        assertEquals(httpServer1.getThreadIdleTimeout(), 60000);
 
         // 2nd message sender
         assertNotNull(httpServer2.getConnector());
@@ -217,6 +229,12 @@ public class HttpServerConfigParserTest extends AbstractTestNGUnitTest {
         assertEquals(httpServer2.getServletMappingPath(), "/foo");
         assertEquals(httpServer2.getBinaryMediaTypes().size(), 2L);
         assertTrue(httpServer2.getBinaryMediaTypes().contains(MediaType.valueOf("application/custom")));
+        assertTrue(httpServer2.isAsync());
+        assertEquals(httpServer2.getMaxInFlightRequests(), 50);
+        assertEquals(httpServer2.getAsyncTimeout(), 5000L);
+        assertEquals(httpServer2.getMinThreads(), 4);
+        assertEquals(httpServer2.getMaxThreads(), 20);
+        assertEquals(httpServer2.getThreadIdleTimeout(), 30000);
 
         // 3rd message sender
         assertNull(httpServer3.getConnector());
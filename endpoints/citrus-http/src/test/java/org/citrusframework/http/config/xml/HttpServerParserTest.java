@@ -76,6 +76,12 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         assertFalse(server.isHandleAttributeHeaders());
         assertFalse(server.isHandleCookies());
         assertEquals(server.getBinaryMediaTypes().size(), 6L);
+        assertFalse(server.isAsync());
+        assertEquals(server.getMaxInFlightRequests(), 0);
+        assertEquals(server.getAsyncTimeout(), 60000L);
+        assertEquals(server.getMinThreads(), 8);
+        assertEquals(server.getMaxThreads(), 200);
+        assertEquals(server.getThreadIdleTimeout(), 60000);
 
         // 2nd message sender
         server = servers.get("httpServer2");
@@ -99,6 +105,12 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         assertTrue(server.isHandleCookies());
         assertEquals(server.getBinaryMediaTypes().size(), 2L);
         assertTrue(server.getBinaryMediaTypes().contains(MediaType.valueOf("application/custom")));
+        assertTrue(server.isAsync());
+        assertEquals(server.getMaxInFlightRequests(), 50);
+        assertEquals(server.getAsyncTimeout(), 5000L);
+        assertEquals(server.getMinThreads(), 4);
+        assertEquals(server.getMaxThreads(), 20);
+        assertEquals(server.getThreadIdleTimeout(), 30000);
 
         // 3rd message sender
         server = servers.get("httpServer3");
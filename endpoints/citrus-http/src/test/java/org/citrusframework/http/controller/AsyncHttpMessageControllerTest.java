@@ -0,0 +1,166 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.http.controller;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.citrusframework.endpoint.EndpointAdapter;
+import org.citrusframework.http.message.HttpMessage;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AsyncHttpMessageControllerTest {
+
+    private final EndpointAdapter endpointAdapter = mock(EndpointAdapter.class);
+
+    private AsyncHttpMessageController controller;
+
+    @BeforeMethod
+    public void setUp() {
+        controller = new AsyncHttpMessageController();
+        controller.setEndpointAdapter(endpointAdapter);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                new MockHttpServletRequest("POST", "/test"), new MockHttpServletResponse()));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        controller.destroy();
+    }
+
+    @Test
+    public void testCompleteResponse() throws Exception {
+        when(endpointAdapter.handleMessage(any())).thenReturn(new HttpMessage("Hello Citrus").status(HttpStatus.CREATED));
+
+        DeferredResult<ResponseEntity<?>> result = controller.handlePostRequest(new HttpEntity<>("Hello"));
+
+        ResponseEntity<?> response = awaitResult(result);
+        Assert.assertEquals(response.getStatusCode(), HttpStatus.CREATED);
+        Assert.assertEquals(response.getBody(), "Hello Citrus");
+        Assert.assertEquals(controller.getInFlightRequests(), 0);
+    }
+
+    @Test
+    public void testMaxInFlightRequests() throws Exception {
+        CountDownLatch pending = new CountDownLatch(1);
+        when(endpointAdapter.handleMessage(any())).thenAnswer(invocation -> {
+            pending.await(5, TimeUnit.SECONDS);
+            return new HttpMessage("Hello Citrus");
+        });
+
+        controller.setMaxInFlightRequests(1);
+
+        DeferredResult<ResponseEntity<?>> first = controller.handleGetRequest(new HttpEntity<>(""));
+        DeferredResult<ResponseEntity<?>> rejected = controller.handleGetRequest(new HttpEntity<>(""));
+
+        Assert.assertFalse(first.hasResult());
+        Assert.assertTrue(rejected.hasResult());
+        Assert.assertEquals(((ResponseEntity<?>) rejected.getResult()).getStatusCode(), HttpStatus.SERVICE_UNAVAILABLE);
+
+        pending.countDown();
+
+        Assert.assertEquals(awaitResult(first).getStatusCode(), HttpStatus.OK);
+        Assert.assertEquals(controller.getInFlightRequests(), 0);
+    }
+
+    @Test
+    public void testAsyncTimeout() throws Exception {
+        CountDownLatch pending = new CountDownLatch(1);
+        when(endpointAdapter.handleMessage(any())).thenAnswer(invocation -> {
+            pending.await(5, TimeUnit.SECONDS);
+            return new HttpMessage("Hello Citrus");
+        });
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        controller.setExecutorService(executorService);
+        controller.setMaxInFlightRequests(1);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+
+        DeferredResult<ResponseEntity<?>> timedOut = controller.handleGetRequest(new HttpEntity<>(""));
+        Assert.assertEquals(controller.getInFlightRequests(), 1);
+
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+        asyncManager.startDeferredResultProcessing(timedOut);
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        Assert.assertEquals(((ResponseEntity<?>) timedOut.getResult()).getStatusCode(), HttpStatus.SERVICE_UNAVAILABLE);
+        // slot is kept on timeout as long as the endpoint adapter is still pending
+        Assert.assertEquals(controller.getInFlightRequests(), 1);
+
+        DeferredResult<ResponseEntity<?>> rejected = controller.handleGetRequest(new HttpEntity<>(""));
+        Assert.assertEquals(((ResponseEntity<?>) rejected.getResult()).getStatusCode(), HttpStatus.SERVICE_UNAVAILABLE);
+
+        // slot is released once the endpoint adapter has finished
+        pending.countDown();
+        long timeout = System.currentTimeMillis() + 5000L;
+        while (controller.getInFlightRequests() > 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+        }
+        Assert.assertEquals(controller.getInFlightRequests(), 0);
+
+        DeferredResult<ResponseEntity<?>> next = controller.handleGetRequest(new HttpEntity<>(""));
+        Assert.assertEquals(awaitResult(next).getStatusCode(), HttpStatus.OK);
+
+        executorService.shutdown();
+        Assert.assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        Assert.assertEquals(controller.getInFlightRequests(), 0);
+    }
+
+    private ResponseEntity<?> awaitResult(DeferredResult<ResponseEntity<?>> result) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000L;
+        while (!result.hasResult() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+        }
+
+        Assert.assertTrue(result.hasResult());
+        return (ResponseEntity<?>) result.getResult();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.kafka.actions;
+
+import org.citrusframework.AbstractTestActionBuilder;
+import org.citrusframework.actions.AbstractTestAction;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.endpoint.Endpoint;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.kafka.endpoint.KafkaEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Action flushes all records sent asynchronously with a Kafka endpoint and waits for the broker to acknowledge them.
+ * Fails when one of the pending send operations of the current test has failed.
+ *
+ * @since 4.2
+ */
+public class KafkaFlushAction extends AbstractTestAction {
+
+    /** Kafka endpoint to flush */
+    private final KafkaEndpoint endpoint;
+
+    /** Kafka endpoint uri or name used to resolve the endpoint */
+    private final String endpointUri;
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(KafkaFlushAction.class);
+
+    /**
+     * Default constructor.
+     */
+    public KafkaFlushAction(Builder builder) {
+        super("kafka-flush", builder);
+
+        this.endpoint = builder.endpoint;
+        this.endpointUri = builder.endpointUri;
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        KafkaEndpoint kafkaEndpoint = getOrCreateEndpoint(context);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Flushing Kafka endpoint '" + kafkaEndpoint.getName() + "'");
+        }
+
+        kafkaEndpoint.createProducer().flush(context);
+    }
+
+    /**
+     * Gets the Kafka endpoint. Creates the endpoint from the endpoint uri if not set explicitly.
+     * @param context
+     * @return
+     */
+    private KafkaEndpoint getOrCreateEndpoint(TestContext context) {
+        if (endpoint != null) {
+            return endpoint;
+        }
+
+        if (endpointUri == null) {
+            throw new CitrusRuntimeException("Neither endpoint nor endpoint uri is set properly!");
+        }
+
+        Endpoint resolved = context.getEndpointFactory().create(context.replaceDynamicContentInString(endpointUri), context);
+        if (resolved instanceof KafkaEndpoint kafkaEndpoint) {
+            return kafkaEndpoint;
+        }
+
+        throw new CitrusRuntimeException(String.format("Unable to flush endpoint '%s' - expected Kafka endpoint but was %s",
+                endpointUri, resolved.getClass().getName()));
+    }
+
+    public KafkaEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public String getEndpointUri() {
+        return endpointUri;
+    }
+
+    /**
+     * Action builder.
+     */
+    public static final class Builder extends AbstractTestActionBuilder<KafkaFlushAction, Builder> {
+
+        private KafkaEndpoint endpoint;
+        private String endpointUri;
+
+        public static Builder flush() {
+            return new Builder();
+        }
+
+        public static Builder flush(KafkaEndpoint endpoint) {
+            return new Builder().endpoint(endpoint);
+        }
+
+        public static Builder flush(String endpointUri) {
+            return new Builder().endpoint(endpointUri);
+        }
+
+        public Builder endpoint(KafkaEndpoint endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder endpoint(String endpointUri) {
+            this.endpointUri = endpointUri;
+            return this;
+        }
+
+        @Override
+        public KafkaFlushAction build() {
+            return new KafkaFlushAction(this);
+        }
+    }
+}
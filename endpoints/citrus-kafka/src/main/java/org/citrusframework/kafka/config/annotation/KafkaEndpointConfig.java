@@ -67,6 +67,36 @@ public @interface KafkaEndpointConfig {
      */
     int autoCommitInterval() default 1000;
 
+    /**
+     * Maximum number of records fetched with a single poll.
+     * @return
+     */
+    int maxPollRecords() default 1;
+
+    /**
+     * Commit consumed records asynchronously.
+     * @return
+     */
+    boolean asyncCommit() default false;
+
+    /**
+     * Send records asynchronously.
+     * @return
+     */
+    boolean asyncSend() default false;
+
+    /**
+     * Producer linger time in milliseconds.
+     * @return
+     */
+    int lingerMs() default -1;
+
+    /**
+     * Producer batch size in bytes.
+     * @return
+     */
+    int batchSize() default -1;
+
     /**
      * Topic partition.
      * @return
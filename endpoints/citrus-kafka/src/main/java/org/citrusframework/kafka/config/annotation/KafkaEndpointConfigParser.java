@@ -50,6 +50,17 @@ public class KafkaEndpointConfigParser implements AnnotationConfigParser<KafkaEn
 
         builder.autoCommit(annotation.autoCommit());
         builder.autoCommitInterval(annotation.autoCommitInterval());
+        builder.maxPollRecords(annotation.maxPollRecords());
+        builder.asyncCommit(annotation.asyncCommit());
+        builder.asyncSend(annotation.asyncSend());
+
+        if (annotation.lingerMs() >= 0) {
+            builder.lingerMs(annotation.lingerMs());
+        }
+
+        if (annotation.batchSize() >= 0) {
+            builder.batchSize(annotation.batchSize());
+        }
         builder.offsetReset(annotation.offsetReset());
 
         if (StringUtils.hasText(annotation.clientId())) {
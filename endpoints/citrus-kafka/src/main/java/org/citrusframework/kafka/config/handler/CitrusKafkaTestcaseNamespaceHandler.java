@@ -16,6 +16,7 @@
 
 package org.citrusframework.kafka.config.handler;
 
+import org.citrusframework.kafka.config.xml.KafkaFlushActionParser;
 import org.springframework.beans.factory.xml.NamespaceHandlerSupport;
 
 /**
@@ -25,5 +26,6 @@ import org.springframework.beans.factory.xml.NamespaceHandlerSupport;
 public class CitrusKafkaTestcaseNamespaceHandler extends NamespaceHandlerSupport {
 
     public void init() {
+        registerBeanDefinitionParser("flush", new KafkaFlushActionParser());
     }
 }
@@ -50,6 +50,11 @@ public class KafkaEndpointParser extends AbstractEndpointParser {
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("auto-commit"), "autoCommit");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("auto-commit-interval"), "autoCommitInterval");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-poll-records"), "maxPollRecords");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("async-commit"), "asyncCommit");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("async-send"), "asyncSend");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("linger-ms"), "lingerMs");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("batch-size"), "batchSize");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("offset-reset"), "offsetReset");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("consumer-group"), "consumerGroup");
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.kafka.config.xml;
+
+import org.citrusframework.config.xml.AbstractTestActionFactoryBean;
+import org.citrusframework.config.xml.DescriptionElementParser;
+import org.citrusframework.kafka.actions.KafkaFlushAction;
+import org.citrusframework.util.StringUtils;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.xml.BeanDefinitionParser;
+import org.springframework.beans.factory.xml.ParserContext;
+import org.w3c.dom.Element;
+
+/**
+ * Bean definition parser for Kafka flush action in test case.
+ *
+ * @since 4.2
+ */
+public class KafkaFlushActionParser implements BeanDefinitionParser {
+
+    @Override
+    public BeanDefinition parse(Element element, ParserContext parserContext) {
+        BeanDefinitionBuilder beanDefinition = BeanDefinitionBuilder.rootBeanDefinition(KafkaFlushActionFactoryBean.class);
+
+        DescriptionElementParser.doParse(element, beanDefinition);
+
+        String endpoint = element.getAttribute("endpoint");
+        if (!StringUtils.hasText(endpoint)) {
+            parserContext.getReaderContext().error("Attribute 'endpoint' must not be empty", element);
+        }
+
+        beanDefinition.addPropertyValue("endpointUri", endpoint);
+
+        return beanDefinition.getBeanDefinition();
+    }
+
+    /**
+     * Test action factory bean.
+     */
+    public static class KafkaFlushActionFactoryBean extends AbstractTestActionFactoryBean<KafkaFlushAction, KafkaFlushAction.Builder> {
+
+        private final KafkaFlushAction.Builder builder = new KafkaFlushAction.Builder();
+
+        /**
+         * Sets the endpoint uri.
+         * @param endpointUri
+         */
+        public void setEndpointUri(String endpointUri) {
+            builder.endpoint(endpointUri);
+        }
+
+        @Override
+        public KafkaFlushAction getObject() throws Exception {
+            return builder.build();
+        }
+
+        @Override
+        public Class<?> getObjectType() {
+            return KafkaFlushAction.class;
+        }
+
+        /**
+         * Obtains the builder.
+         * @return the builder implementation.
+         */
+        @Override
+        public KafkaFlushAction.Builder getBuilder() {
+            return builder;
+        }
+    }
+}
@@ -18,28 +18,42 @@ package org.citrusframework.kafka.endpoint;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.MessageTimeoutException;
 import org.citrusframework.kafka.message.KafkaMessageHeaders;
 import org.citrusframework.message.Message;
-import org.citrusframework.messaging.AbstractMessageConsumer;
+import org.citrusframework.message.MessageSelector;
+import org.citrusframework.message.selector.DelegatingMessageSelector;
+import org.citrusframework.messaging.AbstractSelectiveMessageConsumer;
+import org.citrusframework.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Kafka consumer polls records from the configured topics. Records are fetched in batches of
+ * max poll records and kept in a local buffer that serves subsequent receive operations. Receive operations
+ * with a message selector (e.g. on message key, partition, offset or any header) pick matching records from that
+ * buffer so non-matching records stay available for later receive operations.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
-public class KafkaConsumer extends AbstractMessageConsumer {
+public class KafkaConsumer extends AbstractSelectiveMessageConsumer {
 
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(KafkaConsumer.class);
@@ -50,6 +64,12 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     /** Kafka consumer */
     private org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> consumer;
 
+    /** Records polled from the broker but not consumed yet */
+    private final LinkedList<ConsumerRecord<Object, Object>> buffer = new LinkedList<>();
+
+    /** Highest offset polled per topic partition */
+    private final Map<TopicPartition, Long> polledOffsets = new HashMap<>();
+
     /**
      * Default constructor using endpoint.
      * @param name
@@ -62,7 +82,7 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
+    public synchronized Message receive(String selector, TestContext context, long timeout) {
         String topic = context.replaceDynamicContentInString(Optional.ofNullable(endpointConfiguration.getTopic())
                                                                      .orElseThrow(() -> new CitrusRuntimeException("Missing Kafka topic to receive messages from - add topic to endpoint configuration")));
 
@@ -74,30 +94,104 @@ public class KafkaConsumer extends AbstractMessageConsumer {
             consumer.subscribe(Arrays.stream(topic.split(",")).collect(Collectors.toList()));
         }
 
-        ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(timeout));
+        MessageSelector messageSelector = StringUtils.hasText(selector) ? new DelegatingMessageSelector(selector, context) : null;
 
-        if (records.isEmpty()) {
-            throw new MessageTimeoutException(timeout, topic);
-        }
+        long deadline = System.currentTimeMillis() + timeout;
+        long pollTimeout = timeout;
+        Message received;
+        while ((received = receiveFromBuffer(messageSelector, context)) == null) {
+            if (pollTimeout <= 0 || (!poll(pollTimeout) && messageSelector == null)) {
+                throw new MessageTimeoutException(timeout, topic);
+            }
 
-        if (logger.isDebugEnabled()) {
-            records.forEach(record -> logger.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset()));
+            pollTimeout = deadline - System.currentTimeMillis();
         }
 
-        Message received = endpointConfiguration.getMessageConverter()
-                                                .convertInbound(records.iterator().next(), endpointConfiguration, context);
         context.onInboundMessage(received);
 
-        consumer.commitSync(Duration.ofMillis(endpointConfiguration.getTimeout()));
-
         logger.info("Received Kafka message on topic: '" + topic);
         return received;
     }
 
+    /**
+     * Polls next batch of records and adds those to the local buffer.
+     * @param timeout
+     * @return true if new records have been added to the buffer.
+     */
+    private boolean poll(long timeout) {
+        ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(timeout));
+
+        if (records == null || records.isEmpty()) {
+            return false;
+        }
+
+        for (ConsumerRecord<Object, Object> record : records) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset());
+            }
+
+            buffer.add(record);
+            polledOffsets.merge(new TopicPartition(record.topic(), record.partition()), record.offset(), Math::max);
+        }
+
+        return true;
+    }
+
+    /**
+     * Takes the first buffered record that is accepted by the given message selector. When no selector is given the
+     * first buffered record is taken. Commits the offset of the consumed record.
+     * @param messageSelector
+     * @param context
+     * @return the received message or null if no buffered record matches.
+     */
+    private Message receiveFromBuffer(MessageSelector messageSelector, TestContext context) {
+        Iterator<ConsumerRecord<Object, Object>> records = buffer.iterator();
+        while (records.hasNext()) {
+            ConsumerRecord<Object, Object> record = records.next();
+            Message message = endpointConfiguration.getMessageConverter().convertInbound(record, endpointConfiguration, context);
+
+            if (messageSelector == null || messageSelector.accept(message)) {
+                records.remove();
+                commit(new TopicPartition(record.topic(), record.partition()));
+                return message;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Commits the offset for given topic partition. The committed offset is the lowest offset still in the buffer so
+     * records that have been skipped by a message selector get redelivered after a restart. When all polled records of the
+     * partition have been consumed the offset after the highest polled record is committed.
+     * @param topicPartition
+     */
+    private void commit(TopicPartition topicPartition) {
+        long offset = buffer.stream()
+                .filter(record -> record.partition() == topicPartition.partition() && record.topic().equals(topicPartition.topic()))
+                .mapToLong(ConsumerRecord::offset)
+                .min()
+                .orElseGet(() -> polledOffsets.get(topicPartition) + 1);
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = Collections.singletonMap(topicPartition, new OffsetAndMetadata(offset));
+        if (endpointConfiguration.isAsyncCommit()) {
+            consumer.commitAsync(offsets, (committed, e) -> {
+                if (e != null) {
+                    logger.warn("Failed to commit offsets " + committed + " on Kafka consumer", e);
+                }
+            });
+        } else {
+            consumer.commitSync(offsets, Duration.ofMillis(endpointConfiguration.getTimeout()));
+        }
+    }
+
     /**
      * Stop message listener container.
      */
     public void stop() {
+        buffer.clear();
+        polledOffsets.clear();
+
         try {
             if (consumer.subscription() != null && !consumer.subscription().isEmpty()) {
                 consumer.unsubscribe();
@@ -116,7 +210,7 @@ public class KafkaConsumer extends AbstractMessageConsumer {
         consumerProps.put(ConsumerConfig.CLIENT_ID_CONFIG, Optional.ofNullable(endpointConfiguration.getClientId()).orElseGet(()  -> KafkaMessageHeaders.KAFKA_PREFIX + "consumer_" + UUID.randomUUID().toString()));
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, endpointConfiguration.getConsumerGroup());
         consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, Optional.ofNullable(endpointConfiguration.getServer()).orElse("localhost:9092"));
-        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1);
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, endpointConfiguration.getMaxPollRecords());
         consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, endpointConfiguration.isAutoCommit());
         consumerProps.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, endpointConfiguration.getAutoCommitInterval());
         consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, endpointConfiguration.getOffsetReset());
@@ -75,5 +75,9 @@ public class KafkaEndpoint extends AbstractEndpoint implements ShutdownPhase {
         if (kafkaConsumer != null) {
             kafkaConsumer.stop();
         }
+
+        if (kafkaProducer != null) {
+            kafkaProducer.stop();
+        }
     }
 }
@@ -88,6 +88,56 @@ public class KafkaEndpointBuilder extends AbstractEndpointBuilder<KafkaEndpoint>
         return this;
     }
 
+    /**
+     * Sets the maxPollRecords property.
+     * @param maxPollRecords
+     * @return
+     */
+    public KafkaEndpointBuilder maxPollRecords(int maxPollRecords) {
+        endpoint.getEndpointConfiguration().setMaxPollRecords(maxPollRecords);
+        return this;
+    }
+
+    /**
+     * Sets the asyncCommit property.
+     * @param asyncCommit
+     * @return
+     */
+    public KafkaEndpointBuilder asyncCommit(boolean asyncCommit) {
+        endpoint.getEndpointConfiguration().setAsyncCommit(asyncCommit);
+        return this;
+    }
+
+    /**
+     * Sets the asyncSend property.
+     * @param asyncSend
+     * @return
+     */
+    public KafkaEndpointBuilder asyncSend(boolean asyncSend) {
+        endpoint.getEndpointConfiguration().setAsyncSend(asyncSend);
+        return this;
+    }
+
+    /**
+     * Sets the lingerMs property.
+     * @param lingerMs
+     * @return
+     */
+    public KafkaEndpointBuilder lingerMs(int lingerMs) {
+        endpoint.getEndpointConfiguration().setLingerMs(lingerMs);
+        return this;
+    }
+
+    /**
+     * Sets the batchSize property.
+     * @param batchSize
+     * @return
+     */
+    public KafkaEndpointBuilder batchSize(int batchSize) {
+        endpoint.getEndpointConfiguration().setBatchSize(batchSize);
+        return this;
+    }
+
     /**
      * Sets the offsetReset property.
      * @param offsetReset
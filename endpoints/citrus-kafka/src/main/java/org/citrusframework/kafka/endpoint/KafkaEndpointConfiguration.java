@@ -63,6 +63,19 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     private boolean autoCommit = true;
     private int autoCommitInterval = 1000;
 
+    /** Maximum number of records a consumer fetches with a single poll and keeps in its local buffer */
+    private int maxPollRecords = 1;
+
+    /** Commit consumed record offsets asynchronously */
+    private boolean asyncCommit = false;
+
+    /** Send records asynchronously without waiting for the broker acknowledgement */
+    private boolean asyncSend = false;
+
+    /** Producer linger time in milliseconds and batch size in bytes, Kafka defaults are used when not set */
+    private Integer lingerMs;
+    private Integer batchSize;
+
     /** Offset reset setting for consumer  */
     private String offsetReset = "earliest";
 
@@ -352,4 +365,94 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setPartition(int partition) {
         this.partition = partition;
     }
+
+    /**
+     * Gets the maxPollRecords.
+     *
+     * @return
+     */
+    public int getMaxPollRecords() {
+        return maxPollRecords;
+    }
+
+    /**
+     * Sets the maxPollRecords.
+     *
+     * @param maxPollRecords
+     */
+    public void setMaxPollRecords(int maxPollRecords) {
+        this.maxPollRecords = maxPollRecords;
+    }
+
+    /**
+     * Gets the asyncCommit.
+     *
+     * @return
+     */
+    public boolean isAsyncCommit() {
+        return asyncCommit;
+    }
+
+    /**
+     * Sets the asyncCommit.
+     *
+     * @param asyncCommit
+     */
+    public void setAsyncCommit(boolean asyncCommit) {
+        this.asyncCommit = asyncCommit;
+    }
+
+    /**
+     * Gets the asyncSend.
+     *
+     * @return
+     */
+    public boolean isAsyncSend() {
+        return asyncSend;
+    }
+
+    /**
+     * Sets the asyncSend.
+     *
+     * @param asyncSend
+     */
+    public void setAsyncSend(boolean asyncSend) {
+        this.asyncSend = asyncSend;
+    }
+
+    /**
+     * Gets the lingerMs.
+     *
+     * @return
+     */
+    public Integer getLingerMs() {
+        return lingerMs;
+    }
+
+    /**
+     * Sets the lingerMs.
+     *
+     * @param lingerMs
+     */
+    public void setLingerMs(Integer lingerMs) {
+        this.lingerMs = lingerMs;
+    }
+
+    /**
+     * Gets the batchSize.
+     *
+     * @return
+     */
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the batchSize.
+     *
+     * @param batchSize
+     */
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
 }
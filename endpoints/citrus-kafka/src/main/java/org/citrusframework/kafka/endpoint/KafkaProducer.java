@@ -16,16 +16,23 @@
 
 package org.citrusframework.kafka.endpoint;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.kafka.message.KafkaMessageHeaders;
@@ -36,6 +43,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Kafka producer sends records to a topic. By default each send operation waits for the broker to acknowledge the record.
+ * In async send mode the send operation returns immediately and the pending records are tracked per test context.
+ * Send failures are raised with the next {@link #flush(TestContext)}. Pending records not flushed explicitly are flushed
+ * when the test finishes, so send failures fail the test.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
@@ -53,6 +65,9 @@ public class KafkaProducer implements Producer {
     /** Kafka producer */
     private org.apache.kafka.clients.producer.KafkaProducer<Object, Object> producer;
 
+    /** Pending async send operations per test context */
+    private final Map<TestContext, Queue<Future<RecordMetadata>>> pendingSends = Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * Default constructor using endpoint configuration.
      * @param name
@@ -61,7 +76,7 @@ public class KafkaProducer implements Producer {
     public KafkaProducer(String name, KafkaEndpointConfiguration endpointConfiguration) {
         this.name = name;
         this.endpointConfiguration = endpointConfiguration;
-        this. producer = createKafkaProducer();
+        this.producer = createKafkaProducer();
     }
 
     @Override
@@ -83,19 +98,97 @@ public class KafkaProducer implements Producer {
             logger.debug("Sending Kafka stream message to topic: '" + topic + "'");
         }
 
-        try {
-            ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
-            producer.send(producerRecord).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
-            logger.info("Message was sent to Kafka stream topic: '" + topic + "'");
-        } catch (InterruptedException | ExecutionException e) {
-            throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e);
-        } catch (TimeoutException e) {
-            throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s' - timeout after %s milliseconds", topic, endpointConfiguration.getTimeout()), e);
+        ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
+
+        if (endpointConfiguration.isAsyncSend()) {
+            sendAsync(producerRecord, topic, context);
+        } else {
+            try {
+                producer.send(producerRecord).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
+                logger.info("Message was sent to Kafka stream topic: '" + topic + "'");
+            } catch (InterruptedException | ExecutionException e) {
+                throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e);
+            } catch (TimeoutException e) {
+                throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s' - timeout after %s milliseconds", topic, endpointConfiguration.getTimeout()), e);
+            }
         }
 
         context.onOutboundMessage(message);
     }
 
+    /**
+     * Sends the record without waiting for the broker acknowledgement. The pending send is tracked for the given test context
+     * and is flushed latest when the test finishes.
+     * @param producerRecord
+     * @param topic
+     * @param context
+     */
+    private void sendAsync(ProducerRecord<Object, Object> producerRecord, String topic, TestContext context) {
+        Future<RecordMetadata> pending = producer.send(producerRecord, (metadata, e) -> {
+            if (e != null && logger.isDebugEnabled()) {
+                logger.debug(String.format("Failed to send message to Kafka topic '%s'", topic), e);
+            }
+        });
+
+        pendingSends.computeIfAbsent(context, ctx -> {
+            ctx.addFinishHandler(() -> {
+                if (pendingSends.containsKey(ctx)) {
+                    flush(ctx);
+                }
+            });
+            return new ConcurrentLinkedQueue<>();
+        }).add(pending);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Message was sent asynchronously to Kafka stream topic: '" + topic + "'");
+        }
+    }
+
+    /**
+     * Flushes all buffered records and waits for the pending async send operations of the given test context to complete.
+     * Raises an error when one of the pending send operations has failed.
+     * @param context
+     */
+    public void flush(TestContext context) {
+        producer.flush();
+
+        Queue<Future<RecordMetadata>> pending = pendingSends.remove(context);
+        if (pending == null) {
+            return;
+        }
+
+        long deadline = System.currentTimeMillis() + endpointConfiguration.getTimeout();
+        int failed = 0;
+        Exception cause = null;
+        for (Future<RecordMetadata> future : pending) {
+            try {
+                future.get(Math.max(deadline - System.currentTimeMillis(), 0L), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                failed++;
+                cause = Optional.ofNullable(cause).orElse(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for pending Kafka messages", e);
+            } catch (TimeoutException e) {
+                throw new CitrusRuntimeException(String.format("Failed to flush Kafka messages - timeout after %s milliseconds", endpointConfiguration.getTimeout()), e);
+            }
+        }
+
+        if (failed > 0) {
+            throw new CitrusRuntimeException(String.format("Failed to send %s of %s messages to Kafka", failed, pending.size()), cause);
+        }
+
+        logger.info(String.format("Flushed %s messages to Kafka", pending.size()));
+    }
+
+    /**
+     * Flushes pending records and closes the producer.
+     */
+    public void stop() {
+        pendingSends.clear();
+        producer.close(Duration.ofMillis(endpointConfiguration.getTimeout()));
+    }
+
     /**
      * Creates default KafkaTemplate instance from endpoint configuration.
      */
@@ -106,6 +199,9 @@ public class KafkaProducer implements Producer {
         producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, endpointConfiguration.getKeySerializer());
         producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, endpointConfiguration.getValueSerializer());
 
+        Optional.ofNullable(endpointConfiguration.getLingerMs()).ifPresent(linger -> producerProps.put(ProducerConfig.LINGER_MS_CONFIG, linger));
+        Optional.ofNullable(endpointConfiguration.getBatchSize()).ifPresent(batchSize -> producerProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize));
+
         producerProps.put(ProducerConfig.CLIENT_ID_CONFIG, Optional.ofNullable(endpointConfiguration.getClientId()).orElseGet(()  -> KafkaMessageHeaders.KAFKA_PREFIX + "producer_" + UUID.randomUUID()));
 
         producerProps.putAll(endpointConfiguration.getProducerProperties());
@@ -62,6 +62,8 @@ public class KafkaEndpointConfigParserTest extends AbstractTestNGUnitTest {
             timeout=10000L,
             autoCommit = false,
             autoCommitInterval = 500,
+            maxPollRecords = 100,
+            asyncCommit = true,
             offsetReset = "latest",
             messageConverter="messageConverter",
             headerMapper = "headerMapper",
@@ -115,6 +117,8 @@ public class KafkaEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getMessageConverter().getClass(), KafkaMessageConverter.class);
         Assert.assertTrue(kafkaEndpoint1.getEndpointConfiguration().isAutoCommit());
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getAutoCommitInterval(), 1000L);
+        Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getMaxPollRecords(), 1);
+        Assert.assertFalse(kafkaEndpoint1.getEndpointConfiguration().isAsyncCommit());
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getOffsetReset(), "earliest");
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getTopic(), "test");
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getPartition(), 0);
@@ -133,6 +137,8 @@ public class KafkaEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getMessageConverter(), messageConverter);
         Assert.assertFalse(kafkaEndpoint2.getEndpointConfiguration().isAutoCommit());
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getAutoCommitInterval(), 500L);
+        Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getMaxPollRecords(), 100);
+        Assert.assertTrue(kafkaEndpoint2.getEndpointConfiguration().isAsyncCommit());
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getOffsetReset(), "latest");
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getTopic(), "test");
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getPartition(), 1);
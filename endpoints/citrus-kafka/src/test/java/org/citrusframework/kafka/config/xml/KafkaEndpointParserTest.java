@@ -55,6 +55,8 @@ public class KafkaEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getMessageConverter().getClass(), KafkaMessageConverter.class);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().isAutoCommit(), true);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getAutoCommitInterval(), 1000L);
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getMaxPollRecords(), 1);
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().isAsyncCommit(), false);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getOffsetReset(), "earliest");
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getTopic(), "test");
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getPartition(), 0);
@@ -77,6 +79,8 @@ public class KafkaEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getMessageConverter(), beanDefinitionContext.getBean("messageConverter"));
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().isAutoCommit(), false);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getAutoCommitInterval(), 500L);
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getMaxPollRecords(), 100);
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().isAsyncCommit(), true);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getOffsetReset(), "latest");
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getTopic(), "test");
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getPartition(), 1);
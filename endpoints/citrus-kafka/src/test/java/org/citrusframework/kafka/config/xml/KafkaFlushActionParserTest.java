@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.kafka.config.xml;
+
+import org.citrusframework.kafka.actions.KafkaFlushAction;
+import org.citrusframework.testng.AbstractActionParserTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class KafkaFlushActionParserTest extends AbstractActionParserTest<KafkaFlushAction> {
+
+    @Test
+    public void testKafkaFlushActionParser() {
+        assertActionCount(2);
+        assertActionClassAndName(KafkaFlushAction.class, "kafka-flush");
+
+        KafkaFlushAction action = getNextTestActionFromTest();
+        Assert.assertEquals(action.getEndpointUri(), "kafkaEndpoint");
+        Assert.assertNull(action.getEndpoint());
+
+        action = getNextTestActionFromTest();
+        Assert.assertEquals(action.getEndpointUri(), "kafka:test");
+    }
+}
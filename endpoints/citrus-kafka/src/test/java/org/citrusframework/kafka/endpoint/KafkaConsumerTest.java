@@ -17,27 +17,33 @@
 package org.citrusframework.kafka.endpoint;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.citrusframework.exceptions.ActionTimeoutException;
+import org.citrusframework.kafka.message.KafkaMessageHeaders;
 import org.citrusframework.message.DefaultMessage;
 import org.citrusframework.message.Message;
 import org.citrusframework.testng.AbstractTestNGUnitTest;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -159,4 +165,67 @@ public class KafkaConsumerTest extends AbstractTestNGUnitTest {
         Assert.assertNotNull(receivedMessage.getHeader("Operation"));
         Assert.assertTrue(receivedMessage.getHeader("Operation").equals("sayHello"));
     }
+
+    @Test
+    public void testReceiveBufferedMessages() {
+        String topic = "buffered";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMaxPollRecords(10);
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, Arrays.asList(
+                new ConsumerRecord<>(topic, 0, 0, "a", "Hello A"),
+                new ConsumerRecord<>(topic, 0, 1, "b", "Hello B"),
+                new ConsumerRecord<>(topic, 0, 2, "c", "Hello C"))));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(records);
+
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "Hello A");
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "Hello B");
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "Hello C");
+
+        verify(kafkaConsumer, times(1)).poll(any(Duration.class));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(1L)), Duration.ofMillis(5000L));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(2L)), Duration.ofMillis(5000L));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(3L)), Duration.ofMillis(5000L));
+    }
+
+    @Test
+    public void testReceiveWithMessageSelector() {
+        String topic = "selective";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMaxPollRecords(10);
+        endpoint.getEndpointConfiguration().setAsyncCommit(true);
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, Arrays.asList(
+                new ConsumerRecord<>(topic, 0, 0, "a", "Hello A"),
+                new ConsumerRecord<>(topic, 0, 1, "b", "Hello B"))));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(records);
+
+        Message receivedMessage = endpoint.createConsumer().receive(KafkaMessageHeaders.MESSAGE_KEY + " = 'b'", context);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello B");
+        Assert.assertEquals(receivedMessage.getHeader(KafkaMessageHeaders.OFFSET), 1L);
+
+        // non-matching record is still available in the buffer
+        receivedMessage = endpoint.createConsumer().receive(context);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello A");
+
+        verify(kafkaConsumer, times(1)).poll(any(Duration.class));
+        verify(kafkaConsumer).commitAsync(Mockito.eq(Collections.singletonMap(partition, new OffsetAndMetadata(0L))), any());
+        verify(kafkaConsumer).commitAsync(Mockito.eq(Collections.singletonMap(partition, new OffsetAndMetadata(2L))), any());
+    }
 }
@@ -17,6 +17,7 @@
 package org.citrusframework.kafka.endpoint;
 
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 
 import org.citrusframework.exceptions.CitrusRuntimeException;
@@ -24,12 +25,14 @@ import org.citrusframework.kafka.message.KafkaMessage;
 import org.citrusframework.message.Message;
 import org.citrusframework.testng.AbstractTestNGUnitTest;
 import org.citrusframework.util.SocketUtils;
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.clients.producer.internals.FutureRecordMetadata;
 import org.apache.kafka.clients.producer.internals.ProduceRequestResult;
+import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.utils.Time;
 import org.mockito.Mockito;
@@ -38,7 +41,9 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -112,6 +117,97 @@ public class KafkaProducerTest extends AbstractTestNGUnitTest {
         verify(kafkaProducer).send(any(ProducerRecord.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsync() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("async");
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer((Answer<Future<RecordMetadata>>) invocation -> {
+            ProducerRecord producerRecord = invocation.getArgument(0);
+            Assert.assertEquals(producerRecord.topic(), "async");
+
+            ProduceRequestResult result = new ProduceRequestResult(new TopicPartition("async", 0));
+            result.set(0, 0, null);
+            result.done();
+            return new FutureRecordMetadata(result, 0, System.currentTimeMillis(), 0, 0, Time.SYSTEM);
+        });
+
+        for (int i = 0; i < 10; i++) {
+            endpoint.createProducer().send(new KafkaMessage("Message " + i), context);
+        }
+
+        endpoint.createProducer().flush(context);
+
+        verify(kafkaProducer, times(10)).send(any(ProducerRecord.class), any(Callback.class));
+        verify(kafkaProducer, never()).send(any(ProducerRecord.class));
+        verify(kafkaProducer).flush();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsyncFailure() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("async");
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer((Answer<Future<RecordMetadata>>) invocation -> {
+            KafkaException error = new KafkaException("Broker not available");
+            ((Callback) invocation.getArgument(1)).onCompletion(null, error);
+            return CompletableFuture.failedFuture(error);
+        });
+
+        endpoint.createProducer().send(new KafkaMessage("foo"), context);
+        Assert.assertFalse(context.hasExceptions());
+
+        try {
+            endpoint.createProducer().flush(context);
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to send 1 of 1 messages to Kafka");
+            Assert.assertFalse(context.hasExceptions());
+            return;
+        }
+
+        Assert.fail("Missing " + CitrusRuntimeException.class + " because of failed async send");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsyncFlushOnFinish() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("async");
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer((Answer<Future<RecordMetadata>>) invocation ->
+                CompletableFuture.failedFuture(new KafkaException("Broker not available")));
+
+        endpoint.createProducer().send(new KafkaMessage("foo"), context);
+        endpoint.createProducer().send(new KafkaMessage("bar"), context);
+
+        try {
+            context.runFinishHandlers();
+
+            verify(kafkaProducer).flush();
+            Assert.assertEquals(context.getExceptions().size(), 1L);
+            Assert.assertEquals(context.getExceptions().get(0).getMessage(), "Failed to send 2 of 2 messages to Kafka");
+        } finally {
+            context.getExceptions().clear();
+        }
+    }
+
     @Test
     public void testSendMessageTimeout() {
         KafkaEndpoint endpoint = new KafkaEndpoint();
@@ -16,17 +16,18 @@
 package org.citrusframework.channel.selector;
 
 import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.util.XMLUtils;
+import org.citrusframework.xml.namespace.DefaultNamespaceContext;
 import org.citrusframework.xml.xpath.XPathUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.Message;
-import org.springframework.xml.xpath.XPathExpressionFactory;
-import org.springframework.xml.xpath.XPathParseException;
 import org.w3c.dom.Document;
 import org.w3c.dom.ls.LSException;
 
 import java.util.Map;
+import javax.xml.xpath.XPathConstants;
 
 /**
  * Message selector accepts XML messages in case XPath expression evaluation result matches
@@ -70,18 +71,19 @@ public class XpathPayloadMessageSelector extends AbstractMessageSelector {
             // add default namespace mappings
             namespaces.putAll(context.getNamespaceContextBuilder().getNamespaceMappings());
 
-            String value;
+            String expression = selectKey;
             if (XPathUtils.hasDynamicNamespaces(selectKey)) {
                 namespaces.putAll(XPathUtils.getDynamicNamespaces(selectKey));
-                value = XPathExpressionFactory.createXPathExpression(XPathUtils.replaceDynamicNamespaces(selectKey, namespaces), namespaces)
-                        .evaluateAsString(doc);
-            } else {
-                value = XPathExpressionFactory.createXPathExpression(selectKey, namespaces)
-                        .evaluateAsString(doc);
+                expression = XPathUtils.replaceDynamicNamespaces(selectKey, namespaces);
             }
 
+            DefaultNamespaceContext namespaceContext = new DefaultNamespaceContext();
+            namespaceContext.addNamespaces(namespaces);
+
+            String value = (String) XPathUtils.evaluateExpression(doc, expression, namespaceContext, XPathConstants.STRING);
+
             return evaluate(value);
-        } catch (XPathParseException e) {
+        } catch (CitrusRuntimeException e) {
             logger.warn("Could not evaluate XPath expression for message selector - ignoring message (" + e.getClass().getName() + ")");
             return false; // wrong XML message - not accepted
         }
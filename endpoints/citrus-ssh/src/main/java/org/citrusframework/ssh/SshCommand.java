@@ -19,6 +19,7 @@ package org.citrusframework.ssh;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.Executor;
 
 import org.citrusframework.endpoint.EndpointAdapter;
 import org.citrusframework.message.Message;
@@ -64,6 +65,9 @@ public class SshCommand implements Command, Runnable {
     /** User on which behalf the command is executed **/
     private String user;
 
+    /** Executor running the command, a new thread is started for the command if not set **/
+    private final Executor executor;
+
     /**
      * Constructor taking a command and the endpoint adapter as arguments
      * @param command command performed
@@ -71,15 +75,32 @@ public class SshCommand implements Command, Runnable {
      * @param endpointConfiguration
      */
     public SshCommand(String command, EndpointAdapter endpointAdapter, SshEndpointConfiguration endpointConfiguration) {
+        this(command, endpointAdapter, endpointConfiguration, null);
+    }
+
+    /**
+     * Constructor taking a command, the endpoint adapter and the executor running the command as arguments
+     * @param command command performed
+     * @param endpointAdapter endpoint adapter
+     * @param endpointConfiguration
+     * @param executor executor running the command
+     */
+    public SshCommand(String command, EndpointAdapter endpointAdapter, SshEndpointConfiguration endpointConfiguration, Executor executor) {
         this.endpointAdapter = endpointAdapter;
         this.command = command;
         this.endpointConfiguration = endpointConfiguration;
+        this.executor = executor;
     }
 
     @Override
     public void start(ChannelSession session, Environment env) throws IOException {
         user = env.getEnv().get(Environment.ENV_USER);
-        new Thread(this, "CitrusSshCommand: " + command).start();
+
+        if (executor != null) {
+            executor.execute(this);
+        } else {
+            new Thread(this, "CitrusSshCommand: " + command).start();
+        }
     }
 
     @Override
@@ -19,9 +19,17 @@ package org.citrusframework.ssh.client;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import com.jcraft.jsch.ChannelExec;
 import com.jcraft.jsch.JSch;
@@ -29,6 +37,7 @@ import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.Session;
 import com.jcraft.jsch.UserInfo;
 import org.apache.sshd.client.keyverifier.KnownHostsServerKeyVerifier;
+import org.citrusframework.common.ShutdownPhase;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.endpoint.AbstractEndpoint;
 import org.citrusframework.exceptions.CitrusRuntimeException;
@@ -51,13 +60,16 @@ import org.citrusframework.util.StringUtils;
  * @author Roland Huss, Christoph Deppisch
  * @since 1.4
  */
-public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer, ShutdownPhase {
 
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
-    // Session for the SSH communication
-    private Session session;
+    // Idle SSH sessions per remote user ready to be reused
+    private final Map<String, Deque<Session>> idleSessions = new ConcurrentHashMap<>();
+
+    // Limits the number of SSH sessions in use
+    private Semaphore sessionPermits;
 
     // SSH implementation
     private JSch jsch = new JSch();
@@ -86,7 +98,8 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     /**
      * Send a message as SSH request. The message format is created from
-     * {@link org.citrusframework.ssh.server.SshServer}.
+     * {@link org.citrusframework.ssh.server.SshServer}. Command output is collected in memory
+     * and the response is created once the exec channel has been closed.
      *
      * @param message the message object to send.
      * @param context
@@ -103,27 +116,30 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
 
         String rUser = getRemoteUser(message);
-        connect(rUser);
+        Session session = borrowSession(rUser);
         ChannelExec channelExec = null;
         ByteArrayOutputStream outStream = new ByteArrayOutputStream();
         ByteArrayOutputStream errStream = new ByteArrayOutputStream();
+        CountDownLatch channelClosed = new CountDownLatch(2);
+        boolean reusable = false;
         int rc;
         try {
-            channelExec = openChannelExec();
-            channelExec.setErrStream(errStream);
-            channelExec.setOutputStream(outStream);
+            channelExec = openChannelExec(session);
+            channelExec.setErrStream(new ClosingNotifierOutputStream(errStream, channelClosed));
+            channelExec.setOutputStream(new ClosingNotifierOutputStream(outStream, channelClosed));
             channelExec.setCommand(request.getCommand());
             doConnect(channelExec);
             if (request.getStdin() != null) {
                 sendStandardInput(channelExec, request.getStdin());
             }
-            waitCommandToFinish(channelExec);
+            waitCommandToFinish(channelExec, channelClosed);
             rc = channelExec.getExitStatus();
+            reusable = true;
         } finally {
             if (channelExec != null && channelExec.isConnected()) {
                 channelExec.disconnect();
             }
-            disconnect();
+            releaseSession(rUser, session, reusable);
         }
         SshResponse sshResp = new SshResponse(outStream.toString(),errStream.toString(),rc);
         Message response = getEndpointConfiguration().getMessageConverter().convertInbound(sshResp, getEndpointConfiguration(), context)
@@ -170,39 +186,97 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         return this;
     }
 
-    private void connect(String rUser) {
-        if (session == null || !session.isConnected()) {
-            try {
-                if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
-                    jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
-                }
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+    /**
+     * Borrows SSH session for given remote user. Reuses idle connected sessions and opens a new session otherwise.
+     * Waits for a free session when the max number of sessions is in use.
+     * @param rUser
+     * @return
+     */
+    private Session borrowSession(String rUser) {
+        try {
+            if (!getSessionPermits().tryAcquire(getEndpointConfiguration().getTimeout(), TimeUnit.MILLISECONDS)) {
+                throw new CitrusRuntimeException("Timeout: No SSH session available within " + getEndpointConfiguration().getTimeout() + " ms");
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for SSH session", e);
+        }
 
-            try {
-                session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
-                if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
-                    session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
-                    session.setPassword(getEndpointConfiguration().getPassword());
+        try {
+            Deque<Session> sessions = idleSessions.computeIfAbsent(rUser, key -> new ConcurrentLinkedDeque<>());
+            Session session;
+            while ((session = sessions.poll()) != null) {
+                if (session.isConnected()) {
+                    return session;
                 }
-                session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
-                session.connect();
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
             }
+
+            return connect(rUser);
+        } catch (RuntimeException e) {
+            getSessionPermits().release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns SSH session to the pool of idle sessions. Sessions that are not reusable get disconnected.
+     * @param rUser
+     * @param session
+     * @param reusable
+     */
+    private void releaseSession(String rUser, Session session, boolean reusable) {
+        try {
+            Deque<Session> sessions = idleSessions.get(rUser);
+            if (reusable && session.isConnected() && sessions != null && sessions.size() < getEndpointConfiguration().getMaxSessions()) {
+                sessions.push(session);
+            } else {
+                disconnect(session);
+            }
+        } finally {
+            getSessionPermits().release();
+        }
+    }
+
+    private synchronized Semaphore getSessionPermits() {
+        if (sessionPermits == null) {
+            sessionPermits = new Semaphore(Math.max(1, getEndpointConfiguration().getMaxSessions()), true);
+        }
+
+        return sessionPermits;
+    }
+
+    private Session connect(String rUser) {
+        try {
+            if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
+                jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
+            }
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        }
+
+        try {
+            Session session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
+            if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
+                session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
+                session.setPassword(getEndpointConfiguration().getPassword());
+            }
+            session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
+            session.connect();
+            return session;
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
         }
     }
 
-    private void disconnect() {
+    private void disconnect(Session session) {
         if (session.isConnected()) {
             session.disconnect();
         }
     }
 
-    private ChannelExec openChannelExec() throws CitrusRuntimeException {
+    private ChannelExec openChannelExec(Session session) throws CitrusRuntimeException {
         ChannelExec channelExec;
         try {
             channelExec = (ChannelExec) session.openChannel("exec");
@@ -212,15 +286,20 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         return channelExec;
     }
 
-    private void waitCommandToFinish(ChannelExec pCh) {
-        final long until = System.currentTimeMillis() + getEndpointConfiguration().getCommandTimeout();
-
+    /**
+     * Waits for the channel to get closed by the server. JSch closes the channel output streams once the
+     * channel is closed so the streams notify the given latch instead of polling the channel state.
+     * @param pCh
+     * @param channelClosed
+     */
+    private void waitCommandToFinish(ChannelExec pCh, CountDownLatch channelClosed) {
         try {
-            while (!pCh.isClosed() && System.currentTimeMillis() < until) {
-                Thread.sleep(250);
+            if (!pCh.isClosed()) {
+                channelClosed.await(getEndpointConfiguration().getCommandTimeout(), TimeUnit.MILLISECONDS);
             }
         } catch (InterruptedException e) {
-            throw new RuntimeException("Interrupted", e);
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted", e);
         }
 
         if (!pCh.isClosed()) {
@@ -305,6 +384,42 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    @Override
+    public void destroy() {
+        idleSessions.values().forEach(sessions -> {
+            Session session;
+            while ((session = sessions.poll()) != null) {
+                disconnect(session);
+            }
+        });
+    }
+
+    // Output stream counting down the latch when closed by the channel
+    private static class ClosingNotifierOutputStream extends FilterOutputStream {
+        private final CountDownLatch closed;
+        private boolean notified = false;
+
+        ClosingNotifierOutputStream(OutputStream out, CountDownLatch closed) {
+            super(out);
+            this.closed = closed;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            super.close();
+
+            if (!notified) {
+                notified = true;
+                closed.countDown();
+            }
+        }
+    }
+
     // UserInfo which simply returns a plain password
     private static class UserInfoWithPlainPassword implements UserInfo {
         private String password;
@@ -134,6 +134,16 @@ public class SshClientBuilder extends AbstractEndpointBuilder<SshClient> {
         return this;
     }
 
+    /**
+     * Sets the maxSessions property.
+     * @param maxSessions
+     * @return
+     */
+    public SshClientBuilder maxSessions(int maxSessions) {
+        endpoint.getEndpointConfiguration().setMaxSessions(maxSessions);
+        return this;
+    }
+
     /**
      * Sets the message converter.
      * @param messageConverter
@@ -57,6 +57,9 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
      /** Timeout how long to wait for a connection to connect */
     private int connectionTimeout = 1000 * 60 * 1; // 1 minute
 
+     /** Max number of SSH sessions used in parallel */
+    private int maxSessions = 1;
+
     /** Reply message correlator */
     private MessageCorrelator correlator = new DefaultMessageCorrelator();
 
@@ -226,6 +229,22 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.connectionTimeout = connectionTimeout;
     }
 
+    /**
+     * Gets the max number of parallel sessions.
+     * @return
+     */
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    /**
+     * Sets the max number of parallel sessions.
+     * @param maxSessions
+     */
+    public void setMaxSessions(int maxSessions) {
+        this.maxSessions = maxSessions;
+    }
+
     /**
      * Gets the message correlator.
      * @return
@@ -92,6 +92,12 @@ public @interface SshClientConfig {
      */
     int connectionTimeout() default 1000 * 60 * 1;
 
+    /**
+     * MaxSessions.
+     * @return
+     */
+    int maxSessions() default 1;
+
     /**
      * Message converter.
      * @return
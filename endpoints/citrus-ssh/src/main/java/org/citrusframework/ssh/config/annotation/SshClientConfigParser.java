@@ -57,6 +57,7 @@ public class SshClientConfigParser implements AnnotationConfigParser<SshClientCo
 
         builder.commandTimeout(annotation.commandTimeout());
         builder.connectionTimeout(annotation.connectionTimeout());
+        builder.maxSessions(annotation.maxSessions());
 
         if (StringUtils.hasText(annotation.user())) {
             builder.user(annotation.user());
@@ -68,6 +68,12 @@ public @interface SshServerConfig {
      */
     String allowedKeyPath() default "";
 
+    /**
+     * Number of threads executing commands.
+     * @return
+     */
+    int commandThreads() default 10;
+
     /**
      * Message converter.
      * @return
@@ -57,6 +57,8 @@ public class SshServerConfigParser implements AnnotationConfigParser<SshServerCo
             builder.allowedKeyPath(annotation.allowedKeyPath());
         }
 
+        builder.commandThreads(annotation.commandThreads());
+
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(referenceResolver.resolve(annotation.messageConverter(), SshMessageConverter.class));
         }
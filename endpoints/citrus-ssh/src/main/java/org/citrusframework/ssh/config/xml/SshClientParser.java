@@ -46,6 +46,7 @@ public class SshClientParser extends AbstractEndpointParser {
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("known-hosts-path"), "knownHosts");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("command-timeout"), "commandTimeout");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("connection-timeout"), "connectionTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-sessions"), "maxSessions");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("user"), "user");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("password"), "password");
 
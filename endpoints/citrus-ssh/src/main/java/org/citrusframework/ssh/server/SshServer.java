@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.sshd.common.config.keys.KeyUtils;
 import org.apache.sshd.common.file.virtualfs.VirtualFileSystemFactory;
@@ -48,6 +49,7 @@ import org.citrusframework.ssh.message.SshMessageConverter;
 import org.citrusframework.ssh.model.SshMarshaller;
 import org.citrusframework.util.FileUtils;
 import org.citrusframework.util.StringUtils;
+import org.citrusframework.util.ThreadUtils;
 
 /**
  * SSH Server implemented with Apache SSHD (http://mina.apache.org/sshd/).
@@ -96,6 +98,12 @@ public class SshServer extends AbstractServer {
     /** User home directory path  **/
     private String userHomePath;
 
+    /** Number of threads executing commands **/
+    private int commandThreads = 10;
+
+    /** Executor running the commands **/
+    private ExecutorService commandExecutor;
+
     /** Ssh message converter **/
     private SshMessageConverter messageConverter = new SshMessageConverter();
 
@@ -180,8 +188,9 @@ public class SshServer extends AbstractServer {
         }
 
         // Setup endpoint adapter
+        commandExecutor = ThreadUtils.newBoundedThreadPool(Math.max(1, commandThreads), "citrus-ssh-command");
         ScpCommandFactory commandFactory = new ScpCommandFactory.Builder()
-                .withDelegate((session, command) -> new SshCommand(command, getEndpointAdapter(), endpointConfiguration))
+                .withDelegate((session, command) -> new SshCommand(command, getEndpointAdapter(), endpointConfiguration, commandExecutor))
                 .build();
 
         commandFactory.addEventListener(getScpTransferEventListener());
@@ -223,6 +232,10 @@ public class SshServer extends AbstractServer {
             sshd.stop();
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to stop SSH server - " + e.getMessage(), e);
+        } finally {
+            if (commandExecutor != null) {
+                commandExecutor.shutdownNow();
+            }
         }
     }
 
@@ -332,6 +345,22 @@ public class SshServer extends AbstractServer {
         this.userHomePath = userHomePath;
     }
 
+    /**
+     * Gets the number of threads executing commands.
+     * @return
+     */
+    public int getCommandThreads() {
+        return commandThreads;
+    }
+
+    /**
+     * Sets the number of threads executing commands. Values lower than 1 use a single thread.
+     * @param commandThreads
+     */
+    public void setCommandThreads(int commandThreads) {
+        this.commandThreads = commandThreads;
+    }
+
     /**
      * Gets the message converter.
      * @return
@@ -95,6 +95,16 @@ public class SshServerBuilder extends AbstractServerBuilder<SshServer, SshServer
         return this;
     }
 
+    /**
+     * Sets the number of threads executing commands.
+     * @param commandThreads
+     * @return
+     */
+    public SshServerBuilder commandThreads(int commandThreads) {
+        endpoint.setCommandThreads(commandThreads);
+        return this;
+    }
+
     /**
      * Sets the message converter.
      * @param messageConverter
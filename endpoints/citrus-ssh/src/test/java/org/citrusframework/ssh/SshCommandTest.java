@@ -40,6 +40,7 @@ import java.util.Map;
 
 import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.AssertJUnit.assertEquals;
 
@@ -101,6 +102,26 @@ public class SshCommandTest {
         cmd.start(session, env);
     }
 
+    @Test
+    public void startWithExecutor() throws IOException {
+        Environment env = Mockito.mock(Environment.class);
+        ChannelSession session = Mockito.mock(ChannelSession.class);
+        Map<String,String> map = new HashMap<>();
+        map.put(Environment.ENV_USER,"roland");
+        when(env.getEnv()).thenReturn(map);
+
+        cmd = new SshCommand(COMMAND, adapter, new SshEndpointConfiguration(), Runnable::run);
+        cmd.setErrorStream(stderr);
+        cmd.setOutputStream(stdout);
+        cmd.setExitCallback(exitCallback);
+
+        prepare("input","output",null,0);
+        cmd.start(session, env);
+
+        assertEquals(stdout.toByteArray(),"output".getBytes());
+        verify(exitCallback).onExit(0);
+    }
+
     @Test
     public void ioException() throws IOException {
         InputStream i = Mockito.mock(InputStream.class);
@@ -45,6 +45,8 @@ import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.isA;
 import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNull;
@@ -169,6 +171,16 @@ public class SshClientTest extends AbstractTestNGUnitTest {
         standardChannelPrepAndSend();
     }
 
+    @Test
+    public void reuseSession() throws JSchException, IOException {
+        strictHostChecking(false, null);
+        standardChannelPrepAndSend();
+        send();
+
+        verify(jsch, times(1)).getSession("roland", "planck", 1968);
+        verify(session, times(2)).openChannel("exec");
+    }
+
     private void send() {
         client.send(createMessage(COMMAND, STDIN), context);
     }
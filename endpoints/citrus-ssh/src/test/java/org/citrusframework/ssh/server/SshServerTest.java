@@ -104,6 +104,21 @@ public class SshServerTest {
         }
     }
 
+    @Test
+    public void startupWithInvalidCommandThreads() throws IOException {
+        prepareServer(true);
+        server.setCommandThreads(0);
+        server.start();
+
+        try {
+            assertTrue(server.isRunning());
+            new Socket("127.0.0.1", port); // throws exception if it can't connect
+        } finally {
+            server.stop();
+            assertFalse(server.isRunning());
+        }
+    }
+
     @Test
     public void wrongHostKey() throws IOException, GeneralSecurityException {
         prepareServer(true);
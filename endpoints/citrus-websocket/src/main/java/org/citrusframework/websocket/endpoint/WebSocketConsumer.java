@@ -16,16 +16,25 @@
 
 package org.citrusframework.websocket.endpoint;
 
+import java.util.Map;
+
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.MessageTimeoutException;
 import org.citrusframework.message.Message;
+import org.citrusframework.message.MessageSelector;
+import org.citrusframework.message.MessageSelectorBuilder;
+import org.citrusframework.message.selector.DelegatingMessageSelector;
+import org.citrusframework.message.selector.HeaderMatchingMessageSelector;
 import org.citrusframework.messaging.AbstractSelectiveMessageConsumer;
+import org.citrusframework.util.StringUtils;
+import org.citrusframework.websocket.handler.CitrusWebSocketHandler;
+import org.citrusframework.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.socket.WebSocketMessage;
 
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer receives incoming messages from the web socket handler. Waits on the handler inbound queue until
+ * a message accepted by the optional message selector arrives.
  * @author Martin Maher
  * @since 2.3
  */
@@ -54,8 +63,18 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     public Message receive(String selector, TestContext context, long timeout) {
         logger.info(String.format("Waiting %s ms for Web Socket message ...", timeout));
 
-        WebSocketMessage<?> message = receive(endpointConfiguration, timeout);
-        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
+        Message queued = endpointConfiguration.getHandler().receive(getMessageSelector(selector, context), timeout);
+        if (queued == null) {
+            throw new MessageTimeoutException(timeout, endpointConfiguration.getEndpointUri());
+        }
+
+        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(CitrusWebSocketHandler.getRawMessage(queued), endpointConfiguration, context);
+        for (Map.Entry<String, Object> header : queued.getHeaders().entrySet()) {
+            if (header.getKey().startsWith(WebSocketMessageHeaders.WEB_SOCKET_PREFIX)
+                    && !header.getKey().equals(CitrusWebSocketHandler.RAW_MESSAGE_HEADER)) {
+                receivedMessage.setHeader(header.getKey(), header.getValue());
+            }
+        }
 
         logger.info("Received Web Socket message");
         context.onInboundMessage(receivedMessage);
@@ -64,36 +83,25 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     }
 
     /**
-     * Receive web socket message by polling on web socket handler for incoming message.
-     * @param config
-     * @param timeout
+     * Creates message selector for the inbound message queue. Selectors on a single web socket header such as the
+     * session id use plain header matching so the message queue is able to look up messages by header value.
+     * @param selector
+     * @param context
      * @return
      */
-    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
-
-        WebSocketMessage<?> message = config.getHandler().getMessage();
-        String endpointUri = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (logger.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                logger.debug(String.format(msg, endpointUri, (sleep)));
-            }
+    private MessageSelector getMessageSelector(String selector, TestContext context) {
+        if (!StringUtils.hasText(selector)) {
+            return message -> true;
+        }
 
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                logger.warn(String.format("Thread interrupted while waiting for message on '%s'", endpointUri), e);
+        Map<String, String> selectorHeaders = MessageSelectorBuilder.withString(selector).toKeyValueMap();
+        if (selectorHeaders.size() == 1) {
+            Map.Entry<String, String> header = selectorHeaders.entrySet().iterator().next();
+            if (header.getKey().startsWith(WebSocketMessageHeaders.WEB_SOCKET_PREFIX)) {
+                return new HeaderMatchingMessageSelector(header.getKey(), header.getValue(), context);
             }
-
-            message = config.getHandler().getMessage();
         }
 
-        if (message == null) {
-            throw new MessageTimeoutException(timeout, endpointUri);
-        }
-        return message;
+        return new DelegatingMessageSelector(selector, context);
     }
 }
@@ -20,12 +20,14 @@ import org.citrusframework.context.TestContext;
 import org.citrusframework.message.Message;
 import org.citrusframework.messaging.Producer;
 import org.citrusframework.util.ObjectHelper;
+import org.citrusframework.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.WebSocketMessage;
 
 /**
- * Producer sends web socket messages to all open sessions known to the web socket handler.
+ * Producer sends web socket messages to all open sessions known to the web socket handler. Messages holding
+ * a session id header are sent to this session only.
  * @author Martin Maher
  * @since 2.3
  */
@@ -58,7 +60,16 @@ public class WebSocketProducer implements Producer {
         context.onOutboundMessage(message);
 
         WebSocketMessage wsMessage = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
-        if (endpointConfiguration.getHandler().sendMessage(wsMessage)) {
+
+        boolean sent;
+        Object sessionId = message.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID);
+        if (sessionId != null) {
+            sent = endpointConfiguration.getHandler().sendMessage(wsMessage, sessionId.toString());
+        } else {
+            sent = endpointConfiguration.getHandler().sendMessage(wsMessage);
+        }
+
+        if (sent) {
             logger.info("WebSocket Message was successfully sent");
         }
     }
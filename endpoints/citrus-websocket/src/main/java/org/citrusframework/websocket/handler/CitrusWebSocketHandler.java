@@ -16,19 +16,38 @@
 
 package org.citrusframework.websocket.handler;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.message.DefaultMessageQueue;
+import org.citrusframework.message.Message;
+import org.citrusframework.message.MessageQueue;
+import org.citrusframework.message.MessageSelector;
+import org.citrusframework.util.ThreadUtils;
+import org.citrusframework.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
-
 /**
- * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
+ * Web Socket Handler for handling incoming and sending outgoing Web Socket messages.
+ *
+ * Inbound messages are kept in a thread safe message queue. Each queued message holds the text or binary body as payload,
+ * so message selectors are able to evaluate the content. The raw web socket message and the id of the session that has
+ * received the message are added as headers. Consumers waiting for a message get
+ * notified as soon as a new message arrives. Selective receive on the session id header uses the message queue header
+ * index, so each session behaves like its own sub queue.
  *
  * @author Martin Maher
  * @since 2.3
@@ -37,11 +56,17 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
-    /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    /** Internal header of queued messages holding the raw web socket message */
+    public static final String RAW_MESSAGE_HEADER = "citrus_websocket_raw_message";
+
+    /** Inbound message queue */
+    private final MessageQueue inboundMessages = new DefaultMessageQueue("websocket.inbound");
 
     /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    /** Executor publishing messages to multiple sessions at the same time */
+    private ExecutorService broadcastExecutor;
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -52,19 +77,19 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         logger.debug(String.format("WebSocket endpoint (%s) received text message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session, message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         logger.debug(String.format("WebSocket endpoint (%s) received binary message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session, message);
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
         logger.debug(String.format("WebSocket endpoint (%s) received pong message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session, message);
     }
 
     @Override
@@ -78,35 +103,168 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         sessions.remove(session.getId());
     }
 
+    /**
+     * Adds inbound message to the queue. Session id and session attributes set by the handshake
+     * interceptor are added as message headers.
+     * @param session
+     * @param message
+     */
+    private void addInboundMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        Message queued = new DefaultMessage(getBody(message))
+                .setHeader(RAW_MESSAGE_HEADER, message)
+                .setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, session.getId())
+                .setHeader(WebSocketMessageHeaders.WEB_SOCKET_IS_LAST, message.isLast());
+
+        Map<String, Object> attributes = session.getAttributes();
+        if (attributes != null) {
+            for (String name : List.of(WebSocketMessageHeaders.WEB_SOCKET_ID, WebSocketMessageHeaders.WEB_SOCKET_PATH)) {
+                if (attributes.get(name) != null) {
+                    queued.setHeader(name, attributes.get(name));
+                }
+            }
+        }
+
+        inboundMessages.send(queued);
+    }
+
+    /**
+     * Gets the body of given web socket message. Text messages provide the text and binary messages
+     * a copy of the binary data, so the buffer of the raw message is left untouched.
+     * @param message
+     * @return
+     */
+    private static Object getBody(WebSocketMessage<?> message) {
+        if (message.getPayload() instanceof ByteBuffer buffer) {
+            ByteBuffer data = buffer.duplicate();
+            byte[] bytes = new byte[data.remaining()];
+            data.get(bytes);
+            return bytes;
+        }
+
+        return message.getPayload();
+    }
+
     /**
      * Polls message from internal cache.
      * @return
      */
     public WebSocketMessage<?> getMessage() {
-        return inboundMessages.poll();
+        Message queued = inboundMessages.receive();
+        return queued != null ? getRawMessage(queued) : null;
+    }
+
+    /**
+     * Gets the raw web socket message of given queued message.
+     * @param queued
+     * @return
+     */
+    public static WebSocketMessage<?> getRawMessage(Message queued) {
+        return (WebSocketMessage<?>) queued.getHeader(RAW_MESSAGE_HEADER);
+    }
+
+    /**
+     * Receives next inbound message accepted by the given selector. Waits for the message to arrive
+     * until the timeout is exceeded. The returned message holds the text or binary body as payload,
+     * the raw web socket message and the session headers.
+     * @param selector
+     * @param timeout
+     * @return the queued message or null when no matching message arrived within the timeout.
+     */
+    public Message receive(MessageSelector selector, long timeout) {
+        if (timeout <= 0) {
+            return inboundMessages.receive(selector);
+        }
+
+        return inboundMessages.receive(selector, timeout);
     }
 
     /**
-     * Publish message to all sessions known to this handler.
+     * Publish message to all sessions known to this handler. Multiple sessions are served concurrently.
      * @param message
      * @return
      */
     public boolean sendMessage(WebSocketMessage<?> message) {
-        boolean sentSuccessfully = false;
         if (sessions.isEmpty()) {
             logger.warn("No Web Socket session exists - message cannot be sent");
+            return false;
         }
 
-        for (WebSocketSession session : sessions.values()) {
-            if (session != null && session.isOpen()) {
-                try {
-                    session.sendMessage(message);
-                    sentSuccessfully = true;
-                } catch (IOException e) {
-                    logger.error(String.format("(%s) error sending message", session.getId()), e);
-                }
+        List<WebSocketSession> openSessions = sessions.values().stream()
+                .filter(WebSocketSession::isOpen)
+                .toList();
+
+        if (openSessions.isEmpty()) {
+            return false;
+        }
+
+        if (openSessions.size() == 1) {
+            return send(openSessions.get(0), message);
+        }
+
+        List<Callable<Boolean>> tasks = new ArrayList<>(openSessions.size());
+        for (WebSocketSession session : openSessions) {
+            tasks.add(() -> send(session, message));
+        }
+
+        boolean sentSuccessfully = false;
+        try {
+            for (Future<Boolean> result : getBroadcastExecutor().invokeAll(tasks)) {
+                sentSuccessfully |= result.get();
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while sending Web Socket message", e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to send Web Socket message", e.getCause());
         }
+
         return sentSuccessfully;
     }
+
+    /**
+     * Publish message to the session with given id.
+     * @param message
+     * @param sessionId
+     * @return
+     */
+    public boolean sendMessage(WebSocketMessage<?> message, String sessionId) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null || !session.isOpen()) {
+            logger.warn(String.format("No open Web Socket session (%s) - message cannot be sent", sessionId));
+            return false;
+        }
+
+        return send(session, message);
+    }
+
+    /**
+     * Sends message to the session. Web socket sessions do not support concurrent sending
+     * so access to the session is synchronized.
+     * @param session
+     * @param message
+     * @return
+     */
+    private boolean send(WebSocketSession session, WebSocketMessage<?> message) {
+        try {
+            synchronized (session) {
+                session.sendMessage(message);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.error(String.format("(%s) error sending message", session.getId()), e);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the executor for publishing messages to multiple sessions.
+     * @return
+     */
+    private synchronized ExecutorService getBroadcastExecutor() {
+        if (broadcastExecutor == null) {
+            broadcastExecutor = ThreadUtils.newVirtualThreadPerTaskExecutor("citrus-websocket-broadcast");
+        }
+
+        return broadcastExecutor;
+    }
 }
@@ -37,4 +37,5 @@ public class WebSocketMessageHeaders {
     public static final String WEB_SOCKET_ID = WEB_SOCKET_PREFIX + "id";
     public static final String WEB_SOCKET_PATH = WEB_SOCKET_PREFIX + "path";
     public static final String WEB_SOCKET_IS_LAST = WEB_SOCKET_PREFIX + "is_last";
+    public static final String WEB_SOCKET_SESSION_ID = WEB_SOCKET_PREFIX + "session_id";
 }
@@ -16,12 +16,16 @@
 
 package org.citrusframework.websocket.endpoint;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.citrusframework.exceptions.ActionTimeoutException;
 import org.citrusframework.message.DefaultMessage;
 import org.citrusframework.message.Message;
+import org.citrusframework.messaging.SelectiveConsumer;
 import org.citrusframework.testng.AbstractTestNGUnitTest;
 import org.citrusframework.websocket.handler.CitrusWebSocketHandler;
 import org.citrusframework.websocket.message.WebSocketMessage;
+import org.citrusframework.websocket.message.WebSocketMessageHeaders;
 import org.citrusframework.websocket.server.WebSocketServerEndpointConfiguration;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -166,4 +170,91 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
         }
 
     }
+
+    @Test
+    public void testWebSocketEndpointSessionSelector() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session, session2);
+
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+        when(session.isOpen()).thenReturn(true);
+        when(session2.isOpen()).thenReturn(true);
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+
+        handler.handleMessage(session, new TextMessage("Hello from socket 1"));
+        handler.handleMessage(session2, new TextMessage("Hello from socket 2"));
+
+        SelectiveConsumer consumer = (SelectiveConsumer) webSocketEndpoint.createConsumer();
+        Message requestMessage = consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context, 1000L);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello from socket 2");
+        Assert.assertEquals(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-2");
+
+        webSocketEndpoint.createProducer().send(new DefaultMessage("Hello socket 2")
+                .setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, "test-socket-2"), context);
+
+        verify(session2).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+        verify(session, never()).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+
+        requestMessage = webSocketEndpoint.createConsumer().receive(context);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello from socket 1");
+        Assert.assertEquals(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-1");
+    }
+
+    @Test
+    public void testWebSocketEndpointPayloadSelector() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+
+        handler.handleMessage(session, new TextMessage("Hello World!"));
+        handler.handleMessage(session, new TextMessage("Hello Citrus!"));
+
+        SelectiveConsumer consumer = (SelectiveConsumer) webSocketEndpoint.createConsumer();
+        Message requestMessage = consumer.receive("payload = 'Hello Citrus!'", context, 1000L);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello Citrus!");
+        Assert.assertNull(requestMessage.getHeader(CitrusWebSocketHandler.RAW_MESSAGE_HEADER));
+
+        requestMessage = webSocketEndpoint.createConsumer().receive(context);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello World!");
+    }
+
+    @Test
+    public void testWebSocketEndpointNotifiesWaitingConsumer() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                Thread.sleep(100L);
+                handler.handleMessage(session, new TextMessage("Hello World!"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Message requestMessage = webSocketEndpoint.createConsumer().receive(context, 5000L);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello World!");
+    }
 }
@@ -17,9 +17,7 @@
 package org.citrusframework.ws.client;
 
 import java.io.IOException;
-import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 
 import org.citrusframework.context.TestContext;
 import org.citrusframework.endpoint.AbstractEndpoint;
@@ -38,7 +36,7 @@ import org.citrusframework.ws.interceptor.LoggingClientInterceptor;
 import org.citrusframework.ws.message.SoapMessage;
 import org.citrusframework.ws.message.callback.SoapRequestMessageCallback;
 import org.citrusframework.ws.message.callback.SoapResponseMessageCallback;
-import org.citrusframework.xml.StringResult;
+import org.citrusframework.xml.TransformerPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ws.WebServiceMessage;
@@ -238,13 +236,8 @@ public class WebServiceClient extends AbstractEndpoint implements Producer, Repl
                     Message responseMessage = callback.getResponse();
 
                     if (webServiceResponse instanceof org.springframework.ws.soap.SoapMessage) {
-                        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                        Transformer transformer = transformerFactory.newTransformer();
-
-                        StringResult faultPayload = new StringResult();
-                        transformer.transform(((org.springframework.ws.soap.SoapMessage)webServiceResponse).getSoapBody().getFault().getSource(), faultPayload);
-
-                        responseMessage.setPayload(faultPayload.toString());
+                        responseMessage.setPayload(TransformerPool.getDefault()
+                                .toString(((org.springframework.ws.soap.SoapMessage)webServiceResponse).getSoapBody().getFault().getSource()));
                     }
 
                     logger.info("Received SOAP fault response on endpoint: '" + endpointUri + "'");
@@ -72,6 +72,16 @@ public class WebServiceClientBuilder extends AbstractEndpointBuilder<WebServiceC
         return this;
     }
 
+    /**
+     * Sets the spoolAttachments property.
+     * @param flag
+     * @return
+     */
+    public WebServiceClientBuilder spoolAttachments(boolean flag) {
+        endpoint.getEndpointConfiguration().setSpoolAttachments(flag);
+        return this;
+    }
+
     /**
      * Sets the web service template.
      * @param webServiceTemplate
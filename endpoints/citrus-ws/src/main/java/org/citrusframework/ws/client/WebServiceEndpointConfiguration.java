@@ -78,6 +78,9 @@ public class WebServiceEndpointConfiguration extends AbstractPollableEndpointCon
     /** Should keep soap envelope when creating internal message */
     private boolean keepSoapEnvelope = false;
 
+    /** Should spool inbound attachments to temporary files instead of reading them into memory */
+    private boolean spoolAttachments = false;
+
     /**
      * Default constructor initializes with default logging interceptor.
      */
@@ -300,6 +303,23 @@ public class WebServiceEndpointConfiguration extends AbstractPollableEndpointCon
         this.keepSoapEnvelope = keepSoapEnvelope;
     }
 
+    /**
+     * Gets the spool attachments flag.
+     * @return
+     */
+    public boolean isSpoolAttachments() {
+        return spoolAttachments;
+    }
+
+    /**
+     * Sets the spool attachments flag. When enabled inbound attachment content is
+     * written to temporary files instead of being read into memory.
+     * @param spoolAttachments
+     */
+    public void setSpoolAttachments(boolean spoolAttachments) {
+        this.spoolAttachments = spoolAttachments;
+    }
+
     /**
      * Gets the handleAttributeHeaders.
      *
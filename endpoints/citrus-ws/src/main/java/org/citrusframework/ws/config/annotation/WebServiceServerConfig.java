@@ -174,4 +174,10 @@ public @interface WebServiceServerConfig {
      * @return
      */
     boolean keepSoapEnvelope() default false;
+
+    /**
+     * Spool attachments to temporary files.
+     * @return
+     */
+    boolean spoolAttachments() default false;
 }
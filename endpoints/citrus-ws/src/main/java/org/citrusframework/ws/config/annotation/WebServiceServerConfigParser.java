@@ -43,6 +43,7 @@ public class WebServiceServerConfigParser implements AnnotationConfigParser<WebS
         builder.handleMimeHeaders(annotation.handleMimeHeaders());
         builder.handleAttributeHeaders(annotation.handleAttributeHeaders());
         builder.keepSoapEnvelope(annotation.keepSoapEnvelope());
+        builder.spoolAttachments(annotation.spoolAttachments());
 
         if (hasText(annotation.soapHeaderNamespace())) {
             builder.soapHeaderNamespace(annotation.soapHeaderNamespace());
@@ -19,10 +19,15 @@ package org.citrusframework.ws.message;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.lang.ref.Cleaner;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 import jakarta.activation.DataHandler;
 import jakarta.activation.DataSource;
@@ -35,6 +40,8 @@ import org.citrusframework.spi.Resource;
 import org.citrusframework.spi.Resources;
 import org.citrusframework.util.FileUtils;
 import org.citrusframework.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.ws.mime.Attachment;
 
@@ -51,6 +58,15 @@ public class SoapAttachment implements Attachment, Serializable {
     public static final String ENCODING_BASE64_BINARY = "base64Binary";
     public static final String ENCODING_HEX_BINARY = "hexBinary";
 
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(SoapAttachment.class);
+
+    /** Prefix of temporary files holding spooled attachment content */
+    private static final String SPOOL_FILE_PREFIX = "citrus-soap-attachment-";
+
+    /** Removes spool files of attachments that are no longer in use */
+    private static final Cleaner CLEANER = Cleaner.create();
+
     /** Content body as string */
     private String content = null;
 
@@ -78,6 +94,12 @@ public class SoapAttachment implements Attachment, Serializable {
     /** Test context for variable resolving */
     private TestContext context;
 
+    /** Content has been spooled to a temporary file */
+    private boolean spooled = false;
+
+    /** Temporary file holding the spooled content, shared with copies of this attachment */
+    private transient SpoolFile spoolFile;
+
     /**
      * Default constructor
      */
@@ -90,14 +112,16 @@ public class SoapAttachment implements Attachment, Serializable {
      * @return
      */
     public static SoapAttachment from(Attachment attachment) {
-        SoapAttachment soapAttachment = new SoapAttachment();
-
-        String contentId = attachment.getContentId();
-        if (contentId.startsWith("<") && contentId.endsWith(">")) {
-            contentId = contentId.substring(1, contentId.length() - 1);
+        SoapAttachment soapAttachment = createFrom(attachment);
+
+        if (attachment instanceof SoapAttachment spooled && spooled.isSpooled()) {
+            // keep content in spooled file
+            soapAttachment.setContentResourcePath(spooled.getContentResourcePath());
+            soapAttachment.setCharsetName(spooled.getCharsetName());
+            soapAttachment.spooled = true;
+            soapAttachment.spoolFile = spooled.spoolFile;
+            return soapAttachment;
         }
-        soapAttachment.setContentId(contentId);
-        soapAttachment.setContentType(attachment.getContentType());
 
         if (attachment.getContentType().startsWith("text/") || attachment.getContentType().equals(MediaType.APPLICATION_XML_VALUE)) {
             try {
@@ -115,6 +139,53 @@ public class SoapAttachment implements Attachment, Serializable {
         return soapAttachment;
     }
 
+    /**
+     * Static construction method from Spring mime attachment. Spools the attachment content to a temporary file
+     * so the content is never held in memory as a whole. The attachment content is read from the temporary file on demand.
+     * The temporary file gets deleted on {@link #release()} or once the attachment and all of its copies are no longer in use.
+     * @param attachment
+     * @return
+     */
+    public static SoapAttachment spool(Attachment attachment) {
+        SoapAttachment soapAttachment = createFrom(attachment);
+
+        try (InputStream in = attachment.getInputStream()) {
+            Path spoolFile = Files.createTempFile(SPOOL_FILE_PREFIX, ".tmp");
+            // fallback in case the attachment is still in use when the JVM exits
+            spoolFile.toFile().deleteOnExit();
+            soapAttachment.spoolFile = new SpoolFile(spoolFile);
+
+            Files.copy(in, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+            soapAttachment.setContentResourcePath(Resources.FILESYSTEM_RESOURCE_PREFIX + spoolFile.toAbsolutePath());
+            soapAttachment.spooled = true;
+        } catch (IOException e) {
+            soapAttachment.release();
+            throw new CitrusRuntimeException("Failed to spool SOAP attachment content", e);
+        }
+
+        soapAttachment.setCharsetName(CitrusSettings.CITRUS_FILE_ENCODING);
+
+        return soapAttachment;
+    }
+
+    /**
+     * Creates new SOAP attachment with content id and content type of given Spring mime attachment.
+     * @param attachment
+     * @return
+     */
+    private static SoapAttachment createFrom(Attachment attachment) {
+        SoapAttachment soapAttachment = new SoapAttachment();
+
+        String contentId = attachment.getContentId();
+        if (contentId.startsWith("<") && contentId.endsWith(">")) {
+            contentId = contentId.substring(1, contentId.length() - 1);
+        }
+        soapAttachment.setContentId(contentId);
+        soapAttachment.setContentType(attachment.getContentType());
+
+        return soapAttachment;
+    }
+
     /**
      * Constructor using fields.
      * @param content
@@ -198,8 +269,15 @@ public class SoapAttachment implements Attachment, Serializable {
         try {
             if (content != null) {
                 return getContent().getBytes(charsetName).length;
-            } else {
-                return getSizeOfContent(getDataHandler().getInputStream());
+            } else if (StringUtils.hasText(getContentResourcePath())) {
+                Resource resource = Resources.create(getContentResourcePath());
+                if (resource instanceof Resources.FileSystemResource && resource.exists()) {
+                    return resource.getFile().length();
+                }
+            }
+
+            try (InputStream in = getDataHandler().getInputStream()) {
+                return getSizeOfContent(in);
             }
         } catch (IOException e) {
             throw new CitrusRuntimeException(e);
@@ -208,6 +286,11 @@ public class SoapAttachment implements Attachment, Serializable {
 
     @Override
     public String toString() {
+        if (content == null && StringUtils.hasText(getContentResourcePath())) {
+            // do not load file content that may be large
+            return String.format("%s [contentId: %s, contentType: %s, contentResourcePath: %s]", getClass().getSimpleName().toUpperCase(), getContentId(), getContentType(), getContentResourcePath());
+        }
+
         return String.format("%s [contentId: %s, contentType: %s, content: %s]", getClass().getSimpleName().toUpperCase(), getContentId(), getContentType(), getContent());
     }
 
@@ -339,6 +422,38 @@ public class SoapAttachment implements Attachment, Serializable {
         this.encodingType = encodingType;
     }
 
+    /**
+     * Gets the spooled state. Spooled attachments hold the received content in a temporary file.
+     * @return
+     */
+    public boolean isSpooled() {
+        return spooled;
+    }
+
+    /**
+     * Releases the spooled content by deleting the temporary file. Copies of this attachment share the temporary file,
+     * so the content must not be accessed via any of these attachments afterwards. Does nothing when the content has not been spooled.
+     */
+    public void release() {
+        if (spoolFile != null) {
+            spoolFile.release();
+        }
+    }
+
+    /**
+     * Serialized attachments refer to the spool file by its path, so the file must outlive this instance.
+     * The file is then deleted on explicit release or when the JVM exits.
+     * @param out
+     * @throws IOException
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        if (spoolFile != null) {
+            spoolFile.retain();
+        }
+
+        out.defaultWriteObject();
+    }
+
     /**
      * Sets the test context this attachment is bound to. Variable resolving takes place with this context instance.
      * @param context Test context used to resolve dynamic content
@@ -353,8 +468,10 @@ public class SoapAttachment implements Attachment, Serializable {
      */
     private static long getSizeOfContent(InputStream is) throws IOException {
         long size = 0;
-        while (is.read() != -1) {
-            size++;
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            size += read;
         }
         return size;
     }
@@ -413,4 +530,52 @@ public class SoapAttachment implements Attachment, Serializable {
             return Resources.create(SoapAttachment.this.getContentResourcePath());
         }
     }
+
+    /**
+     * Temporary file holding spooled attachment content. Deletes the file on release or once this instance
+     * is no longer referenced by any attachment.
+     */
+    private static final class SpoolFile {
+        private final SpoolFileCleanup cleanup;
+        private final Cleaner.Cleanable cleanable;
+
+        SpoolFile(Path path) {
+            this.cleanup = new SpoolFileCleanup(path);
+            this.cleanable = CLEANER.register(this, cleanup);
+        }
+
+        void retain() {
+            cleanup.retained = true;
+        }
+
+        void release() {
+            cleanup.retained = false;
+            cleanable.clean();
+        }
+    }
+
+    /**
+     * Cleanup action deleting the spool file unless the file has been retained for serialized attachments.
+     */
+    private static final class SpoolFileCleanup implements Runnable {
+        private final Path path;
+        private volatile boolean retained;
+
+        SpoolFileCleanup(Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public void run() {
+            if (retained) {
+                return;
+            }
+
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                logger.debug("Failed to delete SOAP attachment spool file: " + path, e);
+            }
+        }
+    }
 }
@@ -21,15 +21,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import javax.xml.namespace.QName;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.message.Message;
 import org.citrusframework.util.StringUtils;
-import org.citrusframework.xml.StringResult;
+import org.citrusframework.xml.TransformerPool;
 import org.springframework.beans.propertyeditors.LocaleEditor;
 import org.springframework.ws.soap.SoapFaultDetailElement;
 import org.springframework.xml.namespace.QNameEditor;
@@ -231,20 +228,11 @@ public class SoapFault extends SoapMessage {
      * @return
      */
     private static String extractFaultDetail(SoapFaultDetailElement detail) {
-        StringResult detailResult = new StringResult();
-
         try {
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-
-            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-
-            transformer.transform(detail.getSource(), detailResult);
+            return TransformerPool.getDefault().toString(detail.getSource(), true);
         } catch (TransformerException e) {
             throw new CitrusRuntimeException(e);
         }
-
-        return detailResult.toString();
     }
 
     /**
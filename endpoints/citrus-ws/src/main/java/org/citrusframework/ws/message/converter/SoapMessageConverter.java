@@ -25,11 +25,8 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import javax.xml.namespace.QName;
-import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -46,8 +43,8 @@ import org.citrusframework.ws.client.WebServiceEndpointConfiguration;
 import org.citrusframework.ws.message.SoapAttachment;
 import org.citrusframework.ws.message.SoapMessage;
 import org.citrusframework.ws.message.SoapMessageHeaders;
-import org.citrusframework.xml.StringResult;
 import org.citrusframework.xml.StringSource;
+import org.citrusframework.xml.TransformerPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.util.UrlPathHelper;
@@ -80,6 +77,9 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
     /** Default payload source encoding */
     private String charset = CitrusSettings.CITRUS_FILE_ENCODING;
 
+    /** Reusable transformers copying payload and header sources */
+    private TransformerPool transformerPool = TransformerPool.getDefault();
+
     @Override
     public WebServiceMessage convertOutbound(final Message internalMessage,
                                              final WebServiceEndpointConfiguration endpointConfiguration,
@@ -98,10 +98,9 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
 
         final SoapMessage soapMessage = convertMessageToSoapMessage(message);
 
-        final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        copySoapPayload(soapRequest, soapMessage, transformerFactory);
+        copySoapPayload(soapRequest, soapMessage);
         copySoapHeaders(endpointConfiguration, soapRequest, soapMessage);
-        copySoapHeaderData(soapRequest, soapMessage, transformerFactory);
+        copySoapHeaderData(soapRequest, soapMessage);
 
         if (soapMessage.isMtomEnabled() && soapMessage.getAttachments().size() > 0) {
             logger.debug("Converting SOAP request to XOP package");
@@ -130,13 +129,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
                 webServiceMessage.writeTo(bos);
                 payload = bos.toString(charset);
             } else if (webServiceMessage.getPayloadSource() != null) {
-                final StringResult payloadResult = new StringResult();
-
-                final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                final Transformer transformer = transformerFactory.newTransformer();
-                transformer.transform(webServiceMessage.getPayloadSource(), payloadResult);
-
-                payload = payloadResult.toString();
+                payload = transformerPool.toString(webServiceMessage.getPayloadSource());
             }
 
             final SoapMessage message = new SoapMessage(payload);
@@ -169,7 +162,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
                                             final WebServiceEndpointConfiguration endpointConfiguration) {
         handleInboundNamespaces(soapMessage, message);
         handleInboundSoapHeaders(soapMessage, message);
-        handleInboundAttachments(soapMessage, message);
+        handleInboundAttachments(soapMessage, message, endpointConfiguration.isSpoolAttachments());
 
         if (endpointConfiguration.isHandleMimeHeaders()) {
             handleInboundMimeHeaders(soapMessage, message);
@@ -276,12 +269,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
                 }
 
                 if (soapHeader.getSource() != null) {
-                    final StringResult headerData = new StringResult();
-                    final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                    final Transformer transformer = transformerFactory.newTransformer();
-                    transformer.transform(soapHeader.getSource(), headerData);
-
-                    message.addHeaderData(headerData.toString());
+                    message.addHeaderData(transformerPool.toString(soapHeader.getSource()));
                 }
             }
 
@@ -395,11 +383,25 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
      */
     protected void handleInboundAttachments(final org.springframework.ws.soap.SoapMessage soapMessage,
                                             final SoapMessage message) {
+        handleInboundAttachments(soapMessage, message, false);
+    }
+
+    /**
+     * Adds attachments if present in soap web service message. Spooled attachments write their content to
+     * temporary files instead of reading the content into memory.
+     *
+     * @param soapMessage the web service message.
+     * @param message the response message builder.
+     * @param spoolAttachments spool attachment content to temporary files.
+     */
+    protected void handleInboundAttachments(final org.springframework.ws.soap.SoapMessage soapMessage,
+                                            final SoapMessage message,
+                                            final boolean spoolAttachments) {
         final Iterator<Attachment> attachments = soapMessage.getAttachments();
 
         while (attachments.hasNext()) {
             final Attachment attachment = attachments.next();
-            final SoapAttachment soapAttachment = SoapAttachment.from(attachment);
+            final SoapAttachment soapAttachment = spoolAttachments ? SoapAttachment.spool(attachment) : SoapAttachment.from(attachment);
 
             if (logger.isDebugEnabled()) {
                 logger.debug(String.format("SOAP message contains attachment with contentId '%s'", soapAttachment.getContentId()));
@@ -448,31 +450,50 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
     }
 
     private void copySoapHeaderData(final org.springframework.ws.soap.SoapMessage soapRequest,
-                                    final SoapMessage soapMessage,
-                                    final TransformerFactory transformerFactory) {
+                                    final SoapMessage soapMessage) {
         for (final String headerData : soapMessage.getHeaderData()) {
             try {
-                final Transformer transformer = transformerFactory.newTransformer();
-                transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-                transformer.transform(new StringSource(headerData),
-                        soapRequest.getSoapHeader().getResult());
+                transformerPool.transform(new StringSource(headerData),
+                        soapRequest.getSoapHeader().getResult(), true);
             } catch (final TransformerException e) {
                 throw new CitrusRuntimeException("Failed to write SOAP header content", e);
             }
         }
     }
 
-    private void copySoapPayload(final org.springframework.ws.soap.SoapMessage soapRequest, final SoapMessage soapMessage, final TransformerFactory transformerFactory) {
-        final String payload = soapMessage.getPayload(String.class);
-        if (StringUtils.hasText(payload)) {
+    private void copySoapPayload(final org.springframework.ws.soap.SoapMessage soapRequest, final SoapMessage soapMessage) {
+        final Source payloadSource = getPayloadSource(soapMessage);
+        if (payloadSource != null) {
             try {
-                final Transformer transformer = transformerFactory.newTransformer();
-                transformer.transform(new StringSource(payload), soapRequest.getSoapBody().getPayloadResult());
+                transformerPool.transform(payloadSource, soapRequest.getSoapBody().getPayloadResult());
             } catch (final TransformerException e) {
                 throw new CitrusRuntimeException("Failed to write SOAP body payload", e);
             }
         }
     }
+
+    /**
+     * Gets the message payload as source. DOM payloads are copied straight into the SOAP body without
+     * serializing them to a string and parsing them again.
+     * @param soapMessage
+     * @return the payload source or null if the message has no payload.
+     */
+    private Source getPayloadSource(final SoapMessage soapMessage) {
+        final Object payload = soapMessage.getPayload();
+        if (payload instanceof DOMSource) {
+            return (DOMSource) payload;
+        } else if (payload instanceof Node) {
+            return new DOMSource((Node) payload);
+        }
+
+        final String payloadString = soapMessage.getPayload(String.class);
+        if (StringUtils.hasText(payloadString)) {
+            return new StringSource(payloadString);
+        }
+
+        return null;
+    }
+
     private void copySoapAttachments(final TestContext context,
                                      final org.springframework.ws.soap.SoapMessage soapRequest,
                                      final SoapMessage soapMessage) {
@@ -497,4 +518,12 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
     public void setCharset(final String charset) {
         this.charset = charset;
     }
+
+    public TransformerPool getTransformerPool() {
+        return transformerPool;
+    }
+
+    public void setTransformerPool(final TransformerPool transformerPool) {
+        this.transformerPool = transformerPool;
+    }
 }
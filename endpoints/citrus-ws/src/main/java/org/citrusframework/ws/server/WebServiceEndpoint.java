@@ -27,6 +27,7 @@ import org.citrusframework.ws.message.SoapAttachment;
 import org.citrusframework.ws.message.SoapFault;
 import org.citrusframework.ws.message.SoapMessageHeaders;
 import org.citrusframework.xml.StringSource;
+import org.citrusframework.xml.TransformerPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -50,11 +51,8 @@ import org.springframework.xml.namespace.QNameUtils;
 import org.w3c.dom.Document;
 
 import javax.xml.namespace.QName;
-import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import java.io.IOException;
 import java.util.List;
@@ -248,11 +246,7 @@ public class WebServiceEndpoint implements MessageEndpoint {
     private void addSoapBody(SoapMessage response, Message replyMessage) throws TransformerException {
         if (!(replyMessage.getPayload() instanceof String) || hasText(replyMessage.getPayload(String.class))) {
             Source responseSource = getPayloadAsSource(replyMessage.getPayload());
-
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-
-            transformer.transform(responseSource, response.getPayloadResult());
+            TransformerPool.getDefault().transform(responseSource, response.getPayloadResult());
         }
     }
 
@@ -289,10 +283,7 @@ public class WebServiceEndpoint implements MessageEndpoint {
         }
 
         for (String headerData : replyMessage.getHeaderData()) {
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-
-            transformer.transform(new StringSource(headerData), response.getSoapHeader().getResult());
+            TransformerPool.getDefault().transform(new StringSource(headerData), response.getSoapHeader().getResult());
         }
     }
 
@@ -336,14 +327,9 @@ public class WebServiceEndpoint implements MessageEndpoint {
 
         List<String> soapFaultDetails = replyMessage.getFaultDetails();
         if (!soapFaultDetails.isEmpty()) {
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
-
-            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-
             SoapFaultDetail faultDetail = soapFault.addFaultDetail();
             for (String soapFaultDetail : soapFaultDetails) {
-                transformer.transform(new StringSource(soapFaultDetail), faultDetail.getResult());
+                TransformerPool.getDefault().transform(new StringSource(soapFaultDetail), faultDetail.getResult(), true);
             }
         }
     }
@@ -131,6 +131,11 @@ public class WebServiceServer extends AbstractServer {
      */
     private boolean keepSoapEnvelope = false;
 
+    /**
+     * Should spool inbound attachments to temporary files instead of reading them into memory
+     */
+    private boolean spoolAttachments = false;
+
     /**
      * Message converter implementation
      */
@@ -517,6 +522,24 @@ public class WebServiceServer extends AbstractServer {
         this.keepSoapEnvelope = keepSoapEnvelope;
     }
 
+    /**
+     * Gets the spool attachments flag.
+     *
+     * @return
+     */
+    public boolean isSpoolAttachments() {
+        return spoolAttachments;
+    }
+
+    /**
+     * Sets the spool attachments flag.
+     *
+     * @param spoolAttachments
+     */
+    public void setSpoolAttachments(boolean spoolAttachments) {
+        this.spoolAttachments = spoolAttachments;
+    }
+
     /**
      * Gets the default soap header namespace.
      *
@@ -224,6 +224,17 @@ public class WebServiceServerBuilder extends AbstractServerBuilder<WebServiceSer
         return this;
     }
 
+    /**
+     * Sets the spoolAttachments property.
+     *
+     * @param flag
+     * @return
+     */
+    public WebServiceServerBuilder spoolAttachments(boolean flag) {
+        endpoint.setSpoolAttachments(flag);
+        return this;
+    }
+
     /**
      * Sets the handleMimeHeaders property.
      *
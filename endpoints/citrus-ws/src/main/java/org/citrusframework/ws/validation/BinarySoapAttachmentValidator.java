@@ -17,6 +17,7 @@
 package org.citrusframework.ws.validation;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
 
 import org.apache.commons.io.IOUtils;
@@ -43,8 +44,9 @@ public class BinarySoapAttachmentValidator extends AbstractSoapAttachmentValidat
             logger.debug("Validating binary SOAP attachment content ...");
         }
 
-        try {
-            if (!IOUtils.contentEquals(receivedAttachment.getInputStream(), controlAttachment.getInputStream())) {
+        try (InputStream received = receivedAttachment.getInputStream();
+             InputStream control = controlAttachment.getInputStream()) {
+            if (!IOUtils.contentEquals(received, control)) {
                 throw new ValidationException("Values not equal for binary attachment content '"
                             + Optional.ofNullable(controlAttachment.getContentId()).orElse(Optional.ofNullable(receivedAttachment.getContentId()).orElse("unknown")) + "'");
             }
@@ -23,6 +23,7 @@ import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import jakarta.activation.DataHandler;
@@ -118,6 +119,72 @@ public class SoapAttachmentTest {
         Assert.assertEquals(soapAttachment.getSize(), resourceContent.length);
     }
 
+    @Test
+    public void testSpoolAttachment() throws Exception {
+        reset(attachment);
+
+        when(attachment.getContentId()).thenReturn("<mail>");
+        when(attachment.getContentType()).thenReturn("text/plain");
+        when(attachment.getInputStream()).thenReturn(new StaticTextDataSource("This is mail text content!", "text/plain", "UTF-8", "mail").getInputStream());
+
+        SoapAttachment soapAttachment = SoapAttachment.spool(attachment);
+
+        Assert.assertTrue(soapAttachment.isSpooled());
+        Assert.assertEquals(soapAttachment.getContentId(), "mail");
+        Assert.assertEquals(soapAttachment.getContentType(), "text/plain");
+        Assert.assertTrue(soapAttachment.getContentResourcePath().startsWith("file:"));
+        Assert.assertEquals(soapAttachment.getSize(), 26L);
+        Assert.assertEquals(soapAttachment.getContent(), "This is mail text content!");
+        Assert.assertTrue(soapAttachment.toString().contains("contentResourcePath"));
+
+        SoapAttachment copy = SoapAttachment.from(soapAttachment);
+        Assert.assertTrue(copy.isSpooled());
+        Assert.assertEquals(copy.getContentResourcePath(), soapAttachment.getContentResourcePath());
+    }
+
+    @Test
+    public void testSpoolBinaryAttachment() throws Exception {
+        reset(attachment);
+
+        byte[] binaryData = new byte[100000];
+        for (int i = 0; i < binaryData.length; i++) {
+            binaryData[i] = (byte) i;
+        }
+
+        when(attachment.getContentId()).thenReturn("img");
+        when(attachment.getContentType()).thenReturn("application/octet-stream");
+        when(attachment.getInputStream()).thenReturn(new ByteArrayInputStream(binaryData));
+
+        SoapAttachment soapAttachment = SoapAttachment.spool(attachment);
+
+        Assert.assertEquals(soapAttachment.getSize(), binaryData.length);
+        try (InputStream in = soapAttachment.getInputStream()) {
+            Assert.assertEquals(in.readAllBytes(), binaryData);
+        }
+    }
+
+    @Test
+    public void testReleaseSpooledAttachment() throws Exception {
+        reset(attachment);
+
+        when(attachment.getContentId()).thenReturn("mail");
+        when(attachment.getContentType()).thenReturn("text/plain");
+        when(attachment.getInputStream()).thenReturn(new ByteArrayInputStream("This is mail text content!".getBytes(StandardCharsets.UTF_8)));
+
+        SoapAttachment soapAttachment = SoapAttachment.spool(attachment);
+        SoapAttachment copy = SoapAttachment.from(soapAttachment);
+
+        Path spoolFile = Paths.get(soapAttachment.getContentResourcePath().substring("file:".length()));
+        Assert.assertTrue(Files.exists(spoolFile));
+
+        copy.release();
+        Assert.assertFalse(Files.exists(spoolFile));
+
+        // releasing again is a no-op
+        soapAttachment.release();
+        Assert.assertFalse(Files.exists(spoolFile));
+    }
+
     private static class StaticTextDataSource implements DataSource {
 
         private final String content;
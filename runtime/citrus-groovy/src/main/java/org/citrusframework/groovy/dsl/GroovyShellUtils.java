@@ -25,11 +25,13 @@ import java.util.regex.Pattern;
 import org.citrusframework.Citrus;
 import org.citrusframework.TestActionBuilder;
 import org.citrusframework.context.TestContext;
+import org.citrusframework.script.GroovyScriptCache;
 import groovy.lang.Binding;
-import groovy.lang.GroovyShell;
+import groovy.lang.GroovyClassLoader;
 import groovy.lang.Script;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.customizers.ImportCustomizer;
+import org.codehaus.groovy.runtime.InvokerHelper;
 
 /**
  * @author Christoph Deppisch
@@ -68,6 +70,8 @@ public class GroovyShellUtils {
 
     /**
      * Run given scriptCode with GroovyShell and delegate execution to given instance.
+     * Compiled script classes are cached by script code and delegate type, so the given imports must be
+     * derived from the script code (e.g. via {@link #autoAddImports(String, ImportCustomizer)}).
      * @param ic import customizer
      * @param delegate instance providing methods and properties
      * @param scriptCode code to evaluate in shell
@@ -81,9 +85,10 @@ public class GroovyShellUtils {
         cc.setScriptBaseClass(GroovyScript.class.getName());
 
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
-        GroovyShell sh = new GroovyShell(cl, new Binding(), cc);
+        String scope = GroovyShellUtils.class.getName() + ":" + (delegate != null ? delegate.getClass().getName() : "");
+        Class<?> scriptClass = GroovyScriptCache.getInstance().getScriptClass(scriptCode, cl, scope, () -> new GroovyClassLoader(cl, cc));
 
-        Script script = sh.parse(scriptCode);
+        Script script = InvokerHelper.createScript(scriptClass, new Binding());
 
         if (script instanceof GroovyScript) {
             if (delegate != null) {
@@ -19,11 +19,11 @@
 
 package org.citrusframework.message.builder.script;
 
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.message.ScriptPayloadBuilder;
+import org.citrusframework.script.GroovyScriptCache;
 import org.citrusframework.spi.Resource;
 import org.citrusframework.spi.Resources;
 import org.citrusframework.validation.script.TemplateBasedScriptBuilder;
@@ -81,11 +81,9 @@ public class GroovyScriptPayloadBuilder implements ScriptPayloadBuilder {
     protected String buildMarkupBuilderScript(String scriptData) {
         try {
             ClassLoader parent = GroovyScriptPayloadBuilder.class.getClassLoader();
-            GroovyClassLoader loader = new GroovyClassLoader(parent);
-
-            Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
+            Class<?> groovyClass = GroovyScriptCache.getInstance().getScriptClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
                     .withCode(scriptData)
-                    .build());
+                    .build(), parent);
 
             if (groovyClass == null) {
                 throw new CitrusRuntimeException("Could not load groovy script!");
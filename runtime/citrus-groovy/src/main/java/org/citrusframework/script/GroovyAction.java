@@ -18,10 +18,7 @@ package org.citrusframework.script;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import org.citrusframework.AbstractTestActionBuilder;
 import org.citrusframework.actions.AbstractTestAction;
@@ -81,20 +78,15 @@ public class GroovyAction extends AbstractTestAction {
     @Override
     public void doExecute(TestContext context) {
         try {
-            GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<>() {
-                public GroovyClassLoader run() {
-                    ClassLoader parent = getClass().getClassLoader();
-                    return new GroovyClassLoader(parent);
-                }
-            });
+            ClassLoader parent = getClass().getClassLoader();
 
             assertScriptProvided();
 
             String rawCode = StringUtils.hasText(script) ? script.trim() : FileUtils.readToString(FileUtils.getFileResource(scriptResourcePath, context));
             String code = context.replaceDynamicContentInString(rawCode.trim());
 
-            // load groovy code
-            Class<?> groovyClass = loader.parseClass(code);
+            // load groovy code, compiled script classes are reused for same code
+            Class<?> groovyClass = GroovyScriptCache.getInstance().getScriptClass(code, parent);
             // Instantiate an object from groovy code
             GroovyObject groovyObject = (GroovyObject) groovyClass.getDeclaredConstructor().newInstance();
 
@@ -112,7 +104,7 @@ public class GroovyAction extends AbstractTestAction {
                             .build();
                 }
 
-                groovyClass = loader.parseClass(code);
+                groovyClass = GroovyScriptCache.getInstance().getScriptClass(code, parent);
                 groovyObject = (GroovyObject) groovyClass.getDeclaredConstructor().newInstance();
             }
 
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.script;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyCodeSource;
+import org.citrusframework.CitrusSettings;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded cache of compiled Groovy script classes. Scripts are identified by a content hash of the script code
+ * so repeated executions of the same script (e.g. in loops, iterations or many tests sharing a validation script)
+ * compile the code only once. Each script is compiled with its own Groovy class loader, so classes defined by one
+ * script are not visible to other scripts.
+ *
+ * The cache does not keep parent class loaders alive. Parent class loaders are referenced weakly and compiled script
+ * classes softly, so a class loader that is no longer used (e.g. a closed test jar class loader) can be garbage collected.
+ * Script entries of collected class loaders are removed from the cache.
+ *
+ * Cache keeps track of compilation count, compilation time and cache hits.
+ *
+ * @since 4.2
+ */
+public final class GroovyScriptCache {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(GroovyScriptCache.class);
+
+    /** Code base used for all compiled scripts */
+    private static final String CODE_BASE = "/groovy/script";
+
+    /** Shared cache instance */
+    private static final GroovyScriptCache INSTANCE = new GroovyScriptCache(CitrusSettings.getGroovyScriptCacheSize());
+
+    /** Maximum number of cached script classes */
+    private final int maxSize;
+
+    /** Compiled scripts in access order, guarded by this */
+    private final Map<ScriptKey, SoftReference<Class<?>>> scripts;
+
+    /** Queue notified when a parent class loader has been garbage collected */
+    private final ReferenceQueue<ClassLoader> collectedLoaders = new ReferenceQueue<>();
+
+    private final AtomicLong compilations = new AtomicLong();
+    private final AtomicLong compilationTime = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructor initializing the cache with given maximum size. Zero or negative size disables caching.
+     * @param maxSize
+     */
+    public GroovyScriptCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.scripts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ScriptKey, SoftReference<Class<?>>> eldest) {
+                if (size() > GroovyScriptCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the shared cache instance.
+     * @return
+     */
+    public static GroovyScriptCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the compiled script class for given code. Compiles the code on first access with a new Groovy class loader
+     * using the given parent class loader.
+     * @param code the script code.
+     * @param parent the parent class loader.
+     * @return the compiled script class.
+     */
+    public Class<?> getScriptClass(String code, ClassLoader parent) {
+        return getScriptClass(code, parent, null, () -> new GroovyClassLoader(parent));
+    }
+
+    /**
+     * Gets the compiled script class for given code within given scope. Compiles the code on first access with a new class loader
+     * provided by the given factory. Callers use this when the compiler configuration is specific to the script (e.g. custom imports or
+     * script base class). The scope must identify the compiler configuration so that same code compiled with different configurations
+     * does not share a script class. Scripts are also never shared across different parent class loaders.
+     * @param code the script code.
+     * @param parent the parent class loader of the Groovy class loader created by the factory.
+     * @param scope the scope identifying the compiler configuration.
+     * @param loaderFactory factory creating the Groovy class loader used to compile the code.
+     * @return the compiled script class.
+     */
+    public Class<?> getScriptClass(String code, ClassLoader parent, String scope, Supplier<GroovyClassLoader> loaderFactory) {
+        String hash = hash(code);
+        if (!isEnabled()) {
+            return compile(loaderFactory.get(), code, hash);
+        }
+
+        Class<?> cached = lookup(new ScriptKey(new LoaderKey(parent, null), scope, hash));
+        if (cached != null) {
+            return cached;
+        }
+
+        return store(new ScriptKey(new LoaderKey(parent, collectedLoaders), scope, hash), compile(loaderFactory.get(), code, hash));
+    }
+
+    private synchronized Class<?> lookup(ScriptKey key) {
+        removeCollectedLoaders();
+
+        SoftReference<Class<?>> cached = scripts.get(key);
+        if (cached != null) {
+            Class<?> scriptClass = cached.get();
+            if (scriptClass != null) {
+                hits.incrementAndGet();
+                return scriptClass;
+            }
+
+            // script class has been garbage collected
+            scripts.remove(key);
+        }
+
+        return null;
+    }
+
+    private synchronized Class<?> store(ScriptKey key, Class<?> scriptClass) {
+        removeCollectedLoaders();
+
+        SoftReference<Class<?>> existing = scripts.get(key);
+        Class<?> existingClass = existing != null ? existing.get() : null;
+        if (existingClass != null) {
+            // concurrent compilation of the same script - keep the first one
+            return existingClass;
+        }
+
+        scripts.put(key, new SoftReference<>(scriptClass));
+        return scriptClass;
+    }
+
+    /**
+     * Removes all script entries compiled against a parent class loader that has been garbage collected.
+     */
+    private void removeCollectedLoaders() {
+        Reference<? extends ClassLoader> collected;
+        while ((collected = collectedLoaders.poll()) != null) {
+            Reference<? extends ClassLoader> loader = collected;
+            scripts.keySet().removeIf(key -> key.loader() == loader);
+        }
+    }
+
+    private Class<?> compile(GroovyClassLoader loader, String code, String hash) {
+        long start = System.nanoTime();
+        Class<?> scriptClass = loader.parseClass(new GroovyCodeSource(code, "Script_" + hash + ".groovy", CODE_BASE), false);
+        long duration = System.nanoTime() - start;
+
+        compilations.incrementAndGet();
+        compilationTime.addAndGet(duration);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Compiled Groovy script %s in %d ms", scriptClass.getName(), TimeUnit.NANOSECONDS.toMillis(duration)));
+        }
+
+        return scriptClass;
+    }
+
+    private static String hash(String code) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(code.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder hash = new StringBuilder(bytes.length * 2);
+            for (byte b : bytes) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Failed to compute Groovy script hash", e);
+        }
+    }
+
+    /**
+     * Removes all cached scripts. Does not reset the metrics.
+     */
+    public synchronized void clear() {
+        scripts.clear();
+    }
+
+    /**
+     * Gets the cache enabled state.
+     * @return
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Gets the number of cached script classes.
+     * @return
+     */
+    public synchronized int size() {
+        removeCollectedLoaders();
+        return scripts.size();
+    }
+
+    /**
+     * Gets the number of script compilations.
+     * @return
+     */
+    public long getCompilationCount() {
+        return compilations.get();
+    }
+
+    /**
+     * Gets the accumulated script compilation time in milliseconds.
+     * @return
+     */
+    public long getCompilationTime() {
+        return TimeUnit.NANOSECONDS.toMillis(compilationTime.get());
+    }
+
+    /**
+     * Gets the number of cache hits.
+     * @return
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of evicted scripts.
+     * @return
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Cache key combining the parent class loader and the compilation scope with the content hash of the script code.
+     */
+    private record ScriptKey(LoaderKey loader, String scope, String hash) {
+    }
+
+    /**
+     * Weak reference to a parent class loader. Keys are equal when they refer to the very same class loader instance.
+     */
+    private static final class LoaderKey extends WeakReference<ClassLoader> {
+
+        private final int hashCode;
+
+        /** Bootstrap class loader is represented by null */
+        private final boolean bootstrap;
+
+        LoaderKey(ClassLoader loader, ReferenceQueue<ClassLoader> queue) {
+            super(loader, queue);
+            this.hashCode = System.identityHashCode(loader);
+            this.bootstrap = loader == null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof LoaderKey other) || hashCode != other.hashCode) {
+                return false;
+            }
+
+            ClassLoader loader = get();
+            return loader == other.get() && (loader != null || (bootstrap && other.bootstrap));
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
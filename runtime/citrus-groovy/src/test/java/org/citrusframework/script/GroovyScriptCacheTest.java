@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.script;
+
+import groovy.lang.GroovyClassLoader;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class GroovyScriptCacheTest {
+
+    private final ClassLoader parent = GroovyScriptCacheTest.class.getClassLoader();
+
+    @Test
+    public void testReuseCompiledScript() {
+        GroovyScriptCache cache = new GroovyScriptCache(10);
+
+        Class<?> scriptClass = cache.getScriptClass("return 'Hello'", parent);
+        Assert.assertTrue(scriptClass.getSimpleName().startsWith("Script"));
+        Assert.assertSame(cache.getScriptClass("return 'Hello'", parent), scriptClass);
+        Assert.assertNotSame(cache.getScriptClass("return 'Hello Citrus'", parent), scriptClass);
+
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.getCompilationCount(), 2L);
+        Assert.assertEquals(cache.getHitCount(), 1L);
+        Assert.assertTrue(cache.getCompilationTime() >= 0L);
+    }
+
+    @Test
+    public void testScriptsUseSeparateClassLoaders() {
+        GroovyScriptCache cache = new GroovyScriptCache(10);
+
+        Class<?> scriptClass = cache.getScriptClass("return 'Hello'", parent);
+        Class<?> otherClass = cache.getScriptClass("return 'Hello Citrus'", parent);
+
+        Assert.assertNotSame(otherClass.getClassLoader(), scriptClass.getClassLoader());
+    }
+
+    @Test
+    public void testScopedScripts() {
+        GroovyScriptCache cache = new GroovyScriptCache(10);
+
+        Class<?> scriptClass = cache.getScriptClass("return 'Hello'", parent, "foo", () -> new GroovyClassLoader(parent));
+        Assert.assertSame(cache.getScriptClass("return 'Hello'", parent, "foo", () -> new GroovyClassLoader(parent)), scriptClass);
+        Assert.assertNotSame(cache.getScriptClass("return 'Hello'", parent, "bar", () -> new GroovyClassLoader(parent)), scriptClass);
+        Assert.assertNotSame(cache.getScriptClass("return 'Hello'", parent), scriptClass);
+
+        Assert.assertEquals(cache.size(), 3);
+        Assert.assertEquals(cache.getCompilationCount(), 3L);
+        Assert.assertEquals(cache.getHitCount(), 1L);
+    }
+
+    @Test
+    public void testScopedScriptsPerClassLoader() {
+        GroovyScriptCache cache = new GroovyScriptCache(10);
+        ClassLoader other = new GroovyClassLoader(parent);
+
+        Class<?> scriptClass = cache.getScriptClass("return 'Hello'", parent, "foo", () -> new GroovyClassLoader(parent));
+        Class<?> otherClass = cache.getScriptClass("return 'Hello'", other, "foo", () -> new GroovyClassLoader(other));
+
+        Assert.assertNotSame(otherClass, scriptClass);
+        Assert.assertEquals(cache.getCompilationCount(), 2L);
+    }
+
+    @Test
+    public void testEviction() {
+        GroovyScriptCache cache = new GroovyScriptCache(2);
+
+        Class<?> first = cache.getScriptClass("return 1", parent);
+        cache.getScriptClass("return 2", parent);
+        cache.getScriptClass("return 1", parent);
+        cache.getScriptClass("return 3", parent);
+
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.getEvictionCount(), 1L);
+
+        // least recently used script has been evicted
+        Assert.assertSame(cache.getScriptClass("return 1", parent), first);
+        Assert.assertEquals(cache.getCompilationCount(), 3L);
+        cache.getScriptClass("return 2", parent);
+        Assert.assertEquals(cache.getCompilationCount(), 4L);
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        GroovyScriptCache cache = new GroovyScriptCache(0);
+
+        Assert.assertFalse(cache.isEnabled());
+        Assert.assertNotSame(cache.getScriptClass("return 'Hello'", parent), cache.getScriptClass("return 'Hello'", parent));
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.getCompilationCount(), 2L);
+        Assert.assertEquals(cache.getHitCount(), 0L);
+    }
+
+    @Test
+    public void testClear() {
+        GroovyScriptCache cache = new GroovyScriptCache(10);
+
+        Class<?> scriptClass = cache.getScriptClass("return 'Hello'", parent);
+        cache.clear();
+
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertNotSame(cache.getScriptClass("return 'Hello'", parent), scriptClass);
+        Assert.assertEquals(cache.getCompilationCount(), 2L);
+    }
+}
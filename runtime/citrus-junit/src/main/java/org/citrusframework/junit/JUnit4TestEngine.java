@@ -16,9 +16,6 @@
 
 package org.citrusframework.junit;
 
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -58,32 +55,36 @@ public class JUnit4TestEngine extends AbstractTestEngine {
 
     @Override
     public void run() {
-        if (getConfiguration().getTestSources() != null && !getConfiguration().getTestSources().isEmpty()) {
-            run(getConfiguration().getTestSources());
-        } else {
-            List<String> packagesToRun = getConfiguration().getPackages();
-            if (packagesToRun.isEmpty() && getConfiguration().getTestSources().isEmpty()) {
-                packagesToRun = Collections.singletonList("");
-                logger.info("Running all tests in project");
-            }
-
-            List<TestSource> classesToRun = new ArrayList<>();
-            for (String packageName : packagesToRun) {
-                if (StringUtils.hasText(packageName)) {
-                    logger.info(String.format("Running tests in package %s", packageName));
+        try {
+            if (getConfiguration().getTestSources() != null && !getConfiguration().getTestSources().isEmpty()) {
+                run(getConfiguration().getTestSources());
+            } else {
+                List<String> packagesToRun = getConfiguration().getPackages();
+                if (packagesToRun.isEmpty() && getConfiguration().getTestSources().isEmpty()) {
+                    packagesToRun = Collections.singletonList("");
+                    logger.info("Running all tests in project");
                 }
 
-                if (getConfiguration().getTestJar() != null) {
-                    classesToRun.addAll(new JarFileTestScanner(getConfiguration().getTestJar(),
-                            getConfiguration().getIncludes()).findTestsInPackage(packageName));
-                } else {
-                    classesToRun.addAll(new ClassPathTestScanner(Test.class,
-                            getConfiguration().getIncludes()).findTestsInPackage(packageName));
+                List<TestSource> classesToRun = new ArrayList<>();
+                for (String packageName : packagesToRun) {
+                    if (StringUtils.hasText(packageName)) {
+                        logger.info(String.format("Running tests in package %s", packageName));
+                    }
+
+                    if (getConfiguration().getTestJar() != null) {
+                        classesToRun.addAll(new JarFileTestScanner(getConfiguration().getTestJar(), Test.class,
+                                getConfiguration().getIncludes()).findTestsInPackage(packageName));
+                    } else {
+                        classesToRun.addAll(new ClassPathTestScanner(Test.class,
+                                getConfiguration().getIncludes()).findTestsInPackage(packageName));
+                    }
                 }
-            }
 
-            logger.info(String.format("Found %s test classes to execute", classesToRun.size()));
-            run(classesToRun);
+                logger.info(String.format("Found %s test classes to execute", classesToRun.size()));
+                run(classesToRun);
+            }
+        } finally {
+            closeTestJarClassLoader();
         }
     }
 
@@ -113,16 +114,10 @@ public class JUnit4TestEngine extends AbstractTestEngine {
                 })
                 .map(source -> {
                     try {
-                        Class<?> clazz;
-                        if (getConfiguration().getTestJar() != null) {
-                            clazz = Class.forName(source.getName(), false,
-                                    new URLClassLoader(new URL[]{ getConfiguration().getTestJar().toURI().toURL() }, getClass().getClassLoader()));
-                        } else {
-                            clazz = Class.forName(source.getName());
-                        }
+                        Class<?> clazz = loadTestClass(source.getName());
                         logger.debug("Found test candidate: " + source.getName());
                         return clazz;
-                    } catch (ClassNotFoundException | MalformedURLException e) {
+                    } catch (ClassNotFoundException e) {
                         logger.warn("Unable to read test class: " + source.getName());
                         return Void.class;
                     }
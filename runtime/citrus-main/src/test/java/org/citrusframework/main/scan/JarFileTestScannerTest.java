@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.main.scan;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.citrusframework.TestClass;
+import org.citrusframework.junit.scan.SampleJUnit4Test;
+import org.citrusframework.testng.scan.SampleTestNGTest;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class JarFileTestScannerTest {
+
+    private File testJar;
+    private Path cacheDirectory;
+
+    @BeforeClass
+    public void createTestJar() throws IOException {
+        Path tempDirectory = Files.createTempDirectory("citrus-test-jar");
+        testJar = tempDirectory.resolve("tests.jar").toFile();
+        cacheDirectory = tempDirectory.resolve("cache");
+
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(testJar.toPath()))) {
+            addClass(jar, SampleJUnit4Test.class);
+            addClass(jar, SampleTestNGTest.class);
+        }
+    }
+
+    @Test
+    public void testFindTestsInPackage() {
+        List<TestClass> findings = scanner(org.testng.annotations.Test.class, false)
+                .findTestsInPackage(SampleTestNGTest.class.getPackage().getName());
+        Assert.assertEquals(findings.size(), 1L);
+        Assert.assertEquals(findings.get(0).getName(), SampleTestNGTest.class.getName());
+
+        findings = scanner(org.junit.Test.class, false).findTestsInPackage("");
+        Assert.assertEquals(findings.size(), 1L);
+        Assert.assertEquals(findings.get(0).getName(), SampleJUnit4Test.class.getName());
+
+        findings = scanner(null, false).findTestsInPackage("");
+        Assert.assertEquals(findings.size(), 2L);
+
+        findings = new JarFileTestScanner(testJar, ".*IT").findTestsInPackage("");
+        Assert.assertEquals(findings.size(), 0L);
+    }
+
+    @Test
+    public void testCachedScanResult() throws IOException {
+        String packageName = SampleTestNGTest.class.getPackage().getName();
+
+        List<TestClass> findings = scanner(org.testng.annotations.Test.class, true).findTestsInPackage(packageName);
+        Assert.assertEquals(findings.size(), 1L);
+
+        Path cacheFile;
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            cacheFile = files.filter(file -> file.toString().endsWith(".txt")).findFirst().orElseThrow();
+        }
+        Assert.assertEquals(Files.readAllLines(cacheFile), List.of(SampleTestNGTest.class.getName()));
+
+        // repeated scan uses the cached result
+        Files.write(cacheFile, List.of("org.citrusframework.CachedIT"));
+        findings = scanner(org.testng.annotations.Test.class, true).findTestsInPackage(packageName);
+        Assert.assertEquals(findings.size(), 1L);
+        Assert.assertEquals(findings.get(0).getName(), "org.citrusframework.CachedIT");
+    }
+
+    private JarFileTestScanner scanner(Class<? extends Annotation> annotationType, boolean cacheEnabled) {
+        JarFileTestScanner scanner = new JarFileTestScanner(testJar, annotationType, ".*Test");
+        scanner.setCacheEnabled(cacheEnabled);
+        scanner.setCacheDirectory(cacheDirectory);
+        return scanner;
+    }
+
+    private void addClass(JarOutputStream jar, Class<?> type) throws IOException {
+        String name = type.getName().replace('.', '/') + ".class";
+        jar.putNextEntry(new JarEntry(name));
+        try (InputStream in = type.getClassLoader().getResourceAsStream(name)) {
+            in.transferTo(jar);
+        }
+        jar.closeEntry();
+    }
+}
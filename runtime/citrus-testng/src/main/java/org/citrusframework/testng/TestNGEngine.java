@@ -16,9 +16,6 @@
 
 package org.citrusframework.testng;
 
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -80,7 +77,11 @@ public class TestNGEngine extends AbstractTestEngine {
             addTestSources(suite, getConfiguration());
         }
 
-        testng.run();
+        try {
+            testng.run();
+        } finally {
+            closeTestJarClassLoader();
+        }
     }
 
     private void addTestSources(XmlSuite suite, TestRunConfiguration configuration) {
@@ -120,7 +121,7 @@ public class TestNGEngine extends AbstractTestEngine {
 
             List<TestClass> classesToRun;
             if (configuration.getTestJar() != null) {
-                classesToRun = new JarFileTestScanner(configuration.getTestJar(),
+                classesToRun = new JarFileTestScanner(configuration.getTestJar(), Test.class,
                         configuration.getIncludes()).findTestsInPackage(packageName);
             } else {
                 classesToRun = new ClassPathTestScanner(Test.class, configuration.getIncludes()).findTestsInPackage(packageName);
@@ -132,15 +133,8 @@ public class TestNGEngine extends AbstractTestEngine {
                                     .orElseGet(testClass::getName))))
                     .map(testClass -> {
                         try {
-                            Class<?> clazz;
-                            if (configuration.getTestJar() != null) {
-                                clazz = Class.forName(testClass.getName(), false,
-                                        new URLClassLoader(new URL[]{configuration.getTestJar().toURI().toURL()}, getClass().getClassLoader()));
-                            } else {
-                                clazz = Class.forName(testClass.getName());
-                            }
-                            return clazz;
-                        } catch (ClassNotFoundException | MalformedURLException e) {
+                            return loadTestClass(testClass.getName());
+                        } catch (ClassNotFoundException e) {
                             logger.warn("Unable to read test class: " + testClass.getName());
                             return Void.class;
                         }
@@ -169,13 +163,7 @@ public class TestNGEngine extends AbstractTestEngine {
             test.setClasses(new ArrayList<>());
 
             try {
-                Class<?> clazz;
-                if (configuration.getTestJar() != null) {
-                    clazz = Class.forName(testClass.getName(), false,
-                            new URLClassLoader(new URL[]{configuration.getTestJar().toURI().toURL()}, getClass().getClassLoader()));
-                } else {
-                    clazz = Class.forName(testClass.getName());
-                }
+                Class<?> clazz = loadTestClass(testClass.getName());
 
                 XmlClass xmlClass = new XmlClass(clazz);
                 if (StringUtils.hasText(testClass.getMethod())) {
@@ -183,7 +171,7 @@ public class TestNGEngine extends AbstractTestEngine {
                 }
 
                 test.getClasses().add(xmlClass);
-            } catch (ClassNotFoundException | MalformedURLException e) {
+            } catch (ClassNotFoundException e) {
                 logger.warn("Unable to read test class: " + testClass.getName());
             }
         }
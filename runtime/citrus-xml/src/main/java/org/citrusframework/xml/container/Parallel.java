@@ -19,6 +19,7 @@
 
 package org.citrusframework.xml.container;
 
+import jakarta.xml.bind.annotation.XmlAttribute;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlRootElement;
 
@@ -52,6 +53,18 @@ public class Parallel implements TestActionBuilder<org.citrusframework.container
         return this;
     }
 
+    @XmlAttribute
+    public Parallel setMaxConcurrency(int maxConcurrency) {
+        builder.maxConcurrency(maxConcurrency);
+        return this;
+    }
+
+    @XmlAttribute
+    public Parallel setFailFast(boolean failFast) {
+        builder.failFast(failFast);
+        return this;
+    }
+
     @XmlElement
     public Parallel setActions(TestActions actions) {
         builder.actions(actions.getActionBuilders().toArray(TestActionBuilder<?>[]::new));
@@ -42,7 +42,7 @@ public class ParallelTest extends AbstractXmlActionTest {
         Assert.assertEquals(result.getName(), "ParallelTest");
         Assert.assertEquals(result.getMetaInfo().getAuthor(), "Christoph");
         Assert.assertEquals(result.getMetaInfo().getStatus(), TestCaseMetaInfo.Status.FINAL);
-        Assert.assertEquals(result.getActionCount(), 2L);
+        Assert.assertEquals(result.getActionCount(), 3L);
 
         Assert.assertEquals(result.getTestAction(0).getClass(), Parallel.class);
 
@@ -53,10 +53,19 @@ public class ParallelTest extends AbstractXmlActionTest {
 
         action = (Parallel) result.getTestAction(1);
         Assert.assertEquals(action.getActionCount(), 3);
+        Assert.assertEquals(action.getMaxConcurrency(), 0);
+        Assert.assertFalse(action.isFailFast());
         Assert.assertEquals(action.getActions().get(0).getClass(), Parallel.class);
         Assert.assertEquals(((Parallel)action.getActions().get(0)).getActionCount(), 2);
         Assert.assertEquals(action.getActions().get(1).getClass(), EchoAction.class);
         Assert.assertEquals(action.getActions().get(2).getClass(), EchoAction.class);
+
+        action = (Parallel) result.getTestAction(2);
+        Assert.assertEquals(action.getActionCount(), 2);
+        Assert.assertEquals(action.getMaxConcurrency(), 2);
+        Assert.assertTrue(action.isFailFast());
+        Assert.assertEquals(action.getActions().get(0).getClass(), EchoAction.class);
+        Assert.assertEquals(action.getActions().get(1).getClass(), EchoAction.class);
     }
 
 }
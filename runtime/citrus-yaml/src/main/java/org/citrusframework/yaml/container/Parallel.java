@@ -48,6 +48,14 @@ public class Parallel implements TestActionBuilder<org.citrusframework.container
         builder.description(value);
     }
 
+    public void setMaxConcurrency(int maxConcurrency) {
+        builder.maxConcurrency(maxConcurrency);
+    }
+
+    public void setFailFast(boolean failFast) {
+        builder.failFast(failFast);
+    }
+
     public void setActions(List<TestActions> actions) {
         builder.actions(actions.stream().map(TestActions::get).toArray(TestActionBuilder<?>[]::new));
     }
@@ -16,17 +16,15 @@
 
 package org.citrusframework.validation.script;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.List;
 
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.ValidationException;
 import org.citrusframework.message.Message;
 import org.citrusframework.message.MessageType;
+import org.citrusframework.script.GroovyScriptCache;
 import org.citrusframework.script.ScriptTypes;
 import org.citrusframework.spi.Resource;
 import org.citrusframework.spi.Resources;
@@ -78,14 +76,9 @@ public class GroovyScriptMessageValidator extends AbstractMessageValidator<Scrip
             if (StringUtils.hasText(validationScript)) {
                 logger.debug("Start groovy message validation ...");
 
-                GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                    public GroovyClassLoader run() {
-                        return new GroovyClassLoader(GroovyScriptMessageValidator.class.getClassLoader());
-                    }
-                });
-                Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
+                Class<?> groovyClass = GroovyScriptCache.getInstance().getScriptClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
                                                             .withCode(validationScript)
-                                                            .build());
+                                                            .build(), GroovyScriptMessageValidator.class.getClassLoader());
 
                 if (groovyClass == null) {
                     throw new CitrusRuntimeException("Failed to load groovy validation script resource");
@@ -20,11 +20,11 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Map;
 
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.ValidationException;
+import org.citrusframework.script.GroovyScriptCache;
 import org.citrusframework.script.ScriptTypes;
 import org.citrusframework.spi.Resource;
 import org.citrusframework.spi.Resources;
@@ -77,10 +77,9 @@ public class GroovySqlResultSetValidator implements SqlResultSetScriptValidator
                 if (StringUtils.hasText(validationScript)) {
                     logger.debug("Start groovy SQL result set validation");
 
-                    GroovyClassLoader loader = new GroovyClassLoader(GroovyScriptMessageValidator.class.getClassLoader());
-                    Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
+                    Class<?> groovyClass = GroovyScriptCache.getInstance().getScriptClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
                                                                 .withCode(validationScript)
-                                                                .build());
+                                                                .build(), GroovyScriptMessageValidator.class.getClassLoader());
 
                     if (groovyClass == null) {
                         throw new CitrusRuntimeException("Failed to load groovy validation script resource");
@@ -26,6 +26,7 @@ import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.message.Message;
 import org.citrusframework.util.StringUtils;
 import org.citrusframework.validation.json.JsonPathFunctions;
 
@@ -35,6 +36,33 @@ import org.citrusframework.validation.json.JsonPathFunctions;
  */
 public class JsonPathUtils {
 
+    /**
+     * Parse message payload to JSON object tree. The parsed tree is cached on the message and shared with all other
+     * callers as long as the message payload is not changed. Callers must not modify the object tree.
+     * @param message
+     * @return
+     */
+    public static Object parseMessagePayload(Message message) {
+        return parseMessagePayload(message, JSONParser.MODE_JSON_SIMPLE);
+    }
+
+    /**
+     * Parse message payload to JSON object tree using given parser permissive mode. The parsed tree is cached on the message
+     * and shared with all other callers as long as the message payload is not changed. Callers must not modify the object tree.
+     * @param message
+     * @param permissiveMode
+     * @return
+     */
+    public static Object parseMessagePayload(Message message, int permissiveMode) {
+        return message.getPayloadRepresentation(JSONParser.class.getName() + "@" + permissiveMode, msg -> {
+            try {
+                return new JSONParser(permissiveMode).parse(msg.getPayload(String.class));
+            } catch (ParseException e) {
+                throw new CitrusRuntimeException("Failed to parse JSON text", e);
+            }
+        });
+    }
+
     /**
      * Evaluate JsonPath expression on given payload string and return result as object.
      * @param payload
@@ -33,8 +33,8 @@ import org.citrusframework.spi.Resource;
  */
 public class SimpleJsonSchema implements InitializingPhase {
 
-    /** Default json schema factory */
-    private final JsonSchemaFactory jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+    /** Default json schema factory shared by all schemas so referenced schemas get loaded only once */
+    private static final JsonSchemaFactory JSON_SCHEMA_FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
 
     /** The Resource of the json schema passed from the bean config */
     private Resource json;
@@ -51,9 +51,9 @@ public class SimpleJsonSchema implements InitializingPhase {
     }
 
     @Override
-    public void initialize() {
+    public synchronized void initialize() {
         try (FileInputStream fileInputStream = new FileInputStream(json.getFile())) {
-            schema = jsonSchemaFactory.getSchema(fileInputStream);
+            schema = JSON_SCHEMA_FACTORY.getSchema(fileInputStream);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to load Json schema", e);
         }
@@ -67,7 +67,15 @@ public class SimpleJsonSchema implements InitializingPhase {
         this.json = json;
     }
 
-    public JsonSchema getSchema() {
+    /**
+     * Gets the compiled json schema. Compiles the schema resource on first access in case this schema has not been initialized yet.
+     * @return
+     */
+    public synchronized JsonSchema getSchema() {
+        if (schema == null && json != null) {
+            initialize();
+        }
+
         return schema;
     }
 
@@ -80,13 +88,12 @@ public class SimpleJsonSchema implements InitializingPhase {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         SimpleJsonSchema that = (SimpleJsonSchema) o;
-        return Objects.equals(jsonSchemaFactory, that.jsonSchemaFactory) &&
-                Objects.equals(json, that.json) &&
+        return Objects.equals(json, that.json) &&
                 Objects.equals(schema, that.schema);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(jsonSchemaFactory, json, schema);
+        return Objects.hash(json, schema);
     }
 }
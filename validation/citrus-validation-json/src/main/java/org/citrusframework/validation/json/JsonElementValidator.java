@@ -21,8 +21,14 @@ import net.minidev.json.JSONObject;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.ValidationException;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import static java.util.Objects.requireNonNullElse;
 import static org.citrusframework.CitrusSettings.IGNORE_PLACEHOLDER;
@@ -36,6 +42,9 @@ public class JsonElementValidator {
     private final TestContext context;
     private final Collection<String> ignoreExpressions;
 
+    /** Paths matched by the ignore expressions, evaluated once per validated root element */
+    private volatile IgnoredPaths ignoredPaths;
+
     public JsonElementValidator(
             boolean strict,
             TestContext context,
@@ -47,9 +56,9 @@ public class JsonElementValidator {
     }
 
     public void validate(JsonElementValidatorItem<?> control) {
-        if (isIgnoredByPlaceholderOrExpressionList(ignoreExpressions, control))
+        if (isIgnored(control))
             return;
-        if (isValidationMatcherExpression(requireNonNullElse(control.expectedAsStringOrNull(), ""))) {
+        if (isValidationMatcherExpression(expectedText(control))) {
             resolveValidationMatcher(control.getJsonPath(), control.actualAsStringOrNull(), control.expectedAsStringOrNull(), context);
         } else if (control.expected instanceof JSONObject) {
             validateJSONObject(this, control);
@@ -103,14 +112,38 @@ public class JsonElementValidator {
         return false;
     }
 
+    /**
+     * Same as {@link #isIgnoredByPlaceholderOrExpressionList(Collection, JsonElementValidatorItem)} but evaluates
+     * the ignore expressions only once per root element and reuses the matched paths for all nested elements.
+     */
+    private boolean isIgnored(JsonElementValidatorItem<?> control) {
+        if (expectedText(control).trim().equals(IGNORE_PLACEHOLDER)) {
+            return true;
+        }
+
+        if (ignoreExpressions.isEmpty()) {
+            return false;
+        }
+
+        JsonElementValidatorItem<?> root = control.getRoot();
+        IgnoredPaths paths = ignoredPaths;
+        if (paths == null || paths.root() != root) {
+            paths = new IgnoredPaths(root, root.findMatchedPaths(ignoreExpressions));
+            ignoredPaths = paths;
+        }
+
+        return paths.paths().contains(control.getJsonPath());
+    }
 
     private void validateJSONArray(JsonElementValidator validator, JsonElementValidatorItem<?> control) {
         var arrayControl = control.ensureType(JSONArray.class);
         if (strict) {
             validateSameSize(control.getJsonPath(), arrayControl.expected, arrayControl.actual);
         }
+
+        var actualItems = new ActualItems(arrayControl.actual);
         for (int i = 0; i < arrayControl.expected.size(); i++) {
-            if (!isAnyValidItemInActualArray(validator, arrayControl, i)) {
+            if (!isAnyValidItemInActualArray(validator, arrayControl, actualItems, i)) {
                 throw new ValidationException(buildValueToBeInCollectionErrorMessage(
                         "An item in '%s' is missing".formatted(arrayControl.getJsonPath()),
                         arrayControl.expected.get(i),
@@ -120,17 +153,134 @@ public class JsonElementValidator {
         }
     }
 
-    private boolean isAnyValidItemInActualArray(JsonElementValidator validator, JsonElementValidatorItem<JSONArray> control, int index) {
+    /**
+     * Searches the actual array for an item matching the expected item at given index. Only actual items that are able
+     * to match the expected item are checked, in the order they appear in the actual array. Custom validator implementations
+     * may override the validation rules, so these keep checking every actual item with the full validation.
+     */
+    private boolean isAnyValidItemInActualArray(JsonElementValidator validator, JsonElementValidatorItem<JSONArray> control,
+                                                ActualItems actualItems, int index) {
+        Object expectedItem = control.expected.get(index);
+
+        if (validator.getClass() != JsonElementValidator.class) {
+            for (Object receivedItem : control.actual) {
+                try {
+                    validator.validate(new JsonElementValidatorItem<>(index, receivedItem, expectedItem).parent(control));
+                    return true;
+                } catch (ValidationException e) {
+                    // try next item
+                }
+            }
+
+            return false;
+        }
+
+        for (int candidate : findCandidates(control, actualItems, index)) {
+            if (isValid(new JsonElementValidatorItem<>(index, control.actual.get(candidate), expectedItem).parent(control))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Finds positions of all actual items that may match the expected item at given index. Native values are looked up by
+     * their hash, objects by the value of their first native entry and ignored items or validation matchers match any item.
+     */
+    private List<Integer> findCandidates(JsonElementValidatorItem<JSONArray> control, ActualItems actualItems, int index) {
         Object expectedItem = control.expected.get(index);
-        return control.actual.stream().map(recivedItem -> {
+        var itemControl = new JsonElementValidatorItem<>(index, null, expectedItem).parent(control);
+
+        if (isIgnored(itemControl) || isValidationMatcherExpression(expectedText(itemControl))) {
+            return actualItems.all();
+        } else if (expectedItem instanceof JSONObject expectedObject) {
+            for (Map.Entry<String, Object> entry : expectedObject.entrySet()) {
+                if (isNativeValue(entry.getValue())
+                        && !isIgnored(new JsonElementValidatorItem<>(entry.getKey(), null, entry.getValue()).parent(itemControl))) {
+                    return actualItems.objectsWithEntry(entry.getKey(), entry.getValue());
+                }
+            }
+
+            return actualItems.objects();
+        } else if (expectedItem instanceof JSONArray) {
+            return actualItems.arrays();
+        }
+
+        return actualItems.withValue(expectedItem);
+    }
+
+    /**
+     * Non throwing variant of {@link #validate(JsonElementValidatorItem)} used to find matching items in arrays.
+     * Follows the exact same validation rules but reports a mismatch as result instead of building an exception.
+     */
+    private boolean isValid(JsonElementValidatorItem<?> control) {
+        if (isIgnored(control)) {
+            return true;
+        }
+
+        if (isValidationMatcherExpression(expectedText(control))) {
             try {
-                var itemControl = new JsonElementValidatorItem<>(index, recivedItem, expectedItem).parent(control);
-                validator.validate(itemControl);
-                return null;
+                resolveValidationMatcher(control.getJsonPath(), control.actualAsStringOrNull(), control.expectedAsStringOrNull(), context);
+                return true;
             } catch (ValidationException e) {
-                return e;
+                return false;
+            }
+        } else if (control.expected instanceof JSONObject expectedObject) {
+            if (!(control.actual instanceof JSONObject actualObject)
+                    || (strict && expectedObject.size() != actualObject.size())) {
+                return false;
+            }
+
+            for (Map.Entry<String, Object> entry : expectedObject.entrySet()) {
+                if (!actualObject.containsKey(entry.getKey())
+                        || !isValid(new JsonElementValidatorItem<>(entry.getKey(), actualObject.get(entry.getKey()), entry.getValue()).parent(control))) {
+                    return false;
+                }
+            }
+
+            return true;
+        } else if (control.expected instanceof JSONArray expectedArray) {
+            if (!(control.actual instanceof JSONArray actualArray)
+                    || (strict && expectedArray.size() != actualArray.size())) {
+                return false;
+            }
+
+            var arrayControl = control.ensureType(JSONArray.class);
+            var actualItems = new ActualItems(actualArray);
+            for (int i = 0; i < expectedArray.size(); i++) {
+                if (!isAnyValidItemInActualArray(this, arrayControl, actualItems, i)) {
+                    return false;
+                }
             }
-        }).anyMatch(Objects::isNull);
+
+            return true;
+        }
+
+        return Objects.equals(control.expected, control.actual);
+    }
+
+    /**
+     * Expected value as text for placeholder and validation matcher checks. Objects and arrays never
+     * represent a placeholder, so these are not serialized.
+     */
+    private static String expectedText(JsonElementValidatorItem<?> control) {
+        if (control.expected instanceof JSONObject || control.expected instanceof JSONArray) {
+            return "";
+        }
+
+        return requireNonNullElse(control.expectedAsStringOrNull(), "");
+    }
+
+    /**
+     * Checks if the expected value is compared by equality, so it can be used to look up matching items.
+     */
+    private static boolean isNativeValue(Object expected) {
+        if (expected instanceof String text) {
+            return !text.trim().equals(IGNORE_PLACEHOLDER) && !isValidationMatcherExpression(text);
+        }
+
+        return expected == null || expected instanceof Number || expected instanceof Boolean;
     }
 
     private void validateSameSize(String path, Collection<?> expected, Collection<?> actual) {
@@ -149,6 +299,95 @@ public class JsonElementValidator {
         throw new ValidationException(buildValueMismatchErrorMessage(baseMessage, expectedValue, actualValue));
     }
 
+    /**
+     * Paths matched by ignore expressions in a root element.
+     */
+    private record IgnoredPaths(JsonElementValidatorItem<?> root, Set<String> paths) {
+    }
+
+    /**
+     * Lazily built indexes on the items of an actual json array. All indexes hold item positions in ascending order.
+     */
+    private static final class ActualItems {
+        private final JSONArray actual;
+
+        private List<Integer> all;
+        private List<Integer> objects;
+        private List<Integer> arrays;
+        private Map<Object, List<Integer>> values;
+        private final Map<String, Map<Object, List<Integer>>> objectEntries = new HashMap<>();
+
+        ActualItems(JSONArray actual) {
+            this.actual = actual;
+        }
+
+        List<Integer> all() {
+            if (all == null) {
+                all = new ArrayList<>(actual.size());
+                for (int i = 0; i < actual.size(); i++) {
+                    all.add(i);
+                }
+            }
+
+            return all;
+        }
+
+        List<Integer> objects() {
+            if (objects == null) {
+                objects = positionsOf(JSONObject.class);
+            }
+
+            return objects;
+        }
+
+        List<Integer> arrays() {
+            if (arrays == null) {
+                arrays = positionsOf(JSONArray.class);
+            }
+
+            return arrays;
+        }
+
+        List<Integer> withValue(Object value) {
+            if (values == null) {
+                values = new HashMap<>();
+                for (int i = 0; i < actual.size(); i++) {
+                    Object item = actual.get(i);
+                    if (!(item instanceof JSONObject) && !(item instanceof JSONArray)) {
+                        values.computeIfAbsent(item, k -> new ArrayList<>()).add(i);
+                    }
+                }
+            }
+
+            return values.getOrDefault(value, Collections.emptyList());
+        }
+
+        List<Integer> objectsWithEntry(String key, Object value) {
+            return objectEntries.computeIfAbsent(key, k -> {
+                Map<Object, List<Integer>> entries = new HashMap<>();
+                for (int i = 0; i < actual.size(); i++) {
+                    if (actual.get(i) instanceof JSONObject item && item.containsKey(k)) {
+                        Object entry = item.get(k);
+                        if (!(entry instanceof JSONObject) && !(entry instanceof JSONArray)) {
+                            entries.computeIfAbsent(entry, v -> new ArrayList<>()).add(i);
+                        }
+                    }
+                }
+                return entries;
+            }).getOrDefault(value, Collections.emptyList());
+        }
+
+        private List<Integer> positionsOf(Class<?> type) {
+            List<Integer> positions = new ArrayList<>();
+            for (int i = 0; i < actual.size(); i++) {
+                if (type.isInstance(actual.get(i))) {
+                    positions.add(i);
+                }
+            }
+            return positions;
+        }
+    }
+
     @FunctionalInterface
     public interface Provider {
         JsonElementValidator getValidator(boolean isStrict, TestContext context, JsonMessageValidationContext validationContext);
@@ -23,8 +23,13 @@ import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.ValidationException;
+import org.citrusframework.json.JsonPathUtils;
+import org.citrusframework.message.Message;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.jayway.jsonpath.Option.AS_PATH_LIST;
@@ -60,6 +65,24 @@ public class JsonElementValidatorItem<T> {
         }
     }
 
+    /**
+     * Parses and wraps the given json's. The actual json is read from the received message payload
+     * and reuses the parsed object tree cached on the message.
+     *
+     * @param permissiveMode see {@code JSONParser#MODE_*} or {@link JSONParser#DEFAULT_PERMISSIVE_MODE}
+     * @param actualMessage holding the actual json payload
+     * @param expectedJson as string
+     * @return the two json's wrapped in a {@link JsonElementValidatorItem<Object>}
+     */
+    public static JsonElementValidatorItem<Object> parseJson(int permissiveMode, Message actualMessage, String expectedJson) {
+        Object actual = JsonPathUtils.parseMessagePayload(actualMessage, permissiveMode);
+        try {
+            return new JsonElementValidatorItem<>(null, actual, new JSONParser(permissiveMode).parse(expectedJson));
+        } catch (ParseException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+    }
+
     /**
      * For array-items.
      *
@@ -166,6 +189,20 @@ public class JsonElementValidatorItem<T> {
         ).anyMatch(currentPath::equals);
     }
 
+    /**
+     * Collects the paths of all elements in the expected and actual json of this item that are matched by the given json path expressions.
+     *
+     * @param jsonPathExpressions to evaluate
+     * @return set of matched json paths
+     */
+    Set<String> findMatchedPaths(Collection<String> jsonPathExpressions) {
+        return jsonPathExpressions.stream()
+                .flatMap(expression -> Stream.concat(
+                        getAllMatchedPathsInJson(expression, expected),
+                        getAllMatchedPathsInJson(expression, actual)))
+                .collect(Collectors.toSet());
+    }
+
     private Stream<String> getAllMatchedPathsInJson(String jsonPathExpression, Object json) {
         Configuration config = Configuration.builder().options(AS_PATH_LIST).build();
         List<String> foundJsonPaths;
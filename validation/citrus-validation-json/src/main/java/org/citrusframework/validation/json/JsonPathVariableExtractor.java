@@ -24,8 +24,6 @@ import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.ReadContext;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
-import net.minidev.json.parser.ParseException;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.json.JsonPathUtils;
@@ -77,33 +75,27 @@ public class JsonPathVariableExtractor implements VariableExtractor {
             logger.debug("Reading JSON elements with JSONPath");
         }
 
-        try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(message.getPayload(String.class));
-            ReadContext readerContext = JsonPath.parse(receivedJson);
-
-            for (Map.Entry<String, Object> entry : jsonPathExpressions.entrySet()) {
-                String jsonPathExpression = context.replaceDynamicContentInString(entry.getKey());
-                String variableName = Optional.ofNullable(entry.getValue())
-                        .map(Object::toString)
-                        .orElseThrow(() -> new CitrusRuntimeException(String.format("Variable name must be set on " +
-                                "extractor path expression '%s'", jsonPathExpression)));
-
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Evaluating JSONPath expression: " + jsonPathExpression);
-                }
-
-                Object jsonPathResult = JsonPathUtils.evaluate(readerContext, jsonPathExpression);
-                if (jsonPathResult instanceof JSONArray) {
-                    context.setVariable(variableName, ((JSONArray) jsonPathResult).toJSONString());
-                } else if (jsonPathResult instanceof JSONObject) {
-                    context.setVariable(variableName, ((JSONObject) jsonPathResult).toJSONString());
-                } else {
-                    context.setVariable(variableName, Optional.ofNullable(jsonPathResult).orElse("null"));
-                }
+        ReadContext readerContext = JsonPath.parse(JsonPathUtils.parseMessagePayload(message));
+
+        for (Map.Entry<String, Object> entry : jsonPathExpressions.entrySet()) {
+            String jsonPathExpression = context.replaceDynamicContentInString(entry.getKey());
+            String variableName = Optional.ofNullable(entry.getValue())
+                    .map(Object::toString)
+                    .orElseThrow(() -> new CitrusRuntimeException(String.format("Variable name must be set on " +
+                            "extractor path expression '%s'", jsonPathExpression)));
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Evaluating JSONPath expression: " + jsonPathExpression);
+            }
+
+            Object jsonPathResult = JsonPathUtils.evaluate(readerContext, jsonPathExpression);
+            if (jsonPathResult instanceof JSONArray) {
+                context.setVariable(variableName, ((JSONArray) jsonPathResult).toJSONString());
+            } else if (jsonPathResult instanceof JSONObject) {
+                context.setVariable(variableName, ((JSONObject) jsonPathResult).toJSONString());
+            } else {
+                context.setVariable(variableName, Optional.ofNullable(jsonPathResult).orElse("null"));
             }
-        } catch (ParseException e) {
-            throw new CitrusRuntimeException("Failed to parse JSON text", e);
         }
     }
 
@@ -82,7 +82,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         }
 
         elementValidatorProvider.getValidator(strict, context, validationContext).validate(
-                parseJson(permissiveMode, receivedJsonText, controlJsonText)
+                parseJson(permissiveMode, receivedMessage, controlJsonText)
         );
         logger.info("JSON message validation successful: All values OK");
     }
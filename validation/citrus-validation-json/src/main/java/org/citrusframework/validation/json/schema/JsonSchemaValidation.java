@@ -84,6 +84,20 @@ public class JsonSchemaValidation implements SchemaValidator<JsonMessageValidati
         logger.info("Json schema validation successful: All values OK");
     }
 
+    /**
+     * Compiles all json schemas known to the test context upfront.
+     * @param context
+     */
+    @Override
+    public void warmUp(TestContext context) {
+        for (JsonSchemaRepository schemaRepository : findSchemaRepositories(context)) {
+            logger.debug("Compiling schemas in Json schema repository '" + schemaRepository.getName() + "'");
+            schemaRepository.getSchemas().forEach(SimpleJsonSchema::getSchema);
+        }
+
+        context.getReferenceResolver().resolveAll(SimpleJsonSchema.class).values().forEach(SimpleJsonSchema::getSchema);
+    }
+
     /**
      * Constructs the error message of a failed validation based on the processing report passed from
      * {@link ValidationMessage}.
@@ -147,19 +161,18 @@ public class JsonSchemaValidation implements SchemaValidator<JsonMessageValidati
      * @return returns the report holding the result of the validation
      */
     private Set<ValidationMessage> validate(Message message, SimpleJsonSchema simpleJsonSchema) {
-        try {
-            JsonNode receivedJson = objectMapper.readTree(message.getPayload(String.class));
-            if (receivedJson.isEmpty()) {
-                return Collections.emptySet();
-            } else {
-                return simpleJsonSchema.getSchema().validate(
-                        objectMapper.readTree(
-                                message.getPayload(String.class)
-                        )
-                );
+        JsonNode receivedJson = message.getPayloadRepresentation(JsonNode.class.getName() + "@" + System.identityHashCode(objectMapper), msg -> {
+            try {
+                return objectMapper.readTree(msg.getPayload(String.class));
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to validate Json schema", e);
             }
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to validate Json schema", e);
+        });
+
+        if (receivedJson.isEmpty()) {
+            return Collections.emptySet();
+        } else {
+            return simpleJsonSchema.getSchema().validate(receivedJson);
         }
     }
 
@@ -258,6 +258,58 @@ public class JsonElementValidatorTest extends UnitTestSupport {
         ).toArray(new JsonAssertion[0]);
     }
 
+    @Test
+    public void shouldMatchLargeUnorderedArrays() {
+        StringBuilder actual = new StringBuilder("[");
+        StringBuilder expected = new StringBuilder("[");
+        int size = 5000;
+        for (int i = 0; i < size; i++) {
+            actual.append(i > 0 ? "," : "").append("{\"id\":").append(i).append(",\"name\":\"item").append(i).append("\"}");
+            expected.append(i > 0 ? "," : "").append("{\"id\":").append(size - 1 - i).append(",\"name\":\"@startsWith('item')@\"}");
+        }
+        actual.append("]");
+        expected.append("]");
+
+        var validationItem = toValidationItem(new JsonAssertion(actual.toString(), expected.toString()));
+        fixture = new JsonElementValidator(STRICT, context, Set.of());
+        assertThatNoException().isThrownBy(() -> fixture.validate(validationItem));
+
+        var missingItem = toValidationItem(new JsonAssertion(actual.toString(), expected.toString().replace("{\"id\":0,", "{\"id\":-1,")));
+        assertThatThrownBy(() -> fixture.validate(missingItem))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("An item in '$' is missing");
+    }
+
+    @Test(dataProvider = "validArraysWithPlaceholders")
+    public void shouldMatchArrayItemsWithPlaceholders(JsonAssertion jsonAssertion) {
+        var validationItem = toValidationItem(jsonAssertion);
+        fixture = new JsonElementValidator(NOT_STRICT, context, jsonAssertion.ignoreExpressions);
+        assertThatNoException().isThrownBy(() -> fixture.validate(validationItem));
+    }
+
+    @DataProvider
+    public static JsonAssertion[] validArraysWithPlaceholders() {
+        return List.of(
+                new JsonAssertion(
+                        "[\"foo\", \"bar\"]",
+                        "[\"@startsWith('ba')@\", \"@ignore@\"]"
+                ),
+                new JsonAssertion(
+                        "[{\"id\":1, \"name\":\"foo\"}, {\"id\":2, \"name\":\"bar\"}]",
+                        "[{\"id\":\"@ignore@\", \"name\":\"bar\"}, {\"id\":\"@greaterThan(0)@\", \"name\":\"foo\"}]"
+                ),
+                new JsonAssertion(
+                        "[{\"id\":1, \"name\":\"foo\"}, {\"id\":2, \"name\":\"bar\"}]",
+                        "[{\"id\":5, \"name\":\"bar\"}]",
+                        Set.of("$[*].id")
+                ),
+                new JsonAssertion(
+                        "[[1, 2], [3, 4], 5, null]",
+                        "[[4, 3], 5, null]"
+                )
+        ).toArray(new JsonAssertion[0]);
+    }
+
     private static JsonElementValidatorItem<Object> toValidationItem(JsonAssertion jsonAssertion) {
         return JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE, jsonAssertion.actual, jsonAssertion.expected);
     }
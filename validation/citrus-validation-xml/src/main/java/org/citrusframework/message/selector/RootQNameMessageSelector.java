@@ -67,7 +67,8 @@ public class RootQNameMessageSelector extends AbstractMessageSelector {
         Document doc;
 
         try {
-            doc = XMLUtils.parseMessagePayload(getPayloadAsString(message));
+            doc = message.getPayload() instanceof String ?
+                    XMLUtils.parseMessagePayload(message) : XMLUtils.parseMessagePayload(getPayloadAsString(message));
         } catch (LSException e) {
             logger.warn("Root QName message selector ignoring not well-formed XML message payload", e);
             return false; // non XML message - not accepted
@@ -16,15 +16,16 @@
 package org.citrusframework.message.selector;
 
 import java.util.Map;
+import javax.xml.xpath.XPathConstants;
 
 import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.message.Message;
 import org.citrusframework.util.XMLUtils;
+import org.citrusframework.xml.namespace.DefaultNamespaceContext;
 import org.citrusframework.xml.xpath.XPathUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.xml.xpath.XPathExpressionFactory;
-import org.springframework.xml.xpath.XPathParseException;
 import org.w3c.dom.Document;
 import org.w3c.dom.ls.LSException;
 
@@ -58,7 +59,8 @@ public class XpathPayloadMessageSelector extends AbstractMessageSelector {
         Document doc;
 
         try {
-            doc = XMLUtils.parseMessagePayload(getPayloadAsString(message));
+            doc = message.getPayload() instanceof String ?
+                    XMLUtils.parseMessagePayload(message) : XMLUtils.parseMessagePayload(getPayloadAsString(message));
         } catch (LSException e) {
             logger.warn("Ignoring non XML message for XPath message selector (" + e.getClass().getName() + ")");
             return false; // non XML message - not accepted
@@ -70,18 +72,19 @@ public class XpathPayloadMessageSelector extends AbstractMessageSelector {
             // add default namespace mappings
             namespaces.putAll(context.getNamespaceContextBuilder().getNamespaceMappings());
 
-            String value;
+            String expression = selectKey;
             if (XPathUtils.hasDynamicNamespaces(selectKey)) {
                 namespaces.putAll(XPathUtils.getDynamicNamespaces(selectKey));
-                value = XPathExpressionFactory.createXPathExpression(XPathUtils.replaceDynamicNamespaces(selectKey, namespaces), namespaces)
-                        .evaluateAsString(doc);
-            } else {
-                value = XPathExpressionFactory.createXPathExpression(selectKey, namespaces)
-                        .evaluateAsString(doc);
+                expression = XPathUtils.replaceDynamicNamespaces(selectKey, namespaces);
             }
 
+            DefaultNamespaceContext namespaceContext = new DefaultNamespaceContext();
+            namespaceContext.addNamespaces(namespaces);
+
+            String value = (String) XPathUtils.evaluateExpression(doc, expression, namespaceContext, XPathConstants.STRING);
+
             return evaluate(value);
-        } catch (XPathParseException e) {
+        } catch (CitrusRuntimeException e) {
             logger.warn("Could not evaluate XPath expression for message selector - ignoring message (" + e.getClass().getName() + ")");
             return false; // wrong XML message - not accepted
         }
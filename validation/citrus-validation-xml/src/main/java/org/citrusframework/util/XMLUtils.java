@@ -28,6 +28,7 @@ import javax.xml.XMLConstants;
 
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.message.Message;
 import org.citrusframework.xml.XmlConfigurer;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
@@ -323,6 +324,21 @@ public final class XMLUtils {
         return parser.parse(receivedInput);
     }
 
+    /**
+     * Parse message payload with DOM implementation. The parsed document is cached on the message and shared with
+     * all other callers in the same thread as long as the message payload is not changed. DOM documents are not safe
+     * for concurrent reads, so each thread gets its own document. Callers must not modify the document, use
+     * {@link #parseMessagePayload(String)} to get a private copy instead.
+     * @param message
+     * @throws CitrusRuntimeException
+     * @return DOM document.
+     */
+    public static Document parseMessagePayload(Message message) {
+        return message.getPayloadRepresentation(Document.class.getName() + "@" + System.identityHashCode(configurer)
+                        + "@" + Thread.currentThread().getId(),
+                msg -> parseMessagePayload(msg.getPayload(String.class)));
+    }
+
     /**
      * Try to find encoding for document node. Also supports Citrus default encoding set
      * as System property.
@@ -127,7 +127,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         logger.debug("Start XML namespace validation");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.parseMessagePayload(receivedMessage);
 
         Map<String, String> foundNamespaces = NamespaceContextBuilder.lookupNamespaces(receivedMessage.getPayload(String.class));
 
@@ -228,6 +228,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         logger.debug("Start XML tree validation ...");
 
+        // parse private copy of the received document as whitespace nodes get stripped
         Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
         Document source = XMLUtils.parseMessagePayload(controlMessagePayload);
 
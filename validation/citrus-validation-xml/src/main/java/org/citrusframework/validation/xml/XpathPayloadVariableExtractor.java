@@ -97,7 +97,7 @@ public class XpathPayloadVariableExtractor implements VariableExtractor {
                 logger.debug("Evaluating XPath expression: " + pathExpression);
             }
 
-            Document doc = XMLUtils.parseMessagePayload(message.getPayload(String.class));
+            Document doc = XMLUtils.parseMessagePayload(message);
 
             if (XPathUtils.isXPathExpression(pathExpression)) {
                 XPathExpressionResult resultType = XPathExpressionResult.fromString(pathExpression, XPathExpressionResult.STRING);
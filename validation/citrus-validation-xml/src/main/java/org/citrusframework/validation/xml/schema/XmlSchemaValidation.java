@@ -21,8 +21,6 @@ import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.ValidationException;
 import org.citrusframework.message.Message;
-import org.citrusframework.spi.Resource;
-import org.citrusframework.spi.Resources;
 import org.citrusframework.util.IsXmlPredicate;
 import org.citrusframework.util.StringUtils;
 import org.citrusframework.util.SystemProvider;
@@ -31,25 +29,20 @@ import org.citrusframework.validation.SchemaValidator;
 import org.citrusframework.validation.xml.XmlMessageValidationContext;
 import org.citrusframework.xml.XsdSchemaRepository;
 import org.citrusframework.xml.schema.AbstractSchemaCollection;
-import org.citrusframework.xml.schema.WsdlXsdSchema;
-import org.citrusframework.xml.schema.XsdSchemaCollection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.xml.validation.XmlValidator;
-import org.springframework.xml.validation.XmlValidatorFactory;
 import org.springframework.xml.xsd.XsdSchema;
 import org.w3c.dom.Document;
 import org.xml.sax.SAXParseException;
 
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
 import static java.lang.String.format;
 import static org.citrusframework.validation.xml.schema.ValidationStrategy.FAIL;
@@ -62,8 +55,8 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(XmlSchemaValidation.class);
 
-    /** Transformer factory */
-    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    /** Validators for single schema instances, schema collections cache their validator on their own */
+    private static final Map<XsdSchema, XmlValidator> SCHEMA_VALIDATORS = Collections.synchronizedMap(new WeakHashMap<>());
 
     /** fail if no schema found property */
     private final ValidationStrategy noSchemaFoundStrategy;
@@ -101,7 +94,7 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
         }
 
         try {
-            Document doc = XMLUtils.parseMessagePayload(message.getPayload(String.class));
+            Document doc = XMLUtils.parseMessagePayload(message);
 
             if (!StringUtils.hasText(doc.getFirstChild().getNamespaceURI())) {
                 return;
@@ -113,7 +106,7 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
             XsdSchemaRepository schemaRepository = null;
             List<XsdSchemaRepository> schemaRepositories = XmlValidationHelper.getSchemaRepositories(context);
             if (validationContext.getSchema() != null) {
-                validator = context.getReferenceResolver().resolve(validationContext.getSchema(), XsdSchema.class).createValidator();
+                validator = getValidator(context.getReferenceResolver().resolve(validationContext.getSchema(), XsdSchema.class));
             } else if (validationContext.getSchemaRepository() != null) {
                 schemaRepository = context.getReferenceResolver().resolve(validationContext.getSchemaRepository(), XsdSchemaRepository.class);
             } else if (schemaRepositories.size() == 1) {
@@ -137,30 +130,7 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
                     }
                 }
 
-                List<Resource> schemas = new ArrayList<>();
-                for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
-                    if (xsdSchema instanceof XsdSchemaCollection xsdSchemaCollection) {
-                        schemas.addAll(xsdSchemaCollection.getSchemaResources());
-                    } else if (xsdSchema instanceof WsdlXsdSchema wsdlXsdSchema) {
-                        schemas.addAll(wsdlXsdSchema.getSchemaResources());
-                    } else {
-                        synchronized (transformerFactory) {
-                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                            try {
-                                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
-                            } catch (TransformerException e) {
-                                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
-                            }
-                            schemas.add(Resources.create(bos.toByteArray()));
-                        }
-                    }
-                }
-
-                validator = XmlValidatorFactory.createValidator(schemas
-                        .stream()
-                        .map(AbstractSchemaCollection::toSpringResource)
-                        .toList()
-                        .toArray(new org.springframework.core.io.Resource[]{}), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+                validator = schemaRepository.getValidator();
             }
 
             SAXParseException[] results = validator.validate(new DOMSource(doc));
@@ -185,6 +155,31 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
         }
     }
 
+    /**
+     * Compiles all schema repositories known to the test context upfront.
+     * @param context
+     */
+    @Override
+    public void warmUp(TestContext context) {
+        for (XsdSchemaRepository schemaRepository : XmlValidationHelper.getSchemaRepositories(context)) {
+            logger.debug(format("Compiling schemas in schema repository '%s'", schemaRepository.getName()));
+            schemaRepository.getValidator();
+        }
+    }
+
+    /**
+     * Gets validator for given schema. Validators are cached so the schema gets compiled only once.
+     * @param schema
+     * @return
+     */
+    private static XmlValidator getValidator(XsdSchema schema) {
+        if (schema instanceof AbstractSchemaCollection) {
+            return schema.createValidator();
+        }
+
+        return SCHEMA_VALIDATORS.computeIfAbsent(schema, XsdSchema::createValidator);
+    }
+
     /**
      *
      * @param messageType
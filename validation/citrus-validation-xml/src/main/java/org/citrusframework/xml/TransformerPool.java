@@ -0,0 +1,170 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.xml;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+
+/**
+ * Pool of identity transformers used to copy XML sources to results (e.g. serialize a DOM to a string or write a string
+ * into a SOAP body). Transformer factory lookup and transformer creation are expensive, so the factory is created only once
+ * and transformers get reused by subsequent transformations. Transformers are not thread safe, so each transformation
+ * borrows a transformer from the pool and returns it after the transformation.
+ *
+ * @since 4.2
+ */
+public class TransformerPool {
+
+    /** Default maximum number of idle transformers kept in the pool */
+    public static final int DEFAULT_MAX_IDLE = 16;
+
+    /** Shared default pool */
+    private static final TransformerPool DEFAULT = new TransformerPool();
+
+    /** Factory creating new transformer instances, guarded by itself */
+    private final TransformerFactory transformerFactory;
+
+    /** Maximum number of idle transformers */
+    private final int maxIdle;
+
+    /** Idle transformers */
+    private final Queue<Transformer> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idle = new AtomicInteger();
+
+    /**
+     * Default constructor.
+     */
+    public TransformerPool() {
+        this(DEFAULT_MAX_IDLE);
+    }
+
+    /**
+     * Constructor using maximum number of idle transformers.
+     * @param maxIdle
+     */
+    public TransformerPool(int maxIdle) {
+        this(TransformerFactory.newInstance(), maxIdle);
+    }
+
+    /**
+     * Constructor using transformer factory and maximum number of idle transformers.
+     * @param transformerFactory
+     * @param maxIdle
+     */
+    public TransformerPool(TransformerFactory transformerFactory, int maxIdle) {
+        this.transformerFactory = transformerFactory;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Gets the shared default pool.
+     * @return
+     */
+    public static TransformerPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Copies given source to the result.
+     * @param source
+     * @param result
+     * @throws TransformerException
+     */
+    public void transform(Source source, Result result) throws TransformerException {
+        transform(source, result, false);
+    }
+
+    /**
+     * Copies given source to the result optionally omitting the XML declaration.
+     * @param source
+     * @param result
+     * @param omitXmlDeclaration
+     * @throws TransformerException
+     */
+    public void transform(Source source, Result result, boolean omitXmlDeclaration) throws TransformerException {
+        Transformer transformer = borrow();
+        try {
+            if (omitXmlDeclaration) {
+                transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+            }
+
+            transformer.transform(source, result);
+        } finally {
+            release(transformer);
+        }
+    }
+
+    /**
+     * Serializes given source to a string.
+     * @param source
+     * @return
+     * @throws TransformerException
+     */
+    public String toString(Source source) throws TransformerException {
+        return toString(source, false);
+    }
+
+    /**
+     * Serializes given source to a string optionally omitting the XML declaration.
+     * @param source
+     * @param omitXmlDeclaration
+     * @return
+     * @throws TransformerException
+     */
+    public String toString(Source source, boolean omitXmlDeclaration) throws TransformerException {
+        StringResult result = new StringResult();
+        transform(source, result, omitXmlDeclaration);
+        return result.toString();
+    }
+
+    private Transformer borrow() throws TransformerConfigurationException {
+        Transformer transformer = pool.poll();
+        if (transformer == null) {
+            synchronized (transformerFactory) {
+                return transformerFactory.newTransformer();
+            }
+        }
+
+        idle.decrementAndGet();
+        return transformer;
+    }
+
+    private void release(Transformer transformer) {
+        transformer.reset();
+        if (idle.incrementAndGet() <= maxIdle) {
+            pool.offer(transformer);
+        } else {
+            idle.decrementAndGet();
+        }
+    }
+
+    /**
+     * Gets the number of idle transformers.
+     * @return
+     */
+    public int getIdleCount() {
+        return idle.get();
+    }
+}
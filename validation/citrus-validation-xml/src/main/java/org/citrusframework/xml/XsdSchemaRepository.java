@@ -16,12 +16,16 @@
 
 package org.citrusframework.xml;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
 
 import org.citrusframework.common.InitializingPhase;
 import org.citrusframework.common.Named;
@@ -31,12 +35,16 @@ import org.citrusframework.spi.Resource;
 import org.citrusframework.spi.Resources;
 import org.citrusframework.util.FileUtils;
 import org.citrusframework.util.StringUtils;
+import org.citrusframework.xml.schema.AbstractSchemaCollection;
+import org.citrusframework.xml.schema.PooledXmlValidator;
 import org.citrusframework.xml.schema.TargetNamespaceSchemaMappingStrategy;
 import org.citrusframework.xml.schema.WsdlXsdSchema;
+import org.citrusframework.xml.schema.XsdSchemaCollection;
 import org.citrusframework.xml.schema.XsdSchemaMappingStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.xml.validation.XmlValidator;
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.springframework.xml.xsd.XsdSchema;
 import org.w3c.dom.Document;
@@ -61,6 +69,12 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
     /** Mapping strategy */
     private XsdSchemaMappingStrategy schemaMappingStrategy = new TargetNamespaceSchemaMappingStrategy();
 
+    /** Validator on all schemas in this repository */
+    private XmlValidator validator;
+
+    /** Schemas the validator has been created from */
+    private List<XsdSchema> validatorSchemas;
+
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(XsdSchemaRepository.class);
 
@@ -74,6 +88,56 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
         return schema != null;
     }
 
+    /**
+     * Gets validator for all schemas in this repository. Schemas are compiled with the first call and
+     * the validator is reused as long as the list of schemas in this repository does not change.
+     * @return
+     */
+    public synchronized XmlValidator getValidator() {
+        if (validator == null || !schemas.equals(validatorSchemas)) {
+            List<XsdSchema> currentSchemas = new ArrayList<>(schemas);
+            validator = createValidator(currentSchemas);
+            validatorSchemas = currentSchemas;
+        }
+
+        return validator;
+    }
+
+    /**
+     * Compiles all given schemas to a single validator.
+     * @param schemas
+     * @return
+     */
+    private XmlValidator createValidator(List<XsdSchema> schemas) {
+        List<Resource> schemaResources = new ArrayList<>();
+        TransformerFactory transformerFactory = TransformerFactory.newInstance();
+        for (XsdSchema xsdSchema : schemas) {
+            if (xsdSchema instanceof XsdSchemaCollection xsdSchemaCollection) {
+                schemaResources.addAll(xsdSchemaCollection.getSchemaResources());
+            } else if (xsdSchema instanceof WsdlXsdSchema wsdlXsdSchema) {
+                schemaResources.addAll(wsdlXsdSchema.getSchemaResources());
+            } else {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                try {
+                    transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+                } catch (TransformerException e) {
+                    throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+                }
+                schemaResources.add(Resources.create(bos.toByteArray()));
+            }
+        }
+
+        try {
+            return PooledXmlValidator.create(schemaResources
+                    .stream()
+                    .map(AbstractSchemaCollection::toSpringResource)
+                    .toList()
+                    .toArray(new org.springframework.core.io.Resource[]{}), AbstractSchemaCollection.W3C_XML_SCHEMA_NS_URI);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to create validator for schema repository " + name, e);
+        }
+    }
+
     @Override
     public void initialize() {
         try {
@@ -167,8 +231,9 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
      * Set the list of known schemas.
      * @param schemas the schemas to set
      */
-    public void setSchemas(List<XsdSchema> schemas) {
+    public synchronized void setSchemas(List<XsdSchema> schemas) {
         this.schemas = schemas;
+        this.validator = null;
     }
 
     /**
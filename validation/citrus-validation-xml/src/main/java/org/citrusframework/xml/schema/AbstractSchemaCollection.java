@@ -44,7 +44,6 @@ import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.xml.validation.XmlValidator;
-import org.springframework.xml.validation.XmlValidatorFactory;
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.xml.sax.SAXException;
 
@@ -64,17 +63,29 @@ public abstract class AbstractSchemaCollection extends SimpleXsdSchema implement
     public static final String WWW_W3_ORG_2000_XMLNS = "http://www.w3.org/2000/xmlns/";
     public static final String W3C_XML_SCHEMA_NS_URI = "http://www.w3.org/2001/XMLSchema";
 
+    /** Validator on the compiled schema resources */
+    private XmlValidator validator;
+
+    /**
+     * Creates validator for all schema resources. Schema resources get compiled only once and
+     * the validator is shared by all subsequent calls.
+     * @return
+     */
     @Override
-    public XmlValidator createValidator() {
-        try {
-            return XmlValidatorFactory.createValidator(schemaResources
-                    .stream()
-                    .map(AbstractSchemaCollection::toSpringResource)
-                    .toList()
-                    .toArray(new org.springframework.core.io.Resource[]{}), W3C_XML_SCHEMA_NS_URI);
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to create validator from multi resource schema files", e);
+    public synchronized XmlValidator createValidator() {
+        if (validator == null) {
+            try {
+                validator = PooledXmlValidator.create(schemaResources
+                        .stream()
+                        .map(AbstractSchemaCollection::toSpringResource)
+                        .toList()
+                        .toArray(new org.springframework.core.io.Resource[]{}), W3C_XML_SCHEMA_NS_URI);
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to create validator from multi resource schema files", e);
+            }
         }
+
+        return validator;
     }
 
     public static org.springframework.core.io.Resource toSpringResource(Resource resource) {
@@ -137,6 +148,10 @@ public abstract class AbstractSchemaCollection extends SimpleXsdSchema implement
 
     @Override
     public void initialize() {
+        synchronized (this) {
+            validator = null;
+        }
+
         Resource targetXsd = loadSchemaResources();
         if (targetXsd == null) {
             throw new CitrusRuntimeException("Failed to find target schema xsd file resource");
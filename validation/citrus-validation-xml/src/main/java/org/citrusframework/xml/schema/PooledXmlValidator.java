@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.xml.schema;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.transform.Source;
+import javax.xml.validation.Schema;
+import javax.xml.validation.Validator;
+
+import org.springframework.core.io.Resource;
+import org.springframework.xml.validation.SchemaLoaderUtils;
+import org.springframework.xml.validation.ValidationErrorHandler;
+import org.springframework.xml.validation.XmlValidationException;
+import org.springframework.xml.validation.XmlValidator;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Xml validator working on a compiled schema that is loaded only once. Validators created from the schema are not
+ * thread safe, so each validation borrows a validator from a pool and returns it after validation. This way the
+ * validator instances get reused by subsequent validations and concurrent validations never share an instance.
+ *
+ * @since 4.2
+ */
+public class PooledXmlValidator implements XmlValidator {
+
+    /** Default maximum number of idle validators kept in the pool */
+    public static final int DEFAULT_MAX_IDLE = 16;
+
+    /** Compiled schema */
+    private final Schema schema;
+
+    /** Maximum number of idle validators */
+    private final int maxIdle;
+
+    /** Idle validators */
+    private final Queue<Validator> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idle = new AtomicInteger();
+
+    /**
+     * Constructor using compiled schema.
+     * @param schema
+     */
+    public PooledXmlValidator(Schema schema) {
+        this(schema, DEFAULT_MAX_IDLE);
+    }
+
+    /**
+     * Constructor using compiled schema and maximum number of idle validators.
+     * @param schema
+     * @param maxIdle
+     */
+    public PooledXmlValidator(Schema schema, int maxIdle) {
+        this.schema = schema;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Compiles given schema resources and creates a new validator instance.
+     * @param schemaResources
+     * @param schemaLanguage
+     * @return
+     * @throws IOException
+     */
+    public static PooledXmlValidator create(Resource[] schemaResources, String schemaLanguage) throws IOException {
+        try {
+            return new PooledXmlValidator(SchemaLoaderUtils.loadSchema(schemaResources, schemaLanguage));
+        } catch (SAXException e) {
+            throw new XmlValidationException("Could not create Schema: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public SAXParseException[] validate(Source source) throws IOException {
+        return validate(source, null);
+    }
+
+    @Override
+    public SAXParseException[] validate(Source source, ValidationErrorHandler errorHandler) throws IOException {
+        ValidationErrorHandler handler = errorHandler != null ? errorHandler : new CollectingErrorHandler();
+
+        Validator validator = borrow();
+        try {
+            validator.setErrorHandler(handler);
+            validator.validate(source);
+            return handler.getErrors();
+        } catch (SAXException e) {
+            throw new XmlValidationException("Could not validate source: " + e.getMessage(), e);
+        } finally {
+            release(validator);
+        }
+    }
+
+    private Validator borrow() {
+        Validator validator = pool.poll();
+        if (validator == null) {
+            return schema.newValidator();
+        }
+
+        idle.decrementAndGet();
+        return validator;
+    }
+
+    private void release(Validator validator) {
+        validator.reset();
+        if (idle.incrementAndGet() <= maxIdle) {
+            pool.offer(validator);
+        } else {
+            idle.decrementAndGet();
+        }
+    }
+
+    /**
+     * Gets the compiled schema.
+     * @return
+     */
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Error handler collecting all errors and ignoring warnings.
+     */
+    private static final class CollectingErrorHandler implements ValidationErrorHandler {
+
+        private final List<SAXParseException> errors = new ArrayList<>();
+
+        @Override
+        public SAXParseException[] getErrors() {
+            return errors.toArray(new SAXParseException[0]);
+        }
+
+        @Override
+        public void warning(SAXParseException exception) {
+            // ignore warnings
+        }
+
+        @Override
+        public void error(SAXParseException exception) {
+            errors.add(exception);
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) {
+            errors.add(exception);
+        }
+    }
+}
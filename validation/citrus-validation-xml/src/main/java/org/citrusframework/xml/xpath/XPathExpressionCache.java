@@ -0,0 +1,253 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.xml.xpath;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import javax.xml.xpath.XPathFactoryConfigurationException;
+
+import org.citrusframework.xml.namespace.DefaultNamespaceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Node;
+
+/**
+ * Bounded least recently used cache of compiled XPath expressions. Expressions are keyed by
+ * the expression string and the namespace context they have been compiled with.
+ *
+ * Compiled XPath expressions and XPath factories are not thread safe. Each thread therefore uses its own
+ * XPath factory for compilation and compiled expressions are borrowed from a pool per cache entry for the
+ * time of evaluation, so concurrent evaluations of the same expression never share an instance.
+ *
+ * @since 4.2
+ */
+public class XPathExpressionCache {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(XPathExpressionCache.class);
+
+    /** Default maximum number of cached expressions */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    /** Maximum number of idle compiled instances kept per expression */
+    private static final int MAX_POOLED_INSTANCES = 16;
+
+    /** XPath factory per thread as factories are not thread safe */
+    private static final ThreadLocal<XPathFactory> XPATH_FACTORY = ThreadLocal.withInitial(XPathExpressionCache::createXPathFactory);
+
+    private final int maxSize;
+    private final Map<CacheKey, Queue<XPathExpression>> cache;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Default constructor.
+     */
+    public XPathExpressionCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructor using maximum cache size.
+     * @param maxSize
+     */
+    public XPathExpressionCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Queue<XPathExpression>> eldest) {
+                return size() > XPathExpressionCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Evaluates the expression on given node with a cached compiled expression instance.
+     * Compiles and caches the expression when not present in the cache.
+     * @param node the node to evaluate against.
+     * @param xPathExpression the expression.
+     * @param nsContext the namespace context, may be null.
+     * @param returnType the expected return type.
+     * @return the evaluation result.
+     * @throws XPathExpressionException
+     */
+    public Object evaluate(Node node, String xPathExpression, NamespaceContext nsContext, QName returnType)
+            throws XPathExpressionException {
+        CacheKey key = new CacheKey(xPathExpression, namespaceKey(nsContext));
+        Queue<XPathExpression> pool = getPool(key);
+
+        XPathExpression expression = pool.poll();
+        if (expression == null) {
+            misses.incrementAndGet();
+            expression = compile(xPathExpression, nsContext);
+        } else {
+            hits.incrementAndGet();
+        }
+
+        try {
+            return expression.evaluate(node, returnType);
+        } finally {
+            if (pool.size() < MAX_POOLED_INSTANCES) {
+                pool.offer(expression);
+            }
+        }
+    }
+
+    /**
+     * Compiles given expression with the XPath factory bound to the current thread.
+     * @param xPathExpression
+     * @param nsContext
+     * @return
+     * @throws XPathExpressionException
+     */
+    private XPathExpression compile(String xPathExpression, NamespaceContext nsContext) throws XPathExpressionException {
+        XPath xpath = XPATH_FACTORY.get().newXPath();
+
+        if (nsContext != null) {
+            xpath.setNamespaceContext(nsContext);
+        }
+
+        return xpath.compile(xPathExpression);
+    }
+
+    /**
+     * Gets the pool of compiled expression instances for given key. Creates a new empty pool if not present.
+     * @param key
+     * @return
+     */
+    private Queue<XPathExpression> getPool(CacheKey key) {
+        synchronized (cache) {
+            return cache.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    /**
+     * Builds the namespace part of the cache key. Default namespace contexts are compared by their mappings
+     * so expressions are reused across contexts built for each message. Other namespace context implementations
+     * are compared by identity.
+     * @param nsContext
+     * @return
+     */
+    private static Object namespaceKey(NamespaceContext nsContext) {
+        if (nsContext instanceof DefaultNamespaceContext defaultNamespaceContext) {
+            return new HashMap<>(defaultNamespaceContext.getNamespaces());
+        }
+
+        return nsContext;
+    }
+
+    /**
+     * Removes all cached expressions and resets the metrics.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+
+        hits.set(0L);
+        misses.set(0L);
+    }
+
+    /**
+     * Gets the number of cached expressions.
+     * @return
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Gets the maxSize.
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of evaluations that used a cached compiled expression.
+     * @return
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of evaluations that had to compile the expression.
+     * @return
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Creates new xpath factory which is not thread safe per definition.
+     * @return
+     */
+    static XPathFactory createXPathFactory() {
+        XPathFactory factory = null;
+
+        // read system property and see if there is a factory set
+        Properties properties = System.getProperties();
+        for (Map.Entry<Object, Object> prop : properties.entrySet()) {
+            String key = (String) prop.getKey();
+            if (key.startsWith(XPathFactory.DEFAULT_PROPERTY_NAME)) {
+                String uri = key.indexOf(":") > 0 ? key.substring(key.indexOf(":") + 1) : null;
+                if (uri != null) {
+                    try {
+                        factory = XPathFactory.newInstance(uri);
+                    } catch (XPathFactoryConfigurationException e) {
+                        logger.warn("Failed to instantiate xpath factory", e);
+                        factory = XPathFactory.newInstance();
+                    }
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Created xpath factory {} using system property {} with value {}", factory, key, uri);
+                    }
+                }
+            }
+        }
+
+        if (factory == null) {
+            factory = XPathFactory.newInstance();
+            if (logger.isDebugEnabled()) {
+                logger.debug("Created default xpath factory {}", factory);
+            }
+        }
+
+        return factory;
+    }
+
+    /**
+     * Cache key combining expression and namespace context.
+     */
+    private record CacheKey(String expression, Object namespaces) {
+    }
+}
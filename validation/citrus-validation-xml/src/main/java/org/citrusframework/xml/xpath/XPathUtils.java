@@ -21,20 +21,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Properties;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-import javax.xml.xpath.XPathFactoryConfigurationException;
 
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.util.StringUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -48,9 +41,6 @@ import org.w3c.dom.NodeList;
  */
 public abstract class XPathUtils {
 
-    /** Logger */
-    private static final Logger logger = LoggerFactory.getLogger(XPathUtils.class);
-
     /** Dynamic namespace prefix suffix */
     public static final String DYNAMIC_NS_START = "{";
     public static final String DYNAMIC_NS_END = "}";
@@ -58,6 +48,9 @@ public abstract class XPathUtils {
     /** Dynamic namespace prefix */
     private static final String DYNAMIC_NS_PREFIX = "dns";
 
+    /** Compiled expressions shared by all evaluations */
+    private static final XPathExpressionCache EXPRESSION_CACHE = new XPathExpressionCache();
+
     /**
      * Prevent instantiation.
      */
@@ -267,23 +260,11 @@ public abstract class XPathUtils {
     }
 
     /**
-     * Construct a xPath expression instance with given expression string and namespace context.
-     * If namespace context is not specified a default context is built from the XML node
-     * that is evaluated against.
-     * @param xPathExpression
-     * @param nsContext
+     * Gets the cache of compiled XPath expressions used for all evaluations.
      * @return
-     * @throws XPathExpressionException
      */
-    private static XPathExpression buildExpression(String xPathExpression, NamespaceContext nsContext)
-            throws XPathExpressionException {
-        XPath xpath = createXPathFactory().newXPath();
-
-        if (nsContext != null) {
-            xpath.setNamespaceContext(nsContext);
-        }
-
-        return xpath.compile(xPathExpression);
+    public static XPathExpressionCache getExpressionCache() {
+        return EXPRESSION_CACHE;
     }
 
     /**
@@ -306,47 +287,10 @@ public abstract class XPathUtils {
      */
     public static Object evaluateExpression(Node node, String xPathExpression, NamespaceContext nsContext, QName returnType) {
         try {
-            return buildExpression(xPathExpression, nsContext).evaluate(node, returnType);
+            return EXPRESSION_CACHE.evaluate(node, xPathExpression, nsContext, returnType);
         } catch (XPathExpressionException e) {
             throw new CitrusRuntimeException("Can not evaluate xpath expression '" + xPathExpression + "'", e);
         }
     }
 
-    /**
-     * Creates new xpath factory which is not thread safe per definition.
-     * @return
-     */
-    private synchronized static XPathFactory createXPathFactory() {
-        XPathFactory factory = null;
-
-        // read system property and see if there is a factory set
-        Properties properties = System.getProperties();
-        for (Map.Entry<Object, Object> prop : properties.entrySet()) {
-            String key = (String) prop.getKey();
-            if (key.startsWith(XPathFactory.DEFAULT_PROPERTY_NAME)) {
-                String uri = key.indexOf(":") > 0 ? key.substring(key.indexOf(":") + 1) : null;
-                if (uri != null) {
-                    try {
-                        factory = XPathFactory.newInstance(uri);
-                    } catch (XPathFactoryConfigurationException e) {
-                        logger.warn("Failed to instantiate xpath factory", e);
-                        factory = XPathFactory.newInstance();
-                    }
-                    if (logger.isDebugEnabled()) {
-                        logger.debug("Created xpath factory {} using system property {} with value {}", factory, key, uri);
-                    }
-                }
-            }
-        }
-
-        if (factory == null) {
-            factory = XPathFactory.newInstance();
-            if (logger.isDebugEnabled()) {
-                logger.debug("Created default xpath factory {}", factory);
-            }
-        }
-
-        return factory;
-    }
-
 }
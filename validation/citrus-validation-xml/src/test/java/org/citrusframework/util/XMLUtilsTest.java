@@ -17,6 +17,8 @@
 package org.citrusframework.util;
 
 
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.message.Message;
 import org.citrusframework.xml.namespace.NamespaceContextBuilder;
 import org.mockito.Mockito;
 import org.testng.Assert;
@@ -31,6 +33,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.when;
@@ -391,4 +394,16 @@ public class XMLUtilsTest {
         Assert.assertEquals(XMLUtils.omitXmlDeclaration(""), "");
         Assert.assertEquals(XMLUtils.omitXmlDeclaration("Test"), "Test");
     }
+
+    @Test
+    public void testParseMessagePayloadPerThread() throws Exception {
+        Message message = new DefaultMessage("<testRequest><message>Hello</message></testRequest>");
+
+        Document doc = XMLUtils.parseMessagePayload(message);
+        Assert.assertSame(XMLUtils.parseMessagePayload(message), doc);
+
+        Document otherThreadDoc = CompletableFuture.supplyAsync(() -> XMLUtils.parseMessagePayload(message)).get();
+        Assert.assertNotSame(otherThreadDoc, doc);
+        Assert.assertEquals(otherThreadDoc.getDocumentElement().getTextContent(), "Hello");
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.xml;
+
+import java.io.StringReader;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+public class TransformerPoolTest {
+
+    @Test
+    public void testToString() throws Exception {
+        TransformerPool pool = new TransformerPool();
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new InputSource(new StringReader("<root><text>Hello</text></root>")));
+
+        Assert.assertEquals(pool.toString(new DOMSource(document), true), "<root><text>Hello</text></root>");
+        Assert.assertEquals(pool.getIdleCount(), 1);
+    }
+
+    @Test
+    public void testResetOutputProperties() throws Exception {
+        TransformerPool pool = new TransformerPool(1);
+
+        Assert.assertEquals(pool.toString(new StringSource("<root/>"), true), "<root/>");
+        Assert.assertTrue(pool.toString(new StringSource("<root/>")).startsWith("<?xml"));
+        Assert.assertEquals(pool.getIdleCount(), 1);
+    }
+
+    @Test
+    public void testTransform() throws Exception {
+        TransformerPool pool = new TransformerPool(0);
+
+        DOMResult result = new DOMResult();
+        pool.transform(new StringSource("<root><text>Hello</text></root>"), result);
+
+        Assert.assertEquals(((Document) result.getNode()).getDocumentElement().getNodeName(), "root");
+        Assert.assertEquals(pool.getIdleCount(), 0);
+    }
+}
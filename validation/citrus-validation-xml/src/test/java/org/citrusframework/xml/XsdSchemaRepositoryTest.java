@@ -16,6 +16,9 @@
 
 package org.citrusframework.xml;
 
+import java.util.ArrayList;
+
+import org.springframework.xml.validation.XmlValidator;
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -136,4 +139,19 @@ public class XsdSchemaRepositoryTest {
         Assert.assertEquals(schemaRepository.getSchemas().size(), 1);
         Assert.assertEquals(schemaRepository.getSchemas().get(0).getClass(), SimpleXsdSchema.class);
     }
+
+    @Test
+    public void testValidatorReuse() throws Exception {
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+
+        schemaRepository.getLocations().add("classpath:org/citrusframework/schema/citrus-config.xsd");
+
+        schemaRepository.initialize();
+
+        XmlValidator validator = schemaRepository.getValidator();
+        Assert.assertSame(schemaRepository.getValidator(), validator);
+
+        schemaRepository.setSchemas(new ArrayList<>(schemaRepository.getSchemas()));
+        Assert.assertNotSame(schemaRepository.getValidator(), validator);
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.xml.schema;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.xml.transform.stream.StreamSource;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.xml.sax.SAXParseException;
+
+public class PooledXmlValidatorTest {
+
+    private static final String SCHEMA = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" " +
+                "targetNamespace=\"http://citrusframework.org/test\" elementFormDefault=\"qualified\">" +
+            "<xs:element name=\"message\">" +
+                "<xs:complexType><xs:sequence><xs:element name=\"text\" type=\"xs:string\"/></xs:sequence></xs:complexType>" +
+            "</xs:element>" +
+            "</xs:schema>";
+
+    private PooledXmlValidator validator;
+
+    @BeforeClass
+    public void setup() throws Exception {
+        validator = PooledXmlValidator.create(new Resource[] {
+                new ByteArrayResource(SCHEMA.getBytes(StandardCharsets.UTF_8)) }, AbstractSchemaCollection.W3C_XML_SCHEMA_NS_URI);
+    }
+
+    @Test
+    public void testValidate() throws Exception {
+        SAXParseException[] errors = validator.validate(source("<message xmlns=\"http://citrusframework.org/test\"><text>Hello</text></message>"));
+        Assert.assertEquals(errors.length, 0);
+
+        errors = validator.validate(source("<message xmlns=\"http://citrusframework.org/test\"><unknown>Hello</unknown></message>"));
+        Assert.assertTrue(errors.length > 0);
+
+        errors = validator.validate(source("<message xmlns=\"http://citrusframework.org/test\"><text>Hello</text></message>"));
+        Assert.assertEquals(errors.length, 0);
+    }
+
+    @Test
+    public void testConcurrentValidation() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String text = i % 2 == 0 ? "text" : "unknown";
+                results.add(executor.submit(() -> validator.validate(
+                        source("<message xmlns=\"http://citrusframework.org/test\"><" + text + ">Hello</" + text + "></message>")).length));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                if (i % 2 == 0) {
+                    Assert.assertEquals(results.get(i).get().intValue(), 0);
+                } else {
+                    Assert.assertTrue(results.get(i).get() > 0);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private StreamSource source(String xml) {
+        return new StreamSource(new StringReader(xml));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.xml.xpath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.xml.xpath.XPathConstants;
+
+import org.citrusframework.util.XMLUtils;
+import org.citrusframework.xml.namespace.DefaultNamespaceContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+
+public class XPathExpressionCacheTest {
+
+    private static final String PAYLOAD = "<ns1:person xmlns:ns1=\"http://citrusframework.org/person\">" +
+            "<ns1:name>foo</ns1:name>" +
+            "<ns1:age>23</ns1:age>" +
+            "</ns1:person>";
+
+    private final Document document = XMLUtils.parseMessagePayload(PAYLOAD);
+
+    @Test
+    public void testCachedExpression() throws Exception {
+        XPathExpressionCache cache = new XPathExpressionCache();
+
+        Assert.assertEquals(cache.evaluate(document, "/ns1:person/ns1:name", namespaceContext("ns1"), XPathConstants.STRING), "foo");
+        Assert.assertEquals(cache.getMisses(), 1L);
+        Assert.assertEquals(cache.getHits(), 0L);
+
+        Assert.assertEquals(cache.evaluate(document, "/ns1:person/ns1:name", namespaceContext("ns1"), XPathConstants.STRING), "foo");
+        Assert.assertEquals(cache.getMisses(), 1L);
+        Assert.assertEquals(cache.getHits(), 1L);
+        Assert.assertEquals(cache.size(), 1);
+
+        Assert.assertEquals(cache.evaluate(document, "/ns1:person/ns1:age", namespaceContext("ns1"), XPathConstants.NUMBER), 23.0D);
+        Assert.assertEquals(cache.getMisses(), 2L);
+        Assert.assertEquals(cache.size(), 2);
+
+        cache.clear();
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.getHits(), 0L);
+        Assert.assertEquals(cache.getMisses(), 0L);
+    }
+
+    @Test
+    public void testNamespaceContextIsPartOfKey() throws Exception {
+        XPathExpressionCache cache = new XPathExpressionCache();
+
+        Assert.assertEquals(cache.evaluate(document, "/p:person/p:name", namespaceContext("p"), XPathConstants.STRING), "foo");
+
+        DefaultNamespaceContext otherContext = new DefaultNamespaceContext();
+        otherContext.addNamespace("p", "http://citrusframework.org/other");
+        Assert.assertEquals(cache.evaluate(document, "/p:person/p:name", otherContext, XPathConstants.STRING), "");
+
+        Assert.assertEquals(cache.getMisses(), 2L);
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testMaxSize() throws Exception {
+        XPathExpressionCache cache = new XPathExpressionCache(2);
+
+        cache.evaluate(document, "/ns1:person/ns1:name", namespaceContext("ns1"), XPathConstants.STRING);
+        cache.evaluate(document, "/ns1:person/ns1:age", namespaceContext("ns1"), XPathConstants.STRING);
+        cache.evaluate(document, "/ns1:person/ns1:name", namespaceContext("ns1"), XPathConstants.STRING);
+        cache.evaluate(document, "count(/ns1:person/*)", namespaceContext("ns1"), XPathConstants.NUMBER);
+
+        Assert.assertEquals(cache.size(), 2);
+
+        // least recently used age expression has been evicted
+        cache.evaluate(document, "/ns1:person/ns1:age", namespaceContext("ns1"), XPathConstants.STRING);
+        Assert.assertEquals(cache.getMisses(), 4L);
+        Assert.assertEquals(cache.getHits(), 1L);
+    }
+
+    @Test
+    public void testConcurrentEvaluation() throws Exception {
+        XPathExpressionCache cache = new XPathExpressionCache();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> cache.evaluate(XMLUtils.parseMessagePayload(PAYLOAD),
+                        "/ns1:person/ns1:name", namespaceContext("ns1"), XPathConstants.STRING)));
+            }
+
+            for (Future<Object> result : results) {
+                Assert.assertEquals(result.get(), "foo");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(cache.getHits() + cache.getMisses(), 100L);
+        Assert.assertTrue(cache.getMisses() <= 4L);
+    }
+
+    private DefaultNamespaceContext namespaceContext(String prefix) {
+        DefaultNamespaceContext namespaceContext = new DefaultNamespaceContext();
+        namespaceContext.addNamespace(prefix, "http://citrusframework.org/person");
+        return namespaceContext;
+    }
+}